@@ -1,6 +1,7 @@
 package Controllers;
 
 import javafx.collections.FXCollections;
+import javafx.concurrent.Task;
 import models.*;
 import Utilities.*;
 import javafx.collections.ObservableList;
@@ -8,6 +9,7 @@ import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
+import java.nio.file.Paths;
 import java.time.format.DateTimeFormatter;
 
 import java.util.*;
@@ -36,6 +38,8 @@ public class AdminHomePage {
     private Button manageArticlesButton;
     private Button manageGroupsButton;
     private Button backupRestoreButton;
+    private Button importArticlesButton;
+    private Button daoMetricsButton;
     private Button logoutButton;
     private TextArea outputArea;
     
@@ -78,6 +82,12 @@ public class AdminHomePage {
         backupRestoreButton = new Button("Backup/Restore");
         backupRestoreButton.setOnAction(e -> handleBackupRestore());
 
+        importArticlesButton = new Button("Import Articles");
+        importArticlesButton.setOnAction(e -> handleImportArticles());
+
+        daoMetricsButton = new Button("DAO Metrics");
+        daoMetricsButton.setOnAction(e -> handleDaoMetrics());
+
         logoutButton = new Button("Log Out");
         logoutButton.setOnAction(e -> {
             SessionManager.getInstance().clearSession();
@@ -97,6 +107,8 @@ public class AdminHomePage {
                 manageArticlesButton,
                 manageGroupsButton,
                 backupRestoreButton,
+                importArticlesButton,
+                daoMetricsButton,
                 logoutButton,
                 outputArea
         );
@@ -222,4 +234,46 @@ public class AdminHomePage {
         Scene scene = new Scene(backupRestorePage.getView(), 400, 300);
         Main.getStage().setScene(scene);
     }
+
+    /**
+     * Imports help articles from a CSV or JSON Lines file chosen by the admin. The import runs
+     * on a background thread and its report is shown in the output area when it finishes.
+     */
+    private void handleImportArticles() {
+        FileChooserDialog fileChooser = new FileChooserDialog("Import Articles (.csv or .jsonl)", null);
+        Optional<String> filePath = fileChooser.showOpenDialog();
+        if (!filePath.isPresent()) {
+            return;
+        }
+
+        Task<ImportReport> importTask = new Task<ImportReport>() {
+            @Override
+            protected ImportReport call() throws Exception {
+                return new ArticleImporter().importFile(Paths.get(filePath.get()));
+            }
+
+            @Override
+            protected void succeeded() {
+                importArticlesButton.setDisable(false);
+                outputArea.appendText("Import of " + filePath.get() + " finished.\n" + getValue() + "\n");
+            }
+
+            @Override
+            protected void failed() {
+                importArticlesButton.setDisable(false);
+                outputArea.appendText("Import of " + filePath.get() + " failed: " + getException().getMessage() + "\n");
+            }
+        };
+        importArticlesButton.setDisable(true);
+        outputArea.appendText("Importing " + filePath.get() + "...\n");
+        new Thread(importTask).start();
+    }
+
+    /**
+     * Shows the calls, errors, rows and latency percentiles recorded for every DAO method since
+     * startup, the methods with the most total time first.
+     */
+    private void handleDaoMetrics() {
+        outputArea.appendText(DaoMetrics.report() + "\n");
+    }
 }
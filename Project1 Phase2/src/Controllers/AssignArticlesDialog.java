@@ -2,7 +2,7 @@ package Controllers;
 
 import Utilities.HelpArticleDAO;
 import models.Group;
-import models.HelpArticle;
+import models.ArticleSummary;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.*;
@@ -10,28 +10,31 @@ import javafx.scene.layout.VBox;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p> Title: AssignArticlesDialog Class </p>
  * 
  * <p> Description: This class extends the JavaFX {@link Dialog} to provide a user interface 
  * for assigning multiple help articles to a specific group. It displays a list of all available 
- * help articles, allows users to select multiple articles, and associates the selected articles 
- * with the chosen group in the database. </p>
+ * help articles with the group's current members pre-selected, and allows users to select multiple
+ * articles. The selection is the group's new membership. </p>
  * 
  * <p> Usage: Instantiate this dialog by passing a {@link Group} object. Upon confirmation, 
- * the selected articles are returned as a list and can be processed further as needed. </p>
+ * the selected articles are returned as a list, typically passed to
+ * {@link HelpArticleDAO#syncGroupMembership(long, java.util.Collection)}. </p>
  * 
  * @author Naimish Maniya
  * 
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
-public class AssignArticlesDialog extends Dialog<List<HelpArticle>> {
+public class AssignArticlesDialog extends Dialog<List<ArticleSummary>> {
 
     private Group selectedGroup;
-    private ListView<HelpArticle> articleListView;
-    private ObservableList<HelpArticle> allArticles;
+    private ListView<ArticleSummary> articleListView;
+    private ObservableList<ArticleSummary> allArticles;
     private HelpArticleDAO helpArticleDAO;
 
     /**
@@ -54,12 +57,19 @@ public class AssignArticlesDialog extends Dialog<List<HelpArticle>> {
         articleListView = new ListView<>();
         articleListView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE); 
 
-        allArticles = FXCollections.observableArrayList(helpArticleDAO.getAllHelpArticles());
+        allArticles = FXCollections.observableArrayList(helpArticleDAO.getArticleSummaries());
         articleListView.setItems(allArticles);
 
-        List<HelpArticle> assignedArticles = helpArticleDAO.getArticlesByGroupId(group.getId());
-        for (HelpArticle article : assignedArticles) {
-            articleListView.getSelectionModel().select(article);
+        // Pre-select current members by ID; the summaries in the list are different objects.
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < allArticles.size(); i++) {
+            indexById.put(allArticles.get(i).getId(), i);
+        }
+        for (ArticleSummary article : helpArticleDAO.getArticleSummariesByGroupId(group.getId())) {
+            Integer index = indexById.get(article.getId());
+            if (index != null) {
+                articleListView.getSelectionModel().select(index);
+            }
         }
 
         VBox content = new VBox(10);
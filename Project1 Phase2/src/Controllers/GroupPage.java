@@ -1,12 +1,16 @@
 package Controllers;
 
+import Utilities.AssociationResult;
+import Utilities.AsyncDAO;
+import Utilities.DatabaseManager;
 import Utilities.GroupDAO;
 import Utilities.HelpArticleDAO;
 import Utilities.SessionManager;
 import models.Group;
-import models.HelpArticle;
+import models.ArticleSummary;
 import models.Role;
 import models.User;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
@@ -14,8 +18,13 @@ import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * <p> Title: GroupPage Class </p>
@@ -30,12 +39,14 @@ import java.util.Optional;
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
 public class GroupPage {
+    private static final Executor FX_THREAD = Platform::runLater;
 
     private VBox view;
     private TableView<Group> tableView;
     private ObservableList<Group> groupsList;
     private GroupDAO groupDAO;
     private HelpArticleDAO helpArticleDAO;
+    private AsyncDAO asyncDAO;
 
     private Button backButton;
     private Button addButton;
@@ -44,7 +55,9 @@ public class GroupPage {
     private Button refreshButton;
     private Button assignArticlesButton;
     private Button removeArticlesButton; 
-    private ListView<HelpArticle> articlesListView; 
+    private ListView<ArticleSummary> articlesListView; 
+    private Map<Long, Integer> articleCounts = new HashMap<>();
+    private CompletableFuture<List<ArticleSummary>> pendingArticles;
 
     /**
      * Constructs a GroupPage instance.
@@ -54,6 +67,7 @@ public class GroupPage {
         try {
             groupDAO = new GroupDAO();
             helpArticleDAO = new HelpArticleDAO();
+            asyncDAO = AsyncDAO.getInstance();
         } catch (SQLException e) {
             showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to connect to the database.");
             return;
@@ -82,7 +96,12 @@ public class GroupPage {
         nameCol.setCellValueFactory(data -> new javafx.beans.property.SimpleStringProperty(data.getValue().getName()));
         nameCol.setPrefWidth(200);
 
-        tableView.getColumns().addAll(idCol, nameCol);
+        TableColumn<Group, Integer> countCol = new TableColumn<>("Articles");
+        countCol.setCellValueFactory(data -> new javafx.beans.property.SimpleIntegerProperty(
+                articleCounts.getOrDefault(data.getValue().getId(), 0)).asObject());
+        countCol.setPrefWidth(80);
+
+        tableView.getColumns().addAll(idCol, nameCol, countCol);
 
         // Buttons
         addButton = new Button("Add Group");
@@ -123,6 +142,7 @@ public class GroupPage {
             if (newSelection != null) {
                 loadArticlesForGroup(newSelection.getId());
             } else {
+                cancelPendingArticles();
                 articlesListView.getItems().clear();
             }
         });
@@ -141,30 +161,55 @@ public class GroupPage {
 
     /**
      * Loads all groups from the database into the table view.
-     * Fetches the list of groups and updates the observable list.
+     * The groups and their article counts are fetched in the background and the observable list
+     * is updated on the JavaFX application thread once both have arrived.
      */
     private void loadGroups() {
-        try {
-            List<Group> groups = groupDAO.getAllGroups();
-            groupsList.setAll(groups);
-        } catch (SQLException e) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load groups.");
-        }
+        CompletableFuture<Map<Long, Integer>> counts = asyncDAO.getArticleCountsByGroup();
+        CompletableFuture<List<Group>> groups = asyncDAO.getAllGroups().thenCombine(counts, (loaded, loadedCounts) -> loaded);
+        AsyncDAO.whenComplete(groups, FX_THREAD,
+                loaded -> {
+                    articleCounts = counts.join();
+                    groupsList.setAll(loaded);
+                },
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load groups."));
+    }
+
+    /**
+     * Reloads the article count of every group with one aggregate query and redraws the table.
+     */
+    private void refreshArticleCounts() {
+        AsyncDAO.whenComplete(asyncDAO.getArticleCountsByGroup(), FX_THREAD,
+                counts -> {
+                    articleCounts = counts;
+                    tableView.refresh();
+                },
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to count the articles in each group."));
     }
 
     /**
      * Loads articles associated with a specific group ID.
-     * Fetches the list of articles linked to the group and updates the list view.
+     * Fetches the list of articles linked to the group and updates the list view. The summaries
+     * come from the in-memory membership index, so clicking through groups does not query the database.
+     * They are fetched in the background; a load still running for a previously selected group is cancelled.
      *
      * @param groupId The ID of the group.
      */
     private void loadArticlesForGroup(long groupId) {
-        try {
-            List<HelpArticle> articles = helpArticleDAO.getArticlesByGroupId(groupId);
-            ObservableList<HelpArticle> articlesList = FXCollections.observableArrayList(articles);
-            articlesListView.setItems(articlesList);
-        } catch (SQLException e) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load articles for the selected group.");
+        cancelPendingArticles();
+        pendingArticles = asyncDAO.getArticleSummariesByGroupId(groupId);
+        AsyncDAO.whenComplete(pendingArticles, FX_THREAD,
+                articles -> articlesListView.setItems(FXCollections.observableArrayList(articles)),
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load articles for the selected group."));
+    }
+
+    /**
+     * Cancels the article load for the previously selected group, if it is still running.
+     */
+    private void cancelPendingArticles() {
+        if (pendingArticles != null) {
+            pendingArticles.cancel(true);
+            pendingArticles = null;
         }
     }
 
@@ -254,7 +299,11 @@ public class GroupPage {
 
         if (result.isPresent() && result.get() == ButtonType.YES) {
             try {
-                groupDAO.deleteGroup(selected.getId());
+                DatabaseManager.getInstance().inUnitOfWork(() -> {
+                    helpArticleDAO.clearAssociationsForGroup(selected.getId());
+                    groupDAO.deleteGroup(selected.getId());
+                    return null;
+                });
                 showAlert(Alert.AlertType.INFORMATION, "Success", "Group deleted successfully.");
                 loadGroups();
                 articlesListView.getItems().clear();
@@ -266,7 +315,8 @@ public class GroupPage {
 
     /**
      * Assigns articles to the selected group by opening an assignment dialog.
-     * Allows the user to select multiple articles to associate with the group.
+     * Allows the user to select multiple articles to associate with the group; only the
+     * difference from the current membership is written.
      */
     private void assignArticlesToGroup() {
         Group selectedGroup = tableView.getSelectionModel().getSelectedItem();
@@ -278,16 +328,21 @@ public class GroupPage {
         AssignArticlesDialog dialog;
         try {
             dialog = new AssignArticlesDialog(selectedGroup);
-            Optional<List<HelpArticle>> result = dialog.showAndWait();
+            Optional<List<ArticleSummary>> result = dialog.showAndWait();
 
             result.ifPresent(articles -> {
                 try {
-                    for (HelpArticle article : articles) {
-                        helpArticleDAO.associateArticleWithGroup(article.getId(), selectedGroup.getId());
+                    List<Long> articleIds = new ArrayList<>();
+                    for (ArticleSummary article : articles) {
+                        articleIds.add(article.getId());
                     }
+                    AssociationResult outcome = helpArticleDAO.syncGroupMembership(selectedGroup.getId(), articleIds);
 
-                    showAlert(Alert.AlertType.INFORMATION, "Success", "Articles assigned to group successfully.");
+                    showAlert(Alert.AlertType.INFORMATION, "Success", "Group articles updated: " +
+                            outcome.count(AssociationResult.Outcome.ADDED) + " added, " +
+                            outcome.count(AssociationResult.Outcome.REMOVED) + " removed.");
                     loadArticlesForGroup(selectedGroup.getId());
+                    refreshArticleCounts();
                 } catch (SQLException e) {
                     showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to assign articles to group.");
                 }
@@ -308,7 +363,7 @@ public class GroupPage {
             return;
         }
 
-        ObservableList<HelpArticle> selectedArticles = articlesListView.getSelectionModel().getSelectedItems();
+        ObservableList<ArticleSummary> selectedArticles = articlesListView.getSelectionModel().getSelectedItems();
         if (selectedArticles == null || selectedArticles.isEmpty()) {
             showAlert(Alert.AlertType.WARNING, "No Articles Selected", "Please select at least one article to remove.");
             return;
@@ -319,11 +374,15 @@ public class GroupPage {
 
         if (result.isPresent() && result.get() == ButtonType.YES) {
             try {
-                for (HelpArticle article : selectedArticles) {
-                    helpArticleDAO.dissociateArticleFromGroup(article.getId(), selectedGroup.getId());
+                List<Long> articleIds = new ArrayList<>();
+                for (ArticleSummary article : selectedArticles) {
+                    articleIds.add(article.getId());
                 }
-                showAlert(Alert.AlertType.INFORMATION, "Success", "Selected articles removed from group successfully.");
+                AssociationResult outcome = helpArticleDAO.dissociateArticlesFromGroup(selectedGroup.getId(), articleIds);
+                showAlert(Alert.AlertType.INFORMATION, "Success", outcome.count(AssociationResult.Outcome.REMOVED) +
+                        " article(s) removed from group successfully.");
                 loadArticlesForGroup(selectedGroup.getId());
+                refreshArticleCounts();
             } catch (SQLException e) {
                 showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to remove articles from group.");
             }
@@ -1,11 +1,14 @@
 package Controllers;
 
+import Utilities.AsyncDAO;
 import Utilities.HelpArticleDAO;
 import Utilities.GroupDAO;
+import Utilities.Page;
 import Utilities.SessionManager;
 import models.HelpArticle;
 import models.Role;
 import models.User;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
@@ -15,8 +18,12 @@ import javafx.scene.layout.VBox;
 
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * <p> Title: HelpArticlePage Class </p>
@@ -24,6 +31,8 @@ import java.util.Optional;
  * <p> Description: This class represents the user interface for managing help articles within the application.
  * It provides functionalities to add, edit, delete, and refresh help articles. The page displays a table of 
  * existing help articles and allows users to perform CRUD (Create, Read, Update, Delete) operations on them. 
+ * A search box ranks the articles by how well their text matches the entered query. Articles are
+ * loaded a page at a time; further pages are fetched on request.
  * </p>
  * 
  * @author Naimish Maniya
@@ -31,18 +40,28 @@ import java.util.Optional;
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
 public class HelpArticlePage {
+    private static final int SEARCH_RESULT_LIMIT = 50;
+    private static final int PAGE_SIZE = 100;
+    private static final Executor FX_THREAD = Platform::runLater;
 
     private VBox view;
     private TableView<HelpArticle> tableView;
     private ObservableList<HelpArticle> articlesList;
     private HelpArticleDAO helpArticleDAO;
     private GroupDAO groupDAO;
+    private AsyncDAO asyncDAO;
 
     private Button backButton;
     private Button addButton;
     private Button editButton;
     private Button deleteButton;
     private Button refreshButton;
+    private TextField searchField;
+    private Button searchButton;
+    private Button loadMoreButton;
+    private String nextCursor;
+    private Map<Long, Integer> groupCounts = new HashMap<>();
+    private CompletableFuture<?> pendingLoad;
 
     /**
      * Constructs a HelpArticlePage instance.
@@ -52,6 +71,7 @@ public class HelpArticlePage {
         try {
             helpArticleDAO = new HelpArticleDAO();
             groupDAO = new GroupDAO();
+            asyncDAO = AsyncDAO.getInstance();
         } catch (SQLException e) {
             showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to connect to the database.");
             return;
@@ -79,7 +99,12 @@ public class HelpArticlePage {
         shortDescCol.setCellValueFactory(data -> new javafx.beans.property.SimpleStringProperty(data.getValue().getShortDescription()));
         shortDescCol.setPrefWidth(300);
 
-        tableView.getColumns().addAll(idCol, titleCol, shortDescCol);
+        TableColumn<HelpArticle, Integer> groupCountCol = new TableColumn<>("Groups");
+        groupCountCol.setCellValueFactory(data -> new javafx.beans.property.SimpleIntegerProperty(
+                groupCounts.getOrDefault(data.getValue().getId(), 0)).asObject());
+        groupCountCol.setPrefWidth(70);
+
+        tableView.getColumns().addAll(idCol, titleCol, shortDescCol, groupCountCol);
 
         addButton = new Button("Add Article");
         addButton.setOnAction(e -> showAddArticleDialog());
@@ -93,9 +118,20 @@ public class HelpArticlePage {
         refreshButton = new Button("Refresh");
         refreshButton.setOnAction(e -> loadArticles());
 
-        ToolBar toolBar = new ToolBar(backButton, addButton, editButton, deleteButton, refreshButton);
+        searchField = new TextField();
+        searchField.setPromptText("Search articles");
+        searchField.setOnAction(e -> searchArticles());
+
+        searchButton = new Button("Search");
+        searchButton.setOnAction(e -> searchArticles());
+
+        ToolBar toolBar = new ToolBar(backButton, addButton, editButton, deleteButton, refreshButton,
+                new Separator(), searchField, searchButton);
 
-        view.getChildren().addAll(toolBar, tableView);
+        loadMoreButton = new Button("Load More");
+        loadMoreButton.setOnAction(e -> loadNextPage());
+
+        view.getChildren().addAll(toolBar, tableView, loadMoreButton);
 
         loadArticles();
     }
@@ -110,15 +146,74 @@ public class HelpArticlePage {
     }
 
     /**
-     * Loads all help articles from the database into the table view.
-     * Fetches the list of help articles and updates the observable list.
+     * Loads the first page of help articles from the database into the table view.
+     * Fetches the page and replaces the contents of the observable list.
      */
     private void loadArticles() {
-        try {
-            List<HelpArticle> articles = helpArticleDAO.getAllHelpArticles();
-            articlesList.setAll(articles);
-        } catch (SQLException e) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load help articles.");
+        cancelPendingLoad();
+        articlesList.clear();
+        nextCursor = null;
+        loadGroupCounts();
+        loadNextPage();
+    }
+
+    /**
+     * Loads the group count of every article with one aggregate query, so that pages and search
+     * results can show it without a query per row. The table is redrawn when the counts arrive.
+     */
+    private void loadGroupCounts() {
+        AsyncDAO.whenComplete(asyncDAO.getGroupCountsByArticle(), FX_THREAD,
+                counts -> {
+                    groupCounts = counts;
+                    tableView.refresh();
+                },
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to count the groups of each article."));
+    }
+
+    /**
+     * Appends the next page of help articles to the table view. The page is fetched in the
+     * background, with Load More disabled until it arrives.
+     */
+    private void loadNextPage() {
+        loadMoreButton.setDisable(true);
+        CompletableFuture<Page<HelpArticle>> page = asyncDAO.getHelpArticlesPage(nextCursor, PAGE_SIZE);
+        pendingLoad = page;
+        AsyncDAO.whenComplete(page, FX_THREAD,
+                loaded -> {
+                    articlesList.addAll(loaded.getItems());
+                    nextCursor = loaded.getNextCursor();
+                    loadMoreButton.setDisable(!loaded.hasNext());
+                },
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load help articles."));
+    }
+
+    /**
+     * Replaces the table contents with the articles that best match the search query.
+     * An empty query shows all articles again. A page load or search still running is cancelled.
+     */
+    private void searchArticles() {
+        String query = searchField.getText();
+        if (query == null || query.trim().isEmpty()) {
+            loadArticles();
+            return;
+        }
+        cancelPendingLoad();
+        loadGroupCounts();
+        loadMoreButton.setDisable(true);
+        CompletableFuture<List<HelpArticle>> results = asyncDAO.searchHelpArticles(query, SEARCH_RESULT_LIMIT);
+        pendingLoad = results;
+        AsyncDAO.whenComplete(results, FX_THREAD,
+                articlesList::setAll,
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to search help articles."));
+    }
+
+    /**
+     * Cancels the page load or search whose results would otherwise land in the table.
+     */
+    private void cancelPendingLoad() {
+        if (pendingLoad != null) {
+            pendingLoad.cancel(true);
+            pendingLoad = null;
         }
     }
 
@@ -174,6 +174,74 @@ public class Main extends Application {
             models.GroupWithArticlesTest groupWithArticlesTester = new models.GroupWithArticlesTest();
             groupWithArticlesTester.runTests();
 
+            // 12. Call ConnectionPool Tests
+            Utilities.ConnectionPoolTest connectionPoolTester = new Utilities.ConnectionPoolTest();
+            connectionPoolTester.runTests();
+
+            // 13. Call DatabaseConfig Tests
+            Utilities.DatabaseConfigTest databaseConfigTester = new Utilities.DatabaseConfigTest();
+            databaseConfigTester.runTests();
+
+            // 14. Call SchemaMigrator Tests
+            Utilities.SchemaMigratorTest schemaMigratorTester = new Utilities.SchemaMigratorTest();
+            schemaMigratorTester.runTests();
+
+            // 15. Call QueryPlanAudit Tests
+            Utilities.QueryPlanAuditTest queryPlanAuditTester = new Utilities.QueryPlanAuditTest();
+            queryPlanAuditTester.runTests();
+
+            // 16. Call SearchIndex Tests
+            Utilities.SearchIndexTest searchIndexTester = new Utilities.SearchIndexTest();
+            searchIndexTester.runTests();
+
+            // 17. Call Page Tests
+            Utilities.PageTest pageTester = new Utilities.PageTest();
+            pageTester.runTests();
+
+            // 18. Call UnitOfWork Tests
+            Utilities.UnitOfWorkTest unitOfWorkTester = new Utilities.UnitOfWorkTest();
+            unitOfWorkTester.runTests();
+
+            // 19. Call ArticleCache Tests
+            Utilities.ArticleCacheTest articleCacheTester = new Utilities.ArticleCacheTest();
+            articleCacheTester.runTests();
+
+            // 20. Call GroupCache Tests
+            Utilities.GroupCacheTest groupCacheTester = new Utilities.GroupCacheTest();
+            groupCacheTester.runTests();
+
+            // 21. Call MembershipIndex Tests
+            Utilities.MembershipIndexTest membershipIndexTester = new Utilities.MembershipIndexTest();
+            membershipIndexTester.runTests();
+
+            // 22. Call GroupQuery Tests
+            Utilities.GroupQueryTest groupQueryTester = new Utilities.GroupQueryTest();
+            groupQueryTester.runTests();
+
+            // 23. Call ArticleImporter Tests
+            Utilities.ArticleImporterTest articleImporterTester = new Utilities.ArticleImporterTest();
+            articleImporterTester.runTests();
+
+            // 24. Call AsyncDAO Tests
+            Utilities.AsyncDAOTest asyncDAOTester = new Utilities.AsyncDAOTest();
+            asyncDAOTester.runTests();
+
+            // 25. Call DaoMetrics Tests
+            Utilities.DaoMetricsTest daoMetricsTester = new Utilities.DaoMetricsTest();
+            daoMetricsTester.runTests();
+
+            // 26. Call SlowQueryLog Tests
+            Utilities.SlowQueryLogTest slowQueryLogTester = new Utilities.SlowQueryLogTest();
+            slowQueryLogTester.runTests();
+
+            // 27. Call PersistenceBenchmark Tests
+            Utilities.PersistenceBenchmarkTest persistenceBenchmarkTester = new Utilities.PersistenceBenchmarkTest();
+            persistenceBenchmarkTester.runTests();
+
+            // 28. Call LoadGenerator Tests
+            Utilities.LoadGeneratorTest loadGeneratorTester = new Utilities.LoadGeneratorTest();
+            loadGeneratorTester.runTests();
+
         } catch (Exception e) {
             System.out.println("An error occurred during testing: " + e.getMessage());
             e.printStackTrace();
@@ -0,0 +1,255 @@
+package Utilities;
+
+import models.HelpArticle;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * <p> Title: ArticleCache Class </p>
+ *
+ * <p> Description: This class keeps recently read {@link HelpArticle}s in memory, keyed by ID, so
+ * that repeated calls to {@link HelpArticleDAO#getHelpArticleById(long)} cost no database round
+ * trip. The cache is bounded both by the number of entries and by an estimate of the memory they
+ * use, dominated by the article bodies; when either limit is exceeded the least recently used
+ * articles are evicted. </p>
+ *
+ * <p> Articles are copied on the way in and on the way out, so callers may modify what they get
+ * back without affecting the cache. Writes through {@link HelpArticleDAO} invalidate the affected
+ * entries once they are committed. To keep a read that started before such a write from putting
+ * the old row back, a load first takes a {@link #stamp()} and {@link #put(HelpArticle, long)}
+ * ignores the result if any invalidation happened in between. </p>
+ *
+ * <p> All methods are thread-safe. The cache is owned by {@link DatabaseManager}. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ArticleCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final int maxEntries;
+    private final long maxWeightBytes;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes;
+    private long invalidationStamp;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * Constructs an ArticleCache.
+     *
+     * @param maxEntries     The maximum number of cached articles; 0 disables the cache.
+     * @param maxWeightBytes The maximum estimated size of the cached articles, in bytes.
+     */
+    public ArticleCache(int maxEntries, long maxWeightBytes) {
+        this.maxEntries = maxEntries;
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    /**
+     * Looks up an article.
+     *
+     * @param articleId The ID of the article.
+     * @return A copy of the cached article, or null on a miss.
+     */
+    public synchronized HelpArticle get(long articleId) {
+        Entry entry = entries.get(articleId);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return copy(entry.article);
+    }
+
+    /**
+     * Takes the stamp a load must present when it puts its result into the cache.
+     *
+     * @return The current invalidation stamp.
+     */
+    public synchronized long stamp() {
+        return invalidationStamp;
+    }
+
+    /**
+     * Caches an article that was loaded after {@link #stamp()} returned the given value. Nothing
+     * is cached if an invalidation happened since then, as the loaded row may already be stale.
+     *
+     * @param article The loaded article, with its body.
+     * @param stamp   The stamp taken before the load started.
+     */
+    public synchronized void put(HelpArticle article, long stamp) {
+        if (maxEntries <= 0 || stamp != invalidationStamp) {
+            return;
+        }
+        Entry entry = new Entry(copy(article));
+        if (entry.weight > maxWeightBytes) {
+            return;
+        }
+        Entry previous = entries.put(article.getId(), entry);
+        if (previous != null) {
+            weightBytes -= previous.weight;
+        }
+        weightBytes += entry.weight;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || weightBytes > maxWeightBytes) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            weightBytes -= evicted.weight;
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes an article from the cache.
+     *
+     * @param articleId The ID of the article.
+     */
+    public synchronized void invalidate(long articleId) {
+        invalidationStamp++;
+        invalidations++;
+        Entry removed = entries.remove(articleId);
+        if (removed != null) {
+            weightBytes -= removed.weight;
+        }
+    }
+
+    /**
+     * Removes every article from the cache.
+     */
+    public synchronized void invalidateAll() {
+        invalidationStamp++;
+        invalidations++;
+        entries.clear();
+        weightBytes = 0;
+    }
+
+    /**
+     * Retrieves a snapshot of the cache metrics.
+     *
+     * @return The current {@link Statistics}.
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(entries.size(), weightBytes, maxEntries, maxWeightBytes, hits, misses, evictions, invalidations);
+    }
+
+    /**
+     * Copies an article so that the cache and its callers never share an instance.
+     */
+    private static HelpArticle copy(HelpArticle article) {
+        return new HelpArticle(article.getId(), article.getHeader(), article.getTitle(), article.getShortDescription(),
+                copy(article.getKeywords()), article.getBody(), copy(article.getReferenceLinks()));
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+    /**
+     * Estimates the heap used by an article: two bytes per character plus fixed overhead.
+     */
+    private static long estimateWeight(HelpArticle article) {
+        long chars = length(article.getHeader()) + length(article.getTitle()) + length(article.getShortDescription()) +
+                length(article.getBody()) + length(article.getKeywords()) + length(article.getReferenceLinks());
+        return ENTRY_OVERHEAD_BYTES + 2 * chars;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static long length(List<String> values) {
+        long total = 0;
+        if (values != null) {
+            for (String value : values) {
+                total += length(value) + 16;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * A cached article and its estimated weight.
+     */
+    private static final class Entry {
+        private final HelpArticle article;
+        private final long weight;
+
+        Entry(HelpArticle article) {
+            this.article = article;
+            this.weight = estimateWeight(article);
+        }
+    }
+
+    /**
+     * <p> Title: Statistics Class </p>
+     *
+     * <p> Description: A point-in-time snapshot of the cache's size and counters. </p>
+     */
+    public static final class Statistics {
+        private final int size;
+        private final long weightBytes;
+        private final int maxEntries;
+        private final long maxWeightBytes;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+
+        Statistics(int size, long weightBytes, int maxEntries, long maxWeightBytes,
+                   long hits, long misses, long evictions, long invalidations) {
+            this.size = size;
+            this.weightBytes = weightBytes;
+            this.maxEntries = maxEntries;
+            this.maxWeightBytes = maxWeightBytes;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+        }
+
+        /** @return The number of cached articles. */
+        public int getSize() { return size; }
+
+        /** @return The estimated size of the cached articles, in bytes. */
+        public long getWeightBytes() { return weightBytes; }
+
+        /** @return The maximum number of cached articles. */
+        public int getMaxEntries() { return maxEntries; }
+
+        /** @return The maximum estimated size of the cached articles, in bytes. */
+        public long getMaxWeightBytes() { return maxWeightBytes; }
+
+        /** @return The number of lookups answered from the cache. */
+        public long getHits() { return hits; }
+
+        /** @return The number of lookups that had to go to the database. */
+        public long getMisses() { return misses; }
+
+        /** @return The number of articles evicted to stay within the limits. */
+        public long getEvictions() { return evictions; }
+
+        /** @return The number of invalidations caused by writes. */
+        public long getInvalidations() { return invalidations; }
+
+        /** @return The fraction of lookups answered from the cache, or 0 if there were none. */
+        public double getHitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("size=%d/%d, weight=%d/%d KB, hits=%d, misses=%d, hitRatio=%.2f, evictions=%d, invalidations=%d",
+                    size, maxEntries, weightBytes / 1024, maxWeightBytes / 1024, hits, misses, getHitRatio(),
+                    evictions, invalidations);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package Utilities;
+
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * <p> Title: ArticleCacheTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link ArticleCache} class and its
+ * use by {@link HelpArticleDAO#getHelpArticleById(long)}. It validates that repeat reads are
+ * served from the cache, that the entry and weight limits evict the least recently used articles,
+ * that updates and deletes invalidate cached articles, that a load overtaken by a write is not
+ * cached, and that uncommitted data never enters the cache.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ArticleCacheTest {
+
+    /**
+     * The main method to execute the ArticleCache tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        ArticleCacheTest tester = new ArticleCacheTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the ArticleCache.
+     */
+    public void runTests() {
+        System.out.println("Running ArticleCache tests...");
+
+        testEntryLimitEvictsLeastRecentlyUsed();
+        testWeightLimit();
+        testStaleLoadIsNotCached();
+        testCopiesAreIndependent();
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testRepeatReadIsHit();
+            testUpdateInvalidates();
+            testDeleteInvalidates();
+            testUnitOfWorkBypassesCache();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("ArticleCache tests completed.");
+    }
+
+    /**
+     * Creates an article with the given ID and body.
+     */
+    private HelpArticle article(long id, String body) {
+        return new HelpArticle(id, "Header", "Title " + id, "Description", Arrays.asList("cache"), body,
+                Arrays.asList("https://example.com"));
+    }
+
+    /**
+     * Tests that the least recently used article is evicted once the entry limit is reached.
+     */
+    public void testEntryLimitEvictsLeastRecentlyUsed() {
+        System.out.println("\nTest: Entry Limit Evicts Least Recently Used");
+        ArticleCache cache = new ArticleCache(2, Long.MAX_VALUE);
+        cache.put(article(1, "one"), cache.stamp());
+        cache.put(article(2, "two"), cache.stamp());
+        cache.get(1); // Article 2 is now the least recently used
+        cache.put(article(3, "three"), cache.stamp());
+
+        ArticleCache.Statistics stats = cache.getStatistics();
+        if (cache.get(1) != null && cache.get(2) == null && cache.get(3) != null &&
+            stats.getSize() == 2 && stats.getEvictions() == 1) {
+            System.out.println("Passed: The least recently used article was evicted.");
+        } else {
+            System.out.println("Failed: Eviction did not follow access order: " + stats);
+        }
+    }
+
+    /**
+     * Tests that large articles are evicted to stay within the weight limit.
+     */
+    public void testWeightLimit() {
+        System.out.println("\nTest: Weight Limit");
+        char[] body = new char[10_000];
+        Arrays.fill(body, 'x');
+        ArticleCache cache = new ArticleCache(100, 50_000);
+        for (long id = 1; id <= 5; id++) {
+            cache.put(article(id, new String(body)), cache.stamp());
+        }
+        cache.put(article(6, new String(new char[100_000])), cache.stamp()); // Larger than the whole cache
+
+        ArticleCache.Statistics stats = cache.getStatistics();
+        if (stats.getWeightBytes() <= 50_000 && stats.getSize() == 2 && cache.get(5) != null && cache.get(6) == null) {
+            System.out.println("Passed: The cache stayed within its weight limit.");
+        } else {
+            System.out.println("Failed: Weight limit was not enforced: " + stats);
+        }
+    }
+
+    /**
+     * Tests that a load which started before an invalidation is not cached.
+     */
+    public void testStaleLoadIsNotCached() {
+        System.out.println("\nTest: Stale Load Is Not Cached");
+        ArticleCache cache = new ArticleCache(10, Long.MAX_VALUE);
+        long stamp = cache.stamp();
+        cache.invalidate(1); // A write commits while the load is in flight
+        cache.put(article(1, "old"), stamp);
+
+        if (cache.get(1) == null) {
+            System.out.println("Passed: The overtaken load was discarded.");
+        } else {
+            System.out.println("Failed: A stale article was cached.");
+        }
+    }
+
+    /**
+     * Tests that changing an article returned by the cache does not change the cached copy.
+     */
+    public void testCopiesAreIndependent() {
+        System.out.println("\nTest: Copies Are Independent");
+        ArticleCache cache = new ArticleCache(10, Long.MAX_VALUE);
+        HelpArticle original = article(1, "body");
+        cache.put(original, cache.stamp());
+        original.setTitle("Changed before read");
+        original.getKeywords().set(0, "changed before read");
+        HelpArticle read = cache.get(1);
+        read.setTitle("Changed after read");
+        read.getKeywords().set(0, "changed after read");
+        read.getReferenceLinks().set(0, "https://changed.example.com");
+
+        HelpArticle cached = cache.get(1);
+        if ("Title 1".equals(cached.getTitle()) && cached.getKeywords().equals(Arrays.asList("cache")) &&
+            cached.getReferenceLinks().equals(Arrays.asList("https://example.com"))) {
+            System.out.println("Passed: Cached articles are isolated from callers.");
+        } else {
+            System.out.println("Failed: A caller changed the cached article.");
+        }
+    }
+
+    /**
+     * Tests that the second read of an article is served from the cache.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testRepeatReadIsHit() throws SQLException {
+        System.out.println("\nTest: Repeat Read Is Hit");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        ArticleCache cache = DatabaseManager.getInstance().getArticleCache();
+        HelpArticle article = article(0, "Cached body");
+        helpArticleDAO.addHelpArticle(article);
+
+        ArticleCache.Statistics before = cache.getStatistics();
+        HelpArticle first = helpArticleDAO.getHelpArticleById(article.getId());
+        HelpArticle second = helpArticleDAO.getHelpArticleById(article.getId());
+        ArticleCache.Statistics after = cache.getStatistics();
+
+        if (first != null && second != null && first != second && "Cached body".equals(second.getBody()) &&
+            after.getMisses() - before.getMisses() == 1 && after.getHits() - before.getHits() == 1) {
+            System.out.println("Passed: The repeat read was a cache hit.");
+        } else {
+            System.out.println("Failed: Repeat read was not served from the cache: " + after);
+        }
+    }
+
+    /**
+     * Tests that updating an article invalidates its cached copy.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testUpdateInvalidates() throws SQLException {
+        System.out.println("\nTest: Update Invalidates");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        HelpArticle article = article(0, "Before update");
+        helpArticleDAO.addHelpArticle(article);
+        helpArticleDAO.getHelpArticleById(article.getId());
+
+        article.setBody("After update");
+        helpArticleDAO.updateHelpArticle(article);
+
+        if ("After update".equals(helpArticleDAO.getHelpArticleById(article.getId()).getBody())) {
+            System.out.println("Passed: The updated article was read back.");
+        } else {
+            System.out.println("Failed: A stale article was served after update.");
+        }
+    }
+
+    /**
+     * Tests that deleting an article, or all articles, invalidates the cache.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testDeleteInvalidates() throws SQLException {
+        System.out.println("\nTest: Delete Invalidates");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        HelpArticle deleted = article(0, "Deleted");
+        HelpArticle cleared = article(0, "Cleared");
+        helpArticleDAO.addHelpArticle(deleted);
+        helpArticleDAO.addHelpArticle(cleared);
+        helpArticleDAO.getHelpArticleById(deleted.getId());
+        helpArticleDAO.getHelpArticleById(cleared.getId());
+
+        helpArticleDAO.deleteHelpArticle(deleted.getId());
+        boolean deletedGone = helpArticleDAO.getHelpArticleById(deleted.getId()) == null;
+        helpArticleDAO.deleteAllHelpArticles();
+        boolean clearedGone = helpArticleDAO.getHelpArticleById(cleared.getId()) == null;
+
+        if (deletedGone && clearedGone) {
+            System.out.println("Passed: Deleted articles were removed from the cache.");
+        } else {
+            System.out.println("Failed: A deleted article was still served.");
+        }
+    }
+
+    /**
+     * Tests that reads inside a unit of work see its own changes and do not cache them, and
+     * that the cache is invalidated once the unit of work commits.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testUnitOfWorkBypassesCache() throws SQLException {
+        System.out.println("\nTest: Unit Of Work Bypasses Cache");
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        HelpArticle article = article(0, "Committed");
+        helpArticleDAO.addHelpArticle(article);
+        helpArticleDAO.getHelpArticleById(article.getId());
+
+        boolean seenInside;
+        boolean committedOutside;
+        try (UnitOfWork work = databaseManager.beginUnitOfWork()) {
+            article.setBody("Uncommitted");
+            helpArticleDAO.updateHelpArticle(article);
+            seenInside = "Uncommitted".equals(helpArticleDAO.getHelpArticleById(article.getId()).getBody());
+            committedOutside = "Committed".equals(databaseManager.getArticleCache().get(article.getId()).getBody());
+            work.commit();
+        }
+
+        if (seenInside && committedOutside && databaseManager.getArticleCache().get(article.getId()) == null &&
+            "Uncommitted".equals(helpArticleDAO.getHelpArticleById(article.getId()).getBody())) {
+            System.out.println("Passed: The unit of work bypassed the cache and invalidated it on commit.");
+        } else {
+            System.out.println("Failed: The cache leaked or kept uncommitted data.");
+        }
+    }
+}
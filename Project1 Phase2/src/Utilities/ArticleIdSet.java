@@ -0,0 +1,295 @@
+package Utilities;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongConsumer;
+
+/**
+ * <p> Title: ArticleIdSet Class </p>
+ *
+ * <p> Description: This class is an immutable set of article IDs stored as a sorted array of
+ * primitive longs, eight bytes per member with no boxing. Membership tests are binary searches
+ * and members are visited in ascending order. Intersections, unions and differences are linear
+ * merges of the two arrays. Changes return a new set, so a set handed out by
+ * {@link MembershipIndex} can be read without locking while the index moves on. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public final class ArticleIdSet {
+    private static final ArticleIdSet EMPTY = new ArticleIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private ArticleIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Retrieves the empty set.
+     *
+     * @return A set with no members.
+     */
+    public static ArticleIdSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a set from the given IDs, which may be unordered and contain duplicates.
+     *
+     * @param ids The article IDs.
+     * @return The set.
+     */
+    public static ArticleIdSet of(long... ids) {
+        return fromArray(ids.clone(), ids.length);
+    }
+
+    /**
+     * Creates a set from the first {@code length} entries of an array the set may take over.
+     *
+     * @param ids    The article IDs, which may be unordered and contain duplicates.
+     * @param length The number of entries to use.
+     * @return The set.
+     */
+    static ArticleIdSet fromArray(long[] ids, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(ids, 0, length);
+        int size = 1;
+        for (int i = 1; i < length; i++) {
+            if (ids[i] != ids[size - 1]) {
+                ids[size++] = ids[i];
+            }
+        }
+        return new ArticleIdSet(size == ids.length ? ids : Arrays.copyOf(ids, size));
+    }
+
+    /**
+     * Retrieves the number of members.
+     *
+     * @return The size of the set.
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Checks whether the set has no members.
+     *
+     * @return True if the set is empty.
+     */
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * Checks whether an article is a member.
+     *
+     * @param articleId The ID of the article.
+     * @return True if the article is in the set.
+     */
+    public boolean contains(long articleId) {
+        return Arrays.binarySearch(ids, articleId) >= 0;
+    }
+
+    /**
+     * Visits every member in ascending order.
+     *
+     * @param action The action to run for each article ID.
+     */
+    public void forEach(LongConsumer action) {
+        for (long id : ids) {
+            action.accept(id);
+        }
+    }
+
+    /**
+     * Copies the members into a new array.
+     *
+     * @return The article IDs in ascending order.
+     */
+    public long[] toArray() {
+        return ids.clone();
+    }
+
+    /**
+     * Creates a set that also contains the given IDs.
+     *
+     * @param added The article IDs to add.
+     * @return The new set, or this set if nothing was added.
+     */
+    public ArticleIdSet with(Collection<Long> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        long[] merged = Arrays.copyOf(ids, ids.length + added.size());
+        int length = ids.length;
+        for (long id : added) {
+            merged[length++] = id;
+        }
+        ArticleIdSet result = fromArray(merged, length);
+        return result.size() == size() ? this : result;
+    }
+
+    /**
+     * Creates a set without the given IDs.
+     *
+     * @param removed The article IDs to remove.
+     * @return The new set, or this set if nothing was removed.
+     */
+    public ArticleIdSet without(Collection<Long> removed) {
+        long[] kept = new long[ids.length];
+        int length = 0;
+        for (long id : ids) {
+            if (!removed.contains(id)) {
+                kept[length++] = id;
+            }
+        }
+        if (length == ids.length) {
+            return this;
+        }
+        return length == 0 ? EMPTY : new ArticleIdSet(Arrays.copyOf(kept, length));
+    }
+
+    /**
+     * Creates a set without one ID.
+     *
+     * @param articleId The article ID to remove.
+     * @return The new set, or this set if the article was not a member.
+     */
+    public ArticleIdSet without(long articleId) {
+        int index = Arrays.binarySearch(ids, articleId);
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        long[] kept = new long[ids.length - 1];
+        System.arraycopy(ids, 0, kept, 0, index);
+        System.arraycopy(ids, index + 1, kept, index, kept.length - index);
+        return new ArticleIdSet(kept);
+    }
+
+    /**
+     * Creates the intersection of this set and another, in one pass over both.
+     *
+     * @param other The other set.
+     * @return The articles in both sets.
+     */
+    public ArticleIdSet and(ArticleIdSet other) {
+        long[] a = ids;
+        long[] b = other.ids;
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int length = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[length++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Creates the union of this set and another, in one pass over both.
+     *
+     * @param other The other set.
+     * @return The articles in either set.
+     */
+    public ArticleIdSet or(ArticleIdSet other) {
+        long[] a = ids;
+        long[] b = other.ids;
+        if (b.length == 0) {
+            return this;
+        }
+        if (a.length == 0) {
+            return other;
+        }
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int length = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[length++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[length++] = b[j++];
+            } else {
+                result[length++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[length++] = a[i++];
+        }
+        while (j < b.length) {
+            result[length++] = b[j++];
+        }
+        return wrap(result, length);
+    }
+
+    /**
+     * Creates the difference of this set and another, in one pass over both.
+     *
+     * @param other The set of articles to leave out.
+     * @return The articles in this set but not in the other.
+     */
+    public ArticleIdSet andNot(ArticleIdSet other) {
+        long[] a = ids;
+        long[] b = other.ids;
+        if (a.length == 0 || b.length == 0) {
+            return this;
+        }
+        long[] result = new long[a.length];
+        int i = 0;
+        int j = 0;
+        int length = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[length++] = a[i++];
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[length++] = a[i++];
+        }
+        return length == a.length ? this : wrap(result, length);
+    }
+
+    private static ArticleIdSet wrap(long[] sorted, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        return new ArticleIdSet(length == sorted.length ? sorted : Arrays.copyOf(sorted, length));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ArticleIdSet && Arrays.equals(ids, ((ArticleIdSet) other).ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(ids);
+    }
+}
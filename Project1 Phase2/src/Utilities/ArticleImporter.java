@@ -0,0 +1,617 @@
+package Utilities;
+
+import models.Group;
+import models.HelpArticle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p> Title: ArticleImporter Class </p>
+ *
+ * <p> Description: This class imports help articles in bulk from a CSV or JSON Lines file. The
+ * file is streamed: records are read one at a time, handed in chunks to a pool of validation
+ * threads, and each validated chunk is inserted in one unit of work with
+ * {@link HelpArticleDAO#addHelpArticles(List)}. At most two chunks per validation thread are in
+ * flight, so memory stays flat however large the file is. Chunks are inserted in file order. </p>
+ *
+ * <p> A CSV file must start with a header row naming its columns, and a JSON Lines file holds
+ * one object per line with the same names as members. The recognised names are header, title,
+ * shortDescription, keywords, body, referenceLinks and groups, matched without regard to case;
+ * only title is required. Keywords, reference links and groups are lists, written in CSV as one
+ * field separated by semicolons and in JSON either that way or as an array of strings. Groups are
+ * looked up by name through {@link GroupDAO} and, if allowed, created when missing. </p>
+ *
+ * <p> A record that fails validation is rejected and the import goes on; the
+ * {@link ImportReport} lists why. A malformed file or a database error stops the import, keeping
+ * the batches already inserted. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ArticleImporter {
+
+    /**
+     * The supported file formats.
+     */
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * Picks the format from a file extension: .csv, or .jsonl or .ndjson.
+         *
+         * @param fileName The name of the file.
+         * @return The format.
+         * @throws IllegalArgumentException If the extension is not recognised.
+         */
+        public static Format fromFileName(String fileName) {
+            String lower = fileName.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+                return JSONL;
+            }
+            throw new IllegalArgumentException("Unsupported import file '" + fileName + "'; expected .csv or .jsonl.");
+        }
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    static final int MAX_RECORD_LENGTH = 8 * 1024 * 1024; // Characters, so a missing quote cannot read the whole file
+    static final String LIST_SEPARATOR = ";";
+
+    private static final List<String> FIELDS = List.of("header", "title", "shortdescription", "keywords", "body",
+            "referencelinks", "groups");
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final DatabaseManager databaseManager;
+    private final HelpArticleDAO helpArticleDAO;
+    private final GroupDAO groupDAO;
+    private final int batchSize;
+    private final int validationThreads;
+    private final boolean createMissingGroups;
+
+    /**
+     * Constructs an ArticleImporter with the default batch size, one validation thread per spare
+     * processor, and missing groups created.
+     *
+     * @throws SQLException If there is an error accessing the database.
+     */
+    public ArticleImporter() throws SQLException {
+        this(DEFAULT_BATCH_SIZE, Math.max(1, Runtime.getRuntime().availableProcessors() - 1), true);
+    }
+
+    /**
+     * Constructs an ArticleImporter.
+     *
+     * @param batchSize           The number of records validated and inserted together.
+     * @param validationThreads   The number of threads validating records.
+     * @param createMissingGroups Whether an unknown group name creates the group; if not, the
+     *                            record is rejected.
+     * @throws SQLException If there is an error accessing the database.
+     */
+    public ArticleImporter(int batchSize, int validationThreads, boolean createMissingGroups) throws SQLException {
+        if (batchSize < 1 || validationThreads < 1) {
+            throw new IllegalArgumentException("Batch size and validation threads must be positive.");
+        }
+        this.databaseManager = DatabaseManager.getInstance();
+        this.helpArticleDAO = new HelpArticleDAO();
+        this.groupDAO = new GroupDAO();
+        this.batchSize = batchSize;
+        this.validationThreads = validationThreads;
+        this.createMissingGroups = createMissingGroups;
+    }
+
+    /**
+     * Imports a UTF-8 file, choosing the format from its extension.
+     *
+     * @param path The file to import.
+     * @return The report of the import.
+     * @throws IOException  If the file cannot be read or is malformed.
+     * @throws SQLException If a batch cannot be inserted.
+     */
+    public ImportReport importFile(Path path) throws IOException, SQLException {
+        Format format = Format.fromFileName(path.getFileName().toString());
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return importFrom(reader, format);
+        }
+    }
+
+    /**
+     * Imports the records of a stream.
+     *
+     * @param reader The stream, which is read to the end but not closed.
+     * @param format The format of the stream.
+     * @return The report of the import.
+     * @throws IOException  If the stream cannot be read or is malformed.
+     * @throws SQLException If a batch cannot be inserted.
+     */
+    public ImportReport importFrom(Reader reader, Format format) throws IOException, SQLException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+        RecordSource source = format == Format.CSV ? new CsvSource(reader) : new JsonLinesSource(reader);
+        Map<String, Long> groupIds = new HashMap<>();
+        ArrayDeque<Future<ValidatedChunk>> pending = new ArrayDeque<>();
+        ExecutorService validators = Executors.newFixedThreadPool(validationThreads, r -> {
+            Thread thread = new Thread(r, "article-import-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<RawRecord> chunk = new ArrayList<>(batchSize);
+            RawRecord record;
+            while ((record = source.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == batchSize) {
+                    pending.add(validators.submit(validateTask(chunk, source)));
+                    chunk = new ArrayList<>(batchSize);
+                    if (pending.size() >= validationThreads * 2) {
+                        insert(await(pending.poll()), groupIds, report);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                pending.add(validators.submit(validateTask(chunk, source)));
+            }
+            while (!pending.isEmpty()) {
+                insert(await(pending.poll()), groupIds, report);
+            }
+        } finally {
+            validators.shutdownNow();
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * A record as read from the file: CSV field values or one JSON line.
+     */
+    private static final class RawRecord {
+        final long lineNumber;
+        final List<String> values;
+        final String line;
+
+        RawRecord(long lineNumber, List<String> values, String line) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+            this.line = line;
+        }
+    }
+
+    /**
+     * A validated record: an article and its group names, or the reason it was rejected.
+     */
+    private static final class Row {
+        final long lineNumber;
+        final HelpArticle article;
+        final Set<String> groups;
+        final String rejection;
+
+        Row(long lineNumber, HelpArticle article, Set<String> groups, String rejection) {
+            this.lineNumber = lineNumber;
+            this.article = article;
+            this.groups = groups;
+            this.rejection = rejection;
+        }
+    }
+
+    private static final class ValidatedChunk {
+        final List<Row> rows;
+        final long nanos;
+
+        ValidatedChunk(List<Row> rows, long nanos) {
+            this.rows = rows;
+            this.nanos = nanos;
+        }
+    }
+
+    private static Callable<ValidatedChunk> validateTask(List<RawRecord> chunk, RecordSource source) {
+        List<String> columns = source.columns();
+        return () -> {
+            long start = System.nanoTime();
+            List<Row> rows = new ArrayList<>(chunk.size());
+            for (RawRecord record : chunk) {
+                rows.add(validate(record, columns));
+            }
+            return new ValidatedChunk(rows, System.nanoTime() - start);
+        };
+    }
+
+    private static ValidatedChunk await(Future<ValidatedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted.", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Validation failed unexpectedly.", ex.getCause());
+        }
+    }
+
+    /**
+     * Inserts the valid rows of a chunk in one unit of work, resolving their group names first.
+     */
+    private void insert(ValidatedChunk chunk, Map<String, Long> groupIds, ImportReport report) throws SQLException {
+        report.recordRead(chunk.rows.size());
+        report.addValidationNanos(chunk.nanos);
+        List<HelpArticle> articles = new ArrayList<>(chunk.rows.size());
+        List<Set<String>> articleGroups = new ArrayList<>(chunk.rows.size());
+        Set<String> missingGroups = new LinkedHashSet<>();
+        for (Row row : chunk.rows) {
+            if (row.rejection != null) {
+                report.reject(row.lineNumber, row.rejection);
+                continue;
+            }
+            String unknownGroup = null;
+            for (String name : row.groups) {
+                if (groupIds.containsKey(name) || missingGroups.contains(name)) {
+                    continue;
+                }
+                Group group = groupDAO.getGroupByName(name);
+                if (group != null) {
+                    groupIds.put(name, group.getId());
+                } else if (createMissingGroups) {
+                    missingGroups.add(name);
+                } else {
+                    unknownGroup = name;
+                    break;
+                }
+            }
+            if (unknownGroup != null) {
+                report.reject(row.lineNumber, "Unknown group '" + unknownGroup + "'.");
+                continue;
+            }
+            articles.add(row.article);
+            articleGroups.add(row.groups);
+        }
+        if (articles.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Map<String, Long> created = databaseManager.inUnitOfWork(() -> {
+            Map<String, Long> ids = new HashMap<>();
+            for (String name : missingGroups) {
+                Group group = new Group(name);
+                groupDAO.addGroup(group);
+                ids.put(name, group.getId());
+            }
+            helpArticleDAO.addHelpArticles(articles);
+            Map<Long, List<Long>> byGroup = new LinkedHashMap<>();
+            for (int i = 0; i < articles.size(); i++) {
+                for (String name : articleGroups.get(i)) {
+                    Long groupId = groupIds.containsKey(name) ? groupIds.get(name) : ids.get(name);
+                    byGroup.computeIfAbsent(groupId, id -> new ArrayList<>()).add(articles.get(i).getId());
+                }
+            }
+            for (Map.Entry<Long, List<Long>> entry : byGroup.entrySet()) {
+                helpArticleDAO.associateArticlesWithGroup(entry.getKey(), entry.getValue());
+            }
+            return ids;
+        });
+        groupIds.putAll(created);
+        report.batchInserted(articles.size(), created.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Validates one record. Runs on a validation thread and touches no shared state.
+     */
+    private static Row validate(RawRecord record, List<String> columns) {
+        Map<String, Object> fields;
+        if (record.line != null) {
+            try {
+                fields = new HashMap<>();
+                for (Map.Entry<String, Object> member : JsonLineParser.parseObject(record.line).entrySet()) {
+                    String name = member.getKey().toLowerCase(Locale.ROOT);
+                    if (!FIELDS.contains(name)) {
+                        return reject(record, "Unknown field '" + member.getKey() + "'.");
+                    }
+                    fields.put(name, member.getValue());
+                }
+            } catch (IllegalArgumentException ex) {
+                return reject(record, "Invalid JSON: " + ex.getMessage());
+            }
+        } else {
+            if (record.values.size() != columns.size()) {
+                return reject(record, "Expected " + columns.size() + " field(s) but found " + record.values.size() + ".");
+            }
+            fields = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                fields.put(columns.get(i), record.values.get(i));
+            }
+        }
+
+        try {
+            String title = text(fields, "title").trim();
+            String header = text(fields, "header");
+            String shortDescription = text(fields, "shortdescription");
+            List<String> keywords = list(fields, "keywords");
+            List<String> referenceLinks = list(fields, "referencelinks");
+            Set<String> groups = new LinkedHashSet<>(list(fields, "groups"));
+            if (title.isEmpty()) {
+                return reject(record, "Title is required.");
+            }
+            String problem = checkLength("Title", title, 255);
+            if (problem == null) problem = checkLength("Header", header, 255);
+            if (problem == null) problem = checkLength("Short description", shortDescription, 500);
+            if (problem == null) problem = checkList("Keyword", keywords, 500);
+            if (problem == null) problem = checkList("Reference link", referenceLinks, 1000);
+            for (String group : groups) {
+                if (problem == null) problem = checkLength("Group name", group, 255);
+            }
+            if (problem != null) {
+                return reject(record, problem);
+            }
+            HelpArticle article = new HelpArticle(header, title, shortDescription, keywords, text(fields, "body"), referenceLinks);
+            return new Row(record.lineNumber, article, groups, null);
+        } catch (IllegalArgumentException ex) {
+            return reject(record, ex.getMessage());
+        }
+    }
+
+    private static Row reject(RawRecord record, String reason) {
+        return new Row(record.lineNumber, null, Collections.emptySet(), reason);
+    }
+
+    private static String text(Map<String, Object> fields, String name) {
+        Object value = fields.get(name);
+        if (value == null) {
+            return "";
+        }
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("Field '" + name + "' must be a string.");
+        }
+        return (String) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> list(Map<String, Object> fields, String name) {
+        Object value = fields.get(name);
+        List<String> raw;
+        if (value == null) {
+            return new ArrayList<>();
+        } else if (value instanceof String) {
+            raw = List.of(((String) value).split(LIST_SEPARATOR));
+        } else {
+            raw = (List<String>) value;
+        }
+        List<String> items = new ArrayList<>(raw.size());
+        for (String item : raw) {
+            String trimmed = item.trim();
+            if (!trimmed.isEmpty()) {
+                items.add(trimmed);
+            }
+        }
+        return items;
+    }
+
+    private static String checkLength(String label, String value, int max) {
+        return value.length() > max ? label + " is longer than " + max + " characters." : null;
+    }
+
+    /**
+     * Checks a list that is stored comma-separated in one column of at most {@code max} characters.
+     */
+    private static String checkList(String label, List<String> items, int max) {
+        for (String item : items) {
+            if (item.contains(",")) {
+                return label + " '" + item + "' must not contain a comma.";
+            }
+        }
+        return checkLength(label + " list", String.join(",", items), max);
+    }
+
+    /**
+     * Reads records one at a time from a stream, tracking line numbers.
+     */
+    private abstract static class RecordSource {
+        private final Reader reader;
+        private int pushedBack = -2;
+        long line = 1;
+
+        RecordSource(Reader reader) {
+            this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, 64 * 1024);
+        }
+
+        /**
+         * Retrieves the next record, or null at the end of the stream.
+         */
+        abstract RawRecord next() throws IOException;
+
+        /**
+         * Retrieves the CSV column names, or an empty list for JSON Lines.
+         */
+        List<String> columns() {
+            return Collections.emptyList();
+        }
+
+        int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        void unread(int c) {
+            pushedBack = c;
+        }
+
+        IOException tooLong(long startLine) {
+            return new IOException("The record starting on line " + startLine + " is longer than " +
+                    MAX_RECORD_LENGTH + " characters; check for a missing quote.");
+        }
+    }
+
+    /**
+     * Reads RFC 4180 records: comma-separated fields, optionally double-quoted, where a quoted
+     * field may contain commas, line breaks and doubled quotes.
+     */
+    private static final class CsvSource extends RecordSource {
+        private final List<String> columns = new ArrayList<>();
+
+        CsvSource(Reader reader) throws IOException {
+            super(reader);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IOException("The CSV file is empty; a header row is required.");
+            }
+            if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+                header.set(0, header.get(0).substring(1));
+            }
+            for (String name : header) {
+                String column = name.trim().toLowerCase(Locale.ROOT);
+                if (!FIELDS.contains(column)) {
+                    throw new IOException("Unknown CSV column '" + name.trim() + "'.");
+                }
+                if (columns.contains(column)) {
+                    throw new IOException("Duplicate CSV column '" + name.trim() + "'.");
+                }
+                columns.add(column);
+            }
+            if (!columns.contains("title")) {
+                throw new IOException("The CSV header must include a title column.");
+            }
+        }
+
+        @Override
+        List<String> columns() {
+            return columns;
+        }
+
+        @Override
+        RawRecord next() throws IOException {
+            while (true) {
+                long startLine = line;
+                List<String> values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+                if (values.size() > 1 || !values.get(0).isEmpty()) {
+                    return new RawRecord(startLine, values, null);
+                }
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            long startLine = line;
+            List<String> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean started = false;
+            int length = 0;
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    if (inQuotes) {
+                        throw new IOException("Unterminated quoted field in the record starting on line " + startLine + ".");
+                    }
+                    if (!started) {
+                        return null;
+                    }
+                    values.add(field.toString());
+                    return values;
+                }
+                started = true;
+                if (++length > MAX_RECORD_LENGTH) {
+                    throw tooLong(startLine);
+                }
+                if (inQuotes) {
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            inQuotes = false;
+                            unread(following);
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    inQuotes = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            unread(following);
+                        }
+                    }
+                    line++;
+                    values.add(field.toString());
+                    return values;
+                } else {
+                    field.append((char) c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads one JSON object per line, skipping blank lines. Parsing is left to the validation
+     * threads.
+     */
+    private static final class JsonLinesSource extends RecordSource {
+        private final StringBuilder buffer = new StringBuilder();
+
+        JsonLinesSource(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        RawRecord next() throws IOException {
+            while (true) {
+                long lineNumber = line;
+                buffer.setLength(0);
+                int c = read();
+                if (c == -1) {
+                    return null;
+                }
+                while (c != -1 && c != '\n') {
+                    if (buffer.length() == MAX_RECORD_LENGTH) {
+                        throw tooLong(lineNumber);
+                    }
+                    buffer.append((char) c);
+                    c = read();
+                }
+                line++;
+                String text = buffer.toString().trim();
+                if (lineNumber == 1 && text.startsWith("\uFEFF")) {
+                    text = text.substring(1).trim();
+                }
+                if (!text.isEmpty()) {
+                    return new RawRecord(lineNumber, null, text);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package Utilities;
+
+import models.Group;
+import models.HelpArticle;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p> Title: ArticleImporterTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link ArticleImporter} class. It
+ * validates CSV records with quoted multi-line fields, JSON Lines records with arrays, the
+ * rejection of invalid records, the mapping of group names to existing and new groups, batching,
+ * and the rejection of malformed files.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ArticleImporterTest {
+
+    /**
+     * The main method to execute the ArticleImporter tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        ArticleImporterTest tester = new ArticleImporterTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for ArticleImporter.
+     */
+    public void runTests() {
+        System.out.println("Running ArticleImporter tests...");
+
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testCsvImport();
+            testJsonLinesImport();
+            testRejections();
+            testUnknownGroupRejected();
+            testBatching();
+            testMalformedFile();
+        } catch (SQLException | IOException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("ArticleImporter tests completed.");
+    }
+
+    /**
+     * Tests a CSV import with quoted fields, an embedded line break and a new group.
+     *
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the input cannot be read.
+     */
+    public void testCsvImport() throws SQLException, IOException {
+        System.out.println("\nTest: CSV Import");
+        String csv = "Title,Header,Keywords,Body,Groups\r\n" +
+                "CSV One,H1,alpha;beta,\"Line one,\nline \"\"two\"\"\",import-csv\r\n" +
+                "\n" +
+                "CSV Two,H2,,Plain body,import-csv;import-shared\r\n";
+        ImportReport report = new ArticleImporter(10, 2, true).importFrom(new StringReader(csv), ArticleImporter.Format.CSV);
+
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        Group group = groupDAO.getGroupByName("import-csv");
+        List<HelpArticle> articles = group == null ? List.of() : helpArticleDAO.getArticlesByGroupId(group.getId());
+        HelpArticle first = articles.isEmpty() ? null : articles.get(0);
+
+        if (report.getImported() == 2 && report.getRejected() == 0 && report.getGroupsCreated() == 2 &&
+            articles.size() == 2 && first != null && "Line one,\nline \"two\"".equals(first.getBody()) &&
+            first.getKeywords().equals(List.of("alpha", "beta")) &&
+            helpArticleDAO.findArticlesByKeyword("beta").size() == 1) {
+            System.out.println("Passed: CSV records were imported into their groups.");
+        } else {
+            System.out.println("Failed: Unexpected CSV import result: " + report + " " + articles);
+        }
+    }
+
+    /**
+     * Tests a JSON Lines import mixing array and separated lists, mapping to an existing group.
+     *
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the input cannot be read.
+     */
+    public void testJsonLinesImport() throws SQLException, IOException {
+        System.out.println("\nTest: JSON Lines Import");
+        String jsonl = "{\"title\": \"Json One\", \"keywords\": [\"gamma\", \"delta\"], \"groups\": [\"import-shared\"]}\n" +
+                "{\"title\": \"Json Two\", \"body\": \"Tab\\there\", \"referenceLinks\": \"https://a.example;https://b.example\"}\n";
+        ImportReport report = new ArticleImporter(10, 2, false).importFrom(new StringReader(jsonl), ArticleImporter.Format.JSONL);
+
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group shared = new GroupDAO().getGroupByName("import-shared");
+        List<HelpArticle> sharedArticles = helpArticleDAO.getArticlesByGroupId(shared.getId());
+        List<HelpArticle> second = helpArticleDAO.getAllHelpArticles().stream()
+                .filter(article -> "Json Two".equals(article.getTitle())).collect(Collectors.toList());
+
+        if (report.getImported() == 2 && report.getGroupsCreated() == 0 && sharedArticles.size() == 2 &&
+            !second.isEmpty() && "Tab\there".equals(second.get(0).getBody()) &&
+            second.get(0).getReferenceLinks().size() == 2) {
+            System.out.println("Passed: JSON Lines records were imported.");
+        } else {
+            System.out.println("Failed: Unexpected JSON Lines import result: " + report);
+        }
+    }
+
+    /**
+     * Tests that invalid records are rejected with their line numbers while valid ones are kept.
+     *
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the input cannot be read.
+     */
+    public void testRejections() throws SQLException, IOException {
+        System.out.println("\nTest: Rejections");
+        String jsonl = "{\"title\": \"Valid\"}\n" +
+                "{\"title\": \"\"}\n" +
+                "{\"title\": \"Broken\"\n" +
+                "{\"title\": \"Bad keyword\", \"keywords\": [\"a,b\"]}\n" +
+                "{\"title\": \"" + "x".repeat(300) + "\"}\n" +
+                "{\"title\": \"Unknown\", \"author\": \"someone\"}\n";
+        ImportReport report = new ArticleImporter(2, 2, true).importFrom(new StringReader(jsonl), ArticleImporter.Format.JSONL);
+        List<ImportReport.Rejection> rejections = report.getRejections();
+
+        if (report.getRecordsRead() == 6 && report.getImported() == 1 && report.getRejected() == 5 &&
+            rejections.size() == 5 && rejections.get(0).getLineNumber() == 2 && rejections.get(4).getLineNumber() == 6) {
+            System.out.println("Passed: Invalid records were rejected in order: " + rejections);
+        } else {
+            System.out.println("Failed: Unexpected rejections: " + report);
+        }
+    }
+
+    /**
+     * Tests that an unknown group rejects the record when groups may not be created.
+     *
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the input cannot be read.
+     */
+    public void testUnknownGroupRejected() throws SQLException, IOException {
+        System.out.println("\nTest: Unknown Group Rejected");
+        String csv = "title,groups\nNo Group,import-missing\n";
+        ImportReport report = new ArticleImporter(10, 1, false).importFrom(new StringReader(csv), ArticleImporter.Format.CSV);
+
+        if (report.getImported() == 0 && report.getRejected() == 1 &&
+            new GroupDAO().getGroupByName("import-missing") == null) {
+            System.out.println("Passed: The record naming an unknown group was rejected.");
+        } else {
+            System.out.println("Failed: Unexpected result: " + report);
+        }
+    }
+
+    /**
+     * Tests that a larger import is split into batches and reports its throughput.
+     *
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the input cannot be read.
+     */
+    public void testBatching() throws SQLException, IOException {
+        System.out.println("\nTest: Batching");
+        StringBuilder csv = new StringBuilder("title,shortDescription,keywords,groups\n");
+        int count = 5_000;
+        for (int i = 0; i < count; i++) {
+            csv.append("Bulk ").append(i).append(",Description ").append(i).append(",bulk;k").append(i % 10)
+               .append(",import-bulk-").append(i % 3).append('\n');
+        }
+        ImportReport report = new ArticleImporter(500, 3, true).importFrom(new StringReader(csv.toString()), ArticleImporter.Format.CSV);
+        GroupDAO groupDAO = new GroupDAO();
+        int grouped = new HelpArticleDAO().getArticleIdsByGroupId(groupDAO.getGroupByName("import-bulk-0").getId()).size();
+
+        if (report.getImported() == count && report.getBatches() == count / 500 && report.getGroupsCreated() == 3 &&
+            grouped == (count + 2) / 3) {
+            System.out.println("Passed: Imported " + count + " articles in " + report.getBatches() + " batches at " +
+                    String.format("%.0f", report.getArticlesPerSecond()) + " articles/s.");
+        } else {
+            System.out.println("Failed: Unexpected batching result: " + report);
+        }
+    }
+
+    /**
+     * Tests that a malformed file stops the import with an IOException.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testMalformedFile() throws SQLException {
+        System.out.println("\nTest: Malformed File");
+        ArticleImporter importer = new ArticleImporter(10, 1, true);
+        int failures = 0;
+        String[] files = {"", "name,title\nx,y\n", "header\nNo title column\n", "title,body\nOpen,\"never closed\n"};
+        for (String file : files) {
+            try {
+                importer.importFrom(new StringReader(file), ArticleImporter.Format.CSV);
+            } catch (IOException e) {
+                failures++;
+            }
+        }
+
+        if (failures == files.length) {
+            System.out.println("Passed: Every malformed file was refused.");
+        } else {
+            System.out.println("Failed: Only " + failures + " of " + files.length + " malformed files were refused.");
+        }
+    }
+}
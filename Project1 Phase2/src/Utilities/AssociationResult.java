@@ -0,0 +1,117 @@
+package Utilities;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * <p> Title: AssociationResult Class </p>
+ *
+ * <p> Description: This class reports what a bulk association call did to each article. It is
+ * returned by {@link HelpArticleDAO#associateArticlesWithGroup(long, java.util.Collection)} and
+ * {@link HelpArticleDAO#dissociateArticlesFromGroup(long, java.util.Collection)}, which apply all
+ * changes in one transaction, so an article's outcome is only reported once the whole batch has
+ * been committed. Outcomes are listed in the order the article IDs were given, without
+ * duplicates. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public final class AssociationResult {
+
+    /**
+     * What happened to one article.
+     */
+    public enum Outcome {
+        /** The article was added to the group. */
+        ADDED,
+        /** The article was already in the group; nothing changed. */
+        ALREADY_PRESENT,
+        /** The article was removed from the group. */
+        REMOVED,
+        /** The article was not in the group; nothing changed. */
+        NOT_PRESENT,
+        /** No article with this ID exists; nothing changed. */
+        ARTICLE_NOT_FOUND
+    }
+
+    private final long groupId;
+    private final Map<Long, Outcome> outcomes;
+
+    /**
+     * Constructs an AssociationResult.
+     *
+     * @param groupId  The ID of the group.
+     * @param outcomes The outcome of each article, in request order.
+     */
+    AssociationResult(long groupId, LinkedHashMap<Long, Outcome> outcomes) {
+        this.groupId = groupId;
+        this.outcomes = Collections.unmodifiableMap(outcomes);
+    }
+
+    /** @return The ID of the group. */
+    public long getGroupId() {
+        return groupId;
+    }
+
+    /** @return The outcome of each article, keyed by article ID in request order. */
+    public Map<Long, Outcome> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * Retrieves the outcome for one article.
+     *
+     * @param articleId The ID of the article.
+     * @return The outcome, or null if the article was not part of the request.
+     */
+    public Outcome getOutcome(long articleId) {
+        return outcomes.get(articleId);
+    }
+
+    /**
+     * Retrieves the articles that ended with the given outcome.
+     *
+     * @param outcome The outcome to filter by.
+     * @return The article IDs in request order.
+     */
+    public List<Long> getArticleIds(Outcome outcome) {
+        return outcomes.entrySet().stream()
+                .filter(entry -> entry.getValue() == outcome)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the articles that ended with the given outcome.
+     *
+     * @param outcome The outcome to count.
+     * @return The number of articles.
+     */
+    public int count(Outcome outcome) {
+        int count = 0;
+        for (Outcome value : outcomes.values()) {
+            if (value == outcome) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the articles whose membership changed.
+     *
+     * @return The number of articles added or removed.
+     */
+    public int getChangedCount() {
+        return count(Outcome.ADDED) + count(Outcome.REMOVED);
+    }
+
+    @Override
+    public String toString() {
+        return "AssociationResult[group=" + groupId + ", " + outcomes + "]";
+    }
+}
@@ -0,0 +1,295 @@
+package Utilities;
+
+import models.ArticleSummary;
+import models.Group;
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * <p> Title: AsyncDAO Class </p>
+ *
+ * <p> Description: This class runs {@link HelpArticleDAO} and {@link GroupDAO} calls off the
+ * caller's thread, so that pages do not freeze the JavaFX application thread while a query runs.
+ * Each method returns a {@link CompletableFuture} and runs the DAO call on its own virtual thread.
+ * A semaphore sized to the connection pool bounds how many calls use the database at once; the
+ * rest wait for a permit without holding a platform thread. </p>
+ *
+ * <p> Cancelling a future, or letting a timeout given to {@link #submit(Call, Duration)} expire,
+ * interrupts the call: one still waiting for a permit or connection never runs. Results are
+ * handed to the page with {@link #whenComplete(CompletableFuture, Executor, Consumer, Consumer)},
+ * which runs the callbacks on an executor such as {@code Platform::runLater}. </p>
+ *
+ * <p> Every call runs in its own transaction, on a thread with no unit of work, so the facade
+ * must not be used for work that has to join the caller's unit of work. </p>
+ *
+ * <p> Usage: </p>
+ * <pre>
+ * AsyncDAO.whenComplete(asyncDAO.getAllGroups(), Platform::runLater,
+ *         groups -&gt; groupsList.setAll(groups),
+ *         error -&gt; showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load groups."));
+ * </pre>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class AsyncDAO {
+
+    /**
+     * A DAO call run by {@link #submit(Call)}.
+     *
+     * @param <T> The type of the result.
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws SQLException;
+    }
+
+    private static AsyncDAO instance;
+
+    private final HelpArticleDAO helpArticleDAO;
+    private final GroupDAO groupDAO;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("dao-async-", 0).factory());
+
+    /**
+     * Constructs an AsyncDAO.
+     *
+     * @param helpArticleDAO The article DAO the calls go to.
+     * @param groupDAO       The group DAO the calls go to.
+     * @param maxConcurrency The number of calls allowed to run at once.
+     */
+    AsyncDAO(HelpArticleDAO helpArticleDAO, GroupDAO groupDAO, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("At least one concurrent call must be allowed.");
+        }
+        this.helpArticleDAO = helpArticleDAO;
+        this.groupDAO = groupDAO;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    /**
+     * Retrieves the shared instance, which allows as many concurrent calls as the connection pool
+     * has connections.
+     *
+     * @return The AsyncDAO instance.
+     * @throws SQLException If there is an error accessing the database.
+     */
+    public static synchronized AsyncDAO getInstance() throws SQLException {
+        if (instance == null) {
+            instance = new AsyncDAO(new HelpArticleDAO(), new GroupDAO(),
+                    DatabaseManager.getInstance().getConfig().getPoolMaxSize());
+        }
+        return instance;
+    }
+
+    /**
+     * Runs a call on a virtual thread once a permit is free.
+     *
+     * @param call The call to run.
+     * @param <T>  The type of the result.
+     * @return A future completed with the result or the exception thrown. Cancelling it
+     *         interrupts the call.
+     */
+    public <T> CompletableFuture<T> submit(Call<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            boolean acquired = false;
+            try {
+                permits.acquire();
+                acquired = true;
+                if (!result.isDone()) {
+                    result.complete(call.call());
+                }
+            } catch (InterruptedException ex) {
+                result.cancel(false);
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            } finally {
+                if (acquired) {
+                    permits.release();
+                }
+            }
+        });
+        result.whenComplete((value, ex) -> {
+            if (ex instanceof CancellationException || ex instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs a call on a virtual thread, giving up after a timeout.
+     *
+     * @param call    The call to run.
+     * @param timeout The time allowed, including any wait for a permit.
+     * @param <T>     The type of the result.
+     * @return A future completed with the result, or with a {@link TimeoutException} after the
+     *         timeout, which also interrupts the call.
+     */
+    public <T> CompletableFuture<T> submit(Call<T> call, Duration timeout) {
+        return submit(call).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs callbacks on an executor when a future completes. The failure callback receives the
+     * exception thrown by the call rather than its {@link CompletionException} wrapper. Nothing
+     * is called for a cancelled future, as whoever cancelled it no longer wants the result.
+     *
+     * @param future    The future to wait for.
+     * @param executor  The executor to run the callbacks on, for example {@code Platform::runLater}.
+     * @param onSuccess Receives the result.
+     * @param onFailure Receives the exception.
+     * @param <T>       The type of the result.
+     */
+    public static <T> void whenComplete(CompletableFuture<T> future, Executor executor,
+                                        Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+        future.whenCompleteAsync((value, ex) -> {
+            if (ex == null) {
+                onSuccess.accept(value);
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (!(cause instanceof CancellationException)) {
+                onFailure.accept(cause);
+            }
+        }, executor);
+    }
+
+    /**
+     * Retrieves the number of calls using or waiting for the database.
+     *
+     * @return The number of calls holding a permit plus an estimate of those waiting.
+     */
+    public int getPendingCalls() {
+        return maxConcurrency - permits.availablePermits() + permits.getQueueLength();
+    }
+
+    /** @see HelpArticleDAO#getHelpArticleById(long) */
+    public CompletableFuture<HelpArticle> getHelpArticleById(long id) {
+        return submit(() -> helpArticleDAO.getHelpArticleById(id));
+    }
+
+    /** @see HelpArticleDAO#getHelpArticlesPage(String, int) */
+    public CompletableFuture<Page<HelpArticle>> getHelpArticlesPage(String cursor, int pageSize) {
+        return submit(() -> helpArticleDAO.getHelpArticlesPage(cursor, pageSize));
+    }
+
+    /** @see HelpArticleDAO#searchHelpArticles(String, int) */
+    public CompletableFuture<List<HelpArticle>> searchHelpArticles(String query, int limit) {
+        return submit(() -> helpArticleDAO.searchHelpArticles(query, limit));
+    }
+
+    /** @see HelpArticleDAO#getArticleSummariesByGroupId(long) */
+    public CompletableFuture<List<ArticleSummary>> getArticleSummariesByGroupId(long groupId) {
+        return submit(() -> helpArticleDAO.getArticleSummariesByGroupId(groupId));
+    }
+
+    /** @see HelpArticleDAO#findArticleSummaries(GroupQuery) */
+    public CompletableFuture<List<ArticleSummary>> findArticleSummaries(GroupQuery query) {
+        return submit(() -> helpArticleDAO.findArticleSummaries(query));
+    }
+
+    /** @see HelpArticleDAO#getArticleCountsByGroup() */
+    public CompletableFuture<Map<Long, Integer>> getArticleCountsByGroup() {
+        return submit(helpArticleDAO::getArticleCountsByGroup);
+    }
+
+    /** @see HelpArticleDAO#getGroupCountsByArticle() */
+    public CompletableFuture<Map<Long, Integer>> getGroupCountsByArticle() {
+        return submit(helpArticleDAO::getGroupCountsByArticle);
+    }
+
+    /** @see HelpArticleDAO#addHelpArticle(HelpArticle) */
+    public CompletableFuture<HelpArticle> addHelpArticle(HelpArticle article) {
+        return submit(() -> {
+            helpArticleDAO.addHelpArticle(article);
+            return article;
+        });
+    }
+
+    /** @see HelpArticleDAO#updateHelpArticle(HelpArticle) */
+    public CompletableFuture<HelpArticle> updateHelpArticle(HelpArticle article) {
+        return submit(() -> {
+            helpArticleDAO.updateHelpArticle(article);
+            return article;
+        });
+    }
+
+    /** @see HelpArticleDAO#deleteHelpArticle(long) */
+    public CompletableFuture<Void> deleteHelpArticle(long id) {
+        return submit(() -> {
+            helpArticleDAO.deleteHelpArticle(id);
+            return null;
+        });
+    }
+
+    /** @see HelpArticleDAO#syncGroupMembership(long, Collection) */
+    public CompletableFuture<AssociationResult> syncGroupMembership(long groupId, Collection<Long> articleIds) {
+        return submit(() -> helpArticleDAO.syncGroupMembership(groupId, articleIds));
+    }
+
+    /** @see HelpArticleDAO#dissociateArticlesFromGroup(long, Collection) */
+    public CompletableFuture<AssociationResult> dissociateArticlesFromGroup(long groupId, Collection<Long> articleIds) {
+        return submit(() -> helpArticleDAO.dissociateArticlesFromGroup(groupId, articleIds));
+    }
+
+    /** @see GroupDAO#getAllGroups() */
+    public CompletableFuture<List<Group>> getAllGroups() {
+        return submit(groupDAO::getAllGroups);
+    }
+
+    /** @see GroupDAO#getGroupByName(String) */
+    public CompletableFuture<Group> getGroupByName(String name) {
+        return submit(() -> groupDAO.getGroupByName(name));
+    }
+
+    /** @see GroupDAO#getGroupById(long) */
+    public CompletableFuture<Group> getGroupById(long groupId) {
+        return submit(() -> groupDAO.getGroupById(groupId));
+    }
+
+    /** @see GroupDAO#addGroup(Group) */
+    public CompletableFuture<Group> addGroup(Group group) {
+        return submit(() -> {
+            groupDAO.addGroup(group);
+            return group;
+        });
+    }
+
+    /** @see GroupDAO#updateGroup(Group) */
+    public CompletableFuture<Group> updateGroup(Group group) {
+        return submit(() -> {
+            groupDAO.updateGroup(group);
+            return group;
+        });
+    }
+
+    /** @see GroupDAO#deleteGroup(long) */
+    public CompletableFuture<Void> deleteGroup(long groupId) {
+        return submit(() -> {
+            groupDAO.deleteGroup(groupId);
+            return null;
+        });
+    }
+}
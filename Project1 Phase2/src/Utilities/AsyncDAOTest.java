@@ -0,0 +1,251 @@
+package Utilities;
+
+import models.Group;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p> Title: AsyncDAOTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link AsyncDAO} class. It
+ * validates that DAO results arrive through the returned futures, that no more calls run at once
+ * than allowed, that cancelling interrupts a running call and skips a waiting one, that timeouts
+ * interrupt the call, and that callbacks run on the given executor with the unwrapped exception.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class AsyncDAOTest {
+
+    /**
+     * The main method to execute the AsyncDAO tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        AsyncDAOTest tester = new AsyncDAOTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for AsyncDAO.
+     */
+    public void runTests() {
+        System.out.println("Running AsyncDAO tests...");
+
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testDaoResults();
+            testBoundedConcurrency();
+            testCancellation();
+            testTimeout();
+            testCallbacks();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        } catch (InterruptedException | ExecutionException e) {
+            System.out.println("Failed: Unexpected exception: " + e);
+        }
+
+        System.out.println("AsyncDAO tests completed.");
+    }
+
+    private AsyncDAO newAsyncDAO(int maxConcurrency) throws SQLException {
+        return new AsyncDAO(new HelpArticleDAO(), new GroupDAO(), maxConcurrency);
+    }
+
+    /**
+     * Tests that DAO calls made through the facade return the same data as direct calls.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     * @throws ExecutionException   If a call fails.
+     */
+    public void testDaoResults() throws SQLException, InterruptedException, ExecutionException {
+        System.out.println("\nTest: DAO Results");
+        AsyncDAO asyncDAO = newAsyncDAO(2);
+        Group added = asyncDAO.addGroup(new Group("async-group")).get();
+        List<Group> groups = asyncDAO.getAllGroups().get();
+        Group byName = asyncDAO.getGroupByName("async-group").get();
+
+        if (added.getId() > 0 && groups.size() == new GroupDAO().getAllGroups().size() &&
+            byName != null && byName.getId() == added.getId()) {
+            System.out.println("Passed: Futures completed with the DAO results.");
+        } else {
+            System.out.println("Failed: Unexpected results: " + groups + ", " + byName);
+        }
+    }
+
+    /**
+     * Tests that no more calls run at once than the concurrency limit allows.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     */
+    public void testBoundedConcurrency() throws SQLException, InterruptedException {
+        System.out.println("\nTest: Bounded Concurrency");
+        AsyncDAO asyncDAO = newAsyncDAO(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            futures.add(asyncDAO.submit(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                pause(20);
+                running.decrementAndGet();
+                return 1;
+            }));
+        }
+        int completed = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            completed += future.join();
+        }
+
+        if (completed == 30 && peak.get() == 3) {
+            System.out.println("Passed: At most 3 of 30 calls ran at once.");
+        } else {
+            System.out.println("Failed: " + completed + " calls completed with a peak of " + peak.get() + " running.");
+        }
+    }
+
+    /**
+     * Tests that cancelling interrupts a running call and keeps a waiting call from starting.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     */
+    public void testCancellation() throws SQLException, InterruptedException {
+        System.out.println("\nTest: Cancellation");
+        AsyncDAO asyncDAO = newAsyncDAO(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicBoolean waitingCallRan = new AtomicBoolean();
+        CompletableFuture<Integer> running = asyncDAO.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        });
+        CompletableFuture<Integer> waiting = asyncDAO.submit(() -> {
+            waitingCallRan.set(true);
+            return 2;
+        });
+        started.await(5, TimeUnit.SECONDS);
+        waiting.cancel(true);
+        running.cancel(true);
+        boolean wasInterrupted = interrupted.await(5, TimeUnit.SECONDS);
+        Integer next = asyncDAO.submit(() -> 3).join();
+
+        if (wasInterrupted && running.isCancelled() && waiting.isCancelled() && !waitingCallRan.get() && next == 3) {
+            System.out.println("Passed: The running call was interrupted and the waiting call never ran.");
+        } else {
+            System.out.println("Failed: interrupted=" + wasInterrupted + ", waitingCallRan=" + waitingCallRan.get());
+        }
+    }
+
+    /**
+     * Tests that a call running past its timeout fails with a TimeoutException and is interrupted.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     */
+    public void testTimeout() throws SQLException, InterruptedException {
+        System.out.println("\nTest: Timeout");
+        AsyncDAO asyncDAO = newAsyncDAO(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<Integer> slow = asyncDAO.submit(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        }, Duration.ofMillis(100));
+        Throwable failure = null;
+        try {
+            slow.get();
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+        }
+
+        if (failure instanceof TimeoutException && interrupted.await(5, TimeUnit.SECONDS)) {
+            System.out.println("Passed: The call timed out and was interrupted.");
+        } else {
+            System.out.println("Failed: Expected a TimeoutException but got " + failure);
+        }
+    }
+
+    /**
+     * Tests that callbacks run on the given executor and receive the exception thrown by the call.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     */
+    public void testCallbacks() throws SQLException, InterruptedException {
+        System.out.println("\nTest: Callbacks");
+        AsyncDAO asyncDAO = newAsyncDAO(2);
+        ExecutorService uiThread = Executors.newSingleThreadExecutor(r -> new Thread(r, "test-ui-thread"));
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicReference<String> successThread = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean cancelledCallbackRan = new AtomicBoolean();
+        try {
+            AsyncDAO.whenComplete(asyncDAO.getAllGroups(), uiThread,
+                    groups -> {
+                        successThread.set(Thread.currentThread().getName());
+                        done.countDown();
+                    },
+                    error -> done.countDown());
+            AsyncDAO.whenComplete(asyncDAO.submit(() -> {
+                        throw new SQLException("boom");
+                    }), uiThread,
+                    value -> done.countDown(),
+                    error -> {
+                        failure.set(error);
+                        done.countDown();
+                    });
+            CompletableFuture<Integer> cancelled = new CompletableFuture<>();
+            AsyncDAO.whenComplete(cancelled, uiThread, value -> cancelledCallbackRan.set(true),
+                    error -> cancelledCallbackRan.set(true));
+            cancelled.cancel(true);
+            done.await(5, TimeUnit.SECONDS);
+            uiThread.shutdown();
+            uiThread.awaitTermination(5, TimeUnit.SECONDS);
+        } finally {
+            uiThread.shutdownNow();
+        }
+
+        if ("test-ui-thread".equals(successThread.get()) && failure.get() instanceof SQLException &&
+            !cancelledCallbackRan.get()) {
+            System.out.println("Passed: Callbacks ran on the given executor with the unwrapped exception.");
+        } else {
+            System.out.println("Failed: thread=" + successThread.get() + ", failure=" + failure.get() +
+                    ", cancelledCallbackRan=" + cancelledCallbackRan.get());
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
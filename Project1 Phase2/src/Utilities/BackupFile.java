@@ -0,0 +1,467 @@
+package Utilities;
+
+import models.Group;
+import models.HelpArticle;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> Title: BackupFile Class </p>
+ *
+ * <p> Description: This class defines the record-oriented format of the backup files written by
+ * {@link BackupRestoreManager}. A backup is written and read one record at a time through a
+ * buffered {@link FileChannel}, so writing holds one record in memory at a time and restoring at
+ * most one batch of {@link BackupRestoreManager#RESTORE_BATCH_SIZE} articles. </p>
+ *
+ * <p> A file starts with the magic bytes {@code HSBK} and a format version, followed by records of
+ * the form {@code [type: byte][length: int][payload: length bytes]}: </p>
+ * <ul>
+ *   <li> GROUP: the group's ID and name. The articles that follow belong to it. </li>
+ *   <li> ARTICLE: the article's ID, header, title, short description, keywords, body and
+ *        reference links. </li>
+ *   <li> END: the number of groups and articles written. A file without it was cut short. </li>
+ * </ul>
+ * <p> Numbers are big-endian. A string is its UTF-8 length followed by its bytes, and a list is
+ * its size followed by its strings; a length of -1 stands for null. Records of an unknown type
+ * are skipped, so later versions can add records that older readers ignore. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+final class BackupFile {
+    /** The first bytes of every backup file: "HSBK". */
+    static final int MAGIC = 0x4853424B;
+    static final int VERSION = 1;
+
+    static final byte GROUP = 1;
+    static final byte ARTICLE = 2;
+    static final byte END = 3;
+
+    /** The largest record written or read; reading rejects longer lengths as corrupt before allocating. */
+    static final int MAX_RECORD_BYTES = 256 * 1024 * 1024;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final int RECORD_HEADER_BYTES = 5;
+
+    private BackupFile() {
+    }
+
+    /**
+     * Checks whether a file starts with the magic bytes of this format.
+     *
+     * @param file The file to check.
+     * @return True if the file is a record-oriented backup; false for any other content,
+     *         including the serialized backups written by earlier versions.
+     * @throws IOException If the file cannot be read.
+     */
+    static boolean isBackupFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the magic is complete or the file ends.
+            }
+            return !header.hasRemaining() && header.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Writes a backup file one record at a time. {@link #finish()} must be called once every
+     * record is written; a file closed without it is rejected when read.
+     */
+    static final class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private long groups;
+        private long articles;
+
+        /**
+         * Creates or truncates a backup file and writes its header.
+         *
+         * @param file The file to write.
+         * @throws IOException If the file cannot be opened or written.
+         */
+        Writer(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buffer.putInt(MAGIC).putInt(VERSION);
+        }
+
+        /**
+         * Writes a group. The articles written after it, up to the next group, belong to it.
+         *
+         * @param group The group.
+         * @throws IOException If the record cannot be written.
+         */
+        void writeGroup(Group group) throws IOException {
+            byte[] name = encode(group.getName());
+            beginRecord(GROUP, Long.BYTES + size(name));
+            buffer.putLong(group.getId());
+            putString(name);
+            groups++;
+        }
+
+        /**
+         * Writes an article belonging to the last group written.
+         *
+         * @param article The article, with its body.
+         * @throws IOException If the record cannot be written.
+         */
+        void writeArticle(HelpArticle article) throws IOException {
+            byte[] header = encode(article.getHeader());
+            byte[] title = encode(article.getTitle());
+            byte[] shortDescription = encode(article.getShortDescription());
+            List<byte[]> keywords = encode(article.getKeywords());
+            byte[] body = encode(article.getBody());
+            List<byte[]> referenceLinks = encode(article.getReferenceLinks());
+            long length = (long) Long.BYTES + size(header) + size(title) + size(shortDescription) +
+                    size(keywords) + size(body) + size(referenceLinks);
+            beginRecord(ARTICLE, length);
+            buffer.putLong(article.getId());
+            putString(header);
+            putString(title);
+            putString(shortDescription);
+            putList(keywords);
+            putString(body);
+            putList(referenceLinks);
+            articles++;
+        }
+
+        /**
+         * Writes the END record and forces the file to storage.
+         *
+         * @throws IOException If the record cannot be written.
+         */
+        void finish() throws IOException {
+            beginRecord(END, 2 * Long.BYTES);
+            buffer.putLong(groups).putLong(articles);
+            flush();
+            channel.force(false);
+        }
+
+        /**
+         * Retrieves the number of records written so far, excluding END.
+         *
+         * @return The number of group and article records.
+         */
+        long getRecordCount() {
+            return groups + articles;
+        }
+
+        /**
+         * Closes the file. Records written since the last flush are discarded unless
+         * {@link #finish()} was called.
+         *
+         * @throws IOException If the file cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private void beginRecord(byte type, long length) throws IOException {
+            if (length > MAX_RECORD_BYTES) {
+                throw new IOException("A record of type " + type + " needs " + length +
+                        " bytes, more than the largest record of " + MAX_RECORD_BYTES + " bytes.");
+            }
+            ensure(RECORD_HEADER_BYTES + Long.BYTES);
+            buffer.put(type).putInt((int) length);
+        }
+
+        private void putString(byte[] value) throws IOException {
+            ensure(Integer.BYTES);
+            if (value == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            buffer.putInt(value.length);
+            int offset = 0;
+            while (offset < value.length) {
+                ensure(1);
+                int count = Math.min(buffer.remaining(), value.length - offset);
+                buffer.put(value, offset, count);
+                offset += count;
+            }
+        }
+
+        private void putList(List<byte[]> values) throws IOException {
+            ensure(Integer.BYTES);
+            if (values == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            buffer.putInt(values.size());
+            for (byte[] value : values) {
+                putString(value);
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private static byte[] encode(String value) {
+            return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static List<byte[]> encode(List<String> values) {
+            if (values == null) {
+                return null;
+            }
+            List<byte[]> encoded = new ArrayList<>(values.size());
+            for (String value : values) {
+                encoded.add(encode(value));
+            }
+            return encoded;
+        }
+
+        private static long size(byte[] value) {
+            return Integer.BYTES + (value == null ? 0 : value.length);
+        }
+
+        private static long size(List<byte[]> values) {
+            long size = Integer.BYTES;
+            if (values != null) {
+                for (byte[] value : values) {
+                    size += size(value);
+                }
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Reads a backup file one record at a time. Each call to {@link #next()} decodes one record,
+     * and only the current group and article are kept.
+     */
+    static final class Reader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private byte type;
+        private Group group;
+        private HelpArticle article;
+        private long groups;
+        private long articles;
+        private long remaining;
+
+        /**
+         * Opens a backup file and checks its header.
+         *
+         * @param file The file to read.
+         * @throws IOException If the file cannot be read, or is not a backup of a supported version.
+         */
+        Reader(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                buffer.flip();
+                remaining = 2 * Integer.BYTES;
+                if (getInt() != MAGIC) {
+                    throw new StreamCorruptedException(file + " is not a backup file.");
+                }
+                int version = getInt();
+                if (version < 1 || version > VERSION) {
+                    throw new StreamCorruptedException("Unsupported backup version " + version + ".");
+                }
+            } catch (IOException ex) {
+                channel.close();
+                throw ex;
+            }
+        }
+
+        /**
+         * Advances to the next group or article.
+         *
+         * @return True if a GROUP or ARTICLE record was read; false once the END record is reached.
+         * @throws EOFException              If the file ends before its END record.
+         * @throws StreamCorruptedException If a record is malformed or the END counts do not match.
+         * @throws IOException               If the file cannot be read.
+         */
+        boolean next() throws IOException {
+            while (true) {
+                remaining = RECORD_HEADER_BYTES;
+                type = getByte();
+                int length = getInt();
+                if (length < 0 || length > MAX_RECORD_BYTES) {
+                    throw new StreamCorruptedException("Invalid record length " + length + ".");
+                }
+                remaining = length;
+                switch (type) {
+                    case GROUP:
+                        group = new Group(getLong(), getString());
+                        article = null;
+                        groups++;
+                        break;
+                    case ARTICLE:
+                        article = new HelpArticle(getLong(), getString(), getString(), getString(),
+                                getList(), getString(), getList());
+                        articles++;
+                        break;
+                    case END:
+                        long writtenGroups = getLong();
+                        long writtenArticles = getLong();
+                        if (writtenGroups != groups || writtenArticles != articles) {
+                            throw new StreamCorruptedException("Backup lists " + writtenGroups + " groups and " +
+                                    writtenArticles + " articles but " + groups + " and " + articles + " were read.");
+                        }
+                        group = null;
+                        article = null;
+                        break;
+                    default:
+                        skip(length);
+                        continue;
+                }
+                if (remaining != 0) {
+                    throw new StreamCorruptedException("Record of type " + type + " has " + remaining + " unread bytes.");
+                }
+                return type != END;
+            }
+        }
+
+        /**
+         * Checks whether the current record is a group.
+         *
+         * @return True for a GROUP record, false for an ARTICLE record.
+         */
+        boolean isGroup() {
+            return type == GROUP;
+        }
+
+        /**
+         * Retrieves the group of the current GROUP record.
+         *
+         * @return The group, or null if the current record is not a group.
+         */
+        Group getGroup() {
+            return group;
+        }
+
+        /**
+         * Retrieves the article of the current ARTICLE record.
+         *
+         * @return The article, or null if the current record is not an article.
+         */
+        HelpArticle getArticle() {
+            return article;
+        }
+
+        /**
+         * Closes the file.
+         *
+         * @throws IOException If the file cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private byte getByte() throws IOException {
+            take(1);
+            return buffer.get();
+        }
+
+        private int getInt() throws IOException {
+            take(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        private long getLong() throws IOException {
+            take(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        private String getString() throws IOException {
+            int length = getInt();
+            if (length == -1) {
+                return null;
+            }
+            if (length < 0 || length > remaining) {
+                throw new StreamCorruptedException("Invalid string length " + length + ".");
+            }
+            remaining -= length;
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                fill(1);
+                int count = Math.min(buffer.remaining(), length - offset);
+                buffer.get(bytes, offset, count);
+                offset += count;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private List<String> getList() throws IOException {
+            int size = getInt();
+            if (size == -1) {
+                return null;
+            }
+            if (size < 0 || (long) size * Integer.BYTES > remaining) {
+                throw new StreamCorruptedException("Invalid list size " + size + ".");
+            }
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(getString());
+            }
+            return values;
+        }
+
+        private void skip(int length) throws IOException {
+            int left = length;
+            while (left > 0) {
+                fill(1);
+                int count = Math.min(buffer.remaining(), left);
+                buffer.position(buffer.position() + count);
+                left -= count;
+            }
+            remaining = 0;
+        }
+
+        /**
+         * Consumes bytes of the current record, checking that the record holds them.
+         */
+        private void take(int bytes) throws IOException {
+            if (bytes > remaining) {
+                throw new StreamCorruptedException("Record of type " + type + " is shorter than its fields.");
+            }
+            remaining -= bytes;
+            fill(bytes);
+        }
+
+        /**
+         * Reads from the channel until at least the given number of bytes are buffered.
+         */
+        private void fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            try {
+                while (buffer.position() < bytes) {
+                    if (channel.read(buffer) < 0) {
+                        throw new EOFException("The backup file ends before its END record.");
+                    }
+                }
+            } finally {
+                buffer.flip();
+            }
+        }
+    }
+}
@@ -5,9 +5,14 @@ import models.GroupWithArticles;
 import models.HelpArticle;
 
 import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * <p> Title: BackupRestoreManager Class </p>
@@ -17,11 +22,25 @@ import java.util.List;
  * The class interacts with the data access objects (DAOs) to perform database operations and utilizes 
  * serialization for backup file handling. </p>
  * 
+ * <p> Backups are written in the record-oriented {@link BackupFile} format: each group and each
+ * article is streamed from the database and written as its own record, and a restore reads the
+ * records back in batches of {@link #RESTORE_BATCH_SIZE} articles. Memory use therefore stays the
+ * same however large the backup is. Backups serialized as one object graph by earlier versions
+ * are still restored. </p>
+ * 
  * @author Naimish Maniya
  * 
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
 public class BackupRestoreManager {
+    // Call metrics, one per public method, reported through DaoMetrics.
+    private static final MethodMetrics BACKUP_ALL_GROUPS_METRICS = DaoMetrics.register("BackupRestoreManager.backupAllGroups");
+    private static final MethodMetrics BACKUP_GROUPS_METRICS = DaoMetrics.register("BackupRestoreManager.backupGroups");
+    private static final MethodMetrics RESTORE_GROUPS_METRICS = DaoMetrics.register("BackupRestoreManager.restoreGroups");
+
+    /** The number of articles read from a backup before they are written to the database. */
+    static final int RESTORE_BATCH_SIZE = 500;
+
     private HelpArticleDAO helpArticleDAO;
     private GroupDAO groupDAO;
 
@@ -44,16 +63,13 @@ public class BackupRestoreManager {
      * @throws SQLException   If database operations fail.
      */
     public void backupAllGroups(String filePath) throws IOException, SQLException {
-        List<Group> groups = groupDAO.getAllGroups();
-        List<GroupWithArticles> backupData = new ArrayList<>();
-
-        for (Group group : groups) {
-            List<HelpArticle> articles = helpArticleDAO.getArticlesByGroupId(group.getId());
-            backupData.add(new GroupWithArticles(group, articles));
-        }
-
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            oos.writeObject(backupData);
+        long start = System.nanoTime();
+        try {
+            long rows = writeBackup(groupDAO.getAllGroups(), Paths.get(filePath));
+            BACKUP_ALL_GROUPS_METRICS.read(start, null, (int) Math.min(rows, Integer.MAX_VALUE));
+        } catch (IOException | SQLException | RuntimeException ex) {
+            BACKUP_ALL_GROUPS_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -66,18 +82,54 @@ public class BackupRestoreManager {
      * @throws SQLException   If database operations fail.
      */
     public void backupGroups(List<String> groupNames, String filePath) throws IOException, SQLException {
-        List<GroupWithArticles> backupData = new ArrayList<>();
-
-        for (String groupName : groupNames) {
-            Group group = groupDAO.getGroupByName(groupName);
-            if (group != null) {
-                List<HelpArticle> articles = helpArticleDAO.getArticlesByGroupId(group.getId());
-                backupData.add(new GroupWithArticles(group, articles));
+        long start = System.nanoTime();
+        try {
+            List<Group> groups = new ArrayList<>();
+            for (String groupName : groupNames) {
+                Group group = groupDAO.getGroupByName(groupName);
+                if (group != null) {
+                    groups.add(group);
+                }
             }
+            long rows = writeBackup(groups, Paths.get(filePath));
+            BACKUP_GROUPS_METRICS.read(start, null, (int) Math.min(rows, Integer.MAX_VALUE));
+        } catch (IOException | SQLException | RuntimeException ex) {
+            BACKUP_GROUPS_METRICS.recordFailure(start);
+            throw ex;
         }
+    }
 
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            oos.writeObject(backupData);
+    /**
+     * Writes groups to a backup file, each followed by its articles as they are streamed from
+     * the database.
+     *
+     * @param groups The groups to back up.
+     * @param file   The backup file.
+     * @return The number of group and article records written.
+     * @throws IOException  If the file cannot be written.
+     * @throws SQLException If the articles cannot be read.
+     */
+    private long writeBackup(List<Group> groups, Path file) throws IOException, SQLException {
+        try (BackupFile.Writer writer = new BackupFile.Writer(file)) {
+            for (Group group : groups) {
+                writer.writeGroup(group);
+                try (Stream<HelpArticle> articles = helpArticleDAO.streamArticlesByGroupId(group.getId(),
+                        HelpArticleDAO.DEFAULT_FETCH_SIZE)) {
+                    articles.forEach(article -> {
+                        try {
+                            writer.writeArticle(article);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+                } catch (UncheckedIOException ex) {
+                    throw ex.getCause();
+                } catch (UncheckedSQLException ex) {
+                    throw ex.getCause();
+                }
+            }
+            writer.finish();
+            return writer.getRecordCount();
         }
     }
 
@@ -90,35 +142,165 @@ public class BackupRestoreManager {
      * @throws SQLException            If database operations fail.
      * @throws ClassNotFoundException  If deserialization fails.
      */
-    @SuppressWarnings("unchecked")
     public void restoreGroups(String filePath, boolean removeExisting) throws IOException, SQLException, ClassNotFoundException {
+        long start = System.nanoTime();
+        try {
+            Path file = Paths.get(filePath);
+            int written = BackupFile.isBackupFile(file) ? restoreRecords(file, removeExisting)
+                    : restoreSerialized(file, removeExisting);
+            RESTORE_GROUPS_METRICS.wrote(start, written);
+        } catch (IOException | ClassNotFoundException | SQLException | RuntimeException ex) {
+            RESTORE_GROUPS_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Restores a record-oriented backup, reading it one record at a time.
+     *
+     * @param file           The backup file.
+     * @param removeExisting Whether to remove existing groups and articles before restoring.
+     * @return The number of rows written.
+     * @throws IOException  If the file cannot be read or is malformed; nothing is restored.
+     * @throws SQLException If database operations fail; nothing is restored.
+     */
+    private int restoreRecords(Path file, boolean removeExisting) throws IOException, SQLException {
+        try (BackupFile.Reader reader = new BackupFile.Reader(file)) {
+            // Restore in one transaction so a failure part way, including a truncated file, leaves the database as it was.
+            return DatabaseManager.getInstance().inUnitOfWork(() -> {
+                int rows = 0;
+                if (removeExisting) {
+                    helpArticleDAO.clearAllAssociations();
+                    groupDAO.deleteAllGroups();
+                    helpArticleDAO.deleteAllHelpArticles();
+                }
+                // Queuing an index update per restored article would keep every article in memory until the commit.
+                DatabaseManager.getInstance().invalidateCachesOnCommit();
+
+                Group group = null;
+                List<HelpArticle> batch = new ArrayList<>(RESTORE_BATCH_SIZE);
+                try {
+                    while (reader.next()) {
+                        if (reader.isGroup()) {
+                            rows += restoreBatch(group, batch);
+                            group = groupDAO.getGroupByName(reader.getGroup().getName());
+                            if (group == null) {
+                                group = new Group(reader.getGroup().getName());
+                                groupDAO.addGroup(group); // Assigns the generated ID
+                                rows++;
+                            }
+                        } else if (group == null) {
+                            throw new StreamCorruptedException("The backup file has an article before its first group.");
+                        } else {
+                            batch.add(reader.getArticle());
+                            if (batch.size() == RESTORE_BATCH_SIZE) {
+                                rows += restoreBatch(group, batch);
+                            }
+                        }
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return rows + restoreBatch(group, batch);
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Adds the articles of a batch that do not exist yet and associates the whole batch with
+     * its group, then empties the batch.
+     *
+     * @param group The group the articles belong to.
+     * @param batch The articles read since the last batch.
+     * @return The number of rows written.
+     * @throws SQLException If database operations fail.
+     */
+    private int restoreBatch(Group group, List<HelpArticle> batch) throws SQLException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // Look up which articles already exist in one query instead of one per article.
+        Set<Long> batchIds = new HashSet<>();
+        for (HelpArticle article : batch) {
+            batchIds.add(article.getId());
+        }
+        Set<Long> existingArticleIds = helpArticleDAO.getExistingArticleIds(batchIds);
+        List<HelpArticle> missing = new ArrayList<>();
+        for (HelpArticle article : batch) {
+            if (!existingArticleIds.contains(article.getId())) {
+                missing.add(article);
+            }
+        }
+        helpArticleDAO.addHelpArticles(missing); // Assigns the generated IDs
+
+        List<Long> articleIds = new ArrayList<>(batch.size());
+        for (HelpArticle article : batch) {
+            articleIds.add(article.getId());
+        }
+        helpArticleDAO.associateArticlesWithGroup(group.getId(), articleIds);
+        int rows = missing.size() + batch.size();
+        batch.clear();
+        return rows;
+    }
+
+    /**
+     * Restores a backup serialized as one object graph by earlier versions. The whole backup is
+     * read into memory before it is restored.
+     *
+     * @param file           The backup file.
+     * @param removeExisting Whether to remove existing groups and articles before restoring.
+     * @return The number of rows written.
+     * @throws IOException            If the file cannot be read.
+     * @throws SQLException           If database operations fail; nothing is restored.
+     * @throws ClassNotFoundException If deserialization fails.
+     */
+    @SuppressWarnings("unchecked")
+    private int restoreSerialized(Path file, boolean removeExisting) throws IOException, SQLException, ClassNotFoundException {
         List<GroupWithArticles> backupData;
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
+        try (ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file.toFile())))) {
             backupData = (List<GroupWithArticles>) ois.readObject();
         }
 
-        if (removeExisting) {
-            helpArticleDAO.clearAllAssociations();
-            groupDAO.deleteAllGroups();
-            helpArticleDAO.deleteAllHelpArticles(); 
-        }
+        // Restore in one transaction so a failure part way leaves the database as it was.
+        return DatabaseManager.getInstance().inUnitOfWork(() -> {
+            int rows = 0;
+            if (removeExisting) {
+                helpArticleDAO.clearAllAssociations();
+                groupDAO.deleteAllGroups();
+                helpArticleDAO.deleteAllHelpArticles(); 
+            }
 
-        for (GroupWithArticles gwa : backupData) {
-            Group group = gwa.getGroup();
-            Group existingGroup = groupDAO.getGroupByName(group.getName());
-            if (existingGroup == null) {
-                groupDAO.addGroup(group);
-                existingGroup = groupDAO.getGroupByName(group.getName());
+            // Look up which backed-up articles already exist in one query instead of one per article.
+            Set<Long> backupArticleIds = new HashSet<>();
+            for (GroupWithArticles gwa : backupData) {
+                for (HelpArticle article : gwa.getArticles()) {
+                    backupArticleIds.add(article.getId());
+                }
             }
+            Set<Long> existingArticleIds = helpArticleDAO.getExistingArticleIds(backupArticleIds);
 
-            for (HelpArticle article : gwa.getArticles()) {
-                HelpArticle existingArticle = helpArticleDAO.getHelpArticleById(article.getId());
-                if (existingArticle == null) {
-                    helpArticleDAO.addHelpArticle(article);
+            for (GroupWithArticles gwa : backupData) {
+                Group group = gwa.getGroup();
+                Group existingGroup = groupDAO.getGroupByName(group.getName());
+                if (existingGroup == null) {
+                    groupDAO.addGroup(group);
+                    existingGroup = group; // addGroup assigned the generated ID
+                    rows++;
+                }
+
+                for (HelpArticle article : gwa.getArticles()) {
+                    if (!existingArticleIds.contains(article.getId())) {
+                        helpArticleDAO.addHelpArticle(article);
+                        rows++;
+                    }
+                    // Associate article with group
+                    helpArticleDAO.associateArticleWithGroup(article.getId(), existingGroup.getId());
+                    rows++;
                 }
-                // Associate article with group
-                helpArticleDAO.associateArticleWithGroup(article.getId(), existingGroup.getId());
             }
-        }
+            return rows;
+        });
     }
 }
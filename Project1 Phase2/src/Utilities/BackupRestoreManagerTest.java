@@ -1,8 +1,21 @@
 package Utilities;
 
+import models.Group;
+import models.GroupWithArticles;
+import models.HelpArticle;
+
+import java.io.EOFException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -10,8 +23,10 @@ import java.util.List;
  * 
  * <p> Description: This class provides a set of tests for the {@link BackupRestoreManager} class.
  * It validates the backup and restoration functionalities by performing operations such as backing up
- * all groups, backing up specific groups, and restoring groups from backup files. The test outputs
- * indicate the success or failure of each test case. </p>
+ * all groups, backing up specific groups, and restoring groups from backup files. It also checks
+ * that a backup restores every article field unchanged, that backups written by earlier versions
+ * are still restored, and that a truncated backup is rejected without restoring anything. The test
+ * outputs indicate the success or failure of each test case. </p>
  * 
  * @author Naimish Maniya
  * 
@@ -40,6 +55,9 @@ public class BackupRestoreManagerTest {
             testBackupAll(manager);
             testBackupByGroup(manager);
             testRestore(manager);
+            testRoundTrip(manager);
+            testRestoreSerializedBackup(manager);
+            testTruncatedBackupRejected(manager);
         } catch (SQLException e) {
             System.out.println("Failed: Unable to initialize BackupRestoreManager.");
         }
@@ -93,4 +111,172 @@ public class BackupRestoreManagerTest {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Tests that a group backed up, deleted and restored gets back its articles with every field
+     * unchanged, including a body larger than the file buffer and text outside ASCII.
+     *
+     * @param manager The BackupRestoreManager instance to test.
+     */
+    public void testRoundTrip(BackupRestoreManager manager) {
+        System.out.println("\nTest: Backup and Restore Round Trip");
+        try {
+            HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+            GroupDAO groupDAO = new GroupDAO();
+            StringBuilder largeBody = new StringBuilder();
+            while (largeBody.length() < 200_000) {
+                largeBody.append("Streaming backups keep memory flat. ");
+            }
+            List<HelpArticle> originals = new ArrayList<>();
+            for (int i = 0; i < BackupRestoreManager.RESTORE_BATCH_SIZE + 3; i++) {
+                originals.add(new HelpArticle("Header " + i, "Round trip " + i, "Résumé — " + i,
+                        Arrays.asList("backup", "kw" + i), i == 7 ? largeBody.toString() : "Body " + i,
+                        i % 2 == 0 ? Collections.emptyList() : Arrays.asList("https://example.com/" + i)));
+            }
+            List<String> expected = createGroup(helpArticleDAO, groupDAO, "backup-round-trip", originals);
+
+            Path file = Files.createTempFile("backup-round-trip", ".bak");
+            manager.backupGroups(Collections.singletonList("backup-round-trip"), file.toString());
+            removeGroup(helpArticleDAO, groupDAO, "backup-round-trip");
+            manager.restoreGroups(file.toString(), false);
+            Files.deleteIfExists(file);
+
+            List<String> restored = describeGroup(helpArticleDAO, groupDAO, "backup-round-trip");
+            removeGroup(helpArticleDAO, groupDAO, "backup-round-trip");
+            if (restored.equals(expected)) {
+                System.out.println("Passed: " + restored.size() + " articles were restored unchanged.");
+            } else {
+                System.out.println("Failed: Restored " + restored.size() + " of " + expected.size() + " articles unchanged.");
+            }
+        } catch (IOException | SQLException | ClassNotFoundException e) {
+            System.out.println("Failed: Round trip failed.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Tests that a backup serialized as one object graph, as earlier versions wrote it, is still restored.
+     *
+     * @param manager The BackupRestoreManager instance to test.
+     */
+    public void testRestoreSerializedBackup(BackupRestoreManager manager) {
+        System.out.println("\nTest: Restore Serialized Backup");
+        try {
+            HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+            GroupDAO groupDAO = new GroupDAO();
+            HelpArticle article = new HelpArticle(-1, "Header", "Serialized backup", "Written by an earlier version",
+                    Arrays.asList("legacy"), "Body", Collections.emptyList());
+            List<GroupWithArticles> backupData = new ArrayList<>();
+            backupData.add(new GroupWithArticles(new Group("backup-serialized"), Collections.singletonList(article)));
+            Path file = Files.createTempFile("backup-serialized", ".bak");
+            try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file.toFile()))) {
+                oos.writeObject(backupData);
+            }
+
+            manager.restoreGroups(file.toString(), false);
+            Files.deleteIfExists(file);
+            List<String> restored = describeGroup(helpArticleDAO, groupDAO, "backup-serialized");
+            removeGroup(helpArticleDAO, groupDAO, "backup-serialized");
+            if (restored.size() == 1 && restored.get(0).contains("Serialized backup")) {
+                System.out.println("Passed: The serialized backup was restored.");
+            } else {
+                System.out.println("Failed: Unexpected articles after restore: " + restored);
+            }
+        } catch (IOException | SQLException | ClassNotFoundException e) {
+            System.out.println("Failed: Restoring a serialized backup failed.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Tests that a backup cut short is rejected and that nothing from it is restored.
+     *
+     * @param manager The BackupRestoreManager instance to test.
+     */
+    public void testTruncatedBackupRejected(BackupRestoreManager manager) {
+        System.out.println("\nTest: Truncated Backup Rejected");
+        try {
+            HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+            GroupDAO groupDAO = new GroupDAO();
+            List<HelpArticle> originals = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                originals.add(new HelpArticle("Header", "Truncated " + i, "Short", Arrays.asList("truncated"),
+                        "Body " + i, Collections.emptyList()));
+            }
+            createGroup(helpArticleDAO, groupDAO, "backup-truncated", originals);
+            Path file = Files.createTempFile("backup-truncated", ".bak");
+            manager.backupGroups(Collections.singletonList("backup-truncated"), file.toString());
+            removeGroup(helpArticleDAO, groupDAO, "backup-truncated");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 10); // Drops the END record
+            }
+
+            boolean rejected = false;
+            try {
+                manager.restoreGroups(file.toString(), false);
+            } catch (EOFException e) {
+                rejected = true;
+            }
+            Files.deleteIfExists(file);
+            Group group = groupDAO.getGroupByName("backup-truncated");
+            if (rejected && group == null) {
+                System.out.println("Passed: The truncated backup was rejected and nothing was restored.");
+            } else {
+                removeGroup(helpArticleDAO, groupDAO, "backup-truncated");
+                System.out.println("Failed: rejected=" + rejected + ", group restored=" + (group != null));
+            }
+        } catch (IOException | SQLException | ClassNotFoundException e) {
+            System.out.println("Failed: Unexpected exception: " + e);
+        }
+    }
+
+    /**
+     * Creates a group holding the given articles.
+     *
+     * @return The description of each article, as returned by describeGroup.
+     */
+    private static List<String> createGroup(HelpArticleDAO helpArticleDAO, GroupDAO groupDAO, String name,
+                                            List<HelpArticle> articles) throws SQLException {
+        removeGroup(helpArticleDAO, groupDAO, name);
+        Group group = new Group(name);
+        groupDAO.addGroup(group);
+        List<Long> articleIds = new ArrayList<>();
+        for (HelpArticle article : articles) {
+            helpArticleDAO.addHelpArticle(article);
+            articleIds.add(article.getId());
+        }
+        helpArticleDAO.associateArticlesWithGroup(group.getId(), articleIds);
+        return describeGroup(helpArticleDAO, groupDAO, name);
+    }
+
+    /**
+     * Describes every field but the ID of each article in a group, in title order.
+     */
+    private static List<String> describeGroup(HelpArticleDAO helpArticleDAO, GroupDAO groupDAO, String name) throws SQLException {
+        List<String> descriptions = new ArrayList<>();
+        Group group = groupDAO.getGroupByName(name);
+        if (group == null) {
+            return descriptions;
+        }
+        for (HelpArticle article : helpArticleDAO.getArticlesByGroupId(group.getId())) {
+            descriptions.add(String.join("|", article.getTitle(), article.getHeader(), article.getShortDescription(),
+                    String.valueOf(article.getKeywords()), article.getBody(), String.valueOf(article.getReferenceLinks())));
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+
+    /**
+     * Deletes a group and every article in it.
+     */
+    private static void removeGroup(HelpArticleDAO helpArticleDAO, GroupDAO groupDAO, String name) throws SQLException {
+        Group group = groupDAO.getGroupByName(name);
+        if (group == null) {
+            return;
+        }
+        for (HelpArticle article : helpArticleDAO.getArticlesByGroupId(group.getId())) {
+            helpArticleDAO.deleteHelpArticle(article.getId());
+        }
+        groupDAO.deleteGroup(group.getId());
+    }
 }
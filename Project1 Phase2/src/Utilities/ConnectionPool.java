@@ -0,0 +1,514 @@
+package Utilities;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p> Title: ConnectionPool Class </p>
+ *
+ * <p> Description: This class maintains a bounded pool of JDBC connections that can be safely
+ * shared between threads. Callers borrow a connection with {@link #borrow()} and hand it back by
+ * calling {@link Connection#close()} on it (or {@link #release(Connection)}), so the usual
+ * try-with-resources blocks work unchanged. Idle connections are checked with a validation query
+ * before being reused, evicted once they have been idle too long, and borrowers wait at most a
+ * configured time for a free connection before a {@link SQLTimeoutException} is thrown. Each
+ * pooled connection also keeps a {@link StatementCache} of its most recently prepared statements,
+ * and statements can be timed by a {@link SlowQueryLog}. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ConnectionPool {
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maxSize;
+    private final int minIdle;
+    private final long maxWaitMillis;
+    private final long idleTimeoutMillis;
+    private final long validationIntervalMillis;
+    private final String validationQuery;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final AtomicLong statementCacheEvictions = new AtomicLong();
+    private volatile SlowQueryLog slowQueryLog;
+
+    /**
+     * Constructs a ConnectionPool for the given database.
+     *
+     * @param url                      The JDBC URL of the database.
+     * @param username                 The database user.
+     * @param password                 The database password.
+     * @param maxSize                  The maximum number of connections handed out at once.
+     * @param minIdle                  The number of idle connections kept open by the evictor.
+     * @param maxWaitMillis            How long {@link #borrow()} waits for a free connection.
+     * @param idleTimeoutMillis        How long a connection may sit idle before it is evicted.
+     * @param validationIntervalMillis How long a connection may sit idle before it is re-validated on borrow.
+     * @param validationQuery          The query used to check that an idle connection is still usable.
+     * @param statementCacheSize       The number of prepared statements cached per connection; 0 disables caching.
+     */
+    public ConnectionPool(String url, String username, String password, int maxSize, int minIdle,
+                          long maxWaitMillis, long idleTimeoutMillis, long validationIntervalMillis,
+                          String validationQuery, int statementCacheSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1.");
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.minIdle = Math.min(Math.max(minIdle, 0), maxSize);
+        this.maxWaitMillis = maxWaitMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationIntervalMillis = validationIntervalMillis;
+        this.validationQuery = validationQuery;
+        this.statementCacheSize = Math.max(statementCacheSize, 0);
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(idleTimeoutMillis / 2, 1000);
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if no idle connection is available.
+     * The returned connection goes back to the pool when it is closed.
+     *
+     * @return A connection that is exclusively owned by the caller until it is closed.
+     * @throws SQLTimeoutException If no connection became free within the configured wait time.
+     * @throws SQLException        If the pool is closed or a new connection cannot be opened.
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed.");
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTimeoutException("Timed out after " + maxWaitMillis + " ms waiting for a database connection.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", ex);
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        try {
+            PooledConnection pooled = takeIdleConnection();
+            if (pooled == null) {
+                pooled = new PooledConnection(DriverManager.getConnection(url, username, password));
+                createdCount.incrementAndGet();
+            }
+            borrowCount.incrementAndGet();
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns a borrowed connection to the pool. This is equivalent to closing the connection.
+     *
+     * @param connection The connection obtained from {@link #borrow()}.
+     * @throws SQLException If the connection cannot be returned.
+     */
+    public void release(Connection connection) throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Sets the log that statements created on borrowed connections report to. Statements already
+     * handed out keep the log they were created with.
+     *
+     * @param slowQueryLog The slow query log, or null to stop tracking statements.
+     */
+    public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * Retrieves a snapshot of the pool's usage statistics.
+     *
+     * @return The current {@link Statistics}.
+     */
+    public Statistics getStatistics() {
+        int idleCount;
+        synchronized (idle) {
+            idleCount = idle.size();
+        }
+        long borrows = borrowCount.get();
+        return new Statistics(maxSize - permits.availablePermits(), idleCount, maxSize,
+                borrows, createdCount.get(), evictedCount.get(), timeoutCount.get(),
+                validationFailures.get(), totalWaitNanos.get(), maxWaitNanos.get(),
+                statementCacheHits.get(), statementCacheMisses.get(), statementCacheEvictions.get());
+    }
+
+    /**
+     * Indicates whether the pool has been closed.
+     *
+     * @return True if {@link #close()} has been called, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the pool and every idle connection. Connections that are still borrowed are closed
+     * when they are returned.
+     */
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        List<PooledConnection> toClose;
+        synchronized (idle) {
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+        }
+        for (PooledConnection pooled : toClose) {
+            pooled.closePhysical();
+        }
+    }
+
+    /**
+     * Takes the most recently used idle connection, validating it first if it has been idle for
+     * longer than the validation interval. Connections that fail validation are discarded.
+     *
+     * @return A usable pooled connection, or null if none is idle.
+     */
+    private PooledConnection takeIdleConnection() {
+        while (true) {
+            PooledConnection pooled;
+            synchronized (idle) {
+                pooled = idle.pollFirst();
+            }
+            if (pooled == null) {
+                return null;
+            }
+            long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pooled.lastReturned);
+            if (idleMillis < validationIntervalMillis || pooled.validate()) {
+                return pooled;
+            }
+            validationFailures.incrementAndGet();
+            pooled.closePhysical();
+        }
+    }
+
+    /**
+     * Puts a connection back into the idle set once its borrower is finished with it. The
+     * connection is rolled back to a clean auto-commit state, or discarded if that fails.
+     *
+     * @param pooled The pooled connection being returned.
+     */
+    private void giveBack(PooledConnection pooled) {
+        try {
+            if (closed || !pooled.resetState()) {
+                pooled.closePhysical();
+            } else {
+                pooled.lastReturned = System.nanoTime();
+                synchronized (idle) {
+                    idle.addFirst(pooled);
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes connections that have been idle longer than the idle timeout, keeping at least
+     * {@code minIdle} connections open.
+     */
+    private void evictIdleConnections() {
+        List<PooledConnection> expired = new ArrayList<>();
+        long now = System.nanoTime();
+        synchronized (idle) {
+            // The least recently used connections sit at the tail of the deque.
+            Iterator<PooledConnection> it = idle.descendingIterator();
+            while (it.hasNext() && idle.size() > minIdle) {
+                PooledConnection pooled = it.next();
+                if (TimeUnit.NANOSECONDS.toMillis(now - pooled.lastReturned) >= idleTimeoutMillis) {
+                    it.remove();
+                    expired.add(pooled);
+                }
+            }
+        }
+        for (PooledConnection pooled : expired) {
+            evictedCount.incrementAndGet();
+            pooled.closePhysical();
+        }
+    }
+
+    /**
+     * Adds a borrower's wait time to the running totals.
+     *
+     * @param nanos The time spent waiting for a permit, in nanoseconds.
+     */
+    private void recordWait(long nanos) {
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * A physical connection owned by the pool, together with the bookkeeping needed to reuse it.
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private volatile long lastReturned = System.nanoTime();
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = statementCacheSize == 0 ? null : new StatementCache(physical, statementCacheSize,
+                    statementCacheHits, statementCacheMisses, statementCacheEvictions);
+        }
+
+        /**
+         * Creates a new borrower-facing handle. Each borrow gets its own handle so that a stale
+         * reference kept after close cannot touch the connection while someone else owns it.
+         */
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, new Handle(this));
+        }
+
+        boolean validate() {
+            try (Statement stmt = physical.createStatement();
+                 ResultSet rs = stmt.executeQuery(validationQuery)) {
+                return rs.next();
+            } catch (SQLException ex) {
+                return false;
+            }
+        }
+
+        boolean resetState() {
+            try {
+                if (physical.isClosed()) {
+                    return false;
+                }
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                return true;
+            } catch (SQLException ex) {
+                return false;
+            }
+        }
+
+        void closePhysical() {
+            if (statementCache != null) {
+                statementCache.closeAll();
+            }
+            try {
+                physical.close();
+            } catch (SQLException ex) {
+                // The connection is being discarded either way.
+            }
+        }
+    }
+
+    /**
+     * Invocation handler behind the connection handles returned by {@link ConnectionPool#borrow()}.
+     * Closing the handle returns the underlying connection to the pool instead of closing it.
+     */
+    private final class Handle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean handleClosed;
+
+        Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!handleClosed) {
+                        handleClosed = true;
+                        giveBack(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + pooled.physical;
+                default:
+                    break;
+            }
+            if (handleClosed) {
+                throw new SQLException("Connection has already been returned to the pool.");
+            }
+            Object result = null;
+            if (pooled.statementCache != null && method.getName().equals("prepareStatement")) {
+                Class<?>[] types = method.getParameterTypes();
+                if (types.length == 1) {
+                    result = pooled.statementCache.prepare((Connection) proxy, (String) args[0], null);
+                } else if (types.length == 2 && types[1] == int.class) {
+                    result = pooled.statementCache.prepare((Connection) proxy, (String) args[0], (Integer) args[1]);
+                }
+            }
+            if (result == null) {
+                try {
+                    result = method.invoke(pooled.physical, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+            SlowQueryLog log = slowQueryLog;
+            if (log != null && result instanceof Statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return log.track((Statement) result, sql, pooled.physical);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * <p> Title: Statistics Class </p>
+     *
+     * <p> Description: An immutable snapshot of the pool's counters at a point in time. </p>
+     */
+    public static final class Statistics {
+        private final int active;
+        private final int idle;
+        private final int maxSize;
+        private final long borrows;
+        private final long created;
+        private final long evicted;
+        private final long timeouts;
+        private final long validationFailures;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+        private final long statementCacheEvictions;
+
+        Statistics(int active, int idle, int maxSize, long borrows, long created, long evicted,
+                   long timeouts, long validationFailures, long totalWaitNanos, long maxWaitNanos,
+                   long statementCacheHits, long statementCacheMisses, long statementCacheEvictions) {
+            this.active = active;
+            this.idle = idle;
+            this.maxSize = maxSize;
+            this.borrows = borrows;
+            this.created = created;
+            this.evicted = evicted;
+            this.timeouts = timeouts;
+            this.validationFailures = validationFailures;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.statementCacheHits = statementCacheHits;
+            this.statementCacheMisses = statementCacheMisses;
+            this.statementCacheEvictions = statementCacheEvictions;
+        }
+
+        /** @return The number of connections currently borrowed. */
+        public int getActive() { return active; }
+
+        /** @return The number of open connections waiting in the pool. */
+        public int getIdle() { return idle; }
+
+        /** @return The maximum number of connections the pool hands out at once. */
+        public int getMaxSize() { return maxSize; }
+
+        /** @return The total number of successful borrows. */
+        public long getBorrows() { return borrows; }
+
+        /** @return The number of physical connections opened so far. */
+        public long getCreated() { return created; }
+
+        /** @return The number of idle connections closed by the evictor. */
+        public long getEvicted() { return evicted; }
+
+        /** @return The number of borrows that gave up after the maximum wait time. */
+        public long getTimeouts() { return timeouts; }
+
+        /** @return The number of idle connections discarded because validation failed. */
+        public long getValidationFailures() { return validationFailures; }
+
+        /** @return The mean time a borrower waited for a connection, in milliseconds. */
+        public double getAverageWaitMillis() {
+            return borrows == 0 ? 0.0 : totalWaitNanos / (double) borrows / 1_000_000.0;
+        }
+
+        /** @return The longest time a borrower waited for a connection, in milliseconds. */
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1_000_000.0;
+        }
+
+        /** @return The number of prepared statements served from a statement cache. */
+        public long getStatementCacheHits() { return statementCacheHits; }
+
+        /** @return The number of prepared statements that had to be parsed. */
+        public long getStatementCacheMisses() { return statementCacheMisses; }
+
+        /** @return The number of cached statements closed to make room for others. */
+        public long getStatementCacheEvictions() { return statementCacheEvictions; }
+
+        /** @return The fraction of prepared statements served from a statement cache. */
+        public double getStatementCacheHitRatio() {
+            long total = statementCacheHits + statementCacheMisses;
+            return total == 0 ? 0.0 : statementCacheHits / (double) total;
+        }
+
+        /**
+         * Returns a one-line summary of the statistics.
+         *
+         * @return The statistics as text.
+         */
+        @Override
+        public String toString() {
+            return String.format("active=%d, idle=%d, max=%d, borrows=%d, created=%d, evicted=%d, "
+                    + "timeouts=%d, validationFailures=%d, avgWait=%.3f ms, maxWait=%.3f ms, "
+                    + "statementCache hits=%d misses=%d evictions=%d",
+                    active, idle, maxSize, borrows, created, evicted, timeouts, validationFailures,
+                    getAverageWaitMillis(), getMaxWaitMillis(),
+                    statementCacheHits, statementCacheMisses, statementCacheEvictions);
+        }
+    }
+}
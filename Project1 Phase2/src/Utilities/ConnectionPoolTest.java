@@ -0,0 +1,302 @@
+package Utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p> Title: ConnectionPoolTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link ConnectionPool} class.
+ * It validates borrowing and returning connections, connection reuse, max-wait timeouts,
+ * validation of stale connections, concurrent borrowers, the per-connection statement cache and
+ * the reset of statement settings between borrowers, and the reported statistics.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ConnectionPoolTest {
+    private static final String TEST_URL = "jdbc:h2:mem:pooltest;DB_CLOSE_DELAY=-1";
+
+    /**
+     * The main method to execute the ConnectionPool tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        ConnectionPoolTest tester = new ConnectionPoolTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the ConnectionPool.
+     */
+    public void runTests() {
+        System.out.println("Running ConnectionPool tests...");
+
+        try {
+            testBorrowAndReturn();
+            testMaxWaitTimeout();
+            testInvalidConnectionIsReplaced();
+            testConcurrentBorrowers();
+            testStatistics();
+            testStatementCache();
+            testStatementSettingsReset();
+        } catch (Exception e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("ConnectionPool tests completed.");
+    }
+
+    /**
+     * Creates a small pool against a private in-memory database.
+     *
+     * @param maxSize           The maximum number of connections.
+     * @param maxWaitMillis     How long borrowers wait for a free connection.
+     * @param validationMillis  The idle time after which connections are re-validated.
+     * @return A new ConnectionPool.
+     */
+    private ConnectionPool createPool(int maxSize, long maxWaitMillis, long validationMillis) {
+        return new ConnectionPool(TEST_URL, "sa", "", maxSize, 0, maxWaitMillis, 60_000, validationMillis, "SELECT 1", 2);
+    }
+
+    /**
+     * Tests that a returned connection is reused by the next borrower.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testBorrowAndReturn() throws SQLException {
+        System.out.println("\nTest: Borrow and Return");
+        ConnectionPool pool = createPool(2, 1000, 30_000);
+        try {
+            Connection first = pool.borrow();
+            first.close();
+            Connection second = pool.borrow();
+            boolean usable;
+            try (Statement stmt = second.createStatement(); ResultSet rs = stmt.executeQuery("SELECT 1")) {
+                usable = rs.next();
+            }
+            pool.release(second);
+
+            if (first.isClosed() && usable && pool.getStatistics().getCreated() == 1) {
+                System.out.println("Passed: Returned connection was reused.");
+            } else {
+                System.out.println("Failed: Returned connection was not reused.");
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * Tests that borrowing from an exhausted pool times out.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testMaxWaitTimeout() throws SQLException {
+        System.out.println("\nTest: Max Wait Timeout");
+        ConnectionPool pool = createPool(1, 100, 30_000);
+        try (Connection held = pool.borrow()) {
+            try (Connection extra = pool.borrow()) {
+                System.out.println("Failed: Borrow succeeded on an exhausted pool: " + extra);
+            } catch (SQLTimeoutException e) {
+                if (pool.getStatistics().getTimeouts() == 1 && !held.isClosed()) {
+                    System.out.println("Passed: Borrow timed out on an exhausted pool.");
+                } else {
+                    System.out.println("Failed: Timeout was not counted.");
+                }
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * Tests that an idle connection which fails the validation query is replaced.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testInvalidConnectionIsReplaced() throws SQLException {
+        System.out.println("\nTest: Invalid Connection Is Replaced");
+        ConnectionPool pool = createPool(1, 1000, 0);
+        try {
+            Connection first = pool.borrow();
+            first.unwrap(Connection.class).close(); // Break the physical connection behind the handle
+            first.close();
+
+            try (Connection second = pool.borrow();
+                 Statement stmt = second.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT 1")) {
+                if (rs.next() && pool.getStatistics().getCreated() == 2) {
+                    System.out.println("Passed: Broken connection was replaced with a new one.");
+                } else {
+                    System.out.println("Failed: Broken connection was not replaced.");
+                }
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * Tests that many threads can borrow concurrently without exceeding the pool size.
+     *
+     * @throws Exception If a borrower fails.
+     */
+    public void testConcurrentBorrowers() throws Exception {
+        System.out.println("\nTest: Concurrent Borrowers");
+        ConnectionPool pool = createPool(3, 5000, 30_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger maxActive = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection conn = pool.borrow();
+                         Statement stmt = conn.createStatement();
+                         ResultSet rs = stmt.executeQuery("SELECT 1")) {
+                        rs.next();
+                        maxActive.accumulateAndGet(pool.getStatistics().getActive(), Math::max);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            ConnectionPool.Statistics stats = pool.getStatistics();
+            if (maxActive.get() <= 3 && stats.getCreated() <= 3 && stats.getActive() == 0 && stats.getBorrows() == 40) {
+                System.out.println("Passed: Concurrent borrowers stayed within the pool size.");
+            } else {
+                System.out.println("Failed: Pool size was exceeded or connections leaked: " + stats);
+            }
+        } finally {
+            executor.shutdown();
+            pool.close();
+        }
+    }
+
+    /**
+     * Tests that the active and idle counts follow borrows and returns.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testStatistics() throws SQLException {
+        System.out.println("\nTest: Pool Statistics");
+        ConnectionPool pool = createPool(2, 1000, 30_000);
+        try {
+            Connection a = pool.borrow();
+            Connection b = pool.borrow();
+            boolean duringBorrow = pool.getStatistics().getActive() == 2 && pool.getStatistics().getIdle() == 0;
+            a.close();
+            b.close();
+            ConnectionPool.Statistics stats = pool.getStatistics();
+            if (duringBorrow && stats.getActive() == 0 && stats.getIdle() == 2) {
+                System.out.println("Passed: Statistics track active and idle connections.");
+            } else {
+                System.out.println("Failed: Statistics are incorrect: " + stats);
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * Tests that prepared statements are reused, not shared while in use, and evicted in LRU order.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testStatementCache() throws SQLException {
+        System.out.println("\nTest: Statement Cache");
+        ConnectionPool pool = createPool(1, 1000, 30_000);
+        try (Connection conn = pool.borrow()) {
+            String sql = "SELECT ? + 1";
+            long result;
+            try (PreparedStatement first = conn.prepareStatement(sql)) {
+                first.setInt(1, 1);
+                try (ResultSet rs = first.executeQuery()) {
+                    rs.next();
+                }
+            }
+            try (PreparedStatement again = conn.prepareStatement(sql)) {
+                again.setInt(1, 41);
+                try (ResultSet rs = again.executeQuery()) {
+                    rs.next();
+                    result = rs.getLong(1);
+                }
+                // The cached statement is checked out, so a nested request must get its own.
+                try (PreparedStatement nested = conn.prepareStatement(sql)) {
+                    nested.setInt(1, 0);
+                    nested.executeQuery().close();
+                }
+            }
+            ConnectionPool.Statistics reuse = pool.getStatistics();
+
+            // The cache holds two statements; a third distinct statement evicts the oldest.
+            conn.prepareStatement("SELECT 2").close();
+            conn.prepareStatement("SELECT 3").close();
+            ConnectionPool.Statistics evicted = pool.getStatistics();
+
+            if (result == 42 && reuse.getStatementCacheHits() == 1 && reuse.getStatementCacheMisses() == 2 &&
+                evicted.getStatementCacheEvictions() == 1) {
+                System.out.println("Passed: Statements were reused, isolated while in use, and evicted in LRU order.");
+            } else {
+                System.out.println("Failed: Unexpected statement cache behaviour: " + evicted);
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * Tests that settings changed by one user of a cached statement are not seen by the next.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testStatementSettingsReset() throws SQLException {
+        System.out.println("\nTest: Statement Settings Reset");
+        ConnectionPool pool = createPool(1, 1000, 30_000);
+        try (Connection conn = pool.borrow()) {
+            String sql = "SELECT X FROM SYSTEM_RANGE(1, 10)";
+            int defaultFetchSize;
+            try (PreparedStatement first = conn.prepareStatement(sql)) {
+                defaultFetchSize = first.getFetchSize();
+                first.setFetchSize(3);
+                first.setMaxRows(2);
+                first.setQueryTimeout(30);
+                first.executeQuery().close();
+            }
+            int rows = 0;
+            boolean reset;
+            try (PreparedStatement again = conn.prepareStatement(sql)) {
+                reset = again.getFetchSize() == defaultFetchSize && again.getMaxRows() == 0 && again.getQueryTimeout() == 0;
+                try (ResultSet rs = again.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                    }
+                }
+            }
+
+            if (reset && rows == 10 && pool.getStatistics().getStatementCacheHits() == 1) {
+                System.out.println("Passed: The cached statement was handed back with its settings restored.");
+            } else {
+                System.out.println("Failed: reset=" + reset + ", rows=" + rows);
+            }
+        } finally {
+            pool.close();
+        }
+    }
+}
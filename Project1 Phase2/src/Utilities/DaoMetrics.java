@@ -0,0 +1,90 @@
+package Utilities;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p> Title: DaoMetrics Class </p>
+ *
+ * <p> Description: This class is the registry of the {@link MethodMetrics} recorded by
+ * {@link HelpArticleDAO}, {@link GroupDAO} and {@link BackupRestoreManager}. Each DAO registers
+ * one MethodMetrics per public method when its class is loaded, named
+ * "ClassName.methodName". The registry can be queried for one method, snapshotted as a whole,
+ * formatted as a report for the admin page, and reset. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public final class DaoMetrics {
+    private static final ConcurrentMap<String, MethodMetrics> METHODS = new ConcurrentHashMap<>();
+
+    private DaoMetrics() {
+    }
+
+    /**
+     * Retrieves the metrics registered under a name, registering them if needed.
+     *
+     * @param name The name, such as "HelpArticleDAO.getHelpArticleById".
+     * @return The metrics for that name.
+     */
+    public static MethodMetrics register(String name) {
+        return METHODS.computeIfAbsent(name, MethodMetrics::new);
+    }
+
+    /**
+     * Retrieves a snapshot of one method.
+     *
+     * @param name The registered name.
+     * @return The snapshot, or null if no method is registered under the name.
+     */
+    public static MethodMetrics.Snapshot get(String name) {
+        MethodMetrics metrics = METHODS.get(name);
+        return metrics == null ? null : metrics.snapshot();
+    }
+
+    /**
+     * Takes a snapshot of every method that has been called.
+     *
+     * @return The snapshots, the methods with the most total time first.
+     */
+    public static List<MethodMetrics.Snapshot> snapshot() {
+        List<MethodMetrics.Snapshot> snapshots = new ArrayList<>();
+        for (MethodMetrics metrics : METHODS.values()) {
+            MethodMetrics.Snapshot snapshot = metrics.snapshot();
+            if (snapshot.getCalls() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+        snapshots.sort(Comparator.comparingLong(MethodMetrics.Snapshot::getTotalNanos).reversed()
+                .thenComparing(MethodMetrics.Snapshot::getName));
+        return snapshots;
+    }
+
+    /**
+     * Formats a snapshot of every method that has been called as a table, latencies in
+     * milliseconds.
+     *
+     * @return The report.
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder(String.format("%-45s %8s %6s %10s %10s %9s %9s %9s %9s %9s",
+                "Method", "Calls", "Errors", "Rows read", "Written", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+        for (MethodMetrics.Snapshot snapshot : snapshot()) {
+            report.append(System.lineSeparator()).append(snapshot);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Clears the counters of every method, keeping the registrations.
+     */
+    public static void reset() {
+        for (MethodMetrics metrics : METHODS.values()) {
+            metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package Utilities;
+
+import models.Group;
+import models.HelpArticle;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * <p> Title: DaoMetricsTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link DaoMetrics} registry and
+ * {@link MethodMetrics}. It validates the precision of the latency buckets, the percentiles read
+ * from them, the calls, errors and rows recorded by the instrumented DAO methods, the report, and
+ * that recording a call does not allocate.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class DaoMetricsTest {
+
+    /**
+     * The main method to execute the DaoMetrics tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        DaoMetricsTest tester = new DaoMetricsTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for DaoMetrics.
+     */
+    public void runTests() {
+        System.out.println("Running DaoMetrics tests...");
+
+        try {
+            testBucketPrecision();
+            testPercentiles();
+            DatabaseManager.getInstance().resetDatabase();
+            testDaoInstrumentation();
+            testRecordingDoesNotAllocate();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("DaoMetrics tests completed.");
+    }
+
+    /**
+     * Tests that every duration falls into a bucket whose upper bound is within 12.5% above it.
+     */
+    public void testBucketPrecision() {
+        System.out.println("\nTest: Bucket Precision");
+        long worst = 0;
+        boolean valid = true;
+        for (long value = 0; value < 10_000_000_000L; value = value * 5 / 4 + 1) {
+            int bucket = MethodMetrics.bucketOf(value);
+            long upper = MethodMetrics.bucketUpperBound(bucket);
+            if (bucket < 0 || bucket >= MethodMetrics.BUCKETS || upper < value || upper - value > value / 8) {
+                valid = false;
+                worst = value;
+                break;
+            }
+        }
+        valid &= MethodMetrics.bucketOf(Long.MAX_VALUE) == MethodMetrics.BUCKETS - 1;
+
+        if (valid) {
+            System.out.println("Passed: Bucket bounds stay within 12.5% of every duration.");
+        } else {
+            System.out.println("Failed: Bucket bound out of range for " + worst + " ns.");
+        }
+    }
+
+    /**
+     * Tests the percentiles of 1,000 calls taking from 1 to 1,000 microseconds.
+     */
+    public void testPercentiles() {
+        System.out.println("\nTest: Percentiles");
+        MethodMetrics metrics = new MethodMetrics("test.percentiles");
+        for (int micros = 1; micros <= 1000; micros++) {
+            metrics.read(System.nanoTime() - micros * 1000L, null, 1);
+        }
+        MethodMetrics.Snapshot snapshot = metrics.snapshot();
+
+        if (snapshot.getCalls() == 1000 && snapshot.getRowsRead() == 1000 &&
+            near(snapshot.getP50Nanos(), 500_000) && near(snapshot.getP95Nanos(), 950_000) &&
+            near(snapshot.getP99Nanos(), 990_000) && snapshot.getMaxNanos() >= 1_000_000) {
+            System.out.println("Passed: p50, p95 and p99 were within the bucket precision.");
+        } else {
+            System.out.println("Failed: Unexpected percentiles: " + snapshot);
+        }
+    }
+
+    private static boolean near(long actual, long expected) {
+        return actual >= expected && actual <= expected + expected / 4;
+    }
+
+    /**
+     * Tests the calls, errors and rows recorded by the instrumented DAO methods.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testDaoInstrumentation() throws SQLException {
+        System.out.println("\nTest: DAO Instrumentation");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        DaoMetrics.reset();
+
+        Group group = new Group("metrics-group");
+        groupDAO.addGroup(group);
+        for (int i = 0; i < 3; i++) {
+            HelpArticle article = new HelpArticle(0, "Header", "Metrics " + i, "Description", Arrays.asList("metrics"),
+                    "Body", Arrays.asList("https://example.com"));
+            helpArticleDAO.addHelpArticle(article);
+            helpArticleDAO.associateArticleWithGroup(article.getId(), group.getId());
+        }
+        helpArticleDAO.getAllHelpArticles();
+        helpArticleDAO.getArticlesByGroupId(group.getId());
+        try {
+            helpArticleDAO.streamHelpArticles(0);
+        } catch (IllegalArgumentException e) {
+            // Expected: recorded as an error
+        }
+
+        MethodMetrics.Snapshot adds = DaoMetrics.get("HelpArticleDAO.addHelpArticle");
+        MethodMetrics.Snapshot all = DaoMetrics.get("HelpArticleDAO.getAllHelpArticles");
+        MethodMetrics.Snapshot byGroup = DaoMetrics.get("HelpArticleDAO.getArticlesByGroupId");
+        MethodMetrics.Snapshot stream = DaoMetrics.get("HelpArticleDAO.streamHelpArticles");
+        MethodMetrics.Snapshot groups = DaoMetrics.get("GroupDAO.addGroup");
+        String report = DaoMetrics.report();
+
+        if (adds.getCalls() == 3 && adds.getRowsWritten() == 3 && all.getCalls() == 1 && all.getRowsRead() == 3 &&
+            byGroup.getRowsRead() == 3 && stream.getErrors() == 1 && groups.getRowsWritten() == 1 &&
+            all.getP99Nanos() > 0 && report.contains("HelpArticleDAO.getAllHelpArticles") &&
+            !report.contains("GroupDAO.deleteAllGroups")) {
+            System.out.println("Passed: Calls, errors and rows were recorded:\n" + report);
+        } else {
+            System.out.println("Failed: Unexpected metrics:\n" + report);
+        }
+    }
+
+    /**
+     * Tests that recording a call allocates nothing once warmed up.
+     */
+    public void testRecordingDoesNotAllocate() {
+        System.out.println("\nTest: Recording Does Not Allocate");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        MethodMetrics metrics = new MethodMetrics("test.allocation");
+        Object result = new Object();
+        for (int i = 0; i < 200_000; i++) {
+            metrics.read(System.nanoTime(), result, 1);
+            metrics.wrote(System.nanoTime(), 1);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            metrics.read(System.nanoTime(), result, 1);
+            metrics.wrote(System.nanoTime(), 1);
+            metrics.recordFailure(System.nanoTime());
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Any per-call allocation would add up to megabytes over 300,000 calls.
+        if (allocated < 64 * 1024) {
+            System.out.println("Passed: 300,000 recordings allocated " + allocated + " bytes.");
+        } else {
+            System.out.println("Failed: 300,000 recordings allocated " + allocated + " bytes.");
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package Utilities;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * <p> Title: DatabaseConfig Class </p>
+ *
+ * <p> Description: This class holds the settings used by {@link DatabaseManager} to open the
+ * database. Settings are read from a properties file ({@value #DEFAULT_CONFIG_FILE} in the working
+ * directory, or the file named by the {@value #CONFIG_FILE_PROPERTY} system property), and any
+ * key can also be overridden with a system property of the form {@code helpsystem.db.<key>}.
+ * Without any configuration the database runs in memory, exactly as before. </p>
+ *
+ * <p> Recognized keys: </p>
+ * <ul>
+ *   <li>{@code storage.mode} - {@code memory} (default) or {@code file}.</li>
+ *   <li>{@code file.path} - Database file path without the {@code .mv.db} suffix (default {@code ./helpSystemDB}).</li>
+ *   <li>{@code username}, {@code password} - Database credentials.</li>
+ *   <li>{@code mvstore.cache.size.kb} - MVStore page cache size in KB.</li>
+ *   <li>{@code mvstore.write.delay.ms} - Maximum delay before committed changes are written to disk.</li>
+ *   <li>{@code mvstore.auto.compact.fill.rate} - Fill rate (percent) below which the store is compacted.</li>
+ *   <li>{@code mvstore.page.split.size} - Page size in bytes at which MVStore pages are split.</li>
+ *   <li>{@code pool.max.size}, {@code pool.min.idle}, {@code pool.max.wait.ms},
+ *       {@code pool.idle.timeout.ms}, {@code pool.validation.interval.ms} - Connection pool settings.</li>
+ *   <li>{@code pool.statement.cache.size} - Prepared statements cached per connection; 0 disables the cache.</li>
+ *   <li>{@code cache.articles.max.entries}, {@code cache.articles.max.weight.kb} - Limits of the cache of
+ *       articles read by ID; 0 entries disables the cache.</li>
+ *   <li>{@code slowquery.threshold.ms} - Statements taking at least this long are written to the slow
+ *       query log; a negative value disables it.</li>
+ *   <li>{@code slowquery.file}, {@code slowquery.max.file.kb}, {@code slowquery.max.files} - The slow query
+ *       log file, the size at which it is rotated, and the number of files kept.</li>
+ * </ul>
+ *
+ * <p> The MVStore settings only apply in file mode; unset values keep H2's defaults. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class DatabaseConfig {
+    public static final String CONFIG_FILE_PROPERTY = "helpsystem.db.config";
+    public static final String DEFAULT_CONFIG_FILE = "database.properties";
+    private static final String SYSTEM_PROPERTY_PREFIX = "helpsystem.db.";
+
+    private static final String MEMORY_URL = "jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1"; // In-memory H2 database for testing
+
+    /**
+     * The storage back ends supported by the application.
+     */
+    public enum StorageMode {
+        MEMORY, FILE
+    }
+
+    private final Properties properties;
+
+    /**
+     * Constructs a DatabaseConfig from the given properties.
+     *
+     * @param properties The configuration keys and values.
+     */
+    public DatabaseConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Loads the configuration from the configuration file, if present, and applies any
+     * {@code helpsystem.db.*} system property overrides on top of it.
+     *
+     * @return The loaded configuration.
+     * @throws IOException If the configuration file exists but cannot be read.
+     */
+    public static DatabaseConfig load() throws IOException {
+        Properties properties = new Properties();
+        Path configFile = Paths.get(System.getProperty(CONFIG_FILE_PROPERTY, DEFAULT_CONFIG_FILE));
+        if (Files.isRegularFile(configFile)) {
+            try (InputStream in = new FileInputStream(configFile.toFile())) {
+                properties.load(in);
+            }
+        }
+
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(SYSTEM_PROPERTY_PREFIX) && !name.equals(CONFIG_FILE_PROPERTY)) {
+                properties.setProperty(name.substring(SYSTEM_PROPERTY_PREFIX.length()), System.getProperty(name));
+            }
+        }
+        return new DatabaseConfig(properties);
+    }
+
+    /**
+     * Retrieves the configured storage mode.
+     *
+     * @return The storage mode, {@link StorageMode#MEMORY} by default.
+     */
+    public StorageMode getStorageMode() {
+        String mode = properties.getProperty("storage.mode", "memory").trim();
+        try {
+            return StorageMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown storage.mode '" + mode + "'; expected memory or file.");
+        }
+    }
+
+    /**
+     * Retrieves the path of the database file, without the {@code .mv.db} suffix.
+     *
+     * @return The database file path.
+     */
+    public String getFilePath() {
+        return properties.getProperty("file.path", "./helpSystemDB").trim();
+    }
+
+    /**
+     * Retrieves the path of the MVStore file that holds the data in file mode.
+     *
+     * @return The path of the {@code .mv.db} file.
+     */
+    public Path getStoreFile() {
+        return Paths.get(getFilePath() + ".mv.db");
+    }
+
+    /**
+     * Retrieves the database user name.
+     *
+     * @return The user name.
+     */
+    public String getUsername() {
+        return properties.getProperty("username", "sa");
+    }
+
+    /**
+     * Retrieves the database password.
+     *
+     * @return The password.
+     */
+    public String getPassword() {
+        return properties.getProperty("password", "");
+    }
+
+    /**
+     * Builds the JDBC URL for the configured storage mode, including any MVStore tuning settings.
+     *
+     * @return The JDBC URL.
+     */
+    public String getJdbcUrl() {
+        if (getStorageMode() == StorageMode.MEMORY) {
+            return MEMORY_URL;
+        }
+
+        StringBuilder url = new StringBuilder("jdbc:h2:file:").append(getFilePath());
+        appendSetting(url, "CACHE_SIZE", "mvstore.cache.size.kb");
+        appendSetting(url, "WRITE_DELAY", "mvstore.write.delay.ms");
+        appendSetting(url, "AUTO_COMPACT_FILL_RATE", "mvstore.auto.compact.fill.rate");
+        appendSetting(url, "PAGE_SIZE", "mvstore.page.split.size");
+        return url.toString();
+    }
+
+    /** @return The maximum number of pooled connections. */
+    public int getPoolMaxSize() {
+        return getInt("pool.max.size", Math.max(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /** @return The number of idle connections the pool keeps open. */
+    public int getPoolMinIdle() {
+        return getInt("pool.min.idle", 1);
+    }
+
+    /** @return How long a borrower waits for a free connection, in milliseconds. */
+    public long getPoolMaxWaitMillis() {
+        return getLong("pool.max.wait.ms", 10_000);
+    }
+
+    /** @return How long a connection may stay idle before it is evicted, in milliseconds. */
+    public long getPoolIdleTimeoutMillis() {
+        return getLong("pool.idle.timeout.ms", 5 * 60_000);
+    }
+
+    /** @return How long a connection may stay idle before it is re-validated on borrow, in milliseconds. */
+    public long getPoolValidationIntervalMillis() {
+        return getLong("pool.validation.interval.ms", 30_000);
+    }
+
+    /** @return The number of prepared statements cached per pooled connection. */
+    public int getStatementCacheSize() {
+        return getInt("pool.statement.cache.size", 64);
+    }
+
+    /** @return The maximum number of articles kept in the article cache. */
+    public int getArticleCacheMaxEntries() {
+        return getInt("cache.articles.max.entries", 10_000);
+    }
+
+    /** @return The maximum estimated size of the article cache, in bytes. */
+    public long getArticleCacheMaxWeightBytes() {
+        return getLong("cache.articles.max.weight.kb", 32 * 1024) * 1024;
+    }
+
+    /** @return The duration at which a statement is logged as slow, in milliseconds; negative disables the log. */
+    public long getSlowQueryThresholdMillis() {
+        return getLong("slowquery.threshold.ms", 250);
+    }
+
+    /** @return The file slow statements are written to. */
+    public Path getSlowQueryLogFile() {
+        return Paths.get(properties.getProperty("slowquery.file", "./slow-queries.log").trim());
+    }
+
+    /** @return The size at which the slow query log is rotated, in bytes. */
+    public long getSlowQueryLogMaxFileBytes() {
+        return getLong("slowquery.max.file.kb", 1024) * 1024;
+    }
+
+    /** @return The number of slow query log files kept, the current one included. */
+    public int getSlowQueryLogMaxFiles() {
+        return getInt("slowquery.max.files", 5);
+    }
+
+    /**
+     * Appends a numeric H2 setting to the URL when the corresponding key is configured.
+     *
+     * @param url     The URL being built.
+     * @param setting The H2 setting name.
+     * @param key     The configuration key.
+     */
+    private void appendSetting(StringBuilder url, String setting, String key) {
+        String value = properties.getProperty(key);
+        if (value != null && !value.trim().isEmpty()) {
+            url.append(';').append(setting).append('=').append(getLong(key, 0));
+        }
+    }
+
+    /**
+     * Reads an integer setting.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value used when the key is not set.
+     * @return The configured value.
+     */
+    private int getInt(String key, int defaultValue) {
+        return (int) getLong(key, defaultValue);
+    }
+
+    /**
+     * Reads a long setting.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value used when the key is not set.
+     * @return The configured value.
+     */
+    private long getLong(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Setting " + key + " must be a number but was '" + value + "'.");
+        }
+    }
+
+    /**
+     * Returns a short description of the configured storage, without credentials.
+     *
+     * @return The configuration as text.
+     */
+    @Override
+    public String toString() {
+        return getStorageMode() == StorageMode.MEMORY ? "memory" : "file " + getStoreFile().toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,96 @@
+package Utilities;
+
+import java.util.Properties;
+
+/**
+ * <p> Title: DatabaseConfigTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link DatabaseConfig} class.
+ * It validates the default in-memory configuration, the JDBC URL built for file mode with
+ * MVStore tuning settings, and the handling of invalid values. The test outputs indicate the
+ * success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class DatabaseConfigTest {
+
+    /**
+     * The main method to execute the DatabaseConfig tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        DatabaseConfigTest tester = new DatabaseConfigTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the DatabaseConfig.
+     */
+    public void runTests() {
+        System.out.println("Running DatabaseConfig tests...");
+
+        testDefaultsToMemory();
+        testFileModeUrl();
+        testInvalidStorageMode();
+
+        System.out.println("DatabaseConfig tests completed.");
+    }
+
+    /**
+     * Tests that an empty configuration keeps the in-memory database.
+     */
+    public void testDefaultsToMemory() {
+        System.out.println("\nTest: Defaults To Memory");
+        DatabaseConfig config = new DatabaseConfig(new Properties());
+
+        if (config.getStorageMode() == DatabaseConfig.StorageMode.MEMORY &&
+            config.getJdbcUrl().startsWith("jdbc:h2:mem:")) {
+            System.out.println("Passed: Empty configuration uses the in-memory database.");
+        } else {
+            System.out.println("Failed: Empty configuration did not use the in-memory database.");
+        }
+    }
+
+    /**
+     * Tests that file mode builds a file URL carrying the MVStore settings.
+     */
+    public void testFileModeUrl() {
+        System.out.println("\nTest: File Mode URL");
+        Properties properties = new Properties();
+        properties.setProperty("storage.mode", "file");
+        properties.setProperty("file.path", "./data/help");
+        properties.setProperty("mvstore.cache.size.kb", "131072");
+        properties.setProperty("mvstore.write.delay.ms", "250");
+        properties.setProperty("mvstore.auto.compact.fill.rate", "80");
+        properties.setProperty("mvstore.page.split.size", "8192");
+        DatabaseConfig config = new DatabaseConfig(properties);
+
+        String expected = "jdbc:h2:file:./data/help;CACHE_SIZE=131072;WRITE_DELAY=250;"
+                + "AUTO_COMPACT_FILL_RATE=80;PAGE_SIZE=8192";
+        if (expected.equals(config.getJdbcUrl())) {
+            System.out.println("Passed: File mode URL includes the MVStore settings.");
+        } else {
+            System.out.println("Failed: Unexpected file mode URL " + config.getJdbcUrl());
+        }
+    }
+
+    /**
+     * Tests that an unknown storage mode is rejected.
+     */
+    public void testInvalidStorageMode() {
+        System.out.println("\nTest: Invalid Storage Mode");
+        Properties properties = new Properties();
+        properties.setProperty("storage.mode", "cloud");
+        DatabaseConfig config = new DatabaseConfig(properties);
+
+        try {
+            config.getJdbcUrl();
+            System.out.println("Failed: Unknown storage mode was accepted.");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Passed: Unknown storage mode was rejected.");
+        }
+    }
+}
@@ -1,30 +1,42 @@
 package Utilities;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 /**
  * <p> Title: DatabaseManager Class </p>
  * 
- * <p> Description: This class manages the database connection and initialization.
- * It follows the Singleton design pattern to ensure that only one instance of the 
- * database connection exists throughout the application. The class provides methods 
- * to retrieve the connection, initialize the database schema, and reset the database 
- * for testing purposes. </p>
+ * <p> Description: This class manages the database connections and initialization.
+ * It follows the Singleton design pattern to ensure that only one {@link ConnectionPool} 
+ * exists throughout the application. The class provides methods to borrow and return 
+ * pooled connections, initialize the database schema, and reset the database 
+ * for testing purposes. Where the data is stored is controlled by {@link DatabaseConfig}. </p>
+ * 
+ * <p> Several DAO calls can share one transaction through a {@link UnitOfWork}: while one is
+ * active on a thread, {@link #borrowConnection()} hands that thread the unit of work's connection
+ * instead of a fresh one from the pool. </p>
  * 
  * @author Naimish Maniya
  * 
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
 public class DatabaseManager {
+    private static final String VALIDATION_QUERY = "SELECT 1";
+
     private static DatabaseManager instance;
-    private Connection connection;
-    // Replace with your actual database URL, username, and password
-    private String url = "jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1"; // In-memory H2 database for testing
-    private String username = "sa";
-    private String password = "";
+    private final DatabaseConfig config;
+    private final ConnectionPool pool;
+    private final SlowQueryLog slowQueryLog;
+    private final ArticleCache articleCache;
+    private final GroupCache groupCache = new GroupCache();
+    private final MembershipIndex membershipIndex = new MembershipIndex();
+    private final String startupReport;
+    private List<SchemaMigrator.AppliedMigration> appliedMigrations;
+    private final ThreadLocal<UnitOfWork> currentUnitOfWork = new ThreadLocal<>();
 
     /**
      * Private constructor to enforce Singleton pattern.
@@ -34,11 +46,33 @@ public class DatabaseManager {
     private DatabaseManager() throws SQLException {
         try {
             Class.forName("org.h2.Driver"); // Ensure H2 driver is loaded
-            this.connection = DriverManager.getConnection(url, username, password);
-            initializeDatabase(); // Initialize tables
-        } catch (ClassNotFoundException ex) {
+            this.config = DatabaseConfig.load();
+        } catch (ClassNotFoundException | IOException ex) {
             throw new SQLException(ex);
         }
+
+        long openStart = System.nanoTime();
+        this.pool = new ConnectionPool(config.getJdbcUrl(), config.getUsername(), config.getPassword(),
+                config.getPoolMaxSize(), config.getPoolMinIdle(), config.getPoolMaxWaitMillis(),
+                config.getPoolIdleTimeoutMillis(), config.getPoolValidationIntervalMillis(), VALIDATION_QUERY,
+                config.getStatementCacheSize());
+        this.slowQueryLog = SlowQueryLog.fromConfig(config);
+        pool.setSlowQueryLog(slowQueryLog);
+        this.articleCache = new ArticleCache(config.getArticleCacheMaxEntries(), config.getArticleCacheMaxWeightBytes());
+        long openMillis;
+        try {
+            // Opening the first connection is what opens (and, in file mode, recovers) the store.
+            pool.borrow().close();
+            openMillis = (System.nanoTime() - openStart) / 1_000_000;
+            initializeDatabase(); // Initialize tables
+        } catch (SQLException | RuntimeException ex) {
+            // A failed open or migration must not leak the pool; getInstance() retries with a new one.
+            pool.close();
+            throw ex;
+        }
+
+        this.startupReport = buildStartupReport(openMillis);
+        System.out.println(startupReport);
     }
 
     /**
@@ -47,87 +81,282 @@ public class DatabaseManager {
      * @return The DatabaseManager instance.
      * @throws SQLException If there is an error connecting to the database.
      */
-    public static DatabaseManager getInstance() throws SQLException {
-        if (instance == null) {
-            instance = new DatabaseManager();
-        } else if (instance.getConnection().isClosed()) {
+    public static synchronized DatabaseManager getInstance() throws SQLException {
+        if (instance == null || instance.pool.isClosed()) {
             instance = new DatabaseManager();
         }
         return instance;
     }
 
     /**
-     * Provides access to the database connection.
+     * Borrows a connection from the pool. The connection must be returned by closing it,
+     * preferably with a try-with-resources block, or by calling {@link #returnConnection(Connection)}.
+     * If a {@link UnitOfWork} is active on the calling thread, its connection is returned
+     * instead, and closing it leaves the unit of work open.
+     *
+     * @return A pooled database connection.
+     * @throws SQLException If no connection could be obtained within the maximum wait time.
+     */
+    public Connection borrowConnection() throws SQLException {
+        UnitOfWork unitOfWork = currentUnitOfWork.get();
+        if (unitOfWork != null) {
+            return unitOfWork.getParticipant();
+        }
+        return pool.borrow();
+    }
+
+    /**
+     * Borrows a connection from the pool even if a unit of work is active on the calling thread.
+     * The connection only sees committed data, which is what shared caches must be filled from.
+     *
+     * @return A pooled database connection outside any unit of work.
+     * @throws SQLException If no connection could be obtained within the maximum wait time.
+     */
+    Connection borrowCommittedConnection() throws SQLException {
+        return pool.borrow();
+    }
+
+    /**
+     * Starts a unit of work on the calling thread. Every DAO call made on this thread until the
+     * unit of work is closed shares its connection and transaction.
+     *
+     * @return The new unit of work, to be closed with try-with-resources.
+     * @throws SQLException If a connection cannot be obtained.
+     * @throws IllegalStateException If a unit of work is already active on this thread.
+     */
+    public UnitOfWork beginUnitOfWork() throws SQLException {
+        if (currentUnitOfWork.get() != null) {
+            throw new IllegalStateException("A unit of work is already active on this thread.");
+        }
+        Connection connection = pool.borrow();
+        try {
+            UnitOfWork unitOfWork = new UnitOfWork(this, connection);
+            currentUnitOfWork.set(unitOfWork);
+            return unitOfWork;
+        } catch (SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs a block of DAO calls in one unit of work, committing if it completes and rolling
+     * back if it throws. If a unit of work is already active, the block simply joins it.
+     *
+     * @param work The DAO calls to run.
+     * @param <T>  The type of the result.
+     * @return The result of the block.
+     * @throws SQLException If a database access error occurs.
+     */
+    public <T> T inUnitOfWork(UnitOfWork.Work<T> work) throws SQLException {
+        if (currentUnitOfWork.get() != null) {
+            return work.run();
+        }
+        try (UnitOfWork unitOfWork = beginUnitOfWork()) {
+            T result = work.run();
+            unitOfWork.commit();
+            return result;
+        }
+    }
+
+    /**
+     * Checks whether a unit of work is active on the calling thread.
+     *
+     * @return True if DAO calls on this thread currently share a transaction.
+     */
+    public boolean isInUnitOfWork() {
+        return currentUnitOfWork.get() != null;
+    }
+
+    /**
+     * Runs work once the current changes are committed: immediately if no unit of work is
+     * active on this thread, otherwise after the unit of work commits. The work is dropped if
+     * the unit of work rolls back.
+     *
+     * @param action The work to run, such as updating an in-memory index.
+     */
+    public void afterCommit(Runnable action) {
+        UnitOfWork unitOfWork = currentUnitOfWork.get();
+        if (unitOfWork != null) {
+            unitOfWork.addAfterCommit(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Invalidates every in-memory cache and index once the current changes are committed:
+     * immediately if no unit of work is active on this thread, otherwise in place of the unit of
+     * work's after-commit work, which is no longer kept. The caches reload from the database on
+     * next use.
+     */
+    void invalidateCachesOnCommit() {
+        UnitOfWork unitOfWork = currentUnitOfWork.get();
+        if (unitOfWork != null) {
+            unitOfWork.invalidateCachesOnCommit();
+        } else {
+            invalidateCaches();
+        }
+    }
+
+    /**
+     * Invalidates every in-memory cache and index so that each reloads from the database on next use.
+     */
+    void invalidateCaches() {
+        SearchIndex.getInstance().invalidate();
+        articleCache.invalidateAll();
+        groupCache.invalidate();
+        membershipIndex.invalidate();
+    }
+
+    /**
+     * Detaches a closing unit of work from the calling thread.
+     *
+     * @param unitOfWork The unit of work being closed.
+     */
+    void unbind(UnitOfWork unitOfWork) {
+        if (currentUnitOfWork.get() == unitOfWork) {
+            currentUnitOfWork.remove();
+        }
+    }
+
+    /**
+     * Returns a borrowed connection to the pool.
+     *
+     * @param connection The connection obtained from {@link #borrowConnection()}.
+     * @throws SQLException If the connection cannot be returned.
+     */
+    public void returnConnection(Connection connection) throws SQLException {
+        pool.release(connection);
+    }
+
+    /**
+     * Retrieves the current usage statistics of the connection pool.
+     *
+     * @return A snapshot of the pool statistics.
+     */
+    public ConnectionPool.Statistics getPoolStatistics() {
+        return pool.getStatistics();
+    }
+
+    /**
+     * Retrieves the cache of articles read by ID, shared by every {@link HelpArticleDAO}.
+     *
+     * @return The article cache.
+     */
+    public ArticleCache getArticleCache() {
+        return articleCache;
+    }
+
+    /**
+     * Retrieves the cache of all groups, shared by every {@link GroupDAO}.
+     *
+     * @return The group cache.
+     */
+    public GroupCache getGroupCache() {
+        return groupCache;
+    }
+
+    /**
+     * Retrieves the in-memory index of which articles belong to which group, shared by every
+     * {@link HelpArticleDAO}.
+     *
+     * @return The membership index.
+     */
+    public MembershipIndex getMembershipIndex() {
+        return membershipIndex;
+    }
+
+    /**
+     * Retrieves the configuration the database was opened with.
+     *
+     * @return The database configuration.
+     */
+    public DatabaseConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Retrieves the log that statements over the configured threshold are written to.
+     *
+     * @return The slow query log, or null if it is disabled.
+     */
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * Retrieves the report printed when the database was opened, describing the storage mode,
+     * the size of the store and how long opening it took.
+     *
+     * @return The startup report.
+     */
+    public String getStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * Builds the startup report for the configured storage.
      *
-     * @return The current database connection.
+     * @param openMillis How long it took to open the database, in milliseconds.
+     * @return The startup report.
+     */
+    private String buildStartupReport(long openMillis) {
+        StringBuilder report = new StringBuilder("Database opened (").append(config).append(") in ")
+                .append(openMillis).append(" ms");
+        if (config.getStorageMode() == DatabaseConfig.StorageMode.FILE) {
+            try {
+                long bytes = Files.size(config.getStoreFile());
+                report.append(", store size ").append(String.format("%,d KB", bytes / 1024));
+            } catch (IOException ex) {
+                report.append(", store size unknown");
+            }
+        }
+        report.append(", ").append(appliedMigrations.size()).append(" schema migration(s) applied");
+        return report.append('.').toString();
+    }
+
+    /**
+     * Closes the connection pool. The next call to {@link #getInstance()} opens a new one.
      */
-    public Connection getConnection() {
-        return connection;
+    public void shutdown() {
+        pool.close();
     }
 
     /**
-     * Initializes the database schema by creating necessary tables.
+     * Initializes the database schema by applying any pending {@link SchemaMigrations}.
      *
      * @throws SQLException If there is an error executing the SQL statements.
      */
     private void initializeDatabase() throws SQLException {
-        String createGroupsTable = "CREATE TABLE IF NOT EXISTS Groups (" +
-                                   "id BIGINT AUTO_INCREMENT PRIMARY KEY," +
-                                   "name VARCHAR(255) UNIQUE NOT NULL" +
-                                   ");";
-
-        String createHelpArticlesTable = "CREATE TABLE IF NOT EXISTS HelpArticles (" +
-                                         "id BIGINT AUTO_INCREMENT PRIMARY KEY," +
-                                         "header VARCHAR(255)," +
-                                         "title VARCHAR(255) NOT NULL," +
-                                         "shortDescription VARCHAR(500)," +
-                                         "keywords VARCHAR(500)," +
-                                         "body CLOB," +
-                                         "referenceLinks VARCHAR(1000)" +
-                                         ");";
-
-        String createArticleGroupsTable = "CREATE TABLE IF NOT EXISTS ArticleGroups (" +
-                                          "article_id BIGINT NOT NULL," +
-                                          "group_id BIGINT NOT NULL," +
-                                          "PRIMARY KEY (article_id, group_id)," +
-                                          "FOREIGN KEY (article_id) REFERENCES HelpArticles(id) ON DELETE CASCADE," +
-                                          "FOREIGN KEY (group_id) REFERENCES Groups(id) ON DELETE CASCADE" +
-                                          ");";
-
-        String createUsersTable = "CREATE TABLE IF NOT EXISTS Users (" +
-                                  "id BIGINT AUTO_INCREMENT PRIMARY KEY," +
-                                  "username VARCHAR(255) UNIQUE NOT NULL," +
-                                  "password VARCHAR(255) NOT NULL," +
-                                  "role VARCHAR(50) NOT NULL" +
-                                  ");";
-
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(createGroupsTable);
-            stmt.execute(createHelpArticlesTable);
-            stmt.execute(createArticleGroupsTable);
-            stmt.execute(createUsersTable);
+        try (Connection connection = pool.borrow()) {
+            appliedMigrations = new SchemaMigrator(SchemaMigrations.all()).migrate(connection);
         }
     }
 
     /**
-     * Resets the database by dropping existing tables and recreating them.
+     * Retrieves the migrations applied the last time the schema was initialized.
+     *
+     * @return The applied migrations with their durations; empty if the schema was already current.
+     */
+    public List<SchemaMigrator.AppliedMigration> getAppliedMigrations() {
+        return appliedMigrations;
+    }
+
+    /**
+     * Resets the database by dropping every table, including the schema version history, and
+     * migrating an empty schema from scratch.
      *
      * @throws SQLException If there is an error executing the SQL statements.
      */
     public void resetDatabase() throws SQLException {
-        String dropArticleGroups = "DROP TABLE IF EXISTS ArticleGroups;";
-        String dropHelpArticles = "DROP TABLE IF EXISTS HelpArticles;";
-        String dropGroups = "DROP TABLE IF EXISTS Groups;";
-        String dropUsers = "DROP TABLE IF EXISTS Users;";
-
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(dropArticleGroups);
-            stmt.execute(dropHelpArticles);
-            stmt.execute(dropGroups);
-            stmt.execute(dropUsers);
-
-            // Recreate tables
-            initializeDatabase();
+        try (Connection connection = pool.borrow();
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS;");
         }
+
+        // Recreate tables
+        initializeDatabase();
+        invalidateCaches();
     }
 }
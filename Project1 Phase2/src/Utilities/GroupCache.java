@@ -0,0 +1,223 @@
+package Utilities;
+
+import models.Group;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p> Title: GroupCache Class </p>
+ *
+ * <p> Description: This class keeps every {@link Group} in memory, indexed both by name and by
+ * ID, so that {@link GroupDAO} can answer lookups without a query. Group names are unique, there
+ * are few of them and they rarely change, so the whole table is loaded on first use and then
+ * kept current by {@link GroupDAO} as its changes commit. </p>
+ *
+ * <p> All methods are thread-safe. Loading holds the write lock, so a change cannot be applied
+ * half way through a load. Groups are copied on the way in and on the way out. The cache is
+ * owned by {@link DatabaseManager}. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class GroupCache {
+
+    /**
+     * Supplies every group when the cache is first used.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        Collection<Group> loadAll() throws SQLException;
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Group> byName = new HashMap<>();
+    private final TreeMap<Long, Group> byId = new TreeMap<>();
+    private boolean loaded;
+
+    /**
+     * Loads every group if the cache has not been loaded yet.
+     *
+     * @param loader Supplies the committed groups.
+     * @throws SQLException If the groups cannot be read.
+     */
+    public void ensureLoaded(Loader loader) throws SQLException {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                byName.clear();
+                byId.clear();
+                for (Group group : loader.loadAll()) {
+                    store(group);
+                }
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether the cache has been loaded.
+     *
+     * @return True if the cache holds every group.
+     */
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Discards the cache; it is loaded again on next use.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            byName.clear();
+            byId.clear();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a group by name.
+     *
+     * @param name The name of the group.
+     * @return A copy of the group, or null if there is none.
+     */
+    public Group getByName(String name) {
+        lock.readLock().lock();
+        try {
+            return copy(byName.get(name));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a group by ID.
+     *
+     * @param groupId The ID of the group.
+     * @return A copy of the group, or null if there is none.
+     */
+    public Group getById(long groupId) {
+        lock.readLock().lock();
+        try {
+            return copy(byId.get(groupId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves every group.
+     *
+     * @return Copies of the groups in ascending ID order.
+     */
+    public List<Group> getAll() {
+        lock.readLock().lock();
+        try {
+            List<Group> groups = new ArrayList<>(byId.size());
+            for (Group group : byId.values()) {
+                groups.add(copy(group));
+            }
+            return groups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a group, or replaces it and its old name if it is already cached. Ignored until the
+     * cache is loaded, since the load will read the group anyway.
+     *
+     * @param group The committed group.
+     */
+    public void put(Group group) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                remove(group.getId());
+                store(group);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a group.
+     *
+     * @param groupId The ID of the deleted group.
+     */
+    public void remove(long groupId) {
+        lock.writeLock().lock();
+        try {
+            Group removed = byId.remove(groupId);
+            if (removed != null) {
+                byName.remove(removed.getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every group, leaving the cache loaded and empty.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byName.clear();
+            byId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of cached groups.
+     *
+     * @return The number of groups.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void store(Group group) {
+        Group copy = copy(group);
+        byId.put(copy.getId(), copy);
+        byName.put(copy.getName(), copy);
+    }
+
+    private static Group copy(Group group) {
+        return group == null ? null : new Group(group.getId(), group.getName());
+    }
+}
@@ -0,0 +1,172 @@
+package Utilities;
+
+import models.Group;
+
+import java.sql.SQLException;
+
+/**
+ * <p> Title: GroupCacheTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link GroupCache} class and its
+ * use by {@link GroupDAO}. It validates that lookups by name and ID are answered without a query
+ * once the cache is loaded, that adds, renames and deletes keep the cache current, that changes
+ * rolled back in a unit of work never reach the cache, that renaming a missing group caches
+ * nothing, and that callers cannot modify cached groups.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class GroupCacheTest {
+
+    /**
+     * The main method to execute the GroupCache tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        GroupCacheTest tester = new GroupCacheTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the GroupCache.
+     */
+    public void runTests() {
+        System.out.println("Running GroupCache tests...");
+
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testLookupsUseNoQuery();
+            testChangesKeepCacheCurrent();
+            testRolledBackChangesNotCached();
+            testMissingUpdateNotCached();
+            testCopiesAreIndependent();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("GroupCache tests completed.");
+    }
+
+    /**
+     * Tests that lookups are served from memory once the cache has been loaded.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testLookupsUseNoQuery() throws SQLException {
+        System.out.println("\nTest: Lookups Use No Query");
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        GroupDAO groupDAO = new GroupDAO();
+        Group group = new Group("cache-lookup");
+        groupDAO.addGroup(group);
+        groupDAO.getGroupByName("cache-lookup"); // Loads the cache
+
+        long borrowsBefore = databaseManager.getPoolStatistics().getBorrows();
+        Group byName = groupDAO.getGroupByName("cache-lookup");
+        Group byId = groupDAO.getGroupById(group.getId());
+        Group missing = groupDAO.getGroupByName("cache-missing");
+        int all = groupDAO.getAllGroups().size();
+        long borrowsAfter = databaseManager.getPoolStatistics().getBorrows();
+
+        if (byName != null && byName.getId() == group.getId() && byId != null &&
+            "cache-lookup".equals(byId.getName()) && missing == null && all == 1 && borrowsAfter == borrowsBefore) {
+            System.out.println("Passed: Lookups were answered from the cache.");
+        } else {
+            System.out.println("Failed: Lookups went to the database or returned wrong groups.");
+        }
+    }
+
+    /**
+     * Tests that adding, renaming and deleting groups keep both indexes current.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testChangesKeepCacheCurrent() throws SQLException {
+        System.out.println("\nTest: Changes Keep Cache Current");
+        GroupDAO groupDAO = new GroupDAO();
+        Group renamed = new Group("cache-before");
+        Group deleted = new Group("cache-deleted");
+        groupDAO.addGroup(renamed);
+        groupDAO.addGroup(deleted);
+
+        renamed.setName("cache-after");
+        groupDAO.updateGroup(renamed);
+        groupDAO.deleteGroup(deleted.getId());
+
+        boolean renameApplied = groupDAO.getGroupByName("cache-before") == null &&
+                groupDAO.getGroupByName("cache-after") != null &&
+                "cache-after".equals(groupDAO.getGroupById(renamed.getId()).getName());
+        boolean deleteApplied = groupDAO.getGroupByName("cache-deleted") == null &&
+                groupDAO.getGroupById(deleted.getId()) == null;
+        groupDAO.deleteAllGroups();
+        boolean clearApplied = groupDAO.getAllGroups().isEmpty() && groupDAO.getGroupByName("cache-after") == null;
+
+        if (renameApplied && deleteApplied && clearApplied) {
+            System.out.println("Passed: The cache followed every change.");
+        } else {
+            System.out.println("Failed: The cache went out of date.");
+        }
+    }
+
+    /**
+     * Tests that a group added in a unit of work is visible inside it but not cached if it is
+     * rolled back.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testRolledBackChangesNotCached() throws SQLException {
+        System.out.println("\nTest: Rolled Back Changes Not Cached");
+        GroupDAO groupDAO = new GroupDAO();
+        boolean seenInside;
+        try (UnitOfWork work = DatabaseManager.getInstance().beginUnitOfWork()) {
+            groupDAO.addGroup(new Group("cache-rolled-back"));
+            seenInside = groupDAO.getGroupByName("cache-rolled-back") != null;
+            work.rollback();
+        }
+
+        if (seenInside && groupDAO.getGroupByName("cache-rolled-back") == null) {
+            System.out.println("Passed: The rolled back group never reached the cache.");
+        } else {
+            System.out.println("Failed: The rolled back group was cached or not visible inside its unit of work.");
+        }
+    }
+
+    /**
+     * Tests that renaming a group that does not exist leaves the cache unchanged.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testMissingUpdateNotCached() throws SQLException {
+        System.out.println("\nTest: Missing Update Not Cached");
+        GroupDAO groupDAO = new GroupDAO();
+        int before = groupDAO.getAllGroups().size();
+        groupDAO.updateGroup(new Group(4242, "cache-ghost"));
+
+        if (groupDAO.getGroupByName("cache-ghost") == null && groupDAO.getGroupById(4242) == null &&
+            groupDAO.getAllGroups().size() == before) {
+            System.out.println("Passed: Renaming a missing group cached nothing.");
+        } else {
+            System.out.println("Failed: A group that does not exist was cached.");
+        }
+    }
+
+    /**
+     * Tests that changing a returned group does not change the cached copy.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testCopiesAreIndependent() throws SQLException {
+        System.out.println("\nTest: Copies Are Independent");
+        GroupDAO groupDAO = new GroupDAO();
+        groupDAO.addGroup(new Group("cache-copy"));
+        groupDAO.getGroupByName("cache-copy").setName("cache-changed");
+
+        if (groupDAO.getGroupByName("cache-copy") != null && groupDAO.getGroupByName("cache-changed") == null) {
+            System.out.println("Passed: Cached groups are isolated from callers.");
+        } else {
+            System.out.println("Failed: A caller changed the cached group.");
+        }
+    }
+}
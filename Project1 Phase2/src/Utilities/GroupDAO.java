@@ -12,6 +12,9 @@ import java.util.List;
  * <p> Description: This class provides Data Access Object (DAO) functionalities for the {@link Group} entity.
  * It facilitates CRUD (Create, Read, Update, Delete) operations on the Groups table in the database. 
  * The class interacts with the {@link DatabaseManager} to execute SQL queries and manage group data. 
+ * Lookups by name or ID and the list of all groups are answered from the shared {@link GroupCache}, which
+ * is loaded on first use and updated as changes made through this class commit. Inside a {@link UnitOfWork}
+ * the cache is bypassed so that callers see their own uncommitted changes.
  * </p>
  * 
  * @author Naimish Maniya
@@ -19,16 +22,37 @@ import java.util.List;
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
 public class GroupDAO {
-    private Connection connection;
+    static final String ADD_GROUP_SQL = "INSERT INTO Groups (name) VALUES (?);";
+    static final String GET_ALL_GROUPS_SQL = "SELECT * FROM Groups;";
+    static final String GET_GROUPS_PAGE_SQL = "SELECT * FROM Groups WHERE id > ? ORDER BY id LIMIT ?;";
+    static final String GET_GROUP_BY_NAME_SQL = "SELECT * FROM Groups WHERE name = ?;";
+    static final String GET_GROUP_BY_ID_SQL = "SELECT * FROM Groups WHERE id = ?;";
+    static final String UPDATE_GROUP_SQL = "UPDATE Groups SET name = ? WHERE id = ?;";
+    static final String DELETE_GROUP_SQL = "DELETE FROM Groups WHERE id = ?;";
+    static final String DELETE_ALL_GROUPS_SQL = "DELETE FROM Groups;";
+
+    // Call metrics, one per public method, reported through DaoMetrics.
+    private static final MethodMetrics ADD_GROUP_METRICS = DaoMetrics.register("GroupDAO.addGroup");
+    private static final MethodMetrics GET_ALL_GROUPS_METRICS = DaoMetrics.register("GroupDAO.getAllGroups");
+    private static final MethodMetrics GET_GROUPS_PAGE_METRICS = DaoMetrics.register("GroupDAO.getGroupsPage");
+    private static final MethodMetrics GET_GROUP_BY_NAME_METRICS = DaoMetrics.register("GroupDAO.getGroupByName");
+    private static final MethodMetrics GET_GROUP_BY_ID_METRICS = DaoMetrics.register("GroupDAO.getGroupById");
+    private static final MethodMetrics UPDATE_GROUP_METRICS = DaoMetrics.register("GroupDAO.updateGroup");
+    private static final MethodMetrics DELETE_GROUP_METRICS = DaoMetrics.register("GroupDAO.deleteGroup");
+    private static final MethodMetrics DELETE_ALL_GROUPS_METRICS = DaoMetrics.register("GroupDAO.deleteAllGroups");
+
+    private final DatabaseManager databaseManager;
+    private final GroupCache groupCache;
 
     /**
      * Constructs a GroupDAO instance.
-     * Initializes the database connection using the DatabaseManager.
+     * Obtains the shared DatabaseManager, whose pool supplies a connection to each operation.
      *
      * @throws SQLException If there is an error accessing the database.
      */
     public GroupDAO() throws SQLException {
-        connection = DatabaseManager.getInstance().getConnection();
+        databaseManager = DatabaseManager.getInstance();
+        groupCache = databaseManager.getGroupCache();
     }
 
     /**
@@ -38,37 +62,86 @@ public class GroupDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void addGroup(Group group) throws SQLException {
-        String insertSQL = "INSERT INTO Groups (name) VALUES (?);";
-        try (PreparedStatement pstmt = connection.prepareStatement(insertSQL, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, group.getName());
-            pstmt.executeUpdate();
-            try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                if (rs.next()) {
-                    group.setId(rs.getLong(1));
+        long start = System.nanoTime();
+        try {
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(ADD_GROUP_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                pstmt.setString(1, group.getName());
+                pstmt.executeUpdate();
+                try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                    if (rs.next()) {
+                        group.setId(rs.getLong(1));
+                    }
                 }
             }
+            Group added = new Group(group.getId(), group.getName());
+            databaseManager.afterCommit(() -> groupCache.put(added));
+            ADD_GROUP_METRICS.wrote(start, 1);
+        } catch (SQLException | RuntimeException ex) {
+            ADD_GROUP_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
     /**
      * Retrieves all groups from the database.
      *
-     * @return A list of all Group objects.
+     * @return A list of all Group objects, in ascending ID order.
      * @throws SQLException If a database access error occurs.
      */
     public List<Group> getAllGroups() throws SQLException {
-        List<Group> groups = new ArrayList<>();
-        String selectSQL = "SELECT * FROM Groups;";
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(selectSQL)) {
-            while (rs.next()) {
-                Group group = new Group();
-                group.setId(rs.getLong("id"));
-                group.setName(rs.getString("name"));
-                groups.add(group);
+        long start = System.nanoTime();
+        try {
+            if (databaseManager.isInUnitOfWork()) {
+                try (Connection connection = databaseManager.borrowConnection()) {
+                    return GET_ALL_GROUPS_METRICS.read(start, readAllGroups(connection));
+                }
             }
+            groupCache.ensureLoaded(this::getCommittedGroups);
+            return GET_ALL_GROUPS_METRICS.read(start, groupCache.getAll());
+        } catch (SQLException | RuntimeException ex) {
+            GET_ALL_GROUPS_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves one page of groups in ascending ID order.
+     *
+     * @param cursor   The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The maximum number of groups on the page.
+     * @return The page of Groups and the cursor of the next page.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Page<Group> getGroupsPage(String cursor, int pageSize) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Page.checkPageSize(pageSize);
+            List<Group> groups = new ArrayList<>();
+            boolean more = false;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_GROUPS_PAGE_SQL)) {
+                pstmt.setLong(1, Page.decodeCursor(cursor));
+                pstmt.setInt(2, pageSize + 1);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        if (groups.size() == pageSize) {
+                            more = true;
+                            break;
+                        }
+                        Group group = new Group();
+                        group.setId(rs.getLong("id"));
+                        group.setName(rs.getString("name"));
+                        groups.add(group);
+                    }
+                }
+            }
+            String next = more ? Page.encodeCursor(groups.get(groups.size() - 1).getId()) : null;
+            return GET_GROUPS_PAGE_METRICS.read(start, new Page<>(groups, next));
+        } catch (SQLException | RuntimeException ex) {
+            GET_GROUPS_PAGE_METRICS.recordFailure(start);
+            throw ex;
         }
-        return groups;
     }
 
     /**
@@ -79,33 +152,64 @@ public class GroupDAO {
      * @throws SQLException If a database access error occurs.
      */
     public Group getGroupByName(String name) throws SQLException {
-        String query = "SELECT * FROM Groups WHERE name = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
-            pstmt.setString(1, name);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    Group group = new Group();
-                    group.setId(rs.getLong("id"));
-                    group.setName(rs.getString("name"));
-                    return group;
-                }
+        long start = System.nanoTime();
+        try {
+            if (databaseManager.isInUnitOfWork()) {
+                return GET_GROUP_BY_NAME_METRICS.read(start, queryGroup(GET_GROUP_BY_NAME_SQL, name));
             }
+            groupCache.ensureLoaded(this::getCommittedGroups);
+            return GET_GROUP_BY_NAME_METRICS.read(start, groupCache.getByName(name));
+        } catch (SQLException | RuntimeException ex) {
+            GET_GROUP_BY_NAME_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves a group by its ID.
+     *
+     * @param groupId The ID of the group.
+     * @return The Group object, or null if not found.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Group getGroupById(long groupId) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (databaseManager.isInUnitOfWork()) {
+                return GET_GROUP_BY_ID_METRICS.read(start, queryGroup(GET_GROUP_BY_ID_SQL, groupId));
+            }
+            groupCache.ensureLoaded(this::getCommittedGroups);
+            return GET_GROUP_BY_ID_METRICS.read(start, groupCache.getById(groupId));
+        } catch (SQLException | RuntimeException ex) {
+            GET_GROUP_BY_ID_METRICS.recordFailure(start);
+            throw ex;
         }
-        return null;
     }
 
     /**
-     * Updates an existing group in the database.
+     * Updates an existing group in the database. If no group has the given ID, nothing is changed.
      *
      * @param group The Group object with updated information.
      * @throws SQLException If a database access error occurs.
      */
     public void updateGroup(Group group) throws SQLException {
-        String updateSQL = "UPDATE Groups SET name = ? WHERE id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(updateSQL)) {
-            pstmt.setString(1, group.getName());
-            pstmt.setLong(2, group.getId());
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(UPDATE_GROUP_SQL)) {
+                pstmt.setString(1, group.getName());
+                pstmt.setLong(2, group.getId());
+                rows = pstmt.executeUpdate();
+            }
+            if (rows == 1) {
+                Group updated = new Group(group.getId(), group.getName());
+                databaseManager.afterCommit(() -> groupCache.put(updated));
+            }
+            UPDATE_GROUP_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            UPDATE_GROUP_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -116,10 +220,22 @@ public class GroupDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void deleteGroup(long groupId) throws SQLException {
-        String deleteSQL = "DELETE FROM Groups WHERE id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSQL)) {
-            pstmt.setLong(1, groupId);
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(DELETE_GROUP_SQL)) {
+                pstmt.setLong(1, groupId);
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> {
+                groupCache.remove(groupId);
+                databaseManager.getMembershipIndex().removeGroup(groupId); // Removed by the cascading foreign key
+            });
+            DELETE_GROUP_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            DELETE_GROUP_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -129,9 +245,79 @@ public class GroupDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void deleteAllGroups() throws SQLException {
-        String deleteSQL = "DELETE FROM Groups;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSQL)) {
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(DELETE_ALL_GROUPS_SQL)) {
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> {
+                groupCache.clear();
+                databaseManager.getMembershipIndex().clearMemberships();
+            });
+            DELETE_ALL_GROUPS_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            DELETE_ALL_GROUPS_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads every group as committed, ignoring any unit of work active on this thread, so that
+     * the shared cache never holds changes that may still be rolled back.
+     *
+     * @return All committed Groups.
+     * @throws SQLException If a database access error occurs.
+     */
+    private List<Group> getCommittedGroups() throws SQLException {
+        try (Connection connection = databaseManager.borrowCommittedConnection()) {
+            return readAllGroups(connection);
+        }
+    }
+
+    /**
+     * Reads every group on the given connection.
+     *
+     * @param connection The connection to read on.
+     * @return All Groups.
+     * @throws SQLException If a database access error occurs.
+     */
+    private List<Group> readAllGroups(Connection connection) throws SQLException {
+        List<Group> groups = new ArrayList<>();
+        try (PreparedStatement pstmt = connection.prepareStatement(GET_ALL_GROUPS_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                Group group = new Group();
+                group.setId(rs.getLong("id"));
+                group.setName(rs.getString("name"));
+                groups.add(group);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Reads at most one group with a single-parameter query.
+     *
+     * @param sql   The query, selecting by name or by ID.
+     * @param value The value of the parameter.
+     * @return The Group object, or null if not found.
+     * @throws SQLException If a database access error occurs.
+     */
+    private Group queryGroup(String sql, Object value) throws SQLException {
+        try (Connection connection = databaseManager.borrowConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setObject(1, value);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    Group group = new Group();
+                    group.setId(rs.getLong("id"));
+                    group.setName(rs.getString("name"));
+                    return group;
+                }
+            }
         }
+        return null;
     }
 }
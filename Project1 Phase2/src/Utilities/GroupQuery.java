@@ -0,0 +1,238 @@
+package Utilities;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p> Title: GroupQuery Class </p>
+ *
+ * <p> Description: This class is a boolean expression over group membership, such as "in group
+ * A and group B" or "in A but not in B", evaluated by
+ * {@link HelpArticleDAO#findArticleIds(GroupQuery)}. Expressions are built from
+ * {@link #inGroup(long)}, {@link #inAny(long...)}, {@link #inAll(long...)} and
+ * {@link #inNone(long...)} and combined with {@link #and(GroupQuery)}, {@link #or(GroupQuery)},
+ * {@link #andNot(GroupQuery)} and {@link #not()}. </p>
+ *
+ * <p> Evaluation works on the {@link ArticleIdSet}s of the groups involved. Intersections start
+ * from the smallest operand, and a negation inside an intersection is applied as a difference,
+ * so only a negation standing on its own needs the set of all articles. </p>
+ *
+ * <p> Usage: </p>
+ * <pre>
+ * // Articles in both A and B but not in C
+ * ArticleIdSet ids = helpArticleDAO.findArticleIds(GroupQuery.inAll(a, b).andNot(GroupQuery.inGroup(c)));
+ * </pre>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public final class GroupQuery {
+
+    /**
+     * Supplies the sets a query is evaluated over.
+     */
+    interface Source {
+        ArticleIdSet members(long groupId) throws SQLException;
+
+        ArticleIdSet allArticles() throws SQLException;
+    }
+
+    private enum Kind {
+        GROUP, AND, OR, NOT
+    }
+
+    private final Kind kind;
+    private final long groupId;
+    private final List<GroupQuery> operands;
+
+    private GroupQuery(Kind kind, long groupId, List<GroupQuery> operands) {
+        this.kind = kind;
+        this.groupId = groupId;
+        this.operands = operands;
+    }
+
+    /**
+     * Matches the articles of one group.
+     *
+     * @param groupId The ID of the group.
+     * @return The query.
+     */
+    public static GroupQuery inGroup(long groupId) {
+        return new GroupQuery(Kind.GROUP, groupId, Collections.emptyList());
+    }
+
+    /**
+     * Matches the articles in at least one of the groups.
+     *
+     * @param groupIds The IDs of the groups; at least one.
+     * @return The query.
+     */
+    public static GroupQuery inAny(long... groupIds) {
+        return combine(Kind.OR, groups(groupIds));
+    }
+
+    /**
+     * Matches the articles in every one of the groups.
+     *
+     * @param groupIds The IDs of the groups; at least one.
+     * @return The query.
+     */
+    public static GroupQuery inAll(long... groupIds) {
+        return combine(Kind.AND, groups(groupIds));
+    }
+
+    /**
+     * Matches the articles in none of the groups, including articles in no group at all.
+     *
+     * @param groupIds The IDs of the groups; at least one.
+     * @return The query.
+     */
+    public static GroupQuery inNone(long... groupIds) {
+        return inAny(groupIds).not();
+    }
+
+    /**
+     * Matches the articles matched by both this query and another.
+     *
+     * @param other The other query.
+     * @return The combined query.
+     */
+    public GroupQuery and(GroupQuery other) {
+        return combine(Kind.AND, Arrays.asList(this, other));
+    }
+
+    /**
+     * Matches the articles matched by this query, another, or both.
+     *
+     * @param other The other query.
+     * @return The combined query.
+     */
+    public GroupQuery or(GroupQuery other) {
+        return combine(Kind.OR, Arrays.asList(this, other));
+    }
+
+    /**
+     * Matches the articles matched by this query but not by another.
+     *
+     * @param other The query whose articles are left out.
+     * @return The combined query.
+     */
+    public GroupQuery andNot(GroupQuery other) {
+        return and(other.not());
+    }
+
+    /**
+     * Matches the articles not matched by this query.
+     *
+     * @return The negated query.
+     */
+    public GroupQuery not() {
+        if (kind == Kind.NOT) {
+            return operands.get(0);
+        }
+        return new GroupQuery(Kind.NOT, 0, Collections.singletonList(this));
+    }
+
+    /**
+     * Evaluates the query.
+     *
+     * @param source Supplies the members of each group and, if a negation needs it, every article.
+     * @return The matching article IDs.
+     * @throws SQLException If a set cannot be read.
+     */
+    ArticleIdSet evaluate(Source source) throws SQLException {
+        switch (kind) {
+            case GROUP:
+                return source.members(groupId);
+            case NOT:
+                return source.allArticles().andNot(operands.get(0).evaluate(source));
+            case OR: {
+                ArticleIdSet result = ArticleIdSet.empty();
+                for (GroupQuery operand : operands) {
+                    result = result.or(operand.evaluate(source));
+                }
+                return result;
+            }
+            default:
+                return evaluateAnd(source);
+        }
+    }
+
+    /**
+     * Evaluates an intersection: the positive operands smallest first, then the negated operands
+     * as differences. The set of all articles is only read if every operand is negated.
+     */
+    private ArticleIdSet evaluateAnd(Source source) throws SQLException {
+        List<ArticleIdSet> included = new ArrayList<>();
+        List<GroupQuery> excluded = new ArrayList<>();
+        for (GroupQuery operand : operands) {
+            if (operand.kind == Kind.NOT) {
+                excluded.add(operand.operands.get(0));
+            } else {
+                ArticleIdSet set = operand.evaluate(source);
+                if (set.isEmpty()) {
+                    return set;
+                }
+                included.add(set);
+            }
+        }
+        included.sort(Comparator.comparingInt(ArticleIdSet::size));
+
+        ArticleIdSet result = included.isEmpty() ? source.allArticles() : included.get(0);
+        for (int i = 1; i < included.size() && !result.isEmpty(); i++) {
+            result = result.and(included.get(i));
+        }
+        for (int i = 0; i < excluded.size() && !result.isEmpty(); i++) {
+            result = result.andNot(excluded.get(i).evaluate(source));
+        }
+        return result;
+    }
+
+    private static List<GroupQuery> groups(long[] groupIds) {
+        if (groupIds.length == 0) {
+            throw new IllegalArgumentException("At least one group is required.");
+        }
+        List<GroupQuery> groups = new ArrayList<>(groupIds.length);
+        for (long id : groupIds) {
+            groups.add(inGroup(id));
+        }
+        return groups;
+    }
+
+    /**
+     * Combines operands, flattening nested operations of the same kind.
+     */
+    private static GroupQuery combine(Kind kind, List<GroupQuery> operands) {
+        if (operands.size() == 1) {
+            return operands.get(0);
+        }
+        List<GroupQuery> flattened = new ArrayList<>();
+        for (GroupQuery operand : operands) {
+            if (operand.kind == kind) {
+                flattened.addAll(operand.operands);
+            } else {
+                flattened.add(operand);
+            }
+        }
+        return new GroupQuery(kind, 0, Collections.unmodifiableList(flattened));
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case GROUP:
+                return "group " + groupId;
+            case NOT:
+                return "NOT " + operands.get(0);
+            default:
+                return operands.stream().map(GroupQuery::toString)
+                        .collect(Collectors.joining(" " + kind + " ", "(", ")"));
+        }
+    }
+}
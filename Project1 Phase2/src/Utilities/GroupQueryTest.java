@@ -0,0 +1,216 @@
+package Utilities;
+
+import models.ArticleSummary;
+import models.Group;
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p> Title: GroupQueryTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link GroupQuery} class and
+ * {@link HelpArticleDAO#findArticleIds(GroupQuery)}. It validates any, all and none queries,
+ * differences and nested expressions, that the set of all articles is only read for a negation
+ * standing on its own, that the in-memory and in-transaction evaluations agree, and how long a
+ * query over large groups takes.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class GroupQueryTest {
+
+    /**
+     * The main method to execute the GroupQuery tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        GroupQueryTest tester = new GroupQueryTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for GroupQuery.
+     */
+    public void runTests() {
+        System.out.println("Running GroupQuery tests...");
+
+        try {
+            testSetOperators();
+            testUniverseOnlyForNegation();
+            testLargeGroups();
+            DatabaseManager.getInstance().resetDatabase();
+            testDaoQueries();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("GroupQuery tests completed.");
+    }
+
+    /**
+     * A source over fixed sets that counts how often the set of all articles is read.
+     */
+    private static final class MapSource implements GroupQuery.Source {
+        private final Map<Long, ArticleIdSet> groups = new HashMap<>();
+        private final ArticleIdSet all;
+        private int allReads;
+
+        MapSource(ArticleIdSet all) {
+            this.all = all;
+        }
+
+        @Override
+        public ArticleIdSet members(long groupId) {
+            return groups.getOrDefault(groupId, ArticleIdSet.empty());
+        }
+
+        @Override
+        public ArticleIdSet allArticles() {
+            allReads++;
+            return all;
+        }
+    }
+
+    private MapSource sampleSource() {
+        MapSource source = new MapSource(ArticleIdSet.of(1, 2, 3, 4, 5, 6));
+        source.groups.put(1L, ArticleIdSet.of(1, 2, 3));
+        source.groups.put(2L, ArticleIdSet.of(2, 3, 4));
+        source.groups.put(3L, ArticleIdSet.of(3, 5));
+        return source;
+    }
+
+    /**
+     * Tests the results of any, all, none, difference and nested queries.
+     *
+     * @throws SQLException Never thrown by the in-memory source.
+     */
+    public void testSetOperators() throws SQLException {
+        System.out.println("\nTest: Set Operators");
+        MapSource source = sampleSource();
+        boolean any = GroupQuery.inAny(1, 3).evaluate(source).equals(ArticleIdSet.of(1, 2, 3, 5));
+        boolean all = GroupQuery.inAll(1, 2).evaluate(source).equals(ArticleIdSet.of(2, 3));
+        boolean none = GroupQuery.inNone(1, 2).evaluate(source).equals(ArticleIdSet.of(5, 6));
+        boolean difference = GroupQuery.inGroup(1).andNot(GroupQuery.inGroup(2)).evaluate(source).equals(ArticleIdSet.of(1));
+        boolean nested = GroupQuery.inAll(1, 2).or(GroupQuery.inGroup(3).andNot(GroupQuery.inGroup(1)))
+                .evaluate(source).equals(ArticleIdSet.of(2, 3, 5));
+        boolean unknownGroup = GroupQuery.inAll(1, 99).evaluate(source).isEmpty();
+
+        if (any && all && none && difference && nested && unknownGroup) {
+            System.out.println("Passed: Every operator produced the expected articles.");
+        } else {
+            System.out.println("Failed: any=" + any + ", all=" + all + ", none=" + none + ", difference=" + difference +
+                    ", nested=" + nested + ", unknownGroup=" + unknownGroup);
+        }
+    }
+
+    /**
+     * Tests that a negation inside an intersection is applied as a difference without reading
+     * every article.
+     *
+     * @throws SQLException Never thrown by the in-memory source.
+     */
+    public void testUniverseOnlyForNegation() throws SQLException {
+        System.out.println("\nTest: Universe Only For Negation");
+        MapSource source = sampleSource();
+        GroupQuery.inAny(1, 2).andNot(GroupQuery.inGroup(3)).evaluate(source);
+        int afterDifference = source.allReads;
+        GroupQuery.inNone(3).evaluate(source);
+
+        if (afterDifference == 0 && source.allReads == 1) {
+            System.out.println("Passed: All articles were only read for a standalone negation.");
+        } else {
+            System.out.println("Failed: All articles were read " + source.allReads + " time(s).");
+        }
+    }
+
+    /**
+     * Measures a query over three groups of 50,000 articles each.
+     *
+     * @throws SQLException Never thrown by the in-memory source.
+     */
+    public void testLargeGroups() throws SQLException {
+        System.out.println("\nTest: Large Groups");
+        int size = 50_000;
+        long[] evens = new long[size];
+        long[] thirds = new long[size];
+        long[] all = new long[3 * size];
+        for (int i = 0; i < size; i++) {
+            evens[i] = 2L * i;
+            thirds[i] = 3L * i;
+        }
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        MapSource source = new MapSource(ArticleIdSet.of(all));
+        source.groups.put(1L, ArticleIdSet.of(evens));
+        source.groups.put(2L, ArticleIdSet.of(thirds));
+        source.groups.put(3L, ArticleIdSet.of(Arrays.copyOf(all, size)));
+        GroupQuery query = GroupQuery.inAll(1, 2).andNot(GroupQuery.inGroup(3));
+
+        ArticleIdSet result = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            result = query.evaluate(source);
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / 100;
+
+        // Multiples of 6 below 100,000 (both groups) that are not below 50,000 (group 3)
+        if (result.size() == (100_000 - 50_000) / 6 && result.contains(50_004) && !result.contains(49_998)) {
+            System.out.println("Passed: Query over 50,000-article groups took " + String.format("%.2f", millis) + " ms.");
+        } else {
+            System.out.println("Failed: Wrong result size " + result.size());
+        }
+    }
+
+    /**
+     * Tests the DAO methods outside and inside a unit of work.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testDaoQueries() throws SQLException {
+        System.out.println("\nTest: DAO Queries");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        Group a = new Group("query-a");
+        Group b = new Group("query-b");
+        groupDAO.addGroup(a);
+        groupDAO.addGroup(b);
+        HelpArticle[] articles = new HelpArticle[4];
+        for (int i = 0; i < articles.length; i++) {
+            articles[i] = new HelpArticle(0, "Header", "Query " + i, "Description", Arrays.asList("query"),
+                    "Body", Arrays.asList("https://example.com"));
+            helpArticleDAO.addHelpArticle(articles[i]);
+        }
+        helpArticleDAO.associateArticlesWithGroup(a.getId(), Arrays.asList(articles[0].getId(), articles[1].getId()));
+        helpArticleDAO.associateArticlesWithGroup(b.getId(), Arrays.asList(articles[1].getId(), articles[2].getId()));
+
+        GroupQuery onlyA = GroupQuery.inGroup(a.getId()).andNot(GroupQuery.inGroup(b.getId()));
+        GroupQuery neither = GroupQuery.inNone(a.getId(), b.getId());
+        ArticleIdSet inMemory = helpArticleDAO.findArticleIds(onlyA);
+        List<ArticleSummary> neitherInMemory = helpArticleDAO.findArticleSummaries(neither);
+        ArticleIdSet inTransaction;
+        List<ArticleSummary> neitherInTransaction;
+        try (UnitOfWork work = DatabaseManager.getInstance().beginUnitOfWork()) {
+            inTransaction = helpArticleDAO.findArticleIds(onlyA);
+            neitherInTransaction = helpArticleDAO.findArticleSummaries(neither);
+            work.rollback(); // Read only
+        }
+
+        if (inMemory.equals(ArticleIdSet.of(articles[0].getId())) && inMemory.equals(inTransaction) &&
+            neitherInMemory.size() == 1 && neitherInMemory.get(0).getId() == articles[3].getId() &&
+            neitherInTransaction.size() == 1 && "Query 3".equals(neitherInTransaction.get(0).getTitle())) {
+            System.out.println("Passed: In-memory and in-transaction queries agree.");
+        } else {
+            System.out.println("Failed: Queries disagree: " + inMemory + " / " + inTransaction + ", " +
+                    neitherInMemory + " / " + neitherInTransaction);
+        }
+    }
+}
@@ -1,19 +1,39 @@
 package Utilities;
 
+import models.ArticleSummary;
 import models.Group;
 import models.HelpArticle;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p> Title: HelpArticleDAO Class </p>
  * 
  * <p> Description: This class provides Data Access Object (DAO) functionalities for the {@link HelpArticle} entity.
  * It facilitates CRUD (Create, Read, Update, Delete) operations on the HelpArticles table in the database. 
- * Additionally, it manages the associations between help articles and groups through the ArticleGroups table.
+ * Additionally, it manages the associations between help articles and groups through the ArticleGroups table,
+ * and keeps the normalized ArticleKeywords table in step with each article's keywords so that articles can
+ * be found by keyword through an index. Committed changes are forwarded to the shared {@link SearchIndex},
+ * which answers ranked free-text searches, to the {@link ArticleCache} of articles read by ID, and to the
+ * {@link MembershipIndex} that lists a group's articles from memory. When called inside a {@link UnitOfWork},
+ * each method joins its transaction and these are only updated once the unit of work commits.
  * The class interacts with the {@link DatabaseManager} to execute SQL queries and manage help article data.
  * </p>
  * 
@@ -22,16 +42,115 @@ import java.util.List;
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
 public class HelpArticleDAO {
-    private Connection connection;
+    static final String ADD_HELP_ARTICLE_SQL = "INSERT INTO HelpArticles (header, title, shortDescription, keywords, body, referenceLinks) " +
+            "VALUES (?, ?, ?, ?, ?, ?);";
+    static final String GET_ALL_HELP_ARTICLES_SQL = "SELECT * FROM HelpArticles;";
+    static final String GET_HELP_ARTICLE_BY_ID_SQL = "SELECT * FROM HelpArticles WHERE id = ?;";
+    static final String UPDATE_HELP_ARTICLE_SQL = "UPDATE HelpArticles SET header = ?, title = ?, shortDescription = ?, " +
+            "keywords = ?, body = ?, referenceLinks = ? WHERE id = ?;";
+    static final String DELETE_HELP_ARTICLE_SQL = "DELETE FROM HelpArticles WHERE id = ?;";
+    static final String DELETE_ALL_HELP_ARTICLES_SQL = "DELETE FROM HelpArticles;";
+    static final String ASSOCIATE_ARTICLE_WITH_GROUP_SQL = "MERGE INTO ArticleGroups (article_id, group_id) KEY (article_id, group_id) VALUES (?, ?);";
+    static final String DISSOCIATE_ARTICLE_FROM_GROUP_SQL = "DELETE FROM ArticleGroups WHERE article_id = ? AND group_id = ?;";
+    static final String GET_GROUP_MEMBER_IDS_SQL = "SELECT article_id FROM ArticleGroups WHERE group_id = ?;";
+    static final String GET_GROUP_MEMBERS_AMONG_SQL = "SELECT article_id FROM ArticleGroups WHERE group_id = ? AND article_id = ANY(?);";
+    static final String ASSOCIATE_EXISTING_ARTICLE_SQL = "MERGE INTO ArticleGroups (article_id, group_id) KEY (article_id, group_id) " +
+            "SELECT id, ? FROM HelpArticles WHERE id = ?;";
+    static final String GET_ARTICLES_BY_GROUP_ID_SQL = "SELECT ha.* FROM HelpArticles ha " +
+            "JOIN ArticleGroups ag ON ha.id = ag.article_id " +
+            "WHERE ag.group_id = ?;";
+    static final String GET_GROUPS_BY_ARTICLE_ID_SQL = "SELECT g.* FROM Groups g " +
+            "JOIN ArticleGroups ag ON g.id = ag.group_id " +
+            "WHERE ag.article_id = ?;";
+    static final String CLEAR_ASSOCIATIONS_FOR_GROUP_SQL = "DELETE FROM ArticleGroups WHERE group_id = ?;";
+    static final String CLEAR_ASSOCIATIONS_FOR_ARTICLE_SQL = "DELETE FROM ArticleGroups WHERE article_id = ?;";
+    static final String CLEAR_ALL_ASSOCIATIONS_SQL = "DELETE FROM ArticleGroups;";
+    static final String COUNT_ARTICLES_PER_GROUP_SQL = "SELECT group_id, COUNT(*) AS total FROM ArticleGroups GROUP BY group_id;";
+    static final String COUNT_GROUPS_PER_ARTICLE_SQL = "SELECT article_id, COUNT(*) AS total FROM ArticleGroups GROUP BY article_id;";
+    static final String DELETE_KEYWORDS_SQL = "DELETE FROM ArticleKeywords WHERE article_id = ?;";
+    static final String INSERT_KEYWORD_SQL = "INSERT INTO ArticleKeywords (article_id, keyword) VALUES (?, ?);";
+    static final String FIND_ARTICLES_BY_KEYWORD_SQL = "SELECT ha.* FROM ArticleKeywords ak " +
+            "JOIN HelpArticles ha ON ha.id = ak.article_id " +
+            "WHERE ak.keyword = ? ORDER BY ha.id;";
+    static final String FIND_ARTICLES_BY_ALL_KEYWORDS_SQL = "SELECT ha.* FROM HelpArticles ha " +
+            "WHERE ha.id IN (SELECT article_id FROM ArticleKeywords WHERE keyword = ANY(?) " +
+            "GROUP BY article_id HAVING COUNT(*) = ?) ORDER BY ha.id;";
+    static final String STREAM_HELP_ARTICLES_SQL = "SELECT * FROM HelpArticles ORDER BY id;";
+    static final String STREAM_ARTICLES_BY_GROUP_ID_SQL = "SELECT ha.* FROM ArticleGroups ag " +
+            "JOIN HelpArticles ha ON ha.id = ag.article_id " +
+            "WHERE ag.group_id = ? ORDER BY ag.article_id;";
+    static final String ARTICLE_COLUMNS_WITHOUT_BODY = "ha.id, ha.header, ha.title, ha.shortDescription, ha.keywords, ha.referenceLinks";
+    static final String GET_HELP_ARTICLES_PAGE_SQL = "SELECT " + ARTICLE_COLUMNS_WITHOUT_BODY + " FROM HelpArticles ha " +
+            "WHERE ha.id > ? ORDER BY ha.id LIMIT ?;";
+    static final String GET_ARTICLES_BY_GROUP_ID_PAGE_SQL = "SELECT " + ARTICLE_COLUMNS_WITHOUT_BODY + " FROM ArticleGroups ag " +
+            "JOIN HelpArticles ha ON ha.id = ag.article_id " +
+            "WHERE ag.group_id = ? AND ag.article_id > ? ORDER BY ag.article_id LIMIT ?;";
+    static final String GET_ARTICLE_BODY_SQL = "SELECT body FROM HelpArticles WHERE id = ?;";
+    static final String GET_ARTICLE_SUMMARIES_SQL = "SELECT id, title, shortDescription FROM HelpArticles ORDER BY id;";
+    static final String GET_ARTICLE_SUMMARIES_BY_GROUP_ID_SQL = "SELECT ha.id, ha.title, ha.shortDescription FROM ArticleGroups ag " +
+            "JOIN HelpArticles ha ON ha.id = ag.article_id " +
+            "WHERE ag.group_id = ? ORDER BY ag.article_id;";
+    static final String GET_HELP_ARTICLES_BY_IDS_SQL = "SELECT * FROM HelpArticles WHERE id = ANY(?);";
+    static final String GET_ALL_MEMBERSHIPS_SQL = "SELECT group_id, article_id FROM ArticleGroups ORDER BY group_id, article_id;";
+    static final String GET_ALL_ARTICLE_IDS_SQL = "SELECT id AS article_id FROM HelpArticles;";
+    static final String GET_ARTICLE_SUMMARIES_BY_IDS_SQL = "SELECT id, title, shortDescription FROM HelpArticles " +
+            "WHERE id = ANY(?) ORDER BY id;";
+    static final String GET_EXISTING_ARTICLE_IDS_SQL = "SELECT id FROM HelpArticles WHERE id = ANY(?);";
+
+    /** The number of rows fetched per round trip by {@link #streamHelpArticles()}. */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    // Call metrics, one per public method, reported through DaoMetrics.
+    private static final MethodMetrics ADD_HELP_ARTICLE_METRICS = DaoMetrics.register("HelpArticleDAO.addHelpArticle");
+    private static final MethodMetrics ADD_HELP_ARTICLES_METRICS = DaoMetrics.register("HelpArticleDAO.addHelpArticles");
+    private static final MethodMetrics GET_ALL_HELP_ARTICLES_METRICS = DaoMetrics.register("HelpArticleDAO.getAllHelpArticles");
+    private static final MethodMetrics STREAM_HELP_ARTICLES_METRICS = DaoMetrics.register("HelpArticleDAO.streamHelpArticles");
+    private static final MethodMetrics STREAM_ARTICLES_BY_GROUP_ID_METRICS = DaoMetrics.register("HelpArticleDAO.streamArticlesByGroupId");
+    private static final MethodMetrics GET_HELP_ARTICLES_PAGE_METRICS = DaoMetrics.register("HelpArticleDAO.getHelpArticlesPage");
+    private static final MethodMetrics GET_HELP_ARTICLE_BY_ID_METRICS = DaoMetrics.register("HelpArticleDAO.getHelpArticleById");
+    private static final MethodMetrics GET_EXISTING_ARTICLE_IDS_METRICS = DaoMetrics.register("HelpArticleDAO.getExistingArticleIds");
+    private static final MethodMetrics UPDATE_HELP_ARTICLE_METRICS = DaoMetrics.register("HelpArticleDAO.updateHelpArticle");
+    private static final MethodMetrics DELETE_HELP_ARTICLE_METRICS = DaoMetrics.register("HelpArticleDAO.deleteHelpArticle");
+    private static final MethodMetrics DELETE_ALL_HELP_ARTICLES_METRICS = DaoMetrics.register("HelpArticleDAO.deleteAllHelpArticles");
+    private static final MethodMetrics ASSOCIATE_ARTICLE_WITH_GROUP_METRICS = DaoMetrics.register("HelpArticleDAO.associateArticleWithGroup");
+    private static final MethodMetrics DISSOCIATE_ARTICLE_FROM_GROUP_METRICS = DaoMetrics.register("HelpArticleDAO.dissociateArticleFromGroup");
+    private static final MethodMetrics ASSOCIATE_ARTICLES_WITH_GROUP_METRICS = DaoMetrics.register("HelpArticleDAO.associateArticlesWithGroup");
+    private static final MethodMetrics DISSOCIATE_ARTICLES_FROM_GROUP_METRICS = DaoMetrics.register("HelpArticleDAO.dissociateArticlesFromGroup");
+    private static final MethodMetrics SYNC_GROUP_MEMBERSHIP_METRICS = DaoMetrics.register("HelpArticleDAO.syncGroupMembership");
+    private static final MethodMetrics GET_ARTICLES_BY_GROUP_ID_METRICS = DaoMetrics.register("HelpArticleDAO.getArticlesByGroupId");
+    private static final MethodMetrics GET_ARTICLES_BY_GROUP_ID_PAGE_METRICS = DaoMetrics.register("HelpArticleDAO.getArticlesByGroupIdPage");
+    private static final MethodMetrics GET_ARTICLE_SUMMARIES_METRICS = DaoMetrics.register("HelpArticleDAO.getArticleSummaries");
+    private static final MethodMetrics GET_ARTICLE_SUMMARIES_BY_GROUP_ID_METRICS = DaoMetrics.register("HelpArticleDAO.getArticleSummariesByGroupId");
+    private static final MethodMetrics GET_ARTICLE_IDS_BY_GROUP_ID_METRICS = DaoMetrics.register("HelpArticleDAO.getArticleIdsByGroupId");
+    private static final MethodMetrics FIND_ARTICLE_IDS_METRICS = DaoMetrics.register("HelpArticleDAO.findArticleIds");
+    private static final MethodMetrics FIND_ARTICLE_SUMMARIES_METRICS = DaoMetrics.register("HelpArticleDAO.findArticleSummaries");
+    private static final MethodMetrics GET_ARTICLE_BODY_METRICS = DaoMetrics.register("HelpArticleDAO.getArticleBody");
+    private static final MethodMetrics GET_ARTICLE_COUNTS_BY_GROUP_METRICS = DaoMetrics.register("HelpArticleDAO.getArticleCountsByGroup");
+    private static final MethodMetrics GET_GROUP_COUNTS_BY_ARTICLE_METRICS = DaoMetrics.register("HelpArticleDAO.getGroupCountsByArticle");
+    private static final MethodMetrics GET_GROUPS_BY_ARTICLE_ID_METRICS = DaoMetrics.register("HelpArticleDAO.getGroupsByArticleId");
+    private static final MethodMetrics CLEAR_ASSOCIATIONS_FOR_GROUP_METRICS = DaoMetrics.register("HelpArticleDAO.clearAssociationsForGroup");
+    private static final MethodMetrics CLEAR_ASSOCIATIONS_FOR_ARTICLE_METRICS = DaoMetrics.register("HelpArticleDAO.clearAssociationsForArticle");
+    private static final MethodMetrics CLEAR_ALL_ASSOCIATIONS_METRICS = DaoMetrics.register("HelpArticleDAO.clearAllAssociations");
+    private static final MethodMetrics FIND_ARTICLES_BY_KEYWORD_METRICS = DaoMetrics.register("HelpArticleDAO.findArticlesByKeyword");
+    private static final MethodMetrics FIND_ARTICLES_BY_ALL_KEYWORDS_METRICS = DaoMetrics.register("HelpArticleDAO.findArticlesByAllKeywords");
+    private static final MethodMetrics SEARCH_HELP_ARTICLES_METRICS = DaoMetrics.register("HelpArticleDAO.searchHelpArticles");
+
+    private final DatabaseManager databaseManager;
+    private final SearchIndex searchIndex;
+    private final ArticleCache articleCache;
+    private final MembershipIndex membershipIndex;
 
     /**
      * Constructs a HelpArticleDAO instance.
-     * Initializes the database connection using the DatabaseManager.
+     * Obtains the shared DatabaseManager, whose pool supplies a connection to each operation.
      *
      * @throws SQLException If there is an error accessing the database.
      */
     public HelpArticleDAO() throws SQLException {
-        connection = DatabaseManager.getInstance().getConnection();
+        databaseManager = DatabaseManager.getInstance();
+        searchIndex = SearchIndex.getInstance();
+        articleCache = databaseManager.getArticleCache();
+        membershipIndex = databaseManager.getMembershipIndex();
     }
 
     /**
@@ -41,21 +160,123 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void addHelpArticle(HelpArticle article) throws SQLException {
-        String insertSQL = "INSERT INTO HelpArticles (header, title, shortDescription, keywords, body, referenceLinks) " +
-                           "VALUES (?, ?, ?, ?, ?, ?);";
-        try (PreparedStatement pstmt = connection.prepareStatement(insertSQL, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, article.getHeader());
-            pstmt.setString(2, article.getTitle());
-            pstmt.setString(3, article.getShortDescription());
-            pstmt.setString(4, String.join(",", article.getKeywords()));
-            pstmt.setString(5, article.getBody());
-            pstmt.setString(6, String.join(",", article.getReferenceLinks()));
-            pstmt.executeUpdate();
-            try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                if (rs.next()) {
-                    article.setId(rs.getLong(1));
+        long start = System.nanoTime();
+        try {
+            try (Connection connection = databaseManager.borrowConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    try (PreparedStatement pstmt = connection.prepareStatement(ADD_HELP_ARTICLE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                        pstmt.setString(1, article.getHeader());
+                        pstmt.setString(2, article.getTitle());
+                        pstmt.setString(3, article.getShortDescription());
+                        pstmt.setString(4, String.join(",", article.getKeywords()));
+                        pstmt.setString(5, article.getBody());
+                        pstmt.setString(6, String.join(",", article.getReferenceLinks()));
+                        pstmt.executeUpdate();
+                        try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                            if (rs.next()) {
+                                article.setId(rs.getLong(1));
+                            }
+                        }
+                    }
+                    insertKeywords(connection, article.getId(), article.getKeywords());
+                    connection.commit();
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
                 }
             }
+            ArticleSummary summary = summarize(article);
+            databaseManager.afterCommit(() -> {
+                membershipIndex.putSummary(summary);
+                // Skipped until the first search, which loads the index from the table anyway.
+                if (searchIndex.isLoaded()) {
+                    searchIndex.index(article);
+                }
+            });
+            ADD_HELP_ARTICLE_METRICS.wrote(start, 1);
+        } catch (SQLException | RuntimeException ex) {
+            ADD_HELP_ARTICLE_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Adds many help articles in one transaction, inserting the articles with one JDBC batch and
+     * their keywords with another. Each article's ID is set from the generated keys. Either every
+     * article is added or, if the batch fails, none is.
+     *
+     * @param articles The HelpArticle objects to add.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void addHelpArticles(List<HelpArticle> articles) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (articles.isEmpty()) {
+                ADD_HELP_ARTICLES_METRICS.wrote(start, 0);
+                return;
+            }
+            try (Connection connection = databaseManager.borrowConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    try (PreparedStatement pstmt = connection.prepareStatement(ADD_HELP_ARTICLE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                        for (HelpArticle article : articles) {
+                            pstmt.setString(1, article.getHeader());
+                            pstmt.setString(2, article.getTitle());
+                            pstmt.setString(3, article.getShortDescription());
+                            pstmt.setString(4, String.join(",", article.getKeywords()));
+                            pstmt.setString(5, article.getBody());
+                            pstmt.setString(6, String.join(",", article.getReferenceLinks()));
+                            pstmt.addBatch();
+                        }
+                        pstmt.executeBatch();
+                        int index = 0;
+                        try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                            while (rs.next() && index < articles.size()) {
+                                articles.get(index++).setId(rs.getLong(1));
+                            }
+                        }
+                        if (index != articles.size()) {
+                            throw new SQLException("Expected " + articles.size() + " generated keys but received " + index + ".");
+                        }
+                    }
+                    try (PreparedStatement pstmt = connection.prepareStatement(INSERT_KEYWORD_SQL)) {
+                        for (HelpArticle article : articles) {
+                            for (String keyword : normalizeKeywords(article.getKeywords())) {
+                                pstmt.setLong(1, article.getId());
+                                pstmt.setString(2, keyword);
+                                pstmt.addBatch();
+                            }
+                        }
+                        pstmt.executeBatch();
+                    }
+                    connection.commit();
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            }
+
+            List<ArticleSummary> summaries = new ArrayList<>(articles.size());
+            for (HelpArticle article : articles) {
+                summaries.add(summarize(article));
+            }
+            List<HelpArticle> added = new ArrayList<>(articles);
+            databaseManager.afterCommit(() -> {
+                for (ArticleSummary summary : summaries) {
+                    membershipIndex.putSummary(summary);
+                }
+                // Skipped until the first search, which loads the index from the table anyway.
+                if (searchIndex.isLoaded()) {
+                    for (HelpArticle article : added) {
+                        searchIndex.index(article);
+                    }
+                }
+            });
+            ADD_HELP_ARTICLES_METRICS.wrote(start, articles.size());
+        } catch (SQLException | RuntimeException ex) {
+            ADD_HELP_ARTICLES_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -66,27 +287,229 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public List<HelpArticle> getAllHelpArticles() throws SQLException {
-        List<HelpArticle> articles = new ArrayList<>();
-        String selectSQL = "SELECT * FROM HelpArticles;";
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(selectSQL)) {
-            while (rs.next()) {
-                articles.add(extractHelpArticleFromResultSet(rs));
+        long start = System.nanoTime();
+        try {
+            List<HelpArticle> articles = new ArrayList<>();
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_ALL_HELP_ARTICLES_SQL);
+                 ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    articles.add(extractHelpArticleFromResultSet(rs));
+                }
             }
+            return GET_ALL_HELP_ARTICLES_METRICS.read(start, articles);
+        } catch (SQLException | RuntimeException ex) {
+            GET_ALL_HELP_ARTICLES_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Streams every help article in ascending ID order using the default fetch size.
+     *
+     * @return A lazily populated stream that must be closed.
+     * @throws SQLException If the query cannot be started.
+     * @see #streamHelpArticles(int)
+     */
+    public Stream<HelpArticle> streamHelpArticles() throws SQLException {
+        return streamHelpArticles(DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams every help article in ascending ID order. Rows are read from an open ResultSet as
+     * the stream is consumed, and the query runs with H2's lazy execution so that the result is
+     * never materialized; memory use stays the same however many articles exist.
+     *
+     * <p> The stream holds a pooled connection until it is closed, so it must be used in a
+     * try-with-resources block. Database errors raised while iterating are thrown as
+     * {@link UncheckedSQLException}. </p>
+     *
+     * @param fetchSize The number of rows fetched per round trip.
+     * @return A lazily populated stream that must be closed.
+     * @throws SQLException If the query cannot be started.
+     */
+    public Stream<HelpArticle> streamHelpArticles(int fetchSize) throws SQLException {
+        return streamArticles(STREAM_HELP_ARTICLES_SQL, null, fetchSize, STREAM_HELP_ARTICLES_METRICS);
+    }
+
+    /**
+     * Streams the help articles belonging to a group in ascending ID order, bodies included, in
+     * the same way as {@link #streamHelpArticles(int)}: rows are read as the stream is consumed,
+     * so memory use does not grow with the size of the group.
+     *
+     * <p> The stream holds a pooled connection until it is closed, so it must be used in a
+     * try-with-resources block. Database errors raised while iterating are thrown as
+     * {@link UncheckedSQLException}. </p>
+     *
+     * @param groupId   The ID of the group.
+     * @param fetchSize The number of rows fetched per round trip.
+     * @return A lazily populated stream that must be closed.
+     * @throws SQLException If the query cannot be started.
+     */
+    public Stream<HelpArticle> streamArticlesByGroupId(long groupId, int fetchSize) throws SQLException {
+        return streamArticles(STREAM_ARTICLES_BY_GROUP_ID_SQL, groupId, fetchSize, STREAM_ARTICLES_BY_GROUP_ID_METRICS);
+    }
+
+    /**
+     * Opens a lazily executed query and exposes its rows as a stream of help articles.
+     *
+     * @param sql       The query, selecting every column of HelpArticles.
+     * @param groupId   The group ID bound to the query's only parameter, or null if it has none.
+     * @param fetchSize The number of rows fetched per round trip.
+     * @param metrics   The metrics of the public method streaming the articles.
+     * @return A lazily populated stream that must be closed.
+     * @throws SQLException If the query cannot be started.
+     */
+    private Stream<HelpArticle> streamArticles(String sql, Long groupId, int fetchSize, MethodMetrics metrics) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (fetchSize <= 0) {
+                throw new IllegalArgumentException("Fetch size must be positive but was " + fetchSize + ".");
+            }
+            Connection connection = databaseManager.borrowConnection();
+            PreparedStatement pstmt = null;
+            ResultSet rs = null;
+            try {
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute("SET LAZY_QUERY_EXECUTION TRUE");
+                }
+                pstmt = connection.prepareStatement(sql);
+                if (groupId != null) {
+                    pstmt.setLong(1, groupId);
+                }
+                pstmt.setFetchSize(fetchSize);
+                rs = pstmt.executeQuery();
+            } catch (SQLException ex) {
+                closeStream(connection, pstmt, rs);
+                throw ex;
+            }
+
+            ResultSet results = rs;
+            PreparedStatement statement = pstmt;
+            long[] rowCount = new long[1];
+            Spliterator<HelpArticle> rows = new Spliterators.AbstractSpliterator<HelpArticle>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super HelpArticle> action) {
+                    try {
+                        if (!results.next()) {
+                            return false;
+                        }
+                        action.accept(extractHelpArticleFromResultSet(results));
+                        rowCount[0]++;
+                        return true;
+                    } catch (SQLException ex) {
+                        throw new UncheckedSQLException(ex);
+                    }
+                }
+            };
+            // The call is timed up to the first row; the rows are counted as the stream is closed.
+            metrics.read(start, null);
+            return StreamSupport.stream(rows, false).onClose(() -> {
+                metrics.addRowsRead(rowCount[0]);
+                closeStream(connection, statement, results);
+            });
+        } catch (SQLException | RuntimeException ex) {
+            metrics.recordFailure(start);
+            throw ex;
         }
-        return articles;
     }
 
     /**
-     * Retrieves a help article by its ID.
+     * Releases the resources of a stream and returns its connection to the pool.
+     *
+     * @param connection The borrowed connection.
+     * @param pstmt      The statement, or null if it was never prepared.
+     * @param rs         The result set, or null if the query never ran.
+     */
+    private void closeStream(Connection connection, PreparedStatement pstmt, ResultSet rs) {
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+            if (pstmt != null) {
+                pstmt.close();
+            }
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("SET LAZY_QUERY_EXECUTION FALSE");
+            }
+        } catch (SQLException ex) {
+            throw new UncheckedSQLException(ex);
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException ex) {
+                // The pool discards connections it cannot reset.
+            }
+        }
+    }
+
+    /**
+     * Retrieves one page of help articles in ascending ID order. The articles are read without
+     * their bodies, which are loaded on the first call to {@link HelpArticle#getBody()}.
+     *
+     * @param cursor   The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The maximum number of articles on the page.
+     * @return The page of HelpArticles and the cursor of the next page.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Page<HelpArticle> getHelpArticlesPage(String cursor, int pageSize) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Page.checkPageSize(pageSize);
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_HELP_ARTICLES_PAGE_SQL)) {
+                pstmt.setLong(1, Page.decodeCursor(cursor));
+                pstmt.setInt(2, pageSize + 1);
+                return GET_HELP_ARTICLES_PAGE_METRICS.read(start, readArticlePage(pstmt, pageSize));
+            }
+        } catch (SQLException | RuntimeException ex) {
+            GET_HELP_ARTICLES_PAGE_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves a help article by its ID. Articles are served from the shared {@link ArticleCache}
+     * when possible; inside a unit of work the cache is bypassed so that the caller sees its own
+     * uncommitted changes and nothing uncommitted is cached.
      *
      * @param articleId The ID of the help article.
      * @return The HelpArticle object, or null if not found.
      * @throws SQLException If a database access error occurs.
      */
     public HelpArticle getHelpArticleById(long articleId) throws SQLException {
-        String query = "SELECT * FROM HelpArticles WHERE id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        long start = System.nanoTime();
+        try {
+            if (databaseManager.isInUnitOfWork()) {
+                return GET_HELP_ARTICLE_BY_ID_METRICS.read(start, loadHelpArticleById(articleId));
+            }
+            HelpArticle cached = articleCache.get(articleId);
+            if (cached != null) {
+                return GET_HELP_ARTICLE_BY_ID_METRICS.read(start, cached);
+            }
+            long stamp = articleCache.stamp();
+            HelpArticle article = loadHelpArticleById(articleId);
+            if (article != null) {
+                articleCache.put(article, stamp);
+            }
+            return GET_HELP_ARTICLE_BY_ID_METRICS.read(start, article);
+        } catch (SQLException | RuntimeException ex) {
+            GET_HELP_ARTICLE_BY_ID_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads a help article by its ID from the database.
+     *
+     * @param articleId The ID of the help article.
+     * @return The HelpArticle object, or null if not found.
+     * @throws SQLException If a database access error occurs.
+     */
+    private HelpArticle loadHelpArticleById(long articleId) throws SQLException {
+        try (Connection connection = databaseManager.borrowConnection();
+             PreparedStatement pstmt = connection.prepareStatement(GET_HELP_ARTICLE_BY_ID_SQL)) {
             pstmt.setLong(1, articleId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
@@ -98,23 +521,88 @@ public class HelpArticleDAO {
     }
 
     /**
-     * Updates an existing help article in the database.
+     * Determines which of the given articles exist, in one round trip.
+     *
+     * @param articleIds The IDs of the HelpArticles to check.
+     * @return The IDs that belong to an existing article.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Set<Long> getExistingArticleIds(Collection<Long> articleIds) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Set<Long> existing = new HashSet<>();
+            if (articleIds.isEmpty()) {
+                return GET_EXISTING_ARTICLE_IDS_METRICS.read(start, existing);
+            }
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_EXISTING_ARTICLE_IDS_SQL)) {
+                pstmt.setObject(1, new LinkedHashSet<>(articleIds).toArray());
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(rs.getLong("id"));
+                    }
+                }
+            }
+            return GET_EXISTING_ARTICLE_IDS_METRICS.read(start, existing);
+        } catch (SQLException | RuntimeException ex) {
+            GET_EXISTING_ARTICLE_IDS_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Updates an existing help article in the database. If no article has the given ID, nothing
+     * is changed.
      *
      * @param article The HelpArticle object with updated information.
      * @throws SQLException If a database access error occurs.
      */
     public void updateHelpArticle(HelpArticle article) throws SQLException {
-        String updateSQL = "UPDATE HelpArticles SET header = ?, title = ?, shortDescription = ?, " +
-                           "keywords = ?, body = ?, referenceLinks = ? WHERE id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(updateSQL)) {
-            pstmt.setString(1, article.getHeader());
-            pstmt.setString(2, article.getTitle());
-            pstmt.setString(3, article.getShortDescription());
-            pstmt.setString(4, String.join(",", article.getKeywords()));
-            pstmt.setString(5, article.getBody());
-            pstmt.setString(6, String.join(",", article.getReferenceLinks()));
-            pstmt.setLong(7, article.getId());
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    try (PreparedStatement pstmt = connection.prepareStatement(UPDATE_HELP_ARTICLE_SQL)) {
+                        pstmt.setString(1, article.getHeader());
+                        pstmt.setString(2, article.getTitle());
+                        pstmt.setString(3, article.getShortDescription());
+                        pstmt.setString(4, String.join(",", article.getKeywords()));
+                        pstmt.setString(5, article.getBody());
+                        pstmt.setString(6, String.join(",", article.getReferenceLinks()));
+                        pstmt.setLong(7, article.getId());
+                        rows = pstmt.executeUpdate();
+                    }
+                    if (rows == 0) {
+                        // No such article: nothing to update, and nothing to put in the caches.
+                        connection.rollback();
+                        UPDATE_HELP_ARTICLE_METRICS.wrote(start, rows);
+                        return;
+                    }
+                    try (PreparedStatement pstmt = connection.prepareStatement(DELETE_KEYWORDS_SQL)) {
+                        pstmt.setLong(1, article.getId());
+                        pstmt.executeUpdate();
+                    }
+                    insertKeywords(connection, article.getId(), article.getKeywords());
+                    connection.commit();
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            }
+            ArticleSummary summary = summarize(article);
+            databaseManager.afterCommit(() -> {
+                articleCache.invalidate(article.getId());
+                membershipIndex.putSummary(summary);
+                if (searchIndex.isLoaded()) {
+                    searchIndex.index(article);
+                }
+            });
+            UPDATE_HELP_ARTICLE_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            UPDATE_HELP_ARTICLE_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -125,10 +613,23 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void deleteHelpArticle(long articleId) throws SQLException {
-        String deleteSQL = "DELETE FROM HelpArticles WHERE id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSQL)) {
-            pstmt.setLong(1, articleId);
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(DELETE_HELP_ARTICLE_SQL)) {
+                pstmt.setLong(1, articleId);
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> {
+                articleCache.invalidate(articleId);
+                membershipIndex.removeArticle(articleId);
+                searchIndex.remove(articleId);
+            });
+            DELETE_HELP_ARTICLE_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            DELETE_HELP_ARTICLE_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -138,9 +639,22 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void deleteAllHelpArticles() throws SQLException {
-        String deleteSQL = "DELETE FROM HelpArticles;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSQL)) {
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(DELETE_ALL_HELP_ARTICLES_SQL)) {
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> {
+                articleCache.invalidateAll();
+                membershipIndex.clearArticles();
+                searchIndex.clear();
+            });
+            DELETE_ALL_HELP_ARTICLES_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            DELETE_ALL_HELP_ARTICLES_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -152,11 +666,20 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void associateArticleWithGroup(long articleId, long groupId) throws SQLException {
-        String insertAssociationSQL = "MERGE INTO ArticleGroups (article_id, group_id) KEY (article_id, group_id) VALUES (?, ?);";
-        try (PreparedStatement pstmt = connection.prepareStatement(insertAssociationSQL)) {
-            pstmt.setLong(1, articleId);
-            pstmt.setLong(2, groupId);
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(ASSOCIATE_ARTICLE_WITH_GROUP_SQL)) {
+                pstmt.setLong(1, articleId);
+                pstmt.setLong(2, groupId);
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> membershipIndex.addMembers(groupId, Collections.singleton(articleId)));
+            ASSOCIATE_ARTICLE_WITH_GROUP_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            ASSOCIATE_ARTICLE_WITH_GROUP_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -168,11 +691,232 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void dissociateArticleFromGroup(long articleId, long groupId) throws SQLException {
-        String deleteAssociationSQL = "DELETE FROM ArticleGroups WHERE article_id = ? AND group_id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteAssociationSQL)) {
-            pstmt.setLong(1, articleId);
-            pstmt.setLong(2, groupId);
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(DISSOCIATE_ARTICLE_FROM_GROUP_SQL)) {
+                pstmt.setLong(1, articleId);
+                pstmt.setLong(2, groupId);
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> membershipIndex.removeMembers(groupId, Collections.singleton(articleId)));
+            DISSOCIATE_ARTICLE_FROM_GROUP_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            DISSOCIATE_ARTICLE_FROM_GROUP_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Adds many articles to a group in one transaction. The current members among the given
+     * articles are read with one query, and the rest are inserted with one JDBC batch; articles
+     * that do not exist are skipped and reported. Either every change is committed or, if the
+     * batch fails (for example because the group does not exist), none is.
+     *
+     * @param groupId    The ID of the Group.
+     * @param articleIds The IDs of the HelpArticles to add; duplicates are ignored.
+     * @return The outcome for each article: ADDED, ALREADY_PRESENT or ARTICLE_NOT_FOUND.
+     * @throws SQLException If a database access error occurs.
+     */
+    public AssociationResult associateArticlesWithGroup(long groupId, Collection<Long> articleIds) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            LinkedHashMap<Long, AssociationResult.Outcome> outcomes = new LinkedHashMap<>();
+            Set<Long> ids = new LinkedHashSet<>(articleIds);
+            if (ids.isEmpty()) {
+                return ASSOCIATE_ARTICLES_WITH_GROUP_METRICS.wrote(start, new AssociationResult(groupId, outcomes));
+            }
+
+            try (Connection connection = databaseManager.borrowConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    Set<Long> members = new HashSet<>();
+                    try (PreparedStatement pstmt = connection.prepareStatement(GET_GROUP_MEMBERS_AMONG_SQL)) {
+                        pstmt.setLong(1, groupId);
+                        pstmt.setObject(2, ids.toArray());
+                        try (ResultSet rs = pstmt.executeQuery()) {
+                            while (rs.next()) {
+                                members.add(rs.getLong("article_id"));
+                            }
+                        }
+                    }
+                    addMembers(connection, groupId, ids, members, outcomes);
+                    connection.commit();
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            }
+            return ASSOCIATE_ARTICLES_WITH_GROUP_METRICS.wrote(start, indexMembershipChanges(new AssociationResult(groupId, outcomes)));
+        } catch (SQLException | RuntimeException ex) {
+            ASSOCIATE_ARTICLES_WITH_GROUP_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Removes many articles from a group in one transaction with one JDBC batch.
+     *
+     * @param groupId    The ID of the Group.
+     * @param articleIds The IDs of the HelpArticles to remove; duplicates are ignored.
+     * @return The outcome for each article: REMOVED, or NOT_PRESENT if it was not in the group.
+     * @throws SQLException If a database access error occurs.
+     */
+    public AssociationResult dissociateArticlesFromGroup(long groupId, Collection<Long> articleIds) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            LinkedHashMap<Long, AssociationResult.Outcome> outcomes = new LinkedHashMap<>();
+            Set<Long> ids = new LinkedHashSet<>(articleIds);
+            if (ids.isEmpty()) {
+                return DISSOCIATE_ARTICLES_FROM_GROUP_METRICS.wrote(start, new AssociationResult(groupId, outcomes));
+            }
+
+            try (Connection connection = databaseManager.borrowConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    removeMembers(connection, groupId, ids, outcomes);
+                    connection.commit();
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            }
+            return DISSOCIATE_ARTICLES_FROM_GROUP_METRICS.wrote(start, indexMembershipChanges(new AssociationResult(groupId, outcomes)));
+        } catch (SQLException | RuntimeException ex) {
+            DISSOCIATE_ARTICLES_FROM_GROUP_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Makes the given articles the exact membership of a group. The current members are read
+     * once, and only the difference is written: articles missing from the group are added and
+     * members not in the given set are removed, each with one JDBC batch, in one transaction.
+     * Articles that are already members are not touched.
+     *
+     * @param groupId    The ID of the Group.
+     * @param articleIds The IDs of every HelpArticle that should belong to the group.
+     * @return The outcome for each article: ADDED, ALREADY_PRESENT or ARTICLE_NOT_FOUND for the
+     *         given articles, followed by REMOVED for former members.
+     * @throws SQLException If a database access error occurs.
+     */
+    public AssociationResult syncGroupMembership(long groupId, Collection<Long> articleIds) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            LinkedHashMap<Long, AssociationResult.Outcome> outcomes = new LinkedHashMap<>();
+            Set<Long> desired = new LinkedHashSet<>(articleIds);
+
+            try (Connection connection = databaseManager.borrowConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    Set<Long> members = new HashSet<>();
+                    try (PreparedStatement pstmt = connection.prepareStatement(GET_GROUP_MEMBER_IDS_SQL)) {
+                        pstmt.setLong(1, groupId);
+                        try (ResultSet rs = pstmt.executeQuery()) {
+                            while (rs.next()) {
+                                members.add(rs.getLong("article_id"));
+                            }
+                        }
+                    }
+
+                    Set<Long> removed = new LinkedHashSet<>(members);
+                    removed.removeAll(desired);
+                    addMembers(connection, groupId, desired, members, outcomes);
+                    removeMembers(connection, groupId, removed, outcomes);
+                    connection.commit();
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            }
+            return SYNC_GROUP_MEMBERSHIP_METRICS.wrote(start, indexMembershipChanges(new AssociationResult(groupId, outcomes)));
+        } catch (SQLException | RuntimeException ex) {
+            SYNC_GROUP_MEMBERSHIP_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Forwards the memberships a bulk call added or removed to the {@link MembershipIndex} once
+     * they are committed.
+     *
+     * @param result The outcome of the bulk call.
+     * @return The same result.
+     */
+    private AssociationResult indexMembershipChanges(AssociationResult result) {
+        Set<Long> added = new HashSet<>(result.getArticleIds(AssociationResult.Outcome.ADDED));
+        Set<Long> removed = new HashSet<>(result.getArticleIds(AssociationResult.Outcome.REMOVED));
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            databaseManager.afterCommit(() -> {
+                membershipIndex.addMembers(result.getGroupId(), added);
+                membershipIndex.removeMembers(result.getGroupId(), removed);
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Adds the articles that are not yet members with one batch and records each outcome.
+     *
+     * @param connection The connection of the surrounding transaction.
+     * @param groupId    The ID of the Group.
+     * @param articleIds The articles that should be members, in request order.
+     * @param members    The articles already in the group.
+     * @param outcomes   Receives the outcome of each article.
+     * @throws SQLException If a database access error occurs.
+     */
+    private void addMembers(Connection connection, long groupId, Set<Long> articleIds, Set<Long> members,
+                            Map<Long, AssociationResult.Outcome> outcomes) throws SQLException {
+        List<Long> batched = new ArrayList<>();
+        try (PreparedStatement pstmt = connection.prepareStatement(ASSOCIATE_EXISTING_ARTICLE_SQL)) {
+            for (Long articleId : articleIds) {
+                if (members.contains(articleId)) {
+                    outcomes.put(articleId, AssociationResult.Outcome.ALREADY_PRESENT);
+                } else {
+                    outcomes.put(articleId, null);
+                    pstmt.setLong(1, groupId);
+                    pstmt.setLong(2, articleId);
+                    pstmt.addBatch();
+                    batched.add(articleId);
+                }
+            }
+            if (!batched.isEmpty()) {
+                int[] counts = pstmt.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    outcomes.put(batched.get(i), counts[i] == 0
+                            ? AssociationResult.Outcome.ARTICLE_NOT_FOUND : AssociationResult.Outcome.ADDED);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes articles from a group with one batch and records each outcome.
+     *
+     * @param connection The connection of the surrounding transaction.
+     * @param groupId    The ID of the Group.
+     * @param articleIds The articles to remove.
+     * @param outcomes   Receives the outcome of each article.
+     * @throws SQLException If a database access error occurs.
+     */
+    private void removeMembers(Connection connection, long groupId, Set<Long> articleIds,
+                               Map<Long, AssociationResult.Outcome> outcomes) throws SQLException {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(articleIds);
+        try (PreparedStatement pstmt = connection.prepareStatement(DISSOCIATE_ARTICLE_FROM_GROUP_SQL)) {
+            for (Long articleId : ids) {
+                pstmt.setLong(1, articleId);
+                pstmt.setLong(2, groupId);
+                pstmt.addBatch();
+            }
+            int[] counts = pstmt.executeBatch();
+            for (int i = 0; i < counts.length; i++) {
+                outcomes.put(ids.get(i), counts[i] == 0
+                        ? AssociationResult.Outcome.NOT_PRESENT : AssociationResult.Outcome.REMOVED);
+            }
         }
     }
 
@@ -184,19 +928,385 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public List<HelpArticle> getArticlesByGroupId(long groupId) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            List<HelpArticle> articles = new ArrayList<>();
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_ARTICLES_BY_GROUP_ID_SQL)) {
+                pstmt.setLong(1, groupId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        articles.add(extractHelpArticleFromResultSet(rs));
+                    }
+                }
+            }
+            return GET_ARTICLES_BY_GROUP_ID_METRICS.read(start, articles);
+        } catch (SQLException | RuntimeException ex) {
+            GET_ARTICLES_BY_GROUP_ID_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves one page of the HelpArticles belonging to a group, in ascending ID order. The
+     * articles are read without their bodies, which are loaded on first access.
+     *
+     * @param groupId  The ID of the group.
+     * @param cursor   The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The maximum number of articles on the page.
+     * @return The page of HelpArticles and the cursor of the next page.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Page<HelpArticle> getArticlesByGroupIdPage(long groupId, String cursor, int pageSize) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Page.checkPageSize(pageSize);
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_ARTICLES_BY_GROUP_ID_PAGE_SQL)) {
+                pstmt.setLong(1, groupId);
+                pstmt.setLong(2, Page.decodeCursor(cursor));
+                pstmt.setInt(3, pageSize + 1);
+                return GET_ARTICLES_BY_GROUP_ID_PAGE_METRICS.read(start, readArticlePage(pstmt, pageSize));
+            }
+        } catch (SQLException | RuntimeException ex) {
+            GET_ARTICLES_BY_GROUP_ID_PAGE_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads a page of articles from a query that was asked for one row more than the page size;
+     * the extra row only signals that another page follows.
+     *
+     * @param pstmt    The prepared page query.
+     * @param pageSize The number of articles on a full page.
+     * @return The page.
+     * @throws SQLException If a database access error occurs.
+     */
+    private Page<HelpArticle> readArticlePage(PreparedStatement pstmt, int pageSize) throws SQLException {
         List<HelpArticle> articles = new ArrayList<>();
-        String query = "SELECT ha.* FROM HelpArticles ha " +
-                       "JOIN ArticleGroups ag ON ha.id = ag.article_id " +
-                       "WHERE ag.group_id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
-            pstmt.setLong(1, groupId);
-            try (ResultSet rs = pstmt.executeQuery()) {
+        boolean more = false;
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                if (articles.size() == pageSize) {
+                    more = true;
+                    break;
+                }
+                articles.add(extractHelpArticleWithoutBody(rs));
+            }
+        }
+        String next = more ? Page.encodeCursor(articles.get(articles.size() - 1).getId()) : null;
+        return new Page<>(articles, next);
+    }
+
+    /**
+     * Retrieves the ID, title and short description of every help article, without reading the
+     * article bodies.
+     *
+     * @return The article summaries in ascending ID order.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<ArticleSummary> getArticleSummaries() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_ARTICLE_SUMMARIES_SQL)) {
+                return GET_ARTICLE_SUMMARIES_METRICS.read(start, readSummaries(pstmt));
+            }
+        } catch (SQLException | RuntimeException ex) {
+            GET_ARTICLE_SUMMARIES_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves the ID, title and short description of the help articles belonging to a group,
+     * without reading the article bodies. Outside a unit of work the summaries are served from
+     * the shared {@link MembershipIndex}, so switching between groups costs no query.
+     *
+     * @param groupId The ID of the group.
+     * @return The article summaries in ascending ID order.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<ArticleSummary> getArticleSummariesByGroupId(long groupId) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!databaseManager.isInUnitOfWork()) {
+                return GET_ARTICLE_SUMMARIES_BY_GROUP_ID_METRICS.read(start,
+                        membershipIndex.read(this::loadMembershipIndex, index -> index.getSummaries(groupId)));
+            }
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_ARTICLE_SUMMARIES_BY_GROUP_ID_SQL)) {
+                pstmt.setLong(1, groupId);
+                return GET_ARTICLE_SUMMARIES_BY_GROUP_ID_METRICS.read(start, readSummaries(pstmt));
+            }
+        } catch (SQLException | RuntimeException ex) {
+            GET_ARTICLE_SUMMARIES_BY_GROUP_ID_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves the IDs of the help articles belonging to a group. Outside a unit of work the IDs
+     * are served from the shared {@link MembershipIndex}.
+     *
+     * @param groupId The ID of the group.
+     * @return The article IDs.
+     * @throws SQLException If a database access error occurs.
+     */
+    public ArticleIdSet getArticleIdsByGroupId(long groupId) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!databaseManager.isInUnitOfWork()) {
+                return GET_ARTICLE_IDS_BY_GROUP_ID_METRICS.read(start,
+                        membershipIndex.read(this::loadMembershipIndex, index -> index.getMembers(groupId)));
+            }
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_GROUP_MEMBER_IDS_SQL)) {
+                pstmt.setLong(1, groupId);
+                return GET_ARTICLE_IDS_BY_GROUP_ID_METRICS.read(start, readArticleIds(pstmt));
+            }
+        } catch (SQLException | RuntimeException ex) {
+            GET_ARTICLE_IDS_BY_GROUP_ID_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves the IDs of the help articles matching a boolean expression over group membership,
+     * for example the articles in group A and group B but not in group C. Outside a unit of work
+     * the query is evaluated in memory against the shared {@link MembershipIndex}; inside one, the
+     * members of each group involved are read from the database.
+     *
+     * @param query The membership query.
+     * @return The matching article IDs.
+     * @throws SQLException If a database access error occurs.
+     */
+    public ArticleIdSet findArticleIds(GroupQuery query) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!databaseManager.isInUnitOfWork()) {
+                return FIND_ARTICLE_IDS_METRICS.read(start,
+                        membershipIndex.read(this::loadMembershipIndex, index -> index.find(query)));
+            }
+            return FIND_ARTICLE_IDS_METRICS.read(start, query.evaluate(new GroupQuery.Source() {
+                @Override
+                public ArticleIdSet members(long groupId) throws SQLException {
+                    return getArticleIdsByGroupId(groupId);
+                }
+
+                @Override
+                public ArticleIdSet allArticles() throws SQLException {
+                    try (Connection connection = databaseManager.borrowConnection();
+                         PreparedStatement pstmt = connection.prepareStatement(GET_ALL_ARTICLE_IDS_SQL)) {
+                        return readArticleIds(pstmt);
+                    }
+                }
+            }));
+        } catch (SQLException | RuntimeException ex) {
+            FIND_ARTICLE_IDS_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves the ID, title and short description of the help articles matching a boolean
+     * expression over group membership, without reading the article bodies.
+     *
+     * @param query The membership query.
+     * @return The article summaries in ascending ID order.
+     * @throws SQLException If a database access error occurs.
+     * @see #findArticleIds(GroupQuery)
+     */
+    public List<ArticleSummary> findArticleSummaries(GroupQuery query) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!databaseManager.isInUnitOfWork()) {
+                // Matched and summarized against the same loaded index.
+                return FIND_ARTICLE_SUMMARIES_METRICS.read(start,
+                        membershipIndex.read(this::loadMembershipIndex, index -> index.getSummaries(index.find(query))));
+            }
+            ArticleIdSet ids = findArticleIds(query);
+            if (ids.isEmpty()) {
+                return FIND_ARTICLE_SUMMARIES_METRICS.read(start, new ArrayList<>());
+            }
+            long[] idArray = ids.toArray();
+            Object[] values = new Object[idArray.length];
+            for (int i = 0; i < idArray.length; i++) {
+                values[i] = idArray[i];
+            }
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_ARTICLE_SUMMARIES_BY_IDS_SQL)) {
+                pstmt.setObject(1, values);
+                return FIND_ARTICLE_SUMMARIES_METRICS.read(start, readSummaries(pstmt));
+            }
+        } catch (SQLException | RuntimeException ex) {
+            FIND_ARTICLE_SUMMARIES_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves the body of a help article.
+     *
+     * @param articleId The ID of the help article.
+     * @return The body content, or null if the article does not exist.
+     * @throws SQLException If a database access error occurs.
+     */
+    public String getArticleBody(long articleId) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_ARTICLE_BODY_SQL)) {
+                pstmt.setLong(1, articleId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return GET_ARTICLE_BODY_METRICS.read(start, rs.next() ? rs.getString("body") : null);
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            GET_ARTICLE_BODY_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads article summaries from a prepared summary query.
+     *
+     * @param pstmt The prepared query selecting id, title and shortDescription.
+     * @return The summaries in result order.
+     * @throws SQLException If a database access error occurs.
+     */
+    private List<ArticleSummary> readSummaries(PreparedStatement pstmt) throws SQLException {
+        List<ArticleSummary> summaries = new ArrayList<>();
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                summaries.add(new ArticleSummary(rs.getLong("id"), rs.getString("title"), rs.getString("shortDescription")));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Reads the article IDs selected by a prepared query into a set.
+     *
+     * @param pstmt The prepared query selecting article_id.
+     * @return The article IDs.
+     * @throws SQLException If a database access error occurs.
+     */
+    private ArticleIdSet readArticleIds(PreparedStatement pstmt) throws SQLException {
+        long[] ids = new long[16];
+        int size = 0;
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size++] = rs.getLong("article_id");
+            }
+        }
+        return ArticleIdSet.fromArray(ids, size);
+    }
+
+    /**
+     * Fills the {@link MembershipIndex} with every committed summary and membership, read on one
+     * connection that ignores any unit of work active on this thread.
+     *
+     * @param summaries Receives the summary of every article.
+     * @param members   Receives the article IDs of every group.
+     * @throws SQLException If a database access error occurs.
+     */
+    private void loadMembershipIndex(Map<Long, ArticleSummary> summaries, Map<Long, ArticleIdSet> members) throws SQLException {
+        try (Connection connection = databaseManager.borrowCommittedConnection()) {
+            try (PreparedStatement pstmt = connection.prepareStatement(GET_ARTICLE_SUMMARIES_SQL)) {
+                for (ArticleSummary summary : readSummaries(pstmt)) {
+                    summaries.put(summary.getId(), summary);
+                }
+            }
+            try (PreparedStatement pstmt = connection.prepareStatement(GET_ALL_MEMBERSHIPS_SQL);
+                 ResultSet rs = pstmt.executeQuery()) {
+                long groupId = 0;
+                long[] ids = new long[16];
+                int size = 0;
                 while (rs.next()) {
-                    articles.add(extractHelpArticleFromResultSet(rs));
+                    long rowGroupId = rs.getLong("group_id");
+                    if (size > 0 && rowGroupId != groupId) {
+                        members.put(groupId, ArticleIdSet.fromArray(ids, size));
+                        ids = new long[16];
+                        size = 0;
+                    }
+                    groupId = rowGroupId;
+                    if (size == ids.length) {
+                        ids = Arrays.copyOf(ids, size * 2);
+                    }
+                    ids[size++] = rs.getLong("article_id");
+                }
+                if (size > 0) {
+                    members.put(groupId, ArticleIdSet.fromArray(ids, size));
                 }
             }
         }
-        return articles;
+    }
+
+    /**
+     * Creates the summary of an article as it is being written.
+     *
+     * @param article The article.
+     * @return Its summary.
+     */
+    private static ArticleSummary summarize(HelpArticle article) {
+        return new ArticleSummary(article.getId(), article.getTitle(), article.getShortDescription());
+    }
+
+    /**
+     * Counts the articles in every group with one aggregate query.
+     *
+     * @return The number of articles keyed by group ID; groups without articles are absent.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Map<Long, Integer> getArticleCountsByGroup() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return GET_ARTICLE_COUNTS_BY_GROUP_METRICS.read(start, readCounts(COUNT_ARTICLES_PER_GROUP_SQL, "group_id"));
+        } catch (SQLException | RuntimeException ex) {
+            GET_ARTICLE_COUNTS_BY_GROUP_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Counts the groups of every article with one aggregate query.
+     *
+     * @return The number of groups keyed by article ID; articles in no group are absent.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Map<Long, Integer> getGroupCountsByArticle() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return GET_GROUP_COUNTS_BY_ARTICLE_METRICS.read(start, readCounts(COUNT_GROUPS_PER_ARTICLE_SQL, "article_id"));
+        } catch (SQLException | RuntimeException ex) {
+            GET_GROUP_COUNTS_BY_ARTICLE_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs an aggregate query returning a key column and a {@code total} column.
+     *
+     * @param sql       The aggregate query.
+     * @param keyColumn The name of the key column.
+     * @return The totals keyed by the key column.
+     * @throws SQLException If a database access error occurs.
+     */
+    private Map<Long, Integer> readCounts(String sql, String keyColumn) throws SQLException {
+        Map<Long, Integer> counts = new HashMap<>();
+        try (Connection connection = databaseManager.borrowConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                counts.put(rs.getLong(keyColumn), rs.getInt("total"));
+            }
+        }
+        return counts;
     }
 
     /**
@@ -207,22 +1317,26 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public List<Group> getGroupsByArticleId(long articleId) throws SQLException {
-        List<Group> groups = new ArrayList<>();
-        String query = "SELECT g.* FROM Groups g " +
-                       "JOIN ArticleGroups ag ON g.id = ag.group_id " +
-                       "WHERE ag.article_id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
-            pstmt.setLong(1, articleId);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    Group group = new Group();
-                    group.setId(rs.getLong("id"));
-                    group.setName(rs.getString("name"));
-                    groups.add(group);
+        long start = System.nanoTime();
+        try {
+            List<Group> groups = new ArrayList<>();
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_GROUPS_BY_ARTICLE_ID_SQL)) {
+                pstmt.setLong(1, articleId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        Group group = new Group();
+                        group.setId(rs.getLong("id"));
+                        group.setName(rs.getString("name"));
+                        groups.add(group);
+                    }
                 }
             }
+            return GET_GROUPS_BY_ARTICLE_ID_METRICS.read(start, groups);
+        } catch (SQLException | RuntimeException ex) {
+            GET_GROUPS_BY_ARTICLE_ID_METRICS.recordFailure(start);
+            throw ex;
         }
-        return groups;
     }
 
     /**
@@ -232,10 +1346,19 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void clearAssociationsForGroup(long groupId) throws SQLException {
-        String deleteSQL = "DELETE FROM ArticleGroups WHERE group_id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSQL)) {
-            pstmt.setLong(1, groupId);
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(CLEAR_ASSOCIATIONS_FOR_GROUP_SQL)) {
+                pstmt.setLong(1, groupId);
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> membershipIndex.removeGroup(groupId));
+            CLEAR_ASSOCIATIONS_FOR_GROUP_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            CLEAR_ASSOCIATIONS_FOR_GROUP_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -246,10 +1369,19 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void clearAssociationsForArticle(long articleId) throws SQLException {
-        String deleteSQL = "DELETE FROM ArticleGroups WHERE article_id = ?;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSQL)) {
-            pstmt.setLong(1, articleId);
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(CLEAR_ASSOCIATIONS_FOR_ARTICLE_SQL)) {
+                pstmt.setLong(1, articleId);
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(() -> membershipIndex.removeArticleFromGroups(articleId));
+            CLEAR_ASSOCIATIONS_FOR_ARTICLE_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            CLEAR_ASSOCIATIONS_FOR_ARTICLE_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
@@ -259,12 +1391,194 @@ public class HelpArticleDAO {
      * @throws SQLException If a database access error occurs.
      */
     public void clearAllAssociations() throws SQLException {
-        String deleteSQL = "DELETE FROM ArticleGroups;";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSQL)) {
-            pstmt.executeUpdate();
+        long start = System.nanoTime();
+        try {
+            int rows;
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(CLEAR_ALL_ASSOCIATIONS_SQL)) {
+                rows = pstmt.executeUpdate();
+            }
+            databaseManager.afterCommit(membershipIndex::clearMemberships);
+            CLEAR_ALL_ASSOCIATIONS_METRICS.wrote(start, rows);
+        } catch (SQLException | RuntimeException ex) {
+            CLEAR_ALL_ASSOCIATIONS_METRICS.recordFailure(start);
+            throw ex;
         }
     }
 
+    /**
+     * Retrieves the help articles tagged with a keyword. Matching ignores case and surrounding
+     * whitespace and is answered from the ArticleKeywords index.
+     *
+     * @param keyword The keyword to look up.
+     * @return The matching HelpArticles ordered by ID, or an empty list if the keyword is blank.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<HelpArticle> findArticlesByKeyword(String keyword) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            List<HelpArticle> articles = new ArrayList<>();
+            List<String> normalized = normalizeKeywords(Collections.singletonList(keyword));
+            if (normalized.isEmpty()) {
+                return FIND_ARTICLES_BY_KEYWORD_METRICS.read(start, articles);
+            }
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(FIND_ARTICLES_BY_KEYWORD_SQL)) {
+                pstmt.setString(1, normalized.get(0));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        articles.add(extractHelpArticleFromResultSet(rs));
+                    }
+                }
+            }
+            return FIND_ARTICLES_BY_KEYWORD_METRICS.read(start, articles);
+        } catch (SQLException | RuntimeException ex) {
+            FIND_ARTICLES_BY_KEYWORD_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retrieves the help articles tagged with every one of the given keywords. Matching ignores
+     * case and surrounding whitespace and is answered from the ArticleKeywords index.
+     *
+     * @param keywords The keywords that must all be present.
+     * @return The matching HelpArticles ordered by ID, or an empty list if no keyword is given.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<HelpArticle> findArticlesByAllKeywords(Collection<String> keywords) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            List<HelpArticle> articles = new ArrayList<>();
+            List<String> normalized = normalizeKeywords(keywords);
+            if (normalized.isEmpty()) {
+                return FIND_ARTICLES_BY_ALL_KEYWORDS_METRICS.read(start, articles);
+            }
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(FIND_ARTICLES_BY_ALL_KEYWORDS_SQL)) {
+                pstmt.setObject(1, normalized.toArray());
+                pstmt.setInt(2, normalized.size());
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        articles.add(extractHelpArticleFromResultSet(rs));
+                    }
+                }
+            }
+            return FIND_ARTICLES_BY_ALL_KEYWORDS_METRICS.read(start, articles);
+        } catch (SQLException | RuntimeException ex) {
+            FIND_ARTICLES_BY_ALL_KEYWORDS_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Searches the header, title, short description, keywords and body of every article and
+     * returns the best matches. The search index is loaded from the database on first use.
+     *
+     * @param query The free-text query.
+     * @param limit The maximum number of articles to return.
+     * @return The matching HelpArticles, most relevant first.
+     * @throws SQLException If a database access error occurs.
+     */
+    public List<HelpArticle> searchHelpArticles(String query, int limit) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            searchIndex.ensureLoaded(this::getCommittedHelpArticles);
+            List<SearchIndex.SearchResult> results = searchIndex.search(query, limit);
+            if (results.isEmpty()) {
+                return SEARCH_HELP_ARTICLES_METRICS.read(start, new ArrayList<>());
+            }
+
+            Object[] ids = new Object[results.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = results.get(i).getArticleId();
+            }
+            Map<Long, HelpArticle> byId = new HashMap<>();
+            try (Connection connection = databaseManager.borrowConnection();
+                 PreparedStatement pstmt = connection.prepareStatement(GET_HELP_ARTICLES_BY_IDS_SQL)) {
+                pstmt.setObject(1, ids);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        HelpArticle article = extractHelpArticleFromResultSet(rs);
+                        byId.put(article.getId(), article);
+                    }
+                }
+            }
+
+            List<HelpArticle> articles = new ArrayList<>();
+            for (SearchIndex.SearchResult result : results) {
+                HelpArticle article = byId.get(result.getArticleId());
+                if (article != null) {
+                    articles.add(article);
+                }
+            }
+            return SEARCH_HELP_ARTICLES_METRICS.read(start, articles);
+        } catch (SQLException | RuntimeException ex) {
+            SEARCH_HELP_ARTICLES_METRICS.recordFailure(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads every help article as committed, ignoring any unit of work active on this thread, so
+     * that the shared search index never holds changes that may still be rolled back.
+     *
+     * @return All committed HelpArticles.
+     * @throws SQLException If a database access error occurs.
+     */
+    private List<HelpArticle> getCommittedHelpArticles() throws SQLException {
+        List<HelpArticle> articles = new ArrayList<>();
+        try (Connection connection = databaseManager.borrowCommittedConnection();
+             PreparedStatement pstmt = connection.prepareStatement(GET_ALL_HELP_ARTICLES_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                articles.add(extractHelpArticleFromResultSet(rs));
+            }
+        }
+        return articles;
+    }
+
+    /**
+     * Writes the keyword index rows for an article.
+     *
+     * @param connection The connection of the surrounding transaction.
+     * @param articleId  The ID of the article.
+     * @param keywords   The article's keywords as entered.
+     * @throws SQLException If a database access error occurs.
+     */
+    static void insertKeywords(Connection connection, long articleId, Collection<String> keywords) throws SQLException {
+        List<String> normalized = normalizeKeywords(keywords);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement pstmt = connection.prepareStatement(INSERT_KEYWORD_SQL)) {
+            for (String keyword : normalized) {
+                pstmt.setLong(1, articleId);
+                pstmt.setString(2, keyword);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Normalizes keywords for the index: trimmed, lower-cased, without blanks or duplicates.
+     *
+     * @param keywords The keywords as entered, possibly null.
+     * @return The normalized keywords in their original order.
+     */
+    static List<String> normalizeKeywords(Collection<String> keywords) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                if (keyword != null && !keyword.trim().isEmpty()) {
+                    normalized.add(keyword.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+
     /**
      * Extracts a HelpArticle object from the current row of the ResultSet.
      *
@@ -284,11 +1598,36 @@ public class HelpArticleDAO {
     }
 
     /**
-     * Provides access to the database connection.
+     * Extracts a HelpArticle from a row that omits the body. The body is loaded from the
+     * database on the first call to {@link HelpArticle#getBody()}.
+     *
+     * @param rs The ResultSet positioned at the current row.
+     * @return A HelpArticle whose body is loaded on demand.
+     * @throws SQLException If a database access error occurs.
+     */
+    private HelpArticle extractHelpArticleWithoutBody(ResultSet rs) throws SQLException {
+        long id = rs.getLong("id");
+        String header = rs.getString("header");
+        String title = rs.getString("title");
+        String shortDescription = rs.getString("shortDescription");
+        List<String> keywords = Arrays.asList(rs.getString("keywords").split(","));
+        List<String> referenceLinks = Arrays.asList(rs.getString("referenceLinks").split(","));
+        HelpArticle article = new HelpArticle(id, header, title, shortDescription, keywords, null, referenceLinks);
+        article.setBodyLoader(this::loadBody);
+        return article;
+    }
+
+    /**
+     * Loads a body on behalf of {@link HelpArticle#getBody()}, which cannot throw SQLException.
      *
-     * @return The current database connection.
+     * @param articleId The ID of the help article.
+     * @return The body content.
      */
-    public Connection getConnection() {
-        return connection;
+    private String loadBody(long articleId) {
+        try {
+            return getArticleBody(articleId);
+        } catch (SQLException ex) {
+            throw new UncheckedSQLException(ex);
+        }
     }
 }
@@ -1,11 +1,22 @@
 package Utilities;
 
+import models.ArticleSummary;
 import models.Group;
 import models.HelpArticle;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * <p> Title: HelpArticleDAOTest Class </p>
@@ -13,9 +24,11 @@ import java.util.List;
  * <p> Description: This class provides a set of tests for the {@link HelpArticleDAO} class.
  * It validates the CRUD functionalities and association methods by performing operations such as 
  * adding a help article, retrieving all help articles, retrieving a help article by ID, updating 
- * a help article, deleting a help article, deleting all help articles, associating articles with 
- * groups, dissociating articles from groups, retrieving articles by group ID, and retrieving 
- * groups by article ID. The test outputs indicate the success or failure of each test case. </p>
+ * a help article, ignoring the update of a missing help article, deleting a help article,
+ * deleting all help articles, associating articles with groups, dissociating articles from groups, retrieving articles by group ID, and retrieving 
+ * groups by article ID, finding articles by keyword, streaming all articles, reading
+ * article summaries, loading article bodies lazily, bulk group assignment, and
+ * membership sync. The test outputs indicate the success or failure of each test case. </p>
  * 
  * @author Naimish Maniya
  * 
@@ -44,8 +57,19 @@ public class HelpArticleDAOTest {
             testAddHelpArticle();
             testGetHelpArticleById();
             testUpdateHelpArticle();
+            testUpdateMissingHelpArticle();
             testDeleteHelpArticle();
             testDeleteAllHelpArticles();
+            testFindArticlesByKeyword();
+            testFindArticlesByAllKeywords();
+            testUpdateReindexesKeywords();
+            testStreamHelpArticles();
+            testArticleSummaries();
+            testLazyBody();
+            testAssociateArticlesWithGroup();
+            testDissociateArticlesFromGroup();
+            testSyncGroupMembership();
+            testAggregateCounts();
         } catch (SQLException e) {
             System.out.println("Database Error during tests: " + e.getMessage());
         }
@@ -151,6 +175,32 @@ public class HelpArticleDAOTest {
         }
     }
 
+    /**
+     * Tests that updating an article that does not exist adds nothing to the membership index.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testUpdateMissingHelpArticle() throws SQLException {
+        System.out.println("\nTest: Update Missing HelpArticle");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group group = new Group("update-missing");
+        new GroupDAO().addGroup(group);
+        GroupQuery outsideGroup = GroupQuery.inNone(group.getId());
+        int before = helpArticleDAO.findArticleSummaries(outsideGroup).size();
+
+        HelpArticle ghost = new HelpArticle(9999, "Header", "Ghost", "Does not exist",
+                new ArrayList<>(), "No such article.", new ArrayList<>());
+        helpArticleDAO.updateHelpArticle(ghost);
+        List<ArticleSummary> after = helpArticleDAO.findArticleSummaries(outsideGroup);
+
+        if (helpArticleDAO.getHelpArticleById(9999) == null && after.size() == before &&
+            after.stream().noneMatch(summary -> summary.getId() == 9999)) {
+            System.out.println("Passed: Updating a missing article changed nothing.");
+        } else {
+            System.out.println("Failed: Updating a missing article left " + after.size() + " summaries instead of " + before + ".");
+        }
+    }
+
     /**
      * Tests deleting a specific help article.
      *
@@ -213,4 +263,305 @@ public class HelpArticleDAOTest {
             System.out.println("Failed: Not all HelpArticles were deleted.");
         }
     }
+
+    /**
+     * Tests that keyword lookups ignore case and surrounding whitespace.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testFindArticlesByKeyword() throws SQLException {
+        System.out.println("\nTest: Find HelpArticles By Keyword");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        helpArticleDAO.deleteAllHelpArticles();
+        HelpArticle kotlin = new HelpArticle(0, "Header8", "Kotlin Basics", "Introduction to Kotlin",
+                Arrays.asList("Kotlin", " JVM "), "Kotlin is a modern language for the JVM.",
+                Arrays.asList("https://kotlinlang.org"));
+        HelpArticle scala = new HelpArticle(0, "Header9", "Scala Basics", "Introduction to Scala",
+                Arrays.asList("scala", "jvm"), "Scala combines object-oriented and functional programming.",
+                Arrays.asList("https://scala-lang.org"));
+        helpArticleDAO.addHelpArticle(kotlin);
+        helpArticleDAO.addHelpArticle(scala);
+
+        List<HelpArticle> jvm = helpArticleDAO.findArticlesByKeyword("  JvM");
+        List<HelpArticle> kotlinOnly = helpArticleDAO.findArticlesByKeyword("kotlin");
+        if (jvm.size() == 2 && jvm.get(0).getId() == kotlin.getId() && jvm.get(1).getId() == scala.getId() &&
+            kotlinOnly.size() == 1 && kotlinOnly.get(0).getTitle().equals("Kotlin Basics") &&
+            helpArticleDAO.findArticlesByKeyword("rust").isEmpty()) {
+            System.out.println("Passed: Articles found by keyword.");
+        } else {
+            System.out.println("Failed: Keyword lookup returned the wrong articles.");
+        }
+    }
+
+    /**
+     * Tests that a multi-keyword lookup only returns articles having every keyword.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testFindArticlesByAllKeywords() throws SQLException {
+        System.out.println("\nTest: Find HelpArticles By All Keywords");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        List<HelpArticle> both = helpArticleDAO.findArticlesByAllKeywords(Arrays.asList("jvm", "SCALA", "scala"));
+        List<HelpArticle> none = helpArticleDAO.findArticlesByAllKeywords(Arrays.asList("kotlin", "scala"));
+        if (both.size() == 1 && both.get(0).getTitle().equals("Scala Basics") && none.isEmpty() &&
+            helpArticleDAO.findArticlesByAllKeywords(Arrays.asList(" ")).isEmpty()) {
+            System.out.println("Passed: Only articles with every keyword were found.");
+        } else {
+            System.out.println("Failed: Multi-keyword lookup returned the wrong articles.");
+        }
+    }
+
+    /**
+     * Tests that updating an article replaces its indexed keywords.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testUpdateReindexesKeywords() throws SQLException {
+        System.out.println("\nTest: Update Re-indexes Keywords");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        HelpArticle kotlin = helpArticleDAO.findArticlesByKeyword("kotlin").get(0);
+        kotlin.setKeywords(Arrays.asList("kotlin", "android"));
+        helpArticleDAO.updateHelpArticle(kotlin);
+
+        List<HelpArticle> jvm = helpArticleDAO.findArticlesByKeyword("jvm");
+        List<HelpArticle> android = helpArticleDAO.findArticlesByKeyword("android");
+        helpArticleDAO.deleteHelpArticle(kotlin.getId());
+        List<HelpArticle> afterDelete = helpArticleDAO.findArticlesByKeyword("android");
+        if (jvm.size() == 1 && android.size() == 1 && android.get(0).getId() == kotlin.getId() && afterDelete.isEmpty()) {
+            System.out.println("Passed: Keywords were re-indexed on update and removed on delete.");
+        } else {
+            System.out.println("Failed: Keyword index was not kept in step with the article.");
+        }
+    }
+
+    /**
+     * Tests that streaming returns every article in ID order and returns its connection on close,
+     * including when the stream is abandoned part way through.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testStreamHelpArticles() throws SQLException {
+        System.out.println("\nTest: Stream HelpArticles");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        for (int i = 0; i < 5; i++) {
+            helpArticleDAO.addHelpArticle(new HelpArticle(0, "Stream" + i, "Streaming " + i, "Row " + i,
+                    Arrays.asList("stream"), "Body " + i, Arrays.asList("https://example.com")));
+        }
+        List<Long> expected = new ArrayList<>();
+        for (HelpArticle article : helpArticleDAO.getAllHelpArticles()) {
+            expected.add(article.getId());
+        }
+        Collections.sort(expected);
+
+        List<Long> streamed;
+        try (Stream<HelpArticle> articles = helpArticleDAO.streamHelpArticles(2)) {
+            streamed = articles.map(HelpArticle::getId).collect(Collectors.toList());
+        }
+        try (Stream<HelpArticle> articles = helpArticleDAO.streamHelpArticles(2)) {
+            articles.limit(1).count();
+        }
+
+        int active = DatabaseManager.getInstance().getPoolStatistics().getActive();
+        if (streamed.equals(expected) && active == 0) {
+            System.out.println("Passed: All articles streamed in order and the connection was returned.");
+        } else {
+            System.out.println("Failed: Streamed " + streamed + " (expected " + expected + "), active connections " + active);
+        }
+    }
+
+    /**
+     * Tests that summaries carry the listed fields of every article and of a group's articles.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testArticleSummaries() throws SQLException {
+        System.out.println("\nTest: Article Summaries");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        List<HelpArticle> articles = helpArticleDAO.getAllHelpArticles();
+        Group group = new Group("summaries");
+        groupDAO.addGroup(group);
+        helpArticleDAO.associateArticleWithGroup(articles.get(0).getId(), group.getId());
+
+        List<ArticleSummary> summaries = helpArticleDAO.getArticleSummaries();
+        List<ArticleSummary> groupSummaries = helpArticleDAO.getArticleSummariesByGroupId(group.getId());
+        boolean matching = summaries.size() == articles.size();
+        for (ArticleSummary summary : summaries) {
+            HelpArticle article = helpArticleDAO.getHelpArticleById(summary.getId());
+            matching &= article != null && article.getTitle().equals(summary.getTitle()) &&
+                    article.getShortDescription().equals(summary.getShortDescription());
+        }
+        if (matching && groupSummaries.size() == 1 && groupSummaries.get(0).getId() == articles.get(0).getId()) {
+            System.out.println("Passed: Summaries matched the articles.");
+        } else {
+            System.out.println("Failed: Summaries did not match the articles.");
+        }
+    }
+
+    /**
+     * Tests that paged articles load their body on first access and before serialization.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testLazyBody() throws SQLException {
+        System.out.println("\nTest: Lazy Body");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        List<HelpArticle> page = helpArticleDAO.getHelpArticlesPage(null, 2).getItems();
+        HelpArticle first = page.get(0);
+        HelpArticle second = page.get(1);
+        boolean pending = !first.isBodyLoaded() && !second.isBodyLoaded();
+        String expected = helpArticleDAO.getHelpArticleById(first.getId()).getBody();
+        boolean loaded = expected.equals(first.getBody()) && first.isBodyLoaded();
+
+        boolean serialized;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(second);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                HelpArticle copy = (HelpArticle) in.readObject();
+                serialized = copy.getBody() != null && copy.getBody().equals(helpArticleDAO.getArticleBody(second.getId()));
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            serialized = false;
+        }
+
+        if (pending && loaded && serialized) {
+            System.out.println("Passed: Bodies were loaded on demand.");
+        } else {
+            System.out.println("Failed: Lazy body loading did not behave as expected.");
+        }
+    }
+
+    /**
+     * Tests that a bulk assignment reports each article's outcome and adds only the new ones.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testAssociateArticlesWithGroup() throws SQLException {
+        System.out.println("\nTest: Associate Articles With Group");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        Group group = new Group("bulk");
+        groupDAO.addGroup(group);
+        List<HelpArticle> articles = helpArticleDAO.getAllHelpArticles();
+        long first = articles.get(0).getId();
+        long second = articles.get(1).getId();
+        long missing = -5;
+        helpArticleDAO.associateArticleWithGroup(first, group.getId());
+
+        AssociationResult result = helpArticleDAO.associateArticlesWithGroup(group.getId(),
+                Arrays.asList(first, second, missing, second));
+        boolean outcomes = result.getOutcomes().size() == 3 &&
+                result.getOutcome(first) == AssociationResult.Outcome.ALREADY_PRESENT &&
+                result.getOutcome(second) == AssociationResult.Outcome.ADDED &&
+                result.getOutcome(missing) == AssociationResult.Outcome.ARTICLE_NOT_FOUND;
+
+        // A missing group fails the whole batch and nothing is committed.
+        int secondGroups = helpArticleDAO.getGroupsByArticleId(second).size();
+        boolean rolledBack;
+        try {
+            helpArticleDAO.associateArticlesWithGroup(-1, Arrays.asList(first, second));
+            rolledBack = false;
+        } catch (SQLException e) {
+            rolledBack = helpArticleDAO.getGroupsByArticleId(second).size() == secondGroups;
+        }
+
+        if (outcomes && rolledBack && helpArticleDAO.getArticleSummariesByGroupId(group.getId()).size() == 2) {
+            System.out.println("Passed: Articles were assigned in bulk with per-article outcomes.");
+        } else {
+            System.out.println("Failed: Unexpected bulk assignment result " + result);
+        }
+    }
+
+    /**
+     * Tests that a bulk removal reports which articles were actually removed.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testDissociateArticlesFromGroup() throws SQLException {
+        System.out.println("\nTest: Dissociate Articles From Group");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group group = new GroupDAO().getGroupByName("bulk");
+        List<ArticleSummary> members = helpArticleDAO.getArticleSummariesByGroupId(group.getId());
+        long notMember = -7;
+
+        AssociationResult result = helpArticleDAO.dissociateArticlesFromGroup(group.getId(),
+                Arrays.asList(members.get(0).getId(), members.get(1).getId(), notMember));
+        if (result.count(AssociationResult.Outcome.REMOVED) == 2 &&
+            result.getOutcome(notMember) == AssociationResult.Outcome.NOT_PRESENT &&
+            helpArticleDAO.getArticleSummariesByGroupId(group.getId()).isEmpty()) {
+            System.out.println("Passed: Articles were removed in bulk with per-article outcomes.");
+        } else {
+            System.out.println("Failed: Unexpected bulk removal result " + result);
+        }
+    }
+
+    /**
+     * Tests that syncing a group's membership adds and removes only the difference.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testSyncGroupMembership() throws SQLException {
+        System.out.println("\nTest: Sync Group Membership");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group group = new GroupDAO().getGroupByName("bulk");
+        List<HelpArticle> articles = helpArticleDAO.getAllHelpArticles();
+        long a = articles.get(0).getId();
+        long b = articles.get(1).getId();
+        long c = articles.get(2).getId();
+        helpArticleDAO.associateArticlesWithGroup(group.getId(), Arrays.asList(a, b));
+
+        AssociationResult result = helpArticleDAO.syncGroupMembership(group.getId(), Arrays.asList(b, c));
+        List<Long> members = new ArrayList<>();
+        for (ArticleSummary summary : helpArticleDAO.getArticleSummariesByGroupId(group.getId())) {
+            members.add(summary.getId());
+        }
+        AssociationResult cleared = helpArticleDAO.syncGroupMembership(group.getId(), new ArrayList<>());
+
+        if (result.getOutcome(a) == AssociationResult.Outcome.REMOVED &&
+            result.getOutcome(b) == AssociationResult.Outcome.ALREADY_PRESENT &&
+            result.getOutcome(c) == AssociationResult.Outcome.ADDED &&
+            members.equals(Arrays.asList(b, c)) && cleared.count(AssociationResult.Outcome.REMOVED) == 2 &&
+            helpArticleDAO.getArticleSummariesByGroupId(group.getId()).isEmpty()) {
+            System.out.println("Passed: Only the membership difference was applied.");
+        } else {
+            System.out.println("Failed: Unexpected sync result " + result + " with members " + members);
+        }
+    }
+
+    /**
+     * Tests the per-group article counts and per-article group counts.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testAggregateCounts() throws SQLException {
+        System.out.println("\nTest: Aggregate Counts");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        Group first = new Group("count-first");
+        Group second = new Group("count-second");
+        Group empty = new Group("count-empty");
+        groupDAO.addGroup(first);
+        groupDAO.addGroup(second);
+        groupDAO.addGroup(empty);
+        List<HelpArticle> articles = helpArticleDAO.getAllHelpArticles();
+        long a = articles.get(0).getId();
+        long b = articles.get(1).getId();
+        helpArticleDAO.associateArticlesWithGroup(first.getId(), Arrays.asList(a, b));
+        helpArticleDAO.associateArticlesWithGroup(second.getId(), Arrays.asList(a));
+
+        Map<Long, Integer> articleCounts = helpArticleDAO.getArticleCountsByGroup();
+        Map<Long, Integer> groupCounts = helpArticleDAO.getGroupCountsByArticle();
+
+        if (articleCounts.get(first.getId()) == 2 && articleCounts.get(second.getId()) == 1 &&
+            !articleCounts.containsKey(empty.getId()) &&
+            groupCounts.get(a) == helpArticleDAO.getGroupsByArticleId(a).size() &&
+            groupCounts.get(b) == helpArticleDAO.getGroupsByArticleId(b).size()) {
+            System.out.println("Passed: Counts match the associations.");
+        } else {
+            System.out.println("Failed: Unexpected counts " + articleCounts + " / " + groupCounts);
+        }
+    }
 }
@@ -0,0 +1,204 @@
+package Utilities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> Title: ImportReport Class </p>
+ *
+ * <p> Description: This class describes the outcome of an {@link ArticleImporter} run: how many
+ * records were read, imported and rejected, how many groups were created, how long validation
+ * and inserts took, and the resulting throughput. Only the first {@link #MAX_REJECTIONS}
+ * rejections are kept with their reasons, so a file full of bad rows cannot exhaust memory; the
+ * rejected count still covers all of them. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ImportReport {
+
+    /**
+     * The number of rejections kept with their reasons.
+     */
+    public static final int MAX_REJECTIONS = 100;
+
+    /**
+     * A record that was not imported.
+     */
+    public static final class Rejection {
+        private final long lineNumber;
+        private final String reason;
+
+        Rejection(long lineNumber, String reason) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+        }
+
+        /**
+         * Retrieves the line the record starts on.
+         *
+         * @return The 1-based line number.
+         */
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Retrieves why the record was rejected.
+         *
+         * @return The reason.
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "line " + lineNumber + ": " + reason;
+        }
+    }
+
+    private final List<Rejection> rejections = new ArrayList<>();
+    private long recordsRead;
+    private long imported;
+    private long rejected;
+    private int groupsCreated;
+    private int batches;
+    private long validationNanos;
+    private long insertNanos;
+    private long elapsedNanos;
+
+    void recordRead(int count) {
+        recordsRead += count;
+    }
+
+    void reject(long lineNumber, String reason) {
+        rejected++;
+        if (rejections.size() < MAX_REJECTIONS) {
+            rejections.add(new Rejection(lineNumber, reason));
+        }
+    }
+
+    void batchInserted(int articles, int createdGroups, long nanos) {
+        imported += articles;
+        groupsCreated += createdGroups;
+        batches++;
+        insertNanos += nanos;
+    }
+
+    void addValidationNanos(long nanos) {
+        validationNanos += nanos;
+    }
+
+    void setElapsedNanos(long nanos) {
+        elapsedNanos = nanos;
+    }
+
+    /**
+     * Retrieves the number of records read, valid or not.
+     *
+     * @return The record count, excluding a CSV header.
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    /**
+     * Retrieves the number of articles added.
+     *
+     * @return The imported count.
+     */
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * Retrieves the number of records that were not imported.
+     *
+     * @return The rejected count.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Retrieves the first rejections.
+     *
+     * @return Up to {@link #MAX_REJECTIONS} rejections in file order.
+     */
+    public List<Rejection> getRejections() {
+        return Collections.unmodifiableList(rejections);
+    }
+
+    /**
+     * Retrieves the number of groups created for unknown group names.
+     *
+     * @return The created group count.
+     */
+    public int getGroupsCreated() {
+        return groupsCreated;
+    }
+
+    /**
+     * Retrieves the number of batches inserted.
+     *
+     * @return The batch count.
+     */
+    public int getBatches() {
+        return batches;
+    }
+
+    /**
+     * Retrieves the time spent validating, summed over the validation threads.
+     *
+     * @return The validation time in milliseconds.
+     */
+    public double getValidationMillis() {
+        return validationNanos / 1_000_000.0;
+    }
+
+    /**
+     * Retrieves the time spent inserting.
+     *
+     * @return The insert time in milliseconds.
+     */
+    public double getInsertMillis() {
+        return insertNanos / 1_000_000.0;
+    }
+
+    /**
+     * Retrieves the wall-clock time of the whole import.
+     *
+     * @return The elapsed time in milliseconds.
+     */
+    public double getElapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    /**
+     * Retrieves the import rate over the whole run.
+     *
+     * @return Imported articles per second.
+     */
+    public double getArticlesPerSecond() {
+        return elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Read %d record(s): %d imported, %d rejected, %d group(s) created, %d batch(es).%n",
+                recordsRead, imported, rejected, groupsCreated, batches));
+        text.append(String.format("Elapsed %.1f ms (validation %.1f ms, inserts %.1f ms), %.0f articles/s.",
+                getElapsedMillis(), getValidationMillis(), getInsertMillis(), getArticlesPerSecond()));
+        for (Rejection rejection : rejections) {
+            text.append(System.lineSeparator()).append("  Rejected ").append(rejection);
+        }
+        if (rejected > rejections.size()) {
+            text.append(System.lineSeparator()).append("  ... and ").append(rejected - rejections.size()).append(" more.");
+        }
+        return text.toString();
+    }
+}
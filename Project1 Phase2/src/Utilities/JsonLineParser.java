@@ -0,0 +1,181 @@
+package Utilities;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p> Title: JsonLineParser Class </p>
+ *
+ * <p> Description: This class parses one line of a JSON Lines file into a map, for
+ * {@link ArticleImporter}. Only what article records need is supported: a single object whose
+ * values are strings, arrays of strings, numbers, booleans or null. Numbers and booleans are
+ * returned as their text, and nested objects are rejected. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+final class JsonLineParser {
+    private final String text;
+    private int position;
+
+    private JsonLineParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a JSON object.
+     *
+     * @param line The line holding the object.
+     * @return The members in the order they appear; values are String, List of String, or null.
+     * @throws IllegalArgumentException If the line is not a supported JSON object.
+     */
+    static Map<String, Object> parseObject(String line) {
+        JsonLineParser parser = new JsonLineParser(line);
+        Map<String, Object> object = parser.readObject();
+        parser.skipWhitespace();
+        if (parser.position != line.length()) {
+            throw parser.error("Unexpected text after the object");
+        }
+        return object;
+    }
+
+    private Map<String, Object> readObject() {
+        skipWhitespace();
+        expect('{');
+        Map<String, Object> object = new LinkedHashMap<>();
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(name, readValue(true));
+            skipWhitespace();
+            char next = next();
+            if (next == '}') {
+                return object;
+            }
+            if (next != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private Object readValue(boolean allowArray) {
+        skipWhitespace();
+        char c = peek();
+        if (c == '"') {
+            return readString();
+        }
+        if (c == '[' && allowArray) {
+            position++;
+            List<String> values = new ArrayList<>();
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+                return values;
+            }
+            while (true) {
+                Object value = readValue(false);
+                if (value != null) {
+                    values.add((String) value);
+                }
+                skipWhitespace();
+                char next = next();
+                if (next == ']') {
+                    return values;
+                }
+                if (next != ',') {
+                    throw error("Expected ',' or ']'");
+                }
+            }
+        }
+        int start = position;
+        while (position < text.length() && ",}] \t\r\n".indexOf(text.charAt(position)) < 0) {
+            position++;
+        }
+        String literal = text.substring(start, position);
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.equals("true") || literal.equals("false") || literal.matches("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?")) {
+            return literal;
+        }
+        position = start;
+        throw error("Unsupported value");
+    }
+
+    private String readString() {
+        expect('"');
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case '"': case '\\': case '/': value.append(escaped); break;
+                case 'b': value.append('\b'); break;
+                case 'f': value.append('\f'); break;
+                case 'n': value.append('\n'); break;
+                case 'r': value.append('\r'); break;
+                case 't': value.append('\t'); break;
+                case 'u':
+                    if (position + 4 > text.length()) {
+                        throw error("Truncated unicode escape");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    } catch (NumberFormatException ex) {
+                        throw error("Invalid unicode escape");
+                    }
+                    position += 4;
+                    break;
+                default:
+                    throw error("Invalid escape '\\" + escaped + "'");
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        if (position >= text.length()) {
+            throw error("Unexpected end of line");
+        }
+        return text.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            position--;
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at column " + (position + 1) + ".");
+    }
+}
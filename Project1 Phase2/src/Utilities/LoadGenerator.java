@@ -0,0 +1,516 @@
+package Utilities;
+
+import models.ArticleSummary;
+import models.Group;
+import models.HelpArticle;
+import models.Role;
+import models.User;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p> Title: LoadGenerator Class </p>
+ *
+ * <p> Description: This class simulates many users working with the help system at once, without
+ * the user interface. Each simulated client runs on its own virtual thread and repeatedly picks an
+ * {@link Operation} from a weighted mix, runs it against {@link UserManager},
+ * {@link SessionManager} and the DAOs, and pauses for a random think time. Clients are started
+ * evenly over the ramp-up period and stop at the end of the run. </p>
+ *
+ * <p> Every operation is recorded in a {@link MethodMetrics}, once for the whole run and once for
+ * the current reporting window. During long soak runs a report of the window is printed at each
+ * interval, so a slow leak or a growing error rate shows up as a trend; the final report covers the
+ * whole run and includes the connection pool statistics. </p>
+ *
+ * <p> Usage: </p>
+ * <pre>
+ * java -cp ... Utilities.LoadGenerator --clients 500 --ramp-up-s 60 --duration-s 3600
+ *      --think-ms 200 --report-s 60 --mix login=5,browse=50,search=25,edit=10,assign=10
+ *      --users 1000 --articles 20000
+ * </pre>
+ *
+ * <p> Seeding adds users, groups and articles to the configured database, so the generator should
+ * be pointed at a test database. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class LoadGenerator {
+    static final String USER_PREFIX = "load-user-";
+    static final String USER_PASSWORD = "load-password";
+    private static final String GROUP_PREFIX = "load-group-";
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_ERROR_SAMPLES = 20;
+    private static final List<String> SEARCH_TERMS = Arrays.asList("password", "login", "network", "printer",
+            "account", "backup", "email", "install", "update", "error");
+
+    /**
+     * The operations a simulated user performs.
+     */
+    public enum Operation {
+        /** Authenticates a random user and starts their session. */
+        LOGIN("login"),
+        /** Lists the articles of a random group and opens one of them. */
+        BROWSE("browse"),
+        /** Runs a free-text search. */
+        SEARCH("search"),
+        /** Reads a random article and saves it with a changed body. */
+        EDIT("edit"),
+        /** Adds a random article to a random group, or removes it. */
+        ASSIGN("assign");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        /** @return The name used in the mix and the report. */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Finds an operation by its label.
+         *
+         * @param label The label, such as "browse".
+         * @return The operation.
+         * @throws IllegalArgumentException If no operation has that label.
+         */
+        public static Operation fromLabel(String label) {
+            for (Operation operation : values()) {
+                if (operation.label.equalsIgnoreCase(label.trim())) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation '" + label + "'.");
+        }
+    }
+
+    private final int clients;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final Duration maxThinkTime;
+    private final Duration reportInterval;
+    private final Operation[] weightedOperations;
+
+    private final Map<Operation, MethodMetrics> totals = new EnumMap<>(Operation.class);
+    private final Map<Operation, MethodMetrics> window = new EnumMap<>(Operation.class);
+    private final ConcurrentMap<String, LongAdder> errorSamples = new ConcurrentHashMap<>();
+    private final LongAdder activeClients = new LongAdder();
+    private final HelpArticleDAO helpArticleDAO;
+    private final GroupDAO groupDAO;
+    private volatile long[] articleIds = new long[0];
+    private volatile long[] groupIds = new long[0];
+    private volatile int userCount;
+
+    /**
+     * Constructs a LoadGenerator.
+     *
+     * @param clients        The number of simulated users.
+     * @param rampUp         The time over which the clients are started.
+     * @param duration       The length of the run, ramp-up included.
+     * @param maxThinkTime   The longest pause between two operations of a client; each pause is random up to it.
+     * @param reportInterval How often a report of the last interval is printed, or null for none.
+     * @param mix            The relative weight of each operation; operations left out are not run.
+     * @throws SQLException If the DAOs cannot be created.
+     */
+    public LoadGenerator(int clients, Duration rampUp, Duration duration, Duration maxThinkTime,
+                         Duration reportInterval, Map<Operation, Integer> mix) throws SQLException {
+        if (clients < 1) {
+            throw new IllegalArgumentException("At least one client is required.");
+        }
+        List<Operation> weighted = new ArrayList<>();
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("The weight of " + entry.getKey().getLabel() + " cannot be negative.");
+            }
+            weighted.addAll(Collections.nCopies(entry.getValue(), entry.getKey()));
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix must give at least one operation a weight.");
+        }
+        this.clients = clients;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.maxThinkTime = maxThinkTime;
+        this.reportInterval = reportInterval;
+        this.weightedOperations = weighted.toArray(new Operation[0]);
+        for (Operation operation : Operation.values()) {
+            totals.put(operation, new MethodMetrics("load." + operation.getLabel()));
+            window.put(operation, new MethodMetrics("load." + operation.getLabel()));
+        }
+        this.helpArticleDAO = new HelpArticleDAO();
+        this.groupDAO = new GroupDAO();
+    }
+
+    /**
+     * Retrieves the default mix: mostly browsing and searching, with some edits, group changes and
+     * logins.
+     *
+     * @return The weight of each operation.
+     */
+    public static Map<Operation, Integer> defaultMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.LOGIN, 5);
+        mix.put(Operation.BROWSE, 50);
+        mix.put(Operation.SEARCH, 25);
+        mix.put(Operation.EDIT, 10);
+        mix.put(Operation.ASSIGN, 10);
+        return mix;
+    }
+
+    /**
+     * Runs the load generator from the command line.
+     *
+     * @param args The options described in the class documentation.
+     */
+    public static void main(String[] args) {
+        int clients = 100;
+        long rampUpSeconds = 10;
+        long durationSeconds = 60;
+        long thinkMillis = 100;
+        long reportSeconds = 10;
+        int users = 200;
+        int articles = 2000;
+        int groups = 20;
+        Map<Operation, Integer> mix = defaultMix();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--clients":
+                        clients = Integer.parseInt(value);
+                        break;
+                    case "--ramp-up-s":
+                        rampUpSeconds = Long.parseLong(value);
+                        break;
+                    case "--duration-s":
+                        durationSeconds = Long.parseLong(value);
+                        break;
+                    case "--think-ms":
+                        thinkMillis = Long.parseLong(value);
+                        break;
+                    case "--report-s":
+                        reportSeconds = Long.parseLong(value);
+                        break;
+                    case "--users":
+                        users = Integer.parseInt(value);
+                        break;
+                    case "--articles":
+                        articles = Integer.parseInt(value);
+                        break;
+                    case "--groups":
+                        groups = Integer.parseInt(value);
+                        break;
+                    case "--mix":
+                        mix = new EnumMap<>(Operation.class);
+                        for (String part : value.split(",")) {
+                            String[] pair = part.split("=");
+                            if (pair.length != 2) {
+                                throw new IllegalArgumentException("Mix entries must look like browse=50.");
+                            }
+                            mix.put(Operation.fromLabel(pair[0]), Integer.parseInt(pair[1].trim()));
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option '" + args[i] + "'.");
+                }
+                i++;
+            }
+        } catch (NullPointerException | IllegalArgumentException ex) {
+            System.out.println("Invalid arguments: " + (ex.getMessage() == null ? "missing value" : ex.getMessage()));
+            System.exit(2);
+        }
+
+        try {
+            LoadGenerator generator = new LoadGenerator(clients, Duration.ofSeconds(rampUpSeconds),
+                    Duration.ofSeconds(durationSeconds), Duration.ofMillis(thinkMillis),
+                    reportSeconds > 0 ? Duration.ofSeconds(reportSeconds) : null, mix);
+            generator.seed(users, articles, groups);
+            System.out.println(generator.run());
+        } catch (SQLException ex) {
+            System.out.println("Load generator failed: " + ex.getMessage());
+            System.exit(2);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            System.out.println("Load generator interrupted.");
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Adds the users, groups and articles the clients work with, keeping any that already exist,
+     * and spreads the articles over the groups.
+     *
+     * @param users    The number of users with the student role.
+     * @param articles The minimum number of articles.
+     * @param groups   The number of groups.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void seed(int users, int articles, int groups) throws SQLException {
+        if (users < 1 || groups < 1 || articles < 1) {
+            throw new IllegalArgumentException("At least one user, group and article is required.");
+        }
+        UserManager userManager = UserManager.getInstance();
+        for (int i = 0; i < users; i++) {
+            if (!userManager.isUsernameTaken(USER_PREFIX + i)) {
+                User user = new User(USER_PREFIX + i, USER_PASSWORD);
+                user.setFirstLogin(false);
+                user.addRole(Role.STUDENT);
+                userManager.addUser(user);
+            }
+        }
+        userCount = users;
+
+        long[] seededGroups = new long[groups];
+        for (int g = 0; g < groups; g++) {
+            Group group = groupDAO.getGroupByName(GROUP_PREFIX + g);
+            if (group == null) {
+                group = new Group(GROUP_PREFIX + g);
+                groupDAO.addGroup(group);
+            }
+            seededGroups[g] = group.getId();
+        }
+
+        List<ArticleSummary> existing = helpArticleDAO.getArticleSummaries();
+        for (int offset = existing.size(); offset < articles; offset += SEED_BATCH_SIZE) {
+            List<HelpArticle> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + SEED_BATCH_SIZE, articles); i++) {
+                String term = SEARCH_TERMS.get(i % SEARCH_TERMS.size());
+                batch.add(new HelpArticle("Header", "How to fix " + term + " problems " + i,
+                        "Common " + term + " problems", Arrays.asList(term, "load"),
+                        "Steps to resolve " + term + " issues, article " + i + ".",
+                        Collections.singletonList("https://example.com/help/" + i)));
+            }
+            DatabaseManager.getInstance().inUnitOfWork(() -> {
+                helpArticleDAO.addHelpArticles(batch);
+                for (int g = 0; g < groups; g++) {
+                    List<Long> members = new ArrayList<>();
+                    for (int i = g; i < batch.size(); i += groups) {
+                        members.add(batch.get(i).getId());
+                    }
+                    helpArticleDAO.associateArticlesWithGroup(seededGroups[g], members);
+                }
+                return null;
+            });
+        }
+
+        List<ArticleSummary> summaries = helpArticleDAO.getArticleSummaries();
+        long[] ids = new long[summaries.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = summaries.get(i).getId();
+        }
+        articleIds = ids;
+        groupIds = seededGroups;
+    }
+
+    /**
+     * Starts the clients, waits for the run to finish and reports the results.
+     *
+     * @return The report of the whole run.
+     * @throws InterruptedException If interrupted while waiting for the clients.
+     * @throws IllegalStateException If {@link #seed(int, int, int)} has not been called.
+     */
+    public String run() throws InterruptedException {
+        if (articleIds.length == 0 || groupIds.length == 0 || userCount == 0) {
+            throw new IllegalStateException("The load generator must be seeded before it is run.");
+        }
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long windowStart = start;
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("load-client-", 0).factory())) {
+            for (int i = 0; i < clients; i++) {
+                long startAt = start + rampUp.toNanos() * i / clients;
+                executor.submit(() -> runClient(startAt, deadline));
+            }
+            executor.shutdown();
+            long reportNanos = reportInterval == null ? Long.MAX_VALUE : reportInterval.toNanos();
+            while (!executor.awaitTermination(Math.min(reportNanos, Math.max(deadline - System.nanoTime(), 1_000_000)),
+                    TimeUnit.NANOSECONDS)) {
+                long now = System.nanoTime();
+                if (reportInterval != null && now - windowStart >= reportNanos) {
+                    System.out.println(String.format("--- %.1f s, %d clients active ---",
+                            (now - start) / 1e9, activeClients.sum()) + System.lineSeparator() + report(window, now - windowStart));
+                    for (MethodMetrics metrics : window.values()) {
+                        metrics.reset();
+                    }
+                    windowStart = now;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        StringBuilder report = new StringBuilder(String.format("=== Load run: %d clients, %.1f s ===%n",
+                clients, elapsed / 1e9)).append(report(totals, elapsed));
+        if (!errorSamples.isEmpty()) {
+            report.append(System.lineSeparator()).append("Errors:");
+            for (Map.Entry<String, LongAdder> entry : errorSamples.entrySet()) {
+                report.append(System.lineSeparator()).append(String.format("%8d  %s", entry.getValue().sum(), entry.getKey()));
+            }
+        }
+        try {
+            report.append(System.lineSeparator()).append("Pool: ").append(DatabaseManager.getInstance().getPoolStatistics());
+        } catch (SQLException ex) {
+            report.append(System.lineSeparator()).append("Pool statistics unavailable: ").append(ex.getMessage());
+        }
+        return report.toString();
+    }
+
+    /**
+     * Runs one simulated user until the deadline.
+     */
+    private void runClient(long startAt, long deadline) {
+        try {
+            sleepNanos(startAt - System.nanoTime());
+            activeClients.increment();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+                long start = System.nanoTime();
+                try {
+                    perform(operation, random);
+                    totals.get(operation).read(start, null, 0);
+                    window.get(operation).read(start, null, 0);
+                } catch (SQLException | RuntimeException ex) {
+                    totals.get(operation).recordFailure(start);
+                    window.get(operation).recordFailure(start);
+                    recordError(operation, ex);
+                }
+                long think = maxThinkTime.toNanos();
+                sleepNanos(think > 0 ? Math.min(random.nextLong(think + 1), deadline - System.nanoTime()) : 0);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeClients.decrement();
+        }
+    }
+
+    /**
+     * Performs one operation as a random user.
+     */
+    private void perform(Operation operation, ThreadLocalRandom random) throws SQLException {
+        long[] articles = articleIds;
+        long[] groups = groupIds;
+        switch (operation) {
+            case LOGIN:
+                User user = UserManager.getInstance().authenticate(USER_PREFIX + random.nextInt(userCount), USER_PASSWORD);
+                if (user == null) {
+                    throw new IllegalStateException("Login was rejected.");
+                }
+                SessionManager.getInstance().startSession(user, Role.STUDENT);
+                break;
+            case BROWSE:
+                List<ArticleSummary> summaries =
+                        helpArticleDAO.getArticleSummariesByGroupId(groups[random.nextInt(groups.length)]);
+                if (!summaries.isEmpty()) {
+                    long id = summaries.get(random.nextInt(summaries.size())).getId();
+                    HelpArticle article = helpArticleDAO.getHelpArticleById(id);
+                    if (article != null) {
+                        article.getBody();
+                    }
+                }
+                break;
+            case SEARCH:
+                helpArticleDAO.searchHelpArticles(SEARCH_TERMS.get(random.nextInt(SEARCH_TERMS.size())), PAGE_SIZE);
+                break;
+            case EDIT:
+                HelpArticle article = helpArticleDAO.getHelpArticleById(articles[random.nextInt(articles.length)]);
+                if (article != null) {
+                    article.setBody(article.getBody().replaceAll(" Revision \\d+\\.$", "") + " Revision "
+                            + random.nextInt(1000) + ".");
+                    helpArticleDAO.updateHelpArticle(article);
+                }
+                break;
+            case ASSIGN:
+                long articleId = articles[random.nextInt(articles.length)];
+                long groupId = groups[random.nextInt(groups.length)];
+                if (random.nextBoolean()) {
+                    helpArticleDAO.associateArticleWithGroup(articleId, groupId);
+                } else {
+                    helpArticleDAO.dissociateArticleFromGroup(articleId, groupId);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unhandled operation " + operation);
+        }
+    }
+
+    private void recordError(Operation operation, Exception ex) {
+        String key = operation.getLabel() + ": " + ex.getClass().getSimpleName() + ": " + ex.getMessage();
+        LongAdder count = errorSamples.get(key);
+        if (count == null && errorSamples.size() < MAX_ERROR_SAMPLES) {
+            count = errorSamples.computeIfAbsent(key, k -> new LongAdder());
+        }
+        if (count == null) {
+            count = errorSamples.computeIfAbsent(operation.getLabel() + ": other errors", k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    private static void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    /**
+     * Retrieves the metrics of each operation over the whole run.
+     *
+     * @return A snapshot per operation, in the order of {@link Operation}.
+     */
+    public Map<Operation, MethodMetrics.Snapshot> getTotals() {
+        Map<Operation, MethodMetrics.Snapshot> snapshots = new LinkedHashMap<>();
+        for (Map.Entry<Operation, MethodMetrics> entry : totals.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Formats throughput, error rate and latency percentiles per operation, followed by a total.
+     */
+    private static String report(Map<Operation, MethodMetrics> metrics, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        StringBuilder report = new StringBuilder(String.format("%-8s %10s %10s %8s %10s %9s %9s %9s %9s",
+                "Op", "Calls", "Ops/s", "Errors", "Error %", "p50 ms", "p95 ms", "p99 ms", "Max ms"));
+        long calls = 0;
+        long errors = 0;
+        for (Map.Entry<Operation, MethodMetrics> entry : metrics.entrySet()) {
+            MethodMetrics.Snapshot snapshot = entry.getValue().snapshot();
+            if (snapshot.getCalls() == 0) {
+                continue;
+            }
+            calls += snapshot.getCalls();
+            errors += snapshot.getErrors();
+            report.append(System.lineSeparator()).append(String.format(Locale.ROOT,
+                    "%-8s %10d %10.1f %8d %9.2f%% %9.3f %9.3f %9.3f %9.3f", entry.getKey().getLabel(),
+                    snapshot.getCalls(), snapshot.getCalls() / seconds, snapshot.getErrors(),
+                    100.0 * snapshot.getErrors() / snapshot.getCalls(), snapshot.getP50Nanos() / 1e6,
+                    snapshot.getP95Nanos() / 1e6, snapshot.getP99Nanos() / 1e6, snapshot.getMaxNanos() / 1e6));
+        }
+        report.append(System.lineSeparator()).append(String.format(Locale.ROOT, "%-8s %10d %10.1f %8d %9.2f%%",
+                "total", calls, calls / seconds, errors, calls == 0 ? 0.0 : 100.0 * errors / calls));
+        return report.toString();
+    }
+}
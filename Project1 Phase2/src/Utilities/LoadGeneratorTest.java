@@ -0,0 +1,129 @@
+package Utilities;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * <p> Title: LoadGeneratorTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link LoadGenerator} class. It runs
+ * a short load with every operation in the mix and validates that each operation ran without
+ * errors and was reported, that the mix is respected, and that invalid settings are rejected.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class LoadGeneratorTest {
+
+    /**
+     * The main method to execute the LoadGenerator tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        LoadGeneratorTest tester = new LoadGeneratorTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for LoadGenerator.
+     */
+    public void runTests() {
+        System.out.println("Running LoadGenerator tests...");
+
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testMixedLoad();
+            testMixRespected();
+            testInvalidSettings();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        } catch (InterruptedException e) {
+            System.out.println("Failed: Unexpected exception: " + e);
+        }
+
+        System.out.println("LoadGenerator tests completed.");
+    }
+
+    /**
+     * Tests that 32 clients running the default mix complete every operation without errors.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     */
+    public void testMixedLoad() throws SQLException, InterruptedException {
+        System.out.println("\nTest: Mixed Load");
+        LoadGenerator generator = new LoadGenerator(32, Duration.ofMillis(200), Duration.ofMillis(1500),
+                Duration.ofMillis(5), Duration.ofMillis(500), LoadGenerator.defaultMix());
+        generator.seed(20, 200, 5);
+        String report = generator.run();
+
+        boolean valid = true;
+        for (Map.Entry<LoadGenerator.Operation, MethodMetrics.Snapshot> entry : generator.getTotals().entrySet()) {
+            valid &= entry.getValue().getCalls() > 0 && entry.getValue().getErrors() == 0;
+        }
+        if (valid && report.contains("total") && report.contains("Pool:") && !report.contains("Errors:")) {
+            System.out.println("Passed: Every operation ran without errors:\n" + report);
+        } else {
+            System.out.println("Failed: Unexpected load report:\n" + report);
+        }
+    }
+
+    /**
+     * Tests that operations without a weight are never run.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     */
+    public void testMixRespected() throws SQLException, InterruptedException {
+        System.out.println("\nTest: Mix Respected");
+        Map<LoadGenerator.Operation, Integer> mix = LoadGenerator.defaultMix();
+        mix.put(LoadGenerator.Operation.EDIT, 0);
+        mix.remove(LoadGenerator.Operation.ASSIGN);
+        LoadGenerator generator = new LoadGenerator(8, Duration.ZERO, Duration.ofMillis(300), Duration.ZERO, null, mix);
+        generator.seed(20, 200, 5);
+        generator.run();
+        Map<LoadGenerator.Operation, MethodMetrics.Snapshot> totals = generator.getTotals();
+
+        if (totals.get(LoadGenerator.Operation.EDIT).getCalls() == 0 &&
+            totals.get(LoadGenerator.Operation.ASSIGN).getCalls() == 0 &&
+            totals.get(LoadGenerator.Operation.BROWSE).getCalls() > totals.get(LoadGenerator.Operation.LOGIN).getCalls()) {
+            System.out.println("Passed: Only weighted operations ran, in proportion.");
+        } else {
+            System.out.println("Failed: Unexpected operation counts: " + totals.values());
+        }
+    }
+
+    /**
+     * Tests that an empty mix and running before seeding are rejected.
+     *
+     * @throws SQLException         If a database access error occurs.
+     * @throws InterruptedException If the test is interrupted.
+     */
+    public void testInvalidSettings() throws SQLException, InterruptedException {
+        System.out.println("\nTest: Invalid Settings");
+        boolean emptyMixRejected = false;
+        try {
+            Map<LoadGenerator.Operation, Integer> mix = LoadGenerator.defaultMix();
+            mix.replaceAll((operation, weight) -> 0);
+            new LoadGenerator(1, Duration.ZERO, Duration.ofMillis(10), Duration.ZERO, null, mix);
+        } catch (IllegalArgumentException e) {
+            emptyMixRejected = true;
+        }
+        boolean unseededRejected = false;
+        try {
+            new LoadGenerator(1, Duration.ZERO, Duration.ofMillis(10), Duration.ZERO, null, LoadGenerator.defaultMix()).run();
+        } catch (IllegalStateException e) {
+            unseededRejected = true;
+        }
+
+        if (emptyMixRejected && unseededRejected) {
+            System.out.println("Passed: Invalid settings were rejected.");
+        } else {
+            System.out.println("Failed: emptyMixRejected=" + emptyMixRejected + ", unseededRejected=" + unseededRejected);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package Utilities;
+
+import models.ArticleSummary;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * <p> Title: MembershipIndex Class </p>
+ *
+ * <p> Description: This class keeps the ArticleGroups table in memory as a map from group ID to
+ * the {@link ArticleIdSet} of its articles, together with an {@link ArticleSummary} of every
+ * article, so that the articles of a group can be listed without a query. It is loaded in full on
+ * first use and then kept current by {@link HelpArticleDAO} and {@link GroupDAO} as their changes
+ * commit, including the rows removed by the cascading foreign keys when an article or group is
+ * deleted. </p>
+ *
+ * <p> All methods are thread-safe. Loading holds the write lock, so a change cannot be applied
+ * half way through a load. Changes made before the index is loaded are ignored, as the load will
+ * read them. Since the index can be invalidated at any time, callers read it through
+ * {@link #read(Loader, Function)}, which checks that it is loaded under the same lock as the
+ * read. The index is owned by {@link DatabaseManager}. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class MembershipIndex {
+
+    /**
+     * Fills an empty index with every committed summary and membership.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        void load(Map<Long, ArticleSummary> summaries, Map<Long, ArticleIdSet> members) throws SQLException;
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, ArticleSummary> summaries = new HashMap<>();
+    private final Map<Long, ArticleIdSet> members = new HashMap<>();
+    private volatile ArticleIdSet allArticleIds; // Built on demand; null when out of date
+    private boolean loaded;
+
+    /**
+     * Loads the index if it has not been loaded yet.
+     *
+     * @param loader Supplies the committed summaries and memberships.
+     * @throws SQLException If they cannot be read.
+     */
+    public void ensureLoaded(Loader loader) throws SQLException {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                summaries.clear();
+                members.clear();
+                allArticleIds = null;
+                loader.load(summaries, members);
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the index, loading it first if needed. The check that the index is loaded and the
+     * read happen under one acquisition of the read lock, so an {@link #invalidate()} in between
+     * cannot make the read see an empty index; if the index is invalidated before the lock is
+     * taken, it is loaded again.
+     *
+     * @param loader Supplies the committed summaries and memberships.
+     * @param reader Reads from the loaded index.
+     * @param <T>    The type of the result.
+     * @return The result of the reader.
+     * @throws SQLException If the index cannot be loaded.
+     */
+    public <T> T read(Loader loader, Function<MembershipIndex, T> reader) throws SQLException {
+        while (true) {
+            lock.readLock().lock();
+            try {
+                if (loaded) {
+                    return reader.apply(this);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            ensureLoaded(loader);
+        }
+    }
+
+    /**
+     * Checks whether the index has been loaded.
+     *
+     * @return True if the index holds every article and membership.
+     */
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Discards the index; it is loaded again on next use.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            summaries.clear();
+            members.clear();
+            allArticleIds = null;
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the articles of a group.
+     *
+     * @param groupId The ID of the group.
+     * @return The article IDs; empty if the group has no articles or does not exist.
+     */
+    public ArticleIdSet getMembers(long groupId) {
+        lock.readLock().lock();
+        try {
+            return members.getOrDefault(groupId, ArticleIdSet.empty());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the summaries of a group's articles.
+     *
+     * @param groupId The ID of the group.
+     * @return The summaries in ascending article ID order.
+     */
+    public List<ArticleSummary> getSummaries(long groupId) {
+        lock.readLock().lock();
+        try {
+            return getSummaries(members.getOrDefault(groupId, ArticleIdSet.empty()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the summaries of the given articles.
+     *
+     * @param articleIds The IDs of the articles.
+     * @return The summaries in ascending article ID order, skipping articles that do not exist.
+     */
+    public List<ArticleSummary> getSummaries(ArticleIdSet articleIds) {
+        lock.readLock().lock();
+        try {
+            List<ArticleSummary> result = new ArrayList<>(articleIds.size());
+            articleIds.forEach(id -> {
+                ArticleSummary summary = summaries.get(id);
+                if (summary != null) {
+                    result.add(summary);
+                }
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evaluates a group query against one consistent view of the memberships.
+     *
+     * @param query The query.
+     * @return The matching article IDs.
+     */
+    public ArticleIdSet find(GroupQuery query) {
+        lock.readLock().lock();
+        try {
+            return query.evaluate(new GroupQuery.Source() {
+                @Override
+                public ArticleIdSet members(long groupId) {
+                    return members.getOrDefault(groupId, ArticleIdSet.empty());
+                }
+
+                @Override
+                public ArticleIdSet allArticles() {
+                    return getAllArticleIds();
+                }
+            });
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex); // The in-memory source never fails
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the summary of an article.
+     *
+     * @param articleId The ID of the article.
+     * @return The summary, or null if there is no such article.
+     */
+    public ArticleSummary getSummary(long articleId) {
+        lock.readLock().lock();
+        try {
+            return summaries.get(articleId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the summary of an article.
+     *
+     * @param summary The committed summary.
+     */
+    public void putSummary(ArticleSummary summary) {
+        lock.writeLock().lock();
+        try {
+            if (loaded && summaries.put(summary.getId(), summary) == null) {
+                allArticleIds = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a deleted article and its memberships.
+     *
+     * @param articleId The ID of the deleted article.
+     */
+    public void removeArticle(long articleId) {
+        lock.writeLock().lock();
+        try {
+            if (summaries.remove(articleId) != null) {
+                allArticleIds = null;
+            }
+            removeMemberships(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every article and membership, leaving the index loaded and empty.
+     */
+    public void clearArticles() {
+        lock.writeLock().lock();
+        try {
+            summaries.clear();
+            members.clear();
+            allArticleIds = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds articles to a group.
+     *
+     * @param groupId    The ID of the group.
+     * @param articleIds The IDs of the added articles.
+     */
+    public void addMembers(long groupId, Collection<Long> articleIds) {
+        lock.writeLock().lock();
+        try {
+            if (loaded && !articleIds.isEmpty()) {
+                members.put(groupId, members.getOrDefault(groupId, ArticleIdSet.empty()).with(articleIds));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes articles from a group.
+     *
+     * @param groupId    The ID of the group.
+     * @param articleIds The IDs of the removed articles, preferably as a set.
+     */
+    public void removeMembers(long groupId, Collection<Long> articleIds) {
+        lock.writeLock().lock();
+        try {
+            ArticleIdSet current = members.get(groupId);
+            if (current != null) {
+                ArticleIdSet remaining = current.without(articleIds);
+                if (remaining.isEmpty()) {
+                    members.remove(groupId);
+                } else {
+                    members.put(groupId, remaining);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every membership of a group, because its associations were cleared or it was
+     * deleted.
+     *
+     * @param groupId The ID of the group.
+     */
+    public void removeGroup(long groupId) {
+        lock.writeLock().lock();
+        try {
+            members.remove(groupId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an article from every group, keeping its summary.
+     *
+     * @param articleId The ID of the article.
+     */
+    public void removeArticleFromGroups(long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeMemberships(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every membership, keeping the article summaries.
+     */
+    public void clearMemberships() {
+        lock.writeLock().lock();
+        try {
+            members.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the set of every article, reusing it until the articles change. Called under the
+     * read lock; concurrent readers may both build it, which is harmless.
+     */
+    private ArticleIdSet getAllArticleIds() {
+        ArticleIdSet all = allArticleIds;
+        if (all == null) {
+            long[] ids = new long[summaries.size()];
+            int length = 0;
+            for (Long id : summaries.keySet()) {
+                ids[length++] = id;
+            }
+            all = ArticleIdSet.fromArray(ids, length);
+            allArticleIds = all;
+        }
+        return all;
+    }
+
+    private void removeMemberships(long articleId) {
+        members.replaceAll((groupId, ids) -> ids.without(articleId));
+        members.values().removeIf(ArticleIdSet::isEmpty);
+    }
+}
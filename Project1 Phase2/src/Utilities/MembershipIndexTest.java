@@ -0,0 +1,280 @@
+package Utilities;
+
+import models.ArticleSummary;
+import models.Group;
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * <p> Title: MembershipIndexTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link MembershipIndex} and
+ * {@link ArticleIdSet} classes and their use by {@link HelpArticleDAO}. It validates the set
+ * operations, that a group's summaries are served without a query once the index is loaded, that
+ * association changes, renames and cascading deletes keep the index current, that changes
+ * rolled back in a unit of work never reach it, and that reads racing an invalidation never see
+ * an empty index.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class MembershipIndexTest {
+
+    /**
+     * The main method to execute the MembershipIndex tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        MembershipIndexTest tester = new MembershipIndexTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the MembershipIndex.
+     */
+    public void runTests() {
+        System.out.println("Running MembershipIndex tests...");
+
+        testArticleIdSet();
+        testReadDuringInvalidation();
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testSummariesUseNoQuery();
+            testAssociationChanges();
+            testArticleChanges();
+            testGroupDeletes();
+            testRolledBackChangesNotIndexed();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("MembershipIndex tests completed.");
+    }
+
+    /**
+     * Creates and stores an article with the given title.
+     */
+    private HelpArticle addArticle(HelpArticleDAO helpArticleDAO, String title) throws SQLException {
+        HelpArticle article = new HelpArticle(0, "Header", title, "Description", Arrays.asList("membership"),
+                "Body of " + title, Arrays.asList("https://example.com"));
+        helpArticleDAO.addHelpArticle(article);
+        return article;
+    }
+
+    /**
+     * Creates and stores a group with the given name.
+     */
+    private Group addGroup(GroupDAO groupDAO, String name) throws SQLException {
+        Group group = new Group(name);
+        groupDAO.addGroup(group);
+        return group;
+    }
+
+    /**
+     * Tests that ArticleIdSet keeps its members sorted and unique and that changes return new sets.
+     */
+    public void testArticleIdSet() {
+        System.out.println("\nTest: ArticleIdSet");
+        ArticleIdSet set = ArticleIdSet.of(5, 1, 3, 5);
+        ArticleIdSet added = set.with(Arrays.asList(2L, 3L));
+        ArticleIdSet removed = added.without(new HashSet<>(Arrays.asList(1L, 5L)));
+
+        if (Arrays.equals(set.toArray(), new long[] {1, 3, 5}) && set.contains(3) && !set.contains(2) &&
+            Arrays.equals(added.toArray(), new long[] {1, 2, 3, 5}) &&
+            Arrays.equals(removed.toArray(), new long[] {2, 3}) &&
+            set.with(Arrays.asList(1L)) == set && removed.without(2).without(3).isEmpty()) {
+            System.out.println("Passed: Set operations produced the expected members.");
+        } else {
+            System.out.println("Failed: Unexpected members: " + set + ", " + added + ", " + removed);
+        }
+    }
+
+    /**
+     * Tests that reads racing repeated invalidations always see the loaded members.
+     */
+    public void testReadDuringInvalidation() {
+        System.out.println("\nTest: Read During Invalidation");
+        MembershipIndex index = new MembershipIndex();
+        MembershipIndex.Loader loader = (summaries, members) -> {
+            for (long id = 1; id <= 3; id++) {
+                summaries.put(id, new ArticleSummary(id, "Title " + id, "Description"));
+            }
+            members.put(1L, ArticleIdSet.of(1, 2, 3));
+        };
+        Thread invalidator = Thread.ofVirtual().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                index.invalidate();
+            }
+        });
+        int emptyReads = 0;
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                if (index.read(loader, membership -> membership.getSummaries(1)).size() != 3 ||
+                    index.read(loader, membership -> membership.getMembers(1)).size() != 3) {
+                    emptyReads++;
+                }
+            }
+        } catch (SQLException e) {
+            emptyReads = -1;
+        } finally {
+            invalidator.interrupt();
+        }
+
+        if (emptyReads == 0) {
+            System.out.println("Passed: Every read saw the loaded members.");
+        } else {
+            System.out.println("Failed: " + emptyReads + " reads saw an incomplete index.");
+        }
+    }
+
+    /**
+     * Tests that a group's summaries are served from memory once the index is loaded.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testSummariesUseNoQuery() throws SQLException {
+        System.out.println("\nTest: Summaries Use No Query");
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group group = addGroup(new GroupDAO(), "membership-browse");
+        HelpArticle first = addArticle(helpArticleDAO, "First");
+        HelpArticle second = addArticle(helpArticleDAO, "Second");
+        helpArticleDAO.associateArticlesWithGroup(group.getId(), Arrays.asList(second.getId(), first.getId()));
+        helpArticleDAO.getArticleSummariesByGroupId(group.getId()); // Loads the index
+
+        long borrowsBefore = databaseManager.getPoolStatistics().getBorrows();
+        long start = System.nanoTime();
+        List<ArticleSummary> summaries = null;
+        for (int i = 0; i < 1000; i++) {
+            summaries = helpArticleDAO.getArticleSummariesByGroupId(group.getId());
+        }
+        double micros = (System.nanoTime() - start) / 1000.0 / 1000;
+        long borrowsAfter = databaseManager.getPoolStatistics().getBorrows();
+
+        if (summaries.size() == 2 && summaries.get(0).getId() == first.getId() &&
+            "Second".equals(summaries.get(1).getTitle()) && borrowsAfter == borrowsBefore) {
+            System.out.println("Passed: Summaries were served from memory in " + String.format("%.1f", micros) + " us per call.");
+        } else {
+            System.out.println("Failed: Summaries went to the database or were wrong: " + summaries);
+        }
+    }
+
+    /**
+     * Tests that single, bulk and sync association changes are reflected in the index.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testAssociationChanges() throws SQLException {
+        System.out.println("\nTest: Association Changes");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group group = addGroup(new GroupDAO(), "membership-changes");
+        HelpArticle a = addArticle(helpArticleDAO, "A");
+        HelpArticle b = addArticle(helpArticleDAO, "B");
+        HelpArticle c = addArticle(helpArticleDAO, "C");
+        helpArticleDAO.getArticleIdsByGroupId(group.getId()); // Loads the index
+
+        helpArticleDAO.associateArticleWithGroup(a.getId(), group.getId());
+        helpArticleDAO.associateArticlesWithGroup(group.getId(), Arrays.asList(b.getId(), -1L));
+        boolean afterAdd = helpArticleDAO.getArticleIdsByGroupId(group.getId()).equals(ArticleIdSet.of(a.getId(), b.getId()));
+        helpArticleDAO.syncGroupMembership(group.getId(), Arrays.asList(b.getId(), c.getId()));
+        boolean afterSync = helpArticleDAO.getArticleIdsByGroupId(group.getId()).equals(ArticleIdSet.of(b.getId(), c.getId()));
+        helpArticleDAO.dissociateArticleFromGroup(b.getId(), group.getId());
+        helpArticleDAO.dissociateArticlesFromGroup(group.getId(), Arrays.asList(c.getId()));
+        boolean afterRemove = helpArticleDAO.getArticleIdsByGroupId(group.getId()).isEmpty();
+
+        if (afterAdd && afterSync && afterRemove) {
+            System.out.println("Passed: The index followed every association change.");
+        } else {
+            System.out.println("Failed: Index out of date (add=" + afterAdd + ", sync=" + afterSync + ", remove=" + afterRemove + ").");
+        }
+    }
+
+    /**
+     * Tests that renaming and deleting articles update the summaries and memberships.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testArticleChanges() throws SQLException {
+        System.out.println("\nTest: Article Changes");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group group = addGroup(new GroupDAO(), "membership-articles");
+        HelpArticle renamed = addArticle(helpArticleDAO, "Old Title");
+        HelpArticle deleted = addArticle(helpArticleDAO, "Deleted");
+        helpArticleDAO.associateArticlesWithGroup(group.getId(), Arrays.asList(renamed.getId(), deleted.getId()));
+
+        renamed.setTitle("New Title");
+        helpArticleDAO.updateHelpArticle(renamed);
+        helpArticleDAO.deleteHelpArticle(deleted.getId());
+        List<ArticleSummary> summaries = helpArticleDAO.getArticleSummariesByGroupId(group.getId());
+        boolean renameApplied = summaries.size() == 1 && "New Title".equals(summaries.get(0).getTitle());
+        boolean deleteApplied = !helpArticleDAO.getArticleIdsByGroupId(group.getId()).contains(deleted.getId());
+        helpArticleDAO.clearAssociationsForArticle(renamed.getId());
+        boolean clearApplied = helpArticleDAO.getArticleIdsByGroupId(group.getId()).isEmpty();
+
+        if (renameApplied && deleteApplied && clearApplied) {
+            System.out.println("Passed: Article changes were reflected in the index.");
+        } else {
+            System.out.println("Failed: Index out of date (rename=" + renameApplied + ", delete=" + deleteApplied +
+                    ", clear=" + clearApplied + ").");
+        }
+    }
+
+    /**
+     * Tests that deleting a group removes its memberships.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testGroupDeletes() throws SQLException {
+        System.out.println("\nTest: Group Deletes");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        Group group = addGroup(groupDAO, "membership-deleted");
+        HelpArticle article = addArticle(helpArticleDAO, "Orphaned");
+        helpArticleDAO.associateArticleWithGroup(article.getId(), group.getId());
+
+        groupDAO.deleteGroup(group.getId());
+        boolean deleteApplied = helpArticleDAO.getArticleIdsByGroupId(group.getId()).isEmpty();
+        Group other = addGroup(groupDAO, "membership-cleared");
+        helpArticleDAO.associateArticleWithGroup(article.getId(), other.getId());
+        groupDAO.deleteAllGroups();
+        boolean clearApplied = helpArticleDAO.getArticleIdsByGroupId(other.getId()).isEmpty();
+
+        if (deleteApplied && clearApplied) {
+            System.out.println("Passed: Group deletes removed their memberships.");
+        } else {
+            System.out.println("Failed: Memberships of deleted groups were kept.");
+        }
+    }
+
+    /**
+     * Tests that memberships added in a unit of work are visible inside it but not indexed if it
+     * is rolled back.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testRolledBackChangesNotIndexed() throws SQLException {
+        System.out.println("\nTest: Rolled Back Changes Not Indexed");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Group group = addGroup(new GroupDAO(), "membership-rollback");
+        HelpArticle article = addArticle(helpArticleDAO, "Rolled Back");
+        boolean seenInside;
+        try (UnitOfWork work = DatabaseManager.getInstance().beginUnitOfWork()) {
+            helpArticleDAO.associateArticleWithGroup(article.getId(), group.getId());
+            seenInside = helpArticleDAO.getArticleSummariesByGroupId(group.getId()).size() == 1;
+            work.rollback();
+        }
+
+        if (seenInside && helpArticleDAO.getArticleSummariesByGroupId(group.getId()).isEmpty()) {
+            System.out.println("Passed: The rolled back membership never reached the index.");
+        } else {
+            System.out.println("Failed: The rolled back membership was indexed or not visible inside its unit of work.");
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package Utilities;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p> Title: MethodMetrics Class </p>
+ *
+ * <p> Description: This class records the calls of one DAO method: how many there were, how many
+ * failed, how many rows they read and wrote, and a latency histogram from which percentiles are
+ * read. Instances are created once through {@link DaoMetrics#register(String)} and kept in static
+ * fields of the DAO, so recording a call only updates counters and allocates nothing. </p>
+ *
+ * <p> The histogram is log-linear: every power of two is split into eight buckets, so a
+ * percentile is accurate to within 12.5% from nanoseconds up to hours, in a fixed 488 counters.
+ * Counters are updated independently, so a {@link Snapshot} taken while calls are recorded may
+ * be off by the calls in progress. </p>
+ *
+ * <p> Usage: </p>
+ * <pre>
+ * long start = System.nanoTime();
+ * try {
+ *     List&lt;HelpArticle&gt; articles = ...;
+ *     return GET_ALL_HELP_ARTICLES_METRICS.read(start, articles);
+ * } catch (SQLException | RuntimeException ex) {
+ *     GET_ALL_HELP_ARTICLES_METRICS.recordFailure(start);
+ *     throw ex;
+ * }
+ * </pre>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public final class MethodMetrics {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    MethodMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the name the metrics were registered under.
+     *
+     * @return The name, such as "HelpArticleDAO.getHelpArticleById".
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a successful call that read rows and passes its result through. The rows are
+     * counted from the result: the size of a collection, map, {@link Page} or
+     * {@link ArticleIdSet}, none for null, and one for any other object.
+     *
+     * @param startNanos The {@link System#nanoTime()} at the start of the call.
+     * @param result     The result of the call.
+     * @param <T>        The type of the result.
+     * @return The result.
+     */
+    public <T> T read(long startNanos, T result) {
+        return read(startNanos, result, rowsOf(result));
+    }
+
+    /**
+     * Records a successful call that read rows and passes its result through.
+     *
+     * @param startNanos The {@link System#nanoTime()} at the start of the call.
+     * @param result     The result of the call.
+     * @param rows       The number of rows read.
+     * @param <T>        The type of the result.
+     * @return The result.
+     */
+    public <T> T read(long startNanos, T result, int rows) {
+        record(startNanos, false);
+        rowsRead.add(rows);
+        return result;
+    }
+
+    /**
+     * Records a successful call that wrote rows.
+     *
+     * @param startNanos The {@link System#nanoTime()} at the start of the call.
+     * @param rows       The number of rows inserted, updated or deleted.
+     */
+    public void wrote(long startNanos, int rows) {
+        record(startNanos, false);
+        rowsWritten.add(rows);
+    }
+
+    /**
+     * Records a successful call that changed associations and passes its result through.
+     *
+     * @param startNanos The {@link System#nanoTime()} at the start of the call.
+     * @param result     The result of the call, whose changed articles are counted as rows written.
+     * @return The result.
+     */
+    public AssociationResult wrote(long startNanos, AssociationResult result) {
+        wrote(startNanos, result.getChangedCount());
+        return result;
+    }
+
+    /**
+     * Adds rows read after the call was recorded, such as those of a stream consumed later.
+     *
+     * @param rows The number of rows read.
+     */
+    public void addRowsRead(long rows) {
+        rowsRead.add(rows);
+    }
+
+    /**
+     * Records a call that threw an exception.
+     *
+     * @param startNanos The {@link System#nanoTime()} at the start of the call.
+     */
+    public void recordFailure(long startNanos) {
+        record(startNanos, true);
+    }
+
+    private void record(long startNanos, boolean failed) {
+        long nanos = Math.max(0, System.nanoTime() - startNanos);
+        calls.increment();
+        if (failed) {
+            errors.increment();
+        }
+        totalNanos.add(nanos);
+        histogram.incrementAndGet(bucketOf(nanos));
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Clears every counter.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0);
+        }
+        calls.reset();
+        errors.reset();
+        rowsRead.reset();
+        rowsWritten.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    /**
+     * Copies the counters and computes the percentiles, which are the upper bounds of their
+     * buckets capped at the largest latency seen.
+     *
+     * @return The snapshot.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+        long max = maxNanos.get();
+        return new Snapshot(name, calls.sum(), errors.sum(), rowsRead.sum(), rowsWritten.sum(), totalNanos.sum(), max,
+                Math.min(max, percentile(counts, total, 0.50)), Math.min(max, percentile(counts, total, 0.95)),
+                Math.min(max, percentile(counts, total, 0.99)));
+    }
+
+    private static int rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        if (result instanceof Page) {
+            return ((Page<?>) result).getItems().size();
+        }
+        if (result instanceof ArticleIdSet) {
+            return ((ArticleIdSet) result).size();
+        }
+        return 1;
+    }
+
+    /**
+     * Maps a duration to its bucket: values below eight nanoseconds have a bucket each, and each
+     * higher power of two is split into eight equal buckets.
+     */
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Retrieves the largest duration that falls into a bucket.
+     */
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double fraction) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(counts.length - 1);
+    }
+
+    /**
+     * The metrics of one method at one point in time.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final long calls;
+        private final long errors;
+        private final long rowsRead;
+        private final long rowsWritten;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long p50Nanos;
+        private final long p95Nanos;
+        private final long p99Nanos;
+
+        Snapshot(String name, long calls, long errors, long rowsRead, long rowsWritten, long totalNanos,
+                 long maxNanos, long p50Nanos, long p95Nanos, long p99Nanos) {
+            this.name = name;
+            this.calls = calls;
+            this.errors = errors;
+            this.rowsRead = rowsRead;
+            this.rowsWritten = rowsWritten;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.p50Nanos = p50Nanos;
+            this.p95Nanos = p95Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        /** @return The method name. */
+        public String getName() {
+            return name;
+        }
+
+        /** @return The number of calls, failed ones included. */
+        public long getCalls() {
+            return calls;
+        }
+
+        /** @return The number of calls that threw an exception. */
+        public long getErrors() {
+            return errors;
+        }
+
+        /** @return The number of rows read. */
+        public long getRowsRead() {
+            return rowsRead;
+        }
+
+        /** @return The number of rows inserted, updated or deleted. */
+        public long getRowsWritten() {
+            return rowsWritten;
+        }
+
+        /** @return The summed latency in nanoseconds. */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /** @return The largest latency in nanoseconds. */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /** @return The median latency in nanoseconds. */
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        /** @return The 95th percentile latency in nanoseconds. */
+        public long getP95Nanos() {
+            return p95Nanos;
+        }
+
+        /** @return The 99th percentile latency in nanoseconds. */
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        /** @return The mean latency in nanoseconds, or 0 before the first call. */
+        public long getMeanNanos() {
+            return calls == 0 ? 0 : totalNanos / calls;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-45s %8d %6d %10d %10d %9.3f %9.3f %9.3f %9.3f %9.3f", name, calls, errors, rowsRead,
+                    rowsWritten, getMeanNanos() / 1e6, p50Nanos / 1e6, p95Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package Utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * <p> Title: Migration Class </p>
+ *
+ * <p> Description: This class represents one versioned step of the database schema. A migration
+ * is either a list of SQL statements or a piece of Java code (used when existing rows have to be
+ * transformed). Every migration carries a checksum so that {@link SchemaMigrator} can detect a
+ * migration that was edited after it had already been applied to a database. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class Migration {
+
+    /**
+     * The work performed by a Java-based migration.
+     */
+    @FunctionalInterface
+    public interface Step {
+        /**
+         * Applies the migration using the given connection.
+         *
+         * @param connection The connection the migration runs on.
+         * @throws SQLException If the migration fails.
+         */
+        void apply(Connection connection) throws SQLException;
+    }
+
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+    private final Step step;
+    private final long checksum;
+
+    /**
+     * Constructs a Migration. Use the static factory methods instead.
+     *
+     * @param version     The schema version this migration upgrades to.
+     * @param description A short description of the change.
+     * @param statements  The SQL statements, or an empty list for a Java migration.
+     * @param step        The Java code to run, or null for a SQL migration.
+     * @param checksum    The checksum recorded for this migration.
+     */
+    private Migration(int version, String description, List<String> statements, Step step, long checksum) {
+        if (version < 1) {
+            throw new IllegalArgumentException("Migration versions start at 1.");
+        }
+        this.version = version;
+        this.description = description;
+        this.statements = statements;
+        this.step = step;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Creates a migration that executes SQL statements in order. The checksum is computed from
+     * the statement text.
+     *
+     * @param version     The schema version this migration upgrades to.
+     * @param description A short description of the change.
+     * @param statements  The SQL statements to execute.
+     * @return The migration.
+     */
+    public static Migration sql(int version, String description, String... statements) {
+        List<String> list = Collections.unmodifiableList(Arrays.asList(statements));
+        return new Migration(version, description, list, null, checksumOf(String.join("\n", list)));
+    }
+
+    /**
+     * Creates a migration that builds an index. Each index gets its own migration so that a large
+     * table is only locked for the duration of a single index build, and the statement uses
+     * {@code IF NOT EXISTS} so an interrupted build can simply be re-run.
+     *
+     * @param version     The schema version this migration upgrades to.
+     * @param indexName   The name of the index.
+     * @param table       The table to index.
+     * @param columns     The indexed columns, in order.
+     * @return The migration.
+     */
+    public static Migration index(int version, String indexName, String table, String... columns) {
+        String sql = "CREATE INDEX IF NOT EXISTS " + indexName + " ON " + table + " (" + String.join(", ", columns) + ");";
+        return sql(version, "Create index " + indexName + " on " + table, sql);
+    }
+
+    /**
+     * Creates a migration that runs Java code. Because code cannot be checksummed reliably, the
+     * caller supplies a revision string that must be changed whenever the code changes meaning.
+     *
+     * @param version     The schema version this migration upgrades to.
+     * @param description A short description of the change.
+     * @param revision    A revision string from which the checksum is computed.
+     * @param step        The code to run.
+     * @return The migration.
+     */
+    public static Migration java(int version, String description, String revision, Step step) {
+        return new Migration(version, description, Collections.emptyList(), step, checksumOf(description + "\n" + revision));
+    }
+
+    /**
+     * Applies this migration using the given connection.
+     *
+     * @param connection The connection the migration runs on.
+     * @throws SQLException If any statement fails.
+     */
+    public void apply(Connection connection) throws SQLException {
+        if (step != null) {
+            step.apply(connection);
+            return;
+        }
+        try (Statement stmt = connection.createStatement()) {
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the schema version this migration upgrades to.
+     *
+     * @return The version number.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieves the description of the migration.
+     *
+     * @return The description.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Retrieves the checksum of the migration.
+     *
+     * @return The checksum.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Computes a CRC32 checksum of the given text.
+     *
+     * @param text The text to checksum.
+     * @return The checksum.
+     */
+    private static long checksumOf(String text) {
+        CRC32 crc = new CRC32();
+        crc.update(text.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Returns a string representation of the migration.
+     *
+     * @return The version and description.
+     */
+    @Override
+    public String toString() {
+        return "V" + version + " " + description;
+    }
+}
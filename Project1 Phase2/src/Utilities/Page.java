@@ -0,0 +1,107 @@
+package Utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> Title: Page Class </p>
+ *
+ * <p> Description: This class holds one page of a list query together with the cursor that
+ * fetches the page after it. Pages are produced by keyset pagination: rows are read in ascending
+ * ID order starting after the last ID of the previous page, so each page costs an index seek
+ * regardless of how deep into the list it is, and rows added or removed elsewhere never shift
+ * the pages that follow. </p>
+ *
+ * <p> Cursor tokens are opaque to callers. A null cursor requests the first page, and a page
+ * whose {@link #getNextCursor()} is null is the last one. </p>
+ *
+ * @param <T> The type of the items on the page.
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public final class Page<T> {
+    private static final String CURSOR_PREFIX = "id:";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * Constructs a Page.
+     *
+     * @param items      The items on this page.
+     * @param nextCursor The cursor of the next page, or null if this is the last page.
+     */
+    public Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /** @return The items on this page, in ascending ID order. */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /** @return The cursor of the next page, or null if this is the last page. */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /** @return True if another page follows this one. */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Encodes a cursor that continues after the given ID.
+     *
+     * @param lastId The ID of the last item on the current page.
+     * @return The cursor token.
+     */
+    static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the ID after which the page starts.
+     *
+     * @param cursor The cursor token, or null for the first page.
+     * @return The ID after which to continue; {@link Long#MIN_VALUE} for the first page.
+     * @throws IllegalArgumentException If the token was not produced by {@link #encodeCursor(long)}.
+     */
+    static long decodeCursor(String cursor) {
+        if (cursor == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(CURSOR_PREFIX)) {
+                return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException ex) {
+            // Fall through to the error below; NumberFormatException is an IllegalArgumentException.
+        }
+        throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+    }
+
+    /**
+     * Validates a requested page size.
+     *
+     * @param pageSize The requested number of items per page.
+     * @throws IllegalArgumentException If the page size is not positive.
+     */
+    static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive but was " + pageSize + ".");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Page[" + items.size() + " items, next=" + nextCursor + "]";
+    }
+}
@@ -0,0 +1,189 @@
+package Utilities;
+
+import models.Group;
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p> Title: PageTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link Page} class and the keyset
+ * pagination methods of {@link HelpArticleDAO} and {@link GroupDAO}. It validates cursor
+ * encoding, walking every page of articles, groups and group members, and that rows deleted
+ * between pages do not shift the pages that follow.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class PageTest {
+
+    /**
+     * The main method to execute the Page tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        PageTest tester = new PageTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for pagination.
+     */
+    public void runTests() {
+        System.out.println("Running Page tests...");
+
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testCursorEncoding();
+            testHelpArticlesPages();
+            testArticlesByGroupIdPages();
+            testGroupsPages();
+            testDeleteBetweenPages();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("Page tests completed.");
+    }
+
+    /**
+     * Tests that cursors round-trip and that foreign tokens are rejected.
+     */
+    public void testCursorEncoding() {
+        System.out.println("\nTest: Cursor Encoding");
+        boolean roundTrip = Page.decodeCursor(Page.encodeCursor(42)) == 42 && Page.decodeCursor(null) == Long.MIN_VALUE;
+        boolean rejected;
+        try {
+            Page.decodeCursor("not-a-cursor");
+            rejected = false;
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        if (roundTrip && rejected) {
+            System.out.println("Passed: Cursors round-trip and invalid tokens are rejected.");
+        } else {
+            System.out.println("Failed: Cursor encoding is incorrect.");
+        }
+    }
+
+    /**
+     * Tests that walking the article pages returns every article once, in ID order.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testHelpArticlesPages() throws SQLException {
+        System.out.println("\nTest: HelpArticle Pages");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        for (int i = 1; i <= 7; i++) {
+            helpArticleDAO.addHelpArticle(new HelpArticle(0, "Header" + i, "Article " + i, "Description " + i,
+                    Arrays.asList("paging"), "Body " + i, Arrays.asList("https://example.com/" + i)));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<HelpArticle> page = helpArticleDAO.getHelpArticlesPage(cursor, 3);
+            sizes.add(page.getItems().size());
+            for (HelpArticle article : page.getItems()) {
+                ids.add(article.getId());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        if (sizes.equals(Arrays.asList(3, 3, 1)) && ids.size() == 7 && isAscending(ids)) {
+            System.out.println("Passed: Every article was returned once across the pages.");
+        } else {
+            System.out.println("Failed: Unexpected pages " + sizes + " with IDs " + ids);
+        }
+    }
+
+    /**
+     * Tests paging through the members of a group.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testArticlesByGroupIdPages() throws SQLException {
+        System.out.println("\nTest: Articles By Group ID Pages");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        Group group = new Group("paging-members");
+        groupDAO.addGroup(group);
+        List<HelpArticle> articles = helpArticleDAO.getAllHelpArticles();
+        for (int i = 0; i < articles.size(); i += 2) {
+            helpArticleDAO.associateArticleWithGroup(articles.get(i).getId(), group.getId());
+        }
+
+        Page<HelpArticle> first = helpArticleDAO.getArticlesByGroupIdPage(group.getId(), null, 2);
+        Page<HelpArticle> second = helpArticleDAO.getArticlesByGroupIdPage(group.getId(), first.getNextCursor(), 2);
+        Page<HelpArticle> empty = helpArticleDAO.getArticlesByGroupIdPage(-1, null, 2);
+        if (first.getItems().size() == 2 && first.hasNext() && second.getItems().size() == 2 && !second.hasNext() &&
+            second.getItems().get(0).getId() > first.getItems().get(1).getId() && empty.getItems().isEmpty()) {
+            System.out.println("Passed: Group members were paged in ID order.");
+        } else {
+            System.out.println("Failed: Unexpected group member pages " + first + ", " + second);
+        }
+    }
+
+    /**
+     * Tests paging through the groups.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testGroupsPages() throws SQLException {
+        System.out.println("\nTest: Group Pages");
+        GroupDAO groupDAO = new GroupDAO();
+        groupDAO.addGroup(new Group("paging-a"));
+        groupDAO.addGroup(new Group("paging-b"));
+
+        Page<Group> first = groupDAO.getGroupsPage(null, 2);
+        Page<Group> second = groupDAO.getGroupsPage(first.getNextCursor(), 2);
+        if (first.getItems().size() == 2 && first.hasNext() && second.getItems().size() == 1 && !second.hasNext() &&
+            second.getItems().get(0).getName().equals("paging-b")) {
+            System.out.println("Passed: Groups were paged in ID order.");
+        } else {
+            System.out.println("Failed: Unexpected group pages " + first + ", " + second);
+        }
+    }
+
+    /**
+     * Tests that deleting rows already seen does not shift the next page.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testDeleteBetweenPages() throws SQLException {
+        System.out.println("\nTest: Delete Between Pages");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        Page<HelpArticle> first = helpArticleDAO.getHelpArticlesPage(null, 3);
+        long expectedNext = helpArticleDAO.getHelpArticlesPage(first.getNextCursor(), 3).getItems().get(0).getId();
+        for (HelpArticle article : first.getItems()) {
+            helpArticleDAO.deleteHelpArticle(article.getId());
+        }
+
+        Page<HelpArticle> second = helpArticleDAO.getHelpArticlesPage(first.getNextCursor(), 3);
+        if (second.getItems().get(0).getId() == expectedNext) {
+            System.out.println("Passed: Deletions did not shift the next page.");
+        } else {
+            System.out.println("Failed: Next page shifted after deletions.");
+        }
+    }
+
+    /**
+     * Checks that IDs are strictly ascending.
+     */
+    private boolean isAscending(List<Long> ids) {
+        for (int i = 1; i < ids.size(); i++) {
+            if (ids.get(i) <= ids.get(i - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
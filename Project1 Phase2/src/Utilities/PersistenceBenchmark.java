@@ -0,0 +1,629 @@
+package Utilities;
+
+import models.ArticleSummary;
+import models.Group;
+import models.HelpArticle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * <p> Title: PersistenceBenchmark Class </p>
+ *
+ * <p> Description: This class benchmarks the hot paths of the persistence layer against corpora
+ * of a given number of articles, by default 1,000, 10,000, 100,000 and 1,000,000. It follows the
+ * structure of a JMH benchmark without needing JMH on the class path: for each corpus size the
+ * database is reset and filled once, and each {@link Benchmark} then runs warm-up iterations
+ * followed by measured iterations. Fast operations are run repeatedly for a fixed time per
+ * iteration and scored as the average time per operation; backup and restore run once per
+ * iteration and are scored as the time of that single run. Results are consumed so the JIT cannot
+ * drop the calls. </p>
+ *
+ * <p> The corpus stays the same size throughout: articles added by {@code addHelpArticle} are
+ * deleted after each iteration, and associations made by {@code associateArticleWithGroup} are
+ * cleared, outside the measured time. Caches are left as configured, so
+ * {@code getHelpArticleById} measures what the application would see. </p>
+ *
+ * <p> Results can be written to a CSV file and compared against the CSV of an earlier run, in
+ * which case any benchmark slower than its baseline by more than the tolerance is reported as a
+ * regression and the process exits with status 1. </p>
+ *
+ * <p> Usage: </p>
+ * <pre>
+ * java -Xmx8g -Dhelpsystem.db.storage.mode=file -cp ... Utilities.PersistenceBenchmark
+ *      --sizes 1000,10000,100000,1000000 --benchmarks getHelpArticleById,backupAllGroups
+ *      --warmup 3 --iterations 5 --iteration-ms 1000 --csv results.csv --baseline previous.csv
+ * </pre>
+ *
+ * <p> The benchmark resets the configured database, so it must never be pointed at real data. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class PersistenceBenchmark {
+    static final String CSV_HEADER = "benchmark,size,mode,operations,mean_us,stddev_us,p50_us,p99_us";
+    private static final int GROUP_COUNT = 10;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final String GROUP_PREFIX = "bench-group-";
+    private static final String SCRATCH_GROUP = "bench-scratch";
+
+    /**
+     * How a benchmark is scored.
+     */
+    public enum Mode {
+        /** Run repeatedly for the iteration time; scored as the average time per operation. */
+        AVERAGE_TIME,
+        /** Run once per iteration; scored as the time of that run. */
+        SINGLE_SHOT
+    }
+
+    /**
+     * The benchmarked operations, in the order they are run.
+     */
+    public enum Benchmark {
+        GET_HELP_ARTICLE_BY_ID("getHelpArticleById", Mode.AVERAGE_TIME),
+        GET_ARTICLES_BY_GROUP_ID("getArticlesByGroupId", Mode.AVERAGE_TIME),
+        GET_ALL_HELP_ARTICLES("getAllHelpArticles", Mode.AVERAGE_TIME),
+        ADD_HELP_ARTICLE("addHelpArticle", Mode.AVERAGE_TIME),
+        ASSOCIATE_ARTICLE_WITH_GROUP("associateArticleWithGroup", Mode.AVERAGE_TIME),
+        BACKUP_ALL_GROUPS("backupAllGroups", Mode.SINGLE_SHOT),
+        RESTORE_GROUPS("restoreGroups", Mode.SINGLE_SHOT);
+
+        private final String label;
+        private final Mode mode;
+
+        Benchmark(String label, Mode mode) {
+            this.label = label;
+            this.mode = mode;
+        }
+
+        /** @return The name of the benchmarked method. */
+        public String getLabel() {
+            return label;
+        }
+
+        /** @return How the benchmark is scored. */
+        public Mode getMode() {
+            return mode;
+        }
+
+        /**
+         * Finds a benchmark by the name of the method it measures.
+         *
+         * @param label The method name, such as "getHelpArticleById".
+         * @return The benchmark.
+         * @throws IllegalArgumentException If no benchmark has that name.
+         */
+        public static Benchmark fromLabel(String label) {
+            for (Benchmark benchmark : values()) {
+                if (benchmark.label.equalsIgnoreCase(label.trim())) {
+                    return benchmark;
+                }
+            }
+            throw new IllegalArgumentException("Unknown benchmark '" + label + "'.");
+        }
+    }
+
+    private final List<Integer> sizes;
+    private final Set<Benchmark> benchmarks;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final int bodyLength;
+    private final Path workDirectory;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private HelpArticleDAO helpArticleDAO;
+    private GroupDAO groupDAO;
+    private BackupRestoreManager backupRestoreManager;
+    private long[] articleIds;
+    private long[] groupIds;
+    private long scratchGroupId;
+    private Path backupFile;
+    private long sink;
+
+    /**
+     * Constructs a PersistenceBenchmark.
+     *
+     * @param sizes                 The corpus sizes to run at, in articles.
+     * @param benchmarks            The benchmarks to run.
+     * @param warmupIterations      The iterations run before measuring.
+     * @param measurementIterations The iterations measured.
+     * @param iterationMillis       How long an average-time iteration runs.
+     * @param bodyLength            The length of each generated article body, in characters.
+     * @param workDirectory         The directory backup files are written to.
+     */
+    public PersistenceBenchmark(List<Integer> sizes, Set<Benchmark> benchmarks, int warmupIterations,
+                                int measurementIterations, long iterationMillis, int bodyLength, Path workDirectory) {
+        if (measurementIterations < 1) {
+            throw new IllegalArgumentException("At least one measurement iteration is required.");
+        }
+        for (int size : sizes) {
+            if (size < GROUP_COUNT) {
+                throw new IllegalArgumentException("Corpus sizes must be at least " + GROUP_COUNT + " articles.");
+            }
+        }
+        this.sizes = new ArrayList<>(sizes);
+        this.benchmarks = benchmarks.isEmpty() ? EnumSet.noneOf(Benchmark.class) : EnumSet.copyOf(benchmarks);
+        this.warmupIterations = Math.max(warmupIterations, 0);
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000;
+        this.bodyLength = bodyLength;
+        this.workDirectory = workDirectory;
+    }
+
+    /**
+     * Runs the benchmarks from the command line.
+     *
+     * @param args The options described in the class documentation.
+     */
+    public static void main(String[] args) {
+        List<Integer> sizes = Arrays.asList(1_000, 10_000, 100_000, 1_000_000);
+        Set<Benchmark> benchmarks = EnumSet.allOf(Benchmark.class);
+        int warmup = 3;
+        int iterations = 5;
+        long iterationMillis = 1000;
+        int bodyLength = 1024;
+        Path csv = null;
+        Path baseline = null;
+        double tolerance = 0.10;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--sizes":
+                        sizes = new ArrayList<>();
+                        for (String size : value.split(",")) {
+                            sizes.add(Integer.parseInt(size.trim()));
+                        }
+                        break;
+                    case "--benchmarks":
+                        benchmarks = EnumSet.noneOf(Benchmark.class);
+                        for (String label : value.split(",")) {
+                            benchmarks.add(Benchmark.fromLabel(label));
+                        }
+                        break;
+                    case "--warmup":
+                        warmup = Integer.parseInt(value);
+                        break;
+                    case "--iterations":
+                        iterations = Integer.parseInt(value);
+                        break;
+                    case "--iteration-ms":
+                        iterationMillis = Long.parseLong(value);
+                        break;
+                    case "--body-length":
+                        bodyLength = Integer.parseInt(value);
+                        break;
+                    case "--csv":
+                        csv = Paths.get(value);
+                        break;
+                    case "--baseline":
+                        baseline = Paths.get(value);
+                        break;
+                    case "--tolerance":
+                        tolerance = Double.parseDouble(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option '" + args[i] + "'.");
+                }
+                i++;
+            }
+        } catch (NullPointerException | IllegalArgumentException ex) {
+            System.out.println("Invalid arguments: " + (ex.getMessage() == null ? "missing value" : ex.getMessage()));
+            System.exit(2);
+        }
+
+        try {
+            Path workDirectory = Files.createTempDirectory("persistence-benchmark");
+            PersistenceBenchmark benchmark = new PersistenceBenchmark(sizes, benchmarks, warmup, iterations,
+                    iterationMillis, bodyLength, workDirectory);
+            List<Result> results = benchmark.run();
+            System.out.println();
+            System.out.println(report(results));
+            if (csv != null) {
+                writeCsv(results, csv);
+            }
+            if (baseline != null) {
+                List<String> regressions = findRegressions(results, readCsv(baseline), tolerance);
+                for (String regression : regressions) {
+                    System.out.println("REGRESSION: " + regression);
+                }
+                if (!regressions.isEmpty()) {
+                    System.exit(1);
+                }
+            }
+        } catch (SQLException | IOException | ClassNotFoundException ex) {
+            System.out.println("Benchmark failed: " + ex.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Runs every selected benchmark at every corpus size.
+     *
+     * @return The results, by corpus size and then benchmark.
+     * @throws SQLException           If a database access error occurs.
+     * @throws IOException            If a backup file cannot be written or read.
+     * @throws ClassNotFoundException If a backup cannot be deserialized.
+     */
+    public List<Result> run() throws SQLException, IOException, ClassNotFoundException {
+        helpArticleDAO = new HelpArticleDAO();
+        groupDAO = new GroupDAO();
+        backupRestoreManager = new BackupRestoreManager();
+        backupFile = workDirectory.resolve("benchmark.bak");
+
+        List<Result> results = new ArrayList<>();
+        for (int size : sizes) {
+            long loadStart = System.nanoTime();
+            loadCorpus(size);
+            System.out.printf("Loaded %,d articles in %.1f s%n", size, (System.nanoTime() - loadStart) / 1e9);
+            for (Benchmark benchmark : benchmarks) {
+                Result result = runBenchmark(benchmark, size);
+                System.out.println(result);
+                results.add(result);
+            }
+        }
+        Files.deleteIfExists(backupFile);
+        return results;
+    }
+
+    /**
+     * Resets the database and fills it with articles spread evenly over the benchmark groups.
+     */
+    private void loadCorpus(int size) throws SQLException, IOException {
+        DatabaseManager.getInstance().resetDatabase();
+        groupIds = new long[GROUP_COUNT];
+        for (int g = 0; g < GROUP_COUNT; g++) {
+            Group group = new Group(GROUP_PREFIX + g);
+            groupDAO.addGroup(group);
+            groupIds[g] = group.getId();
+        }
+        Group scratch = new Group(SCRATCH_GROUP);
+        groupDAO.addGroup(scratch);
+        scratchGroupId = scratch.getId();
+
+        articleIds = new long[size];
+        for (int offset = 0; offset < size; offset += LOAD_BATCH_SIZE) {
+            int end = Math.min(offset + LOAD_BATCH_SIZE, size);
+            List<HelpArticle> batch = new ArrayList<>(end - offset);
+            for (int i = offset; i < end; i++) {
+                batch.add(newArticle(i));
+            }
+            int first = offset;
+            DatabaseManager.getInstance().inUnitOfWork(() -> {
+                helpArticleDAO.addHelpArticles(batch);
+                Map<Long, List<Long>> members = new HashMap<>();
+                for (int i = 0; i < batch.size(); i++) {
+                    articleIds[first + i] = batch.get(i).getId();
+                    members.computeIfAbsent(groupIds[(first + i) % GROUP_COUNT], id -> new ArrayList<>())
+                            .add(batch.get(i).getId());
+                }
+                for (Map.Entry<Long, List<Long>> entry : members.entrySet()) {
+                    helpArticleDAO.associateArticlesWithGroup(entry.getKey(), entry.getValue());
+                }
+                return null;
+            });
+        }
+        Files.deleteIfExists(backupFile);
+    }
+
+    private HelpArticle newArticle(int index) {
+        StringBuilder body = new StringBuilder(bodyLength);
+        while (body.length() < bodyLength) {
+            body.append("Benchmark article ").append(index).append(" body text. ");
+        }
+        body.setLength(bodyLength);
+        return new HelpArticle("Header", "Benchmark article " + index, "Article " + index + " of the benchmark corpus",
+                Arrays.asList("benchmark", "topic" + (index % 100)), body.toString(),
+                Collections.singletonList("https://example.com/articles/" + index));
+    }
+
+    /**
+     * Runs the warm-up and measured iterations of one benchmark.
+     */
+    private Result runBenchmark(Benchmark benchmark, int size) throws SQLException, IOException, ClassNotFoundException {
+        if (benchmark == Benchmark.RESTORE_GROUPS && !Files.exists(backupFile)) {
+            backupRestoreManager.backupAllGroups(backupFile.toString());
+        }
+        MethodMetrics perOperation = new MethodMetrics(benchmark.getLabel() + "@" + size);
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(benchmark, null);
+        }
+        double[] scores = new double[measurementIterations];
+        long operations = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            long[] iteration = runIteration(benchmark, perOperation);
+            scores[i] = iteration[0] / (double) iteration[1];
+            operations += iteration[1];
+        }
+
+        double mean = Arrays.stream(scores).average().orElse(0);
+        double variance = 0;
+        for (double score : scores) {
+            variance += (score - mean) * (score - mean);
+        }
+        double stddev = scores.length > 1 ? Math.sqrt(variance / (scores.length - 1)) : 0;
+        MethodMetrics.Snapshot snapshot = perOperation.snapshot();
+        return new Result(benchmark.getLabel(), size, benchmark.getMode(), operations, mean / 1000, stddev / 1000,
+                snapshot.getP50Nanos() / 1000.0, snapshot.getP99Nanos() / 1000.0);
+    }
+
+    /**
+     * Runs one iteration and restores the corpus afterwards.
+     *
+     * @param metrics The metrics each operation is recorded in, or null during warm-up.
+     * @return The measured time in nanoseconds and the number of operations.
+     */
+    private long[] runIteration(Benchmark benchmark, MethodMetrics metrics)
+            throws SQLException, IOException, ClassNotFoundException {
+        List<Long> added = new ArrayList<>();
+        long operations = 0;
+        long start = System.nanoTime();
+        long deadline = start + iterationNanos;
+        long now;
+        do {
+            long operationStart = System.nanoTime();
+            sink += runOperation(benchmark, operations, added);
+            now = System.nanoTime();
+            if (metrics != null) {
+                metrics.read(operationStart, null, 0);
+            }
+            operations++;
+        } while (benchmark.getMode() == Mode.AVERAGE_TIME && now < deadline);
+        long elapsed = now - start;
+
+        for (long id : added) {
+            helpArticleDAO.deleteHelpArticle(id);
+        }
+        if (benchmark == Benchmark.ASSOCIATE_ARTICLE_WITH_GROUP) {
+            helpArticleDAO.clearAssociationsForGroup(scratchGroupId);
+        } else if (benchmark == Benchmark.RESTORE_GROUPS) {
+            reloadIds();
+        }
+        return new long[] { elapsed, operations };
+    }
+
+    /**
+     * Runs one operation.
+     *
+     * @return A value derived from the result, consumed so the call cannot be optimized away.
+     */
+    private long runOperation(Benchmark benchmark, long sequence, List<Long> added)
+            throws SQLException, IOException, ClassNotFoundException {
+        switch (benchmark) {
+            case GET_HELP_ARTICLE_BY_ID:
+                return helpArticleDAO.getHelpArticleById(articleIds[random.nextInt(articleIds.length)]).getId();
+            case GET_ARTICLES_BY_GROUP_ID:
+                return helpArticleDAO.getArticlesByGroupId(groupIds[random.nextInt(groupIds.length)]).size();
+            case GET_ALL_HELP_ARTICLES:
+                return helpArticleDAO.getAllHelpArticles().size();
+            case ADD_HELP_ARTICLE:
+                HelpArticle article = newArticle(articleIds.length + (int) sequence);
+                helpArticleDAO.addHelpArticle(article);
+                added.add(article.getId());
+                return article.getId();
+            case ASSOCIATE_ARTICLE_WITH_GROUP:
+                long articleId = articleIds[random.nextInt(articleIds.length)];
+                helpArticleDAO.associateArticleWithGroup(articleId, scratchGroupId);
+                return articleId;
+            case BACKUP_ALL_GROUPS:
+                backupRestoreManager.backupAllGroups(backupFile.toString());
+                return Files.size(backupFile);
+            case RESTORE_GROUPS:
+                backupRestoreManager.restoreGroups(backupFile.toString(), true);
+                return sequence;
+            default:
+                throw new IllegalStateException("Unhandled benchmark " + benchmark);
+        }
+    }
+
+    /**
+     * Reads the article and group IDs again after a restore has replaced them.
+     */
+    private void reloadIds() throws SQLException {
+        List<ArticleSummary> summaries = helpArticleDAO.getArticleSummaries();
+        articleIds = new long[summaries.size()];
+        for (int i = 0; i < articleIds.length; i++) {
+            articleIds[i] = summaries.get(i).getId();
+        }
+        for (int g = 0; g < GROUP_COUNT; g++) {
+            groupIds[g] = groupDAO.getGroupByName(GROUP_PREFIX + g).getId();
+        }
+        Group scratch = groupDAO.getGroupByName(SCRATCH_GROUP);
+        scratchGroupId = scratch.getId();
+    }
+
+    /**
+     * Retrieves a value derived from every result, which keeps the results live.
+     *
+     * @return The consumed value.
+     */
+    long getSink() {
+        return sink;
+    }
+
+    /**
+     * Formats results as a table.
+     *
+     * @param results The results.
+     * @return The report.
+     */
+    public static String report(List<Result> results) {
+        StringBuilder report = new StringBuilder(String.format("%-28s %10s %-12s %10s %14s %12s %12s %12s",
+                "Benchmark", "Size", "Mode", "Ops", "Score us/op", "Stddev", "p50 us", "p99 us"));
+        for (Result result : results) {
+            report.append(System.lineSeparator()).append(result);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes results to a CSV file.
+     *
+     * @param results The results.
+     * @param file    The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeCsv(List<Result> results, Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (Result result : results) {
+            lines.add(result.toCsv());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads results written by {@link #writeCsv(List, Path)}.
+     *
+     * @param file The file to read.
+     * @return The results.
+     * @throws IOException If the file cannot be read or is not a benchmark CSV.
+     */
+    public static List<Result> readCsv(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(CSV_HEADER)) {
+            throw new IOException(file + " is not a benchmark result file.");
+        }
+        List<Result> results = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (!line.isEmpty()) {
+                results.add(Result.fromCsv(line));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Compares results with a baseline run.
+     *
+     * @param results   The results of this run.
+     * @param baseline  The results of the earlier run.
+     * @param tolerance The allowed slowdown, such as 0.10 for 10%.
+     * @return A description of each benchmark whose score grew by more than the tolerance.
+     */
+    public static List<String> findRegressions(List<Result> results, List<Result> baseline, double tolerance) {
+        Map<String, Result> previous = new HashMap<>();
+        for (Result result : baseline) {
+            previous.put(result.getBenchmark() + "@" + result.getCorpusSize(), result);
+        }
+        List<String> regressions = new ArrayList<>();
+        for (Result result : results) {
+            Result before = previous.get(result.getBenchmark() + "@" + result.getCorpusSize());
+            if (before != null && result.getMeanMicros() > before.getMeanMicros() * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s at %,d articles: %.3f us/op, was %.3f us/op (+%.1f%%)",
+                        result.getBenchmark(), result.getCorpusSize(), result.getMeanMicros(), before.getMeanMicros(),
+                        (result.getMeanMicros() / before.getMeanMicros() - 1) * 100));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * The score of one benchmark at one corpus size.
+     */
+    public static final class Result {
+        private final String benchmark;
+        private final int corpusSize;
+        private final Mode mode;
+        private final long operations;
+        private final double meanMicros;
+        private final double stddevMicros;
+        private final double p50Micros;
+        private final double p99Micros;
+
+        Result(String benchmark, int corpusSize, Mode mode, long operations, double meanMicros, double stddevMicros,
+               double p50Micros, double p99Micros) {
+            this.benchmark = benchmark;
+            this.corpusSize = corpusSize;
+            this.mode = mode;
+            this.operations = operations;
+            this.meanMicros = meanMicros;
+            this.stddevMicros = stddevMicros;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+        }
+
+        /** @return The name of the benchmarked method. */
+        public String getBenchmark() {
+            return benchmark;
+        }
+
+        /** @return The number of articles in the corpus. */
+        public int getCorpusSize() {
+            return corpusSize;
+        }
+
+        /** @return How the benchmark was scored. */
+        public Mode getMode() {
+            return mode;
+        }
+
+        /** @return The number of measured operations. */
+        public long getOperations() {
+            return operations;
+        }
+
+        /** @return The score: the mean time per operation over the measured iterations, in microseconds. */
+        public double getMeanMicros() {
+            return meanMicros;
+        }
+
+        /** @return The standard deviation of the score between iterations, in microseconds. */
+        public double getStddevMicros() {
+            return stddevMicros;
+        }
+
+        /** @return The median time of a single operation, in microseconds. */
+        public double getP50Micros() {
+            return p50Micros;
+        }
+
+        /** @return The 99th percentile time of a single operation, in microseconds. */
+        public double getP99Micros() {
+            return p99Micros;
+        }
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%s,%d,%s,%d,%.3f,%.3f,%.3f,%.3f", benchmark, corpusSize, mode, operations,
+                    meanMicros, stddevMicros, p50Micros, p99Micros);
+        }
+
+        static Result fromCsv(String line) throws IOException {
+            String[] fields = line.split(",");
+            if (fields.length != 8) {
+                throw new IOException("Malformed benchmark result: " + line);
+            }
+            try {
+                return new Result(fields[0], Integer.parseInt(fields[1]), Mode.valueOf(fields[2]),
+                        Long.parseLong(fields[3]), Double.parseDouble(fields[4]), Double.parseDouble(fields[5]),
+                        Double.parseDouble(fields[6]), Double.parseDouble(fields[7]));
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("Malformed benchmark result: " + line, ex);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %,10d %-12s %,10d %14.3f %12.3f %12.3f %12.3f", benchmark, corpusSize, mode,
+                    operations, meanMicros, stddevMicros, p50Micros, p99Micros);
+        }
+    }
+}
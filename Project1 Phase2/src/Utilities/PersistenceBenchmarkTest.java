@@ -0,0 +1,136 @@
+package Utilities;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * <p> Title: PersistenceBenchmarkTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link PersistenceBenchmark} class.
+ * It runs every benchmark once against a small corpus, checking that each produces a score and
+ * that the corpus keeps its size, and validates the CSV round trip and the detection of
+ * regressions against a baseline.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class PersistenceBenchmarkTest {
+
+    /**
+     * The main method to execute the PersistenceBenchmark tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        PersistenceBenchmarkTest tester = new PersistenceBenchmarkTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for PersistenceBenchmark.
+     */
+    public void runTests() {
+        System.out.println("Running PersistenceBenchmark tests...");
+
+        try {
+            testSmallRun();
+            testCsvRoundTrip();
+            testFindRegressions();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        } catch (IOException | ClassNotFoundException e) {
+            System.out.println("Failed: Unexpected exception: " + e);
+        }
+
+        System.out.println("PersistenceBenchmark tests completed.");
+    }
+
+    /**
+     * Tests that every benchmark runs against a small corpus and leaves it the same size.
+     *
+     * @throws SQLException           If a database access error occurs.
+     * @throws IOException            If a backup file cannot be written or read.
+     * @throws ClassNotFoundException If a backup cannot be deserialized.
+     */
+    public void testSmallRun() throws SQLException, IOException, ClassNotFoundException {
+        System.out.println("\nTest: Small Run");
+        Path directory = Files.createTempDirectory("persistence-benchmark-test");
+        PersistenceBenchmark benchmark = new PersistenceBenchmark(Collections.singletonList(200),
+                EnumSet.allOf(PersistenceBenchmark.Benchmark.class), 1, 2, 20, 256, directory);
+        List<PersistenceBenchmark.Result> results = benchmark.run();
+        int articles = new HelpArticleDAO().getArticleSummaries().size();
+        int scratchMembers = new HelpArticleDAO().getArticleIdsByGroupId(
+                new GroupDAO().getGroupByName("bench-scratch").getId()).size();
+        Files.deleteIfExists(directory);
+
+        boolean scored = results.size() == PersistenceBenchmark.Benchmark.values().length;
+        for (PersistenceBenchmark.Result result : results) {
+            scored &= result.getOperations() > 0 && result.getMeanMicros() > 0 && result.getCorpusSize() == 200;
+        }
+        if (scored && articles == 200 && scratchMembers == 0 && benchmark.getSink() != 0) {
+            System.out.println("Passed: Every benchmark was scored and the corpus kept 200 articles:\n" +
+                    PersistenceBenchmark.report(results));
+        } else {
+            System.out.println("Failed: " + articles + " articles after the run:\n" + PersistenceBenchmark.report(results));
+        }
+    }
+
+    /**
+     * Tests that results written to CSV are read back unchanged.
+     *
+     * @throws IOException If the file cannot be written or read.
+     */
+    public void testCsvRoundTrip() throws IOException {
+        System.out.println("\nTest: CSV Round Trip");
+        Path file = Files.createTempFile("benchmark", ".csv");
+        List<PersistenceBenchmark.Result> results = Arrays.asList(
+                new PersistenceBenchmark.Result("getHelpArticleById", 1000, PersistenceBenchmark.Mode.AVERAGE_TIME,
+                        5000, 1.5, 0.25, 1.25, 9.75),
+                new PersistenceBenchmark.Result("restoreGroups", 1000, PersistenceBenchmark.Mode.SINGLE_SHOT,
+                        5, 120_000, 800, 119_000, 121_000));
+        PersistenceBenchmark.writeCsv(results, file);
+        List<PersistenceBenchmark.Result> read = PersistenceBenchmark.readCsv(file);
+        Files.deleteIfExists(file);
+
+        if (read.size() == 2 && read.get(0).toCsv().equals(results.get(0).toCsv()) &&
+            read.get(1).toCsv().equals(results.get(1).toCsv()) &&
+            read.get(1).getMode() == PersistenceBenchmark.Mode.SINGLE_SHOT) {
+            System.out.println("Passed: Results were read back unchanged.");
+        } else {
+            System.out.println("Failed: Unexpected results read back: " + read);
+        }
+    }
+
+    /**
+     * Tests that only benchmarks slower than the baseline by more than the tolerance are reported.
+     */
+    public void testFindRegressions() {
+        System.out.println("\nTest: Find Regressions");
+        List<PersistenceBenchmark.Result> baseline = Arrays.asList(
+                result("getHelpArticleById", 1000, 10), result("getAllHelpArticles", 1000, 100),
+                result("getAllHelpArticles", 10_000, 1000));
+        List<PersistenceBenchmark.Result> current = Arrays.asList(
+                result("getHelpArticleById", 1000, 10.9), result("getAllHelpArticles", 1000, 125),
+                result("getAllHelpArticles", 10_000, 800), result("addHelpArticle", 1000, 50));
+        List<String> regressions = PersistenceBenchmark.findRegressions(current, baseline, 0.10);
+
+        if (regressions.size() == 1 && regressions.get(0).startsWith("getAllHelpArticles at 1,000 articles")) {
+            System.out.println("Passed: Only the 25% slowdown was reported: " + regressions.get(0));
+        } else {
+            System.out.println("Failed: Unexpected regressions: " + regressions);
+        }
+    }
+
+    private static PersistenceBenchmark.Result result(String benchmark, int size, double meanMicros) {
+        return new PersistenceBenchmark.Result(benchmark, size, PersistenceBenchmark.Mode.AVERAGE_TIME, 100,
+                meanMicros, 0, meanMicros, meanMicros);
+    }
+}
@@ -0,0 +1,211 @@
+package Utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> Title: QueryPlanAudit Class </p>
+ *
+ * <p> Description: This class checks the shape of the queries issued by the DAOs. It runs
+ * {@code EXPLAIN} on each registered statement and reports which index H2 chose, flagging any
+ * statement that falls back to a full table scan. Statements are registered as hot paths when
+ * they run per user action or per row and must therefore always be served by an index; list
+ * queries that intentionally read a whole table are registered as cold paths. When a DAO gains
+ * a new statement, it should be added to {@link #daoQueries()}. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class QueryPlanAudit {
+    private static final String TABLE_SCAN_MARKER = ".tableScan";
+
+    /**
+     * Retrieves every statement issued by {@link HelpArticleDAO} and {@link GroupDAO}.
+     *
+     * @return The audited queries.
+     */
+    public static List<AuditedQuery> daoQueries() {
+        return Collections.unmodifiableList(Arrays.asList(
+                hot("HelpArticleDAO.getHelpArticleById", HelpArticleDAO.GET_HELP_ARTICLE_BY_ID_SQL),
+                hot("HelpArticleDAO.updateHelpArticle", HelpArticleDAO.UPDATE_HELP_ARTICLE_SQL),
+                hot("HelpArticleDAO.deleteHelpArticle", HelpArticleDAO.DELETE_HELP_ARTICLE_SQL),
+                hot("HelpArticleDAO.associateArticleWithGroup", HelpArticleDAO.ASSOCIATE_ARTICLE_WITH_GROUP_SQL),
+                hot("HelpArticleDAO.dissociateArticleFromGroup", HelpArticleDAO.DISSOCIATE_ARTICLE_FROM_GROUP_SQL),
+                hot("HelpArticleDAO.associateArticlesWithGroup (members)", HelpArticleDAO.GET_GROUP_MEMBERS_AMONG_SQL),
+                hot("HelpArticleDAO.associateArticlesWithGroup (merge)", HelpArticleDAO.ASSOCIATE_EXISTING_ARTICLE_SQL),
+                hot("HelpArticleDAO.syncGroupMembership", HelpArticleDAO.GET_GROUP_MEMBER_IDS_SQL),
+                hot("HelpArticleDAO.getArticlesByGroupId", HelpArticleDAO.GET_ARTICLES_BY_GROUP_ID_SQL),
+                hot("HelpArticleDAO.getGroupsByArticleId", HelpArticleDAO.GET_GROUPS_BY_ARTICLE_ID_SQL),
+                hot("HelpArticleDAO.clearAssociationsForGroup", HelpArticleDAO.CLEAR_ASSOCIATIONS_FOR_GROUP_SQL),
+                hot("HelpArticleDAO.clearAssociationsForArticle", HelpArticleDAO.CLEAR_ASSOCIATIONS_FOR_ARTICLE_SQL),
+                hot("HelpArticleDAO.deleteKeywords", HelpArticleDAO.DELETE_KEYWORDS_SQL),
+                hot("HelpArticleDAO.findArticlesByKeyword", HelpArticleDAO.FIND_ARTICLES_BY_KEYWORD_SQL),
+                hot("HelpArticleDAO.findArticlesByAllKeywords", HelpArticleDAO.FIND_ARTICLES_BY_ALL_KEYWORDS_SQL),
+                hot("HelpArticleDAO.searchHelpArticles", HelpArticleDAO.GET_HELP_ARTICLES_BY_IDS_SQL),
+                hot("HelpArticleDAO.getExistingArticleIds", HelpArticleDAO.GET_EXISTING_ARTICLE_IDS_SQL),
+                hot("HelpArticleDAO.getHelpArticlesPage", HelpArticleDAO.GET_HELP_ARTICLES_PAGE_SQL),
+                hot("HelpArticleDAO.getArticlesByGroupIdPage", HelpArticleDAO.GET_ARTICLES_BY_GROUP_ID_PAGE_SQL),
+                hot("HelpArticleDAO.getArticleBody", HelpArticleDAO.GET_ARTICLE_BODY_SQL),
+                hot("HelpArticleDAO.getArticleSummariesByGroupId", HelpArticleDAO.GET_ARTICLE_SUMMARIES_BY_GROUP_ID_SQL),
+                hot("HelpArticleDAO.streamArticlesByGroupId", HelpArticleDAO.STREAM_ARTICLES_BY_GROUP_ID_SQL),
+                cold("HelpArticleDAO.getAllHelpArticles", HelpArticleDAO.GET_ALL_HELP_ARTICLES_SQL),
+                cold("HelpArticleDAO.streamHelpArticles", HelpArticleDAO.STREAM_HELP_ARTICLES_SQL),
+                cold("HelpArticleDAO.getArticleSummaries", HelpArticleDAO.GET_ARTICLE_SUMMARIES_SQL),
+                cold("HelpArticleDAO.deleteAllHelpArticles", HelpArticleDAO.DELETE_ALL_HELP_ARTICLES_SQL),
+                cold("HelpArticleDAO.clearAllAssociations", HelpArticleDAO.CLEAR_ALL_ASSOCIATIONS_SQL),
+                hot("GroupDAO.getGroupsPage", GroupDAO.GET_GROUPS_PAGE_SQL),
+                hot("GroupDAO.getGroupByName", GroupDAO.GET_GROUP_BY_NAME_SQL),
+                hot("GroupDAO.getGroupById", GroupDAO.GET_GROUP_BY_ID_SQL),
+                hot("GroupDAO.updateGroup", GroupDAO.UPDATE_GROUP_SQL),
+                hot("GroupDAO.deleteGroup", GroupDAO.DELETE_GROUP_SQL),
+                cold("HelpArticleDAO.loadMembershipIndex", HelpArticleDAO.GET_ALL_MEMBERSHIPS_SQL),
+                cold("HelpArticleDAO.getArticleCountsByGroup", HelpArticleDAO.COUNT_ARTICLES_PER_GROUP_SQL),
+                cold("HelpArticleDAO.getGroupCountsByArticle", HelpArticleDAO.COUNT_GROUPS_PER_ARTICLE_SQL),
+                hot("HelpArticleDAO.findArticleSummaries", HelpArticleDAO.GET_ARTICLE_SUMMARIES_BY_IDS_SQL),
+                cold("HelpArticleDAO.findArticleIds", HelpArticleDAO.GET_ALL_ARTICLE_IDS_SQL),
+                cold("GroupDAO.getAllGroups", GroupDAO.GET_ALL_GROUPS_SQL),
+                cold("GroupDAO.deleteAllGroups", GroupDAO.DELETE_ALL_GROUPS_SQL)
+        ));
+    }
+
+    /**
+     * Runs {@code EXPLAIN} on each query. Parameters are bound to placeholder values, which is
+     * enough for H2 to choose the same access path it would use at run time.
+     *
+     * @param connection The connection to explain the queries on.
+     * @param queries    The queries to audit.
+     * @return The plan of each query, in the same order.
+     * @throws SQLException If a query cannot be explained.
+     */
+    public List<QueryPlan> audit(Connection connection, List<AuditedQuery> queries) throws SQLException {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (AuditedQuery query : queries) {
+            plans.add(new QueryPlan(query, explain(connection, query.getSql())));
+        }
+        return plans;
+    }
+
+    /**
+     * Runs {@code EXPLAIN} on a single statement.
+     *
+     * @param connection The connection to explain the statement on.
+     * @param sql        The statement, possibly with {@code ?} parameters.
+     * @return The plan text reported by H2.
+     * @throws SQLException If the statement cannot be explained.
+     */
+    public static String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = pstmt.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                if (pstmt.getParameterMetaData().getParameterType(i) == Types.ARRAY) {
+                    pstmt.setObject(i, new Object[] { 1 });
+                } else {
+                    pstmt.setObject(i, 1);
+                }
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    /**
+     * Formats the audit results as a readable report, one line per query.
+     *
+     * @param plans The audited plans.
+     * @return The report text.
+     */
+    public static String report(List<QueryPlan> plans) {
+        StringBuilder report = new StringBuilder();
+        for (QueryPlan plan : plans) {
+            String status = !plan.isTableScan() ? "index" : plan.getQuery().isHotPath() ? "SCAN (hot path)" : "scan";
+            report.append(String.format("%-60s %s%n", plan.getQuery().getName(), status));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Creates an audited query for a hot path.
+     */
+    private static AuditedQuery hot(String name, String sql) {
+        return new AuditedQuery(name, sql, true);
+    }
+
+    /**
+     * Creates an audited query for a cold path that may scan.
+     */
+    private static AuditedQuery cold(String name, String sql) {
+        return new AuditedQuery(name, sql, false);
+    }
+
+    /**
+     * <p> Title: AuditedQuery Class </p>
+     *
+     * <p> Description: A DAO statement registered for auditing. </p>
+     */
+    public static final class AuditedQuery {
+        private final String name;
+        private final String sql;
+        private final boolean hotPath;
+
+        /**
+         * Constructs an AuditedQuery.
+         *
+         * @param name    The DAO method that issues the statement.
+         * @param sql     The statement text.
+         * @param hotPath Whether the statement must be served by an index.
+         */
+        public AuditedQuery(String name, String sql, boolean hotPath) {
+            this.name = name;
+            this.sql = sql;
+            this.hotPath = hotPath;
+        }
+
+        /** @return The DAO method that issues the statement. */
+        public String getName() { return name; }
+
+        /** @return The statement text. */
+        public String getSql() { return sql; }
+
+        /** @return True if the statement must be served by an index. */
+        public boolean isHotPath() { return hotPath; }
+    }
+
+    /**
+     * <p> Title: QueryPlan Class </p>
+     *
+     * <p> Description: The plan H2 chose for an audited statement. </p>
+     */
+    public static final class QueryPlan {
+        private final AuditedQuery query;
+        private final String plan;
+
+        QueryPlan(AuditedQuery query, String plan) {
+            this.query = query;
+            this.plan = plan;
+        }
+
+        /** @return The audited statement. */
+        public AuditedQuery getQuery() { return query; }
+
+        /** @return The plan text reported by {@code EXPLAIN}. */
+        public String getPlan() { return plan; }
+
+        /** @return True if any table in the plan is read with a full scan. */
+        public boolean isTableScan() {
+            return plan.contains(TABLE_SCAN_MARKER);
+        }
+    }
+}
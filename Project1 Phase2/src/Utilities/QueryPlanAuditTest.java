@@ -0,0 +1,118 @@
+package Utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> Title: QueryPlanAuditTest Class </p>
+ *
+ * <p> Description: This class provides a regression test for the query plans of the DAOs using
+ * {@link QueryPlanAudit}. It runs {@code EXPLAIN} on every DAO statement and fails if a hot path
+ * is answered with a full table scan, and it checks that the schema ships the secondary index on
+ * ArticleGroups.group_id. The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class QueryPlanAuditTest {
+
+    /**
+     * The main method to execute the QueryPlanAudit tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        QueryPlanAuditTest tester = new QueryPlanAuditTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the QueryPlanAudit.
+     */
+    public void runTests() {
+        System.out.println("Running QueryPlanAudit tests...");
+
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testGroupIndexExists();
+            testHotPathsUseIndexes();
+            testTableScanIsDetected();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("QueryPlanAudit tests completed.");
+    }
+
+    /**
+     * Tests that the ArticleGroups table has an index leading with group_id.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testGroupIndexExists() throws SQLException {
+        System.out.println("\nTest: Group Index Exists");
+        String query = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                       "WHERE TABLE_NAME = 'ARTICLEGROUPS' AND INDEX_NAME = 'IDX_ARTICLE_GROUPS_GROUP' " +
+                       "AND COLUMN_NAME = 'GROUP_ID' AND ORDINAL_POSITION = 1;";
+        try (Connection connection = DatabaseManager.getInstance().borrowConnection();
+             PreparedStatement pstmt = connection.prepareStatement(query);
+             ResultSet rs = pstmt.executeQuery()) {
+            rs.next();
+            if (rs.getInt(1) == 1) {
+                System.out.println("Passed: ArticleGroups has an index leading with group_id.");
+            } else {
+                System.out.println("Failed: ArticleGroups has no index leading with group_id.");
+            }
+        }
+    }
+
+    /**
+     * Tests that no hot-path DAO statement is answered with a full table scan.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testHotPathsUseIndexes() throws SQLException {
+        System.out.println("\nTest: Hot Paths Use Indexes");
+        List<QueryPlanAudit.QueryPlan> plans;
+        try (Connection connection = DatabaseManager.getInstance().borrowConnection()) {
+            plans = new QueryPlanAudit().audit(connection, QueryPlanAudit.daoQueries());
+        }
+
+        boolean passed = true;
+        for (QueryPlanAudit.QueryPlan plan : plans) {
+            if (plan.getQuery().isHotPath() && plan.isTableScan()) {
+                System.out.println("Failed: " + plan.getQuery().getName() + " scans a table: " + plan.getPlan());
+                passed = false;
+            }
+        }
+        if (passed) {
+            System.out.println("Passed: All " + plans.size() + " DAO statements checked; no hot path scans a table.");
+        }
+    }
+
+    /**
+     * Tests that the audit recognizes a full table scan.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testTableScanIsDetected() throws SQLException {
+        System.out.println("\nTest: Table Scan Is Detected");
+        QueryPlanAudit.AuditedQuery unindexed = new QueryPlanAudit.AuditedQuery(
+                "unindexed title lookup", "SELECT id FROM HelpArticles WHERE title = ?;", true);
+        List<QueryPlanAudit.QueryPlan> plans;
+        try (Connection connection = DatabaseManager.getInstance().borrowConnection()) {
+            plans = new QueryPlanAudit().audit(connection, Collections.singletonList(unindexed));
+        }
+
+        if (plans.get(0).isTableScan()) {
+            System.out.println("Passed: Unindexed lookup reported as a table scan.");
+        } else {
+            System.out.println("Failed: Unindexed lookup was not reported as a table scan.");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package Utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> Title: SchemaMigrations Class </p>
+ *
+ * <p> Description: This class lists every migration of the application's schema in version order.
+ * To change the schema, append a new {@link Migration} with the next version number; never edit
+ * or reorder a migration that has already shipped, because its checksum is recorded in existing
+ * databases. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public final class SchemaMigrations {
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SchemaMigrations() {}
+
+    /**
+     * Retrieves all schema migrations in version order.
+     *
+     * @return The list of migrations.
+     */
+    public static List<Migration> all() {
+        return Collections.unmodifiableList(Arrays.asList(
+                // V1 is the original schema. It uses IF NOT EXISTS so that databases created
+                // before migrations existed are adopted without changes.
+                Migration.sql(1, "Create base tables",
+                        "CREATE TABLE IF NOT EXISTS Groups (" +
+                        "id BIGINT AUTO_INCREMENT PRIMARY KEY," +
+                        "name VARCHAR(255) UNIQUE NOT NULL" +
+                        ");",
+                        "CREATE TABLE IF NOT EXISTS HelpArticles (" +
+                        "id BIGINT AUTO_INCREMENT PRIMARY KEY," +
+                        "header VARCHAR(255)," +
+                        "title VARCHAR(255) NOT NULL," +
+                        "shortDescription VARCHAR(500)," +
+                        "keywords VARCHAR(500)," +
+                        "body CLOB," +
+                        "referenceLinks VARCHAR(1000)" +
+                        ");",
+                        "CREATE TABLE IF NOT EXISTS ArticleGroups (" +
+                        "article_id BIGINT NOT NULL," +
+                        "group_id BIGINT NOT NULL," +
+                        "PRIMARY KEY (article_id, group_id)," +
+                        "FOREIGN KEY (article_id) REFERENCES HelpArticles(id) ON DELETE CASCADE," +
+                        "FOREIGN KEY (group_id) REFERENCES Groups(id) ON DELETE CASCADE" +
+                        ");",
+                        "CREATE TABLE IF NOT EXISTS Users (" +
+                        "id BIGINT AUTO_INCREMENT PRIMARY KEY," +
+                        "username VARCHAR(255) UNIQUE NOT NULL," +
+                        "password VARCHAR(255) NOT NULL," +
+                        "role VARCHAR(50) NOT NULL" +
+                        ");"),
+                // Serves getArticlesByGroupId and clearAssociationsForGroup; the primary key
+                // (article_id, group_id) only serves lookups by article. Including article_id
+                // makes the index covering and keeps each group's articles in id order.
+                Migration.index(2, "idx_article_groups_group", "ArticleGroups", "group_id", "article_id"),
+                // Keywords get their own table so they can be looked up through an index. The
+                // comma-joined HelpArticles.keywords column stays as the display copy.
+                Migration.sql(3, "Create ArticleKeywords table",
+                        "CREATE TABLE IF NOT EXISTS ArticleKeywords (" +
+                        "article_id BIGINT NOT NULL," +
+                        "keyword VARCHAR(500) NOT NULL," +
+                        "PRIMARY KEY (article_id, keyword)," +
+                        "FOREIGN KEY (article_id) REFERENCES HelpArticles(id) ON DELETE CASCADE" +
+                        ");"),
+                Migration.index(4, "idx_article_keywords_keyword", "ArticleKeywords", "keyword", "article_id"),
+                Migration.java(5, "Backfill ArticleKeywords from HelpArticles.keywords", "1",
+                        SchemaMigrations::backfillKeywords)
+        ));
+    }
+
+    /**
+     * Populates ArticleKeywords from the keywords column of the existing articles, in batches.
+     *
+     * @param connection The connection the migration runs on.
+     * @throws SQLException If a database access error occurs.
+     */
+    private static void backfillKeywords(Connection connection) throws SQLException {
+        String selectSQL = "SELECT id, keywords FROM HelpArticles WHERE keywords IS NOT NULL;";
+        String mergeSQL = "MERGE INTO ArticleKeywords (article_id, keyword) KEY (article_id, keyword) VALUES (?, ?);";
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(selectSQL);
+             PreparedStatement pstmt = connection.prepareStatement(mergeSQL)) {
+            int pending = 0;
+            while (rs.next()) {
+                long articleId = rs.getLong("id");
+                for (String keyword : HelpArticleDAO.normalizeKeywords(Arrays.asList(rs.getString("keywords").split(",")))) {
+                    pstmt.setLong(1, articleId);
+                    pstmt.setString(2, keyword);
+                    pstmt.addBatch();
+                    if (++pending == BACKFILL_BATCH_SIZE) {
+                        pstmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                pstmt.executeBatch();
+            }
+        }
+    }
+}
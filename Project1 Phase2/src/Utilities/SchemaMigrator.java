@@ -0,0 +1,185 @@
+package Utilities;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p> Title: SchemaMigrator Class </p>
+ *
+ * <p> Description: This class brings a database schema up to date by applying {@link Migration}
+ * steps in version order. Applied migrations are recorded in the SchemaVersion table together with
+ * their checksum and how long they took, so only new migrations run at startup and a migration
+ * that was changed after being applied is reported instead of silently ignored. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class SchemaMigrator {
+    private static final String CREATE_VERSION_TABLE = "CREATE TABLE IF NOT EXISTS SchemaVersion (" +
+                                                       "version INT PRIMARY KEY," +
+                                                       "description VARCHAR(255) NOT NULL," +
+                                                       "checksum BIGINT NOT NULL," +
+                                                       "applied_at TIMESTAMP NOT NULL," +
+                                                       "duration_ms BIGINT NOT NULL" +
+                                                       ");";
+
+    private final List<Migration> migrations;
+
+    /**
+     * Constructs a SchemaMigrator for the given migrations.
+     *
+     * @param migrations The migrations, which must have strictly increasing versions.
+     */
+    public SchemaMigrator(List<Migration> migrations) {
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).getVersion() <= migrations.get(i - 1).getVersion()) {
+                throw new IllegalArgumentException("Migrations must be listed in increasing version order: "
+                        + migrations.get(i - 1) + " before " + migrations.get(i));
+            }
+        }
+        this.migrations = new ArrayList<>(migrations);
+    }
+
+    /**
+     * Applies every migration that has not yet been recorded in the SchemaVersion table. Each
+     * migration runs in its own transaction together with its SchemaVersion row.
+     *
+     * @param connection The connection to migrate.
+     * @return The migrations applied by this call, with their durations.
+     * @throws SQLException If a recorded migration's checksum no longer matches, or a migration fails.
+     */
+    public List<AppliedMigration> migrate(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(CREATE_VERSION_TABLE);
+        }
+
+        Map<Integer, Long> recorded = getRecordedChecksums(connection);
+        for (Migration migration : migrations) {
+            Long checksum = recorded.get(migration.getVersion());
+            if (checksum != null && checksum != migration.getChecksum()) {
+                throw new SQLException("Checksum mismatch for migration " + migration
+                        + ": it was modified after being applied to this database.");
+            }
+        }
+
+        List<AppliedMigration> applied = new ArrayList<>();
+        boolean autoCommit = connection.getAutoCommit();
+        try {
+            for (Migration migration : migrations) {
+                if (recorded.containsKey(migration.getVersion())) {
+                    continue;
+                }
+                applied.add(apply(connection, migration));
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return applied;
+    }
+
+    /**
+     * Retrieves the highest schema version recorded in the database.
+     *
+     * @param connection The connection to inspect.
+     * @return The current version, or 0 if no migration has been applied.
+     * @throws SQLException If a database access error occurs.
+     */
+    public static int getCurrentVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(CREATE_VERSION_TABLE);
+            try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM SchemaVersion;")) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * Applies a single migration and records it.
+     *
+     * @param connection The connection to migrate.
+     * @param migration  The migration to apply.
+     * @return The record of the applied migration.
+     * @throws SQLException If the migration fails; its transaction is rolled back.
+     */
+    private AppliedMigration apply(Connection connection, Migration migration) throws SQLException {
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try {
+            migration.apply(connection);
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+            String insertSQL = "INSERT INTO SchemaVersion (version, description, checksum, applied_at, duration_ms) " +
+                               "VALUES (?, ?, ?, ?, ?);";
+            try (PreparedStatement pstmt = connection.prepareStatement(insertSQL)) {
+                pstmt.setInt(1, migration.getVersion());
+                pstmt.setString(2, migration.getDescription());
+                pstmt.setLong(3, migration.getChecksum());
+                pstmt.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+                pstmt.setLong(5, durationMillis);
+                pstmt.executeUpdate();
+            }
+            connection.commit();
+
+            System.out.println("Applied migration " + migration + " in " + durationMillis + " ms.");
+            return new AppliedMigration(migration, durationMillis);
+        } catch (SQLException ex) {
+            connection.rollback();
+            throw new SQLException("Migration " + migration + " failed: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Reads the checksums of the migrations already applied to the database.
+     *
+     * @param connection The connection to inspect.
+     * @return A map from version to recorded checksum.
+     * @throws SQLException If a database access error occurs.
+     */
+    private Map<Integer, Long> getRecordedChecksums(Connection connection) throws SQLException {
+        Map<Integer, Long> recorded = new HashMap<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM SchemaVersion;")) {
+            while (rs.next()) {
+                recorded.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * <p> Title: AppliedMigration Class </p>
+     *
+     * <p> Description: Records a migration applied by {@link SchemaMigrator#migrate(Connection)}
+     * and how long it took. </p>
+     */
+    public static final class AppliedMigration {
+        private final Migration migration;
+        private final long durationMillis;
+
+        AppliedMigration(Migration migration, long durationMillis) {
+            this.migration = migration;
+            this.durationMillis = durationMillis;
+        }
+
+        /** @return The migration that was applied. */
+        public Migration getMigration() { return migration; }
+
+        /** @return How long the migration took, in milliseconds. */
+        public long getDurationMillis() { return durationMillis; }
+
+        @Override
+        public String toString() {
+            return migration + " (" + durationMillis + " ms)";
+        }
+    }
+}
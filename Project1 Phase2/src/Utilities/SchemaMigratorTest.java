@@ -0,0 +1,181 @@
+package Utilities;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p> Title: SchemaMigratorTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link SchemaMigrator} class.
+ * It validates that migrations are applied in order and recorded, that re-running applies nothing,
+ * that newly added migrations are applied incrementally, that a modified migration is detected by
+ * its checksum, and that a failed migration is rolled back. The test outputs indicate the success
+ * or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class SchemaMigratorTest {
+    private static final String TEST_URL = "jdbc:h2:mem:migratortest";
+
+    /**
+     * The main method to execute the SchemaMigrator tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        SchemaMigratorTest tester = new SchemaMigratorTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the SchemaMigrator.
+     */
+    public void runTests() {
+        System.out.println("Running SchemaMigrator tests...");
+
+        // The in-memory database lives as long as this connection is open.
+        try (Connection connection = DriverManager.getConnection(TEST_URL, "sa", "")) {
+            testInitialMigration(connection);
+            testRerunAppliesNothing(connection);
+            testIncrementalMigration(connection);
+            testChecksumMismatch(connection);
+            testFailedMigrationRollsBack(connection);
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("SchemaMigrator tests completed.");
+    }
+
+    /**
+     * Builds the first two test migrations.
+     *
+     * @return The migrations.
+     */
+    private List<Migration> baseMigrations() {
+        return new ArrayList<>(Arrays.asList(
+                Migration.sql(1, "Create notes", "CREATE TABLE Notes (id BIGINT PRIMARY KEY, text VARCHAR(100));"),
+                Migration.index(2, "idx_notes_text", "Notes", "text")));
+    }
+
+    /**
+     * Tests that all migrations are applied to an empty database.
+     *
+     * @param connection The test database connection.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testInitialMigration(Connection connection) throws SQLException {
+        System.out.println("\nTest: Initial Migration");
+        List<SchemaMigrator.AppliedMigration> applied = new SchemaMigrator(baseMigrations()).migrate(connection);
+
+        if (applied.size() == 2 && SchemaMigrator.getCurrentVersion(connection) == 2) {
+            System.out.println("Passed: All migrations applied and recorded.");
+        } else {
+            System.out.println("Failed: Expected 2 applied migrations but got " + applied.size());
+        }
+    }
+
+    /**
+     * Tests that running the same migrations again is a no-op.
+     *
+     * @param connection The test database connection.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testRerunAppliesNothing(Connection connection) throws SQLException {
+        System.out.println("\nTest: Re-run Applies Nothing");
+        List<SchemaMigrator.AppliedMigration> applied = new SchemaMigrator(baseMigrations()).migrate(connection);
+
+        if (applied.isEmpty()) {
+            System.out.println("Passed: No migrations re-applied.");
+        } else {
+            System.out.println("Failed: Migrations were applied twice.");
+        }
+    }
+
+    /**
+     * Tests that a newly added migration is applied on its own, including a Java migration.
+     *
+     * @param connection The test database connection.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testIncrementalMigration(Connection connection) throws SQLException {
+        System.out.println("\nTest: Incremental Migration");
+        List<Migration> migrations = baseMigrations();
+        migrations.add(Migration.java(3, "Seed notes", "1", conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("INSERT INTO Notes VALUES (1, 'hello');");
+            }
+        }));
+        List<SchemaMigrator.AppliedMigration> applied = new SchemaMigrator(migrations).migrate(connection);
+
+        int rows;
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM Notes;")) {
+            rs.next();
+            rows = rs.getInt(1);
+        }
+        if (applied.size() == 1 && applied.get(0).getMigration().getVersion() == 3 && rows == 1) {
+            System.out.println("Passed: Only the new migration was applied.");
+        } else {
+            System.out.println("Failed: Incremental migration was not applied correctly.");
+        }
+    }
+
+    /**
+     * Tests that editing an applied migration is detected.
+     *
+     * @param connection The test database connection.
+     */
+    public void testChecksumMismatch(Connection connection) {
+        System.out.println("\nTest: Checksum Mismatch");
+        List<Migration> migrations = new ArrayList<>(Arrays.asList(
+                Migration.sql(1, "Create notes", "CREATE TABLE Notes (id BIGINT PRIMARY KEY, text VARCHAR(200));")));
+        try {
+            new SchemaMigrator(migrations).migrate(connection);
+            System.out.println("Failed: Modified migration was not detected.");
+        } catch (SQLException e) {
+            System.out.println("Passed: Modified migration was detected.");
+        }
+    }
+
+    /**
+     * Tests that a failing migration leaves no version record behind.
+     *
+     * @param connection The test database connection.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testFailedMigrationRollsBack(Connection connection) throws SQLException {
+        System.out.println("\nTest: Broken Migration Rolls Back");
+        List<Migration> migrations = new ArrayList<>(Arrays.asList(
+                Migration.java(4, "Broken step", "1", conn -> {
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.execute("INSERT INTO Notes VALUES (2, 'partial');");
+                        stmt.execute("INSERT INTO MissingTable VALUES (1);");
+                    }
+                })));
+        try {
+            new SchemaMigrator(migrations).migrate(connection);
+            System.out.println("Failed: Broken migration reported success.");
+        } catch (SQLException e) {
+            int rows;
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM Notes;")) {
+                rs.next();
+                rows = rs.getInt(1);
+            }
+            if (SchemaMigrator.getCurrentVersion(connection) == 3 && rows == 1) {
+                System.out.println("Passed: Failed migration was rolled back.");
+            } else {
+                System.out.println("Failed: Failed migration left changes behind.");
+            }
+        }
+    }
+}
@@ -0,0 +1,473 @@
+package Utilities;
+
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p> Title: SearchIndex Class </p>
+ *
+ * <p> Description: This class keeps an in-memory inverted index over the text of every
+ * {@link HelpArticle} and answers free-text queries with ranked results. The header, title,
+ * short description, keywords and body are indexed as separate fields and scored with BM25F:
+ * term frequencies are normalized by each field's length, combined using the field weights
+ * below, and then saturated and weighted by inverse document frequency. Matches in the title
+ * or keywords therefore outrank matches buried in the body. </p>
+ *
+ * <p> The index is filled from the database on first use and afterwards kept current by
+ * {@link HelpArticleDAO}, which calls {@link #index(HelpArticle)} and {@link #remove(long)} after
+ * each committed change. Postings are kept as sorted primitive arrays per term, so a change
+ * touches only the terms of the changed article, and a query only visits the postings of its own
+ * terms before a bounded heap selects the top results. The index is safe for concurrent use:
+ * queries share a read lock and changes take the write lock. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class SearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * The indexed article fields and their weights.
+     */
+    public enum Field {
+        HEADER(1.5), TITLE(3.0), SHORT_DESCRIPTION(2.0), KEYWORDS(2.5), BODY(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+
+        /** @return The weight of a match in this field relative to the body. */
+        public double getWeight() {
+            return weight;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+
+    /**
+     * Supplies every article when the index is first loaded.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        Collection<HelpArticle> loadAll() throws SQLException;
+    }
+
+    private static SearchIndex instance;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByArticleId = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final List<Integer> freeDocs = new ArrayList<>();
+    private final long[] totalFieldLengths = new long[FIELDS.length];
+    private int liveDocuments;
+    private boolean loaded;
+
+    /**
+     * Retrieves the index shared by all DAOs.
+     *
+     * @return The shared SearchIndex.
+     */
+    public static synchronized SearchIndex getInstance() {
+        if (instance == null) {
+            instance = new SearchIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Fills the index from the loader unless it has already been loaded.
+     *
+     * @param loader Supplies every article.
+     * @throws SQLException If the articles cannot be read.
+     */
+    public void ensureLoaded(Loader loader) throws SQLException {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                clearIndex();
+                for (HelpArticle article : loader.loadAll()) {
+                    addDocument(article);
+                }
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether the index has been loaded.
+     *
+     * @return True if the index holds every article.
+     */
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Discards the index contents so that the next query reloads them, for example after the
+     * database was reset.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            clearIndex();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds an article to the index, replacing any previous version of it.
+     *
+     * @param article The article to index.
+     */
+    public void index(HelpArticle article) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(article.getId());
+            addDocument(article);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an article from the index.
+     *
+     * @param articleId The ID of the article.
+     */
+    public void remove(long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every article from the index while keeping it loaded.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearIndex();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of indexed articles.
+     *
+     * @return The number of articles.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the index. Each query term contributes its BM25F score; articles are ranked by
+     * the sum over all terms they contain.
+     *
+     * @param query The free-text query.
+     * @param limit The maximum number of results.
+     * @return The best results, highest score first.
+     */
+    public List<SearchResult> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocuments == 0) {
+                return Collections.emptyList();
+            }
+            double[] averageLengths = new double[FIELDS.length];
+            for (int f = 0; f < FIELDS.length; f++) {
+                averageLengths[f] = Math.max(1.0, (double) totalFieldLengths[f] / liveDocuments);
+            }
+
+            double[] scores = new double[documents.size()];
+            int[] touched = new int[0];
+            int touchedCount = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (liveDocuments - list.size + 0.5) / (list.size + 0.5));
+                for (int p = 0; p < list.size; p++) {
+                    int doc = list.docs[p];
+                    int[] lengths = documents.get(doc).fieldLengths;
+                    double weightedFrequency = 0;
+                    for (int f = 0; f < FIELDS.length; f++) {
+                        int frequency = list.frequencies[p * FIELDS.length + f];
+                        if (frequency > 0) {
+                            double norm = 1 - B + B * lengths[f] / averageLengths[f];
+                            weightedFrequency += FIELDS[f].weight * frequency / norm;
+                        }
+                    }
+                    if (scores[doc] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, Math.max(16, touched.length * 2));
+                        }
+                        touched[touchedCount++] = doc;
+                    }
+                    scores[doc] += idf * weightedFrequency / (K1 + weightedFrequency);
+                }
+            }
+
+            PriorityQueue<SearchResult> top = new PriorityQueue<>(Math.min(limit, Math.max(1, touchedCount)) + 1);
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (top.size() < limit) {
+                    top.add(new SearchResult(documents.get(doc).articleId, scores[doc]));
+                } else if (scores[doc] > top.peek().getScore()) {
+                    top.poll();
+                    top.add(new SearchResult(documents.get(doc).articleId, scores[doc]));
+                }
+            }
+            List<SearchResult> results = new ArrayList<>(top);
+            results.sort(Collections.reverseOrder());
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lower-case terms made of letters and digits.
+     *
+     * @param text The text to split, possibly null.
+     * @return The terms in order of appearance.
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Indexes a new document. Must be called with the write lock held.
+     */
+    private void addDocument(HelpArticle article) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] fieldLengths = new int[FIELDS.length];
+        for (Field field : FIELDS) {
+            List<String> terms = tokenize(fieldText(article, field));
+            fieldLengths[field.ordinal()] = terms.size();
+            for (String term : terms) {
+                frequencies.computeIfAbsent(term, t -> new int[FIELDS.length])[field.ordinal()]++;
+            }
+        }
+
+        int doc;
+        Document document = new Document(article.getId(), fieldLengths, frequencies.keySet().toArray(new String[0]));
+        if (freeDocs.isEmpty()) {
+            doc = documents.size();
+            documents.add(document);
+        } else {
+            doc = freeDocs.remove(freeDocs.size() - 1);
+            documents.set(doc, document);
+        }
+        docByArticleId.put(article.getId(), doc);
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new Postings()).insert(doc, entry.getValue());
+        }
+        for (int f = 0; f < FIELDS.length; f++) {
+            totalFieldLengths[f] += fieldLengths[f];
+        }
+        liveDocuments++;
+    }
+
+    /**
+     * Removes a document if present. Must be called with the write lock held.
+     */
+    private void removeDocument(long articleId) {
+        Integer doc = docByArticleId.remove(articleId);
+        if (doc == null) {
+            return;
+        }
+        Document document = documents.get(doc);
+        for (String term : document.terms) {
+            Postings list = postings.get(term);
+            list.delete(doc);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        for (int f = 0; f < FIELDS.length; f++) {
+            totalFieldLengths[f] -= document.fieldLengths[f];
+        }
+        documents.set(doc, null);
+        freeDocs.add(doc);
+        liveDocuments--;
+    }
+
+    /**
+     * Empties every structure. Must be called with the write lock held.
+     */
+    private void clearIndex() {
+        postings.clear();
+        docByArticleId.clear();
+        documents.clear();
+        freeDocs.clear();
+        Arrays.fill(totalFieldLengths, 0);
+        liveDocuments = 0;
+    }
+
+    /**
+     * Retrieves the text of one field of an article.
+     */
+    private static String fieldText(HelpArticle article, Field field) {
+        switch (field) {
+            case HEADER:
+                return article.getHeader();
+            case TITLE:
+                return article.getTitle();
+            case SHORT_DESCRIPTION:
+                return article.getShortDescription();
+            case KEYWORDS:
+                return article.getKeywords() == null ? null : String.join(" ", article.getKeywords());
+            default:
+                return article.getBody();
+        }
+    }
+
+    /**
+     * The per-document data needed for scoring and removal.
+     */
+    private static final class Document {
+        private final long articleId;
+        private final int[] fieldLengths;
+        private final String[] terms;
+
+        Document(long articleId, int[] fieldLengths, String[] terms) {
+            this.articleId = articleId;
+            this.fieldLengths = fieldLengths;
+            this.terms = terms;
+        }
+    }
+
+    /**
+     * The documents containing one term, sorted by document number, with the term's frequency
+     * in each field stored alongside.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4 * FIELDS.length];
+        private int size;
+
+        void insert(int doc, int[] fieldFrequencies) {
+            int position = -(Arrays.binarySearch(docs, 0, size, doc) + 1);
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2 * FIELDS.length);
+            }
+            System.arraycopy(docs, position, docs, position + 1, size - position);
+            System.arraycopy(frequencies, position * FIELDS.length, frequencies, (position + 1) * FIELDS.length,
+                    (size - position) * FIELDS.length);
+            docs[position] = doc;
+            System.arraycopy(fieldFrequencies, 0, frequencies, position * FIELDS.length, FIELDS.length);
+            size++;
+        }
+
+        void delete(int doc) {
+            int position = Arrays.binarySearch(docs, 0, size, doc);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(docs, position + 1, docs, position, size - position - 1);
+            System.arraycopy(frequencies, (position + 1) * FIELDS.length, frequencies, position * FIELDS.length,
+                    (size - position - 1) * FIELDS.length);
+            size--;
+        }
+    }
+
+    /**
+     * <p> Title: SearchResult Class </p>
+     *
+     * <p> Description: An article matched by a query and its relevance score. Results order by
+     * ascending score, ties broken so that lower article IDs rank higher. </p>
+     */
+    public static final class SearchResult implements Comparable<SearchResult> {
+        private final long articleId;
+        private final double score;
+
+        SearchResult(long articleId, double score) {
+            this.articleId = articleId;
+            this.score = score;
+        }
+
+        /** @return The ID of the matched article. */
+        public long getArticleId() { return articleId; }
+
+        /** @return The BM25F score; higher is more relevant. */
+        public double getScore() { return score; }
+
+        @Override
+        public int compareTo(SearchResult other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(other.articleId, articleId);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("#%d (%.3f)", articleId, score);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package Utilities;
+
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p> Title: SearchIndexTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link SearchIndex} class and the
+ * search methods of {@link HelpArticleDAO}. It validates tokenizing, field-weighted ranking,
+ * incremental updates and removals, the top-k limit, that DAO changes reach the shared index, and
+ * that updating a missing article indexes nothing.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class SearchIndexTest {
+
+    /**
+     * The main method to execute the SearchIndex tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        SearchIndexTest tester = new SearchIndexTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the SearchIndex.
+     */
+    public void runTests() {
+        System.out.println("Running SearchIndex tests...");
+
+        try {
+            testTokenize();
+            testFieldWeights();
+            testIncrementalUpdate();
+            testTopK();
+            testDaoKeepsIndexCurrent();
+            testMissingUpdateNotIndexed();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("SearchIndex tests completed.");
+    }
+
+    /**
+     * Creates an article with the given ID and text.
+     */
+    private HelpArticle article(long id, String title, List<String> keywords, String body) {
+        return new HelpArticle(id, "Header", title, "Short description", keywords, body, Arrays.asList("https://example.com"));
+    }
+
+    /**
+     * Tests that text is split into lower-case terms on non-alphanumeric characters.
+     */
+    public void testTokenize() {
+        System.out.println("\nTest: Tokenize");
+        List<String> terms = SearchIndex.tokenize("  Java-8 streams, JDBC's API!");
+        if (terms.equals(Arrays.asList("java", "8", "streams", "jdbc", "s", "api")) && SearchIndex.tokenize(null).isEmpty()) {
+            System.out.println("Passed: Text was tokenized into lower-case terms.");
+        } else {
+            System.out.println("Failed: Unexpected terms " + terms);
+        }
+    }
+
+    /**
+     * Tests that a title match outranks a body match and that unrelated articles are not returned.
+     */
+    public void testFieldWeights() {
+        System.out.println("\nTest: Field Weights");
+        SearchIndex index = new SearchIndex();
+        index.index(article(1, "Getting Started", Arrays.asList("intro"), "Threads are covered in a later chapter."));
+        index.index(article(2, "Threads and Locks", Arrays.asList("concurrency"), "How to coordinate work."));
+        index.index(article(3, "Collections", Arrays.asList("lists"), "Lists, sets and maps."));
+
+        List<SearchIndex.SearchResult> results = index.search("threads", 10);
+        if (results.size() == 2 && results.get(0).getArticleId() == 2 && results.get(1).getArticleId() == 1 &&
+            results.get(0).getScore() > results.get(1).getScore()) {
+            System.out.println("Passed: Title match ranked above body match.");
+        } else {
+            System.out.println("Failed: Unexpected ranking " + results);
+        }
+    }
+
+    /**
+     * Tests that updating and removing an article changes the results immediately.
+     */
+    public void testIncrementalUpdate() {
+        System.out.println("\nTest: Incremental Update");
+        SearchIndex index = new SearchIndex();
+        index.index(article(1, "Maven Builds", Arrays.asList("build"), "Compile and package."));
+        index.index(article(2, "Gradle Builds", Arrays.asList("build"), "Compile and package."));
+
+        index.index(article(1, "Ant Builds", Arrays.asList("build"), "Compile and package."));
+        boolean updated = index.search("maven", 10).isEmpty() && index.search("ant", 10).size() == 1;
+
+        index.remove(2);
+        List<SearchIndex.SearchResult> builds = index.search("build", 10);
+        if (updated && builds.size() == 1 && builds.get(0).getArticleId() == 1 && index.size() == 1 &&
+            index.search("gradle", 10).isEmpty()) {
+            System.out.println("Passed: Index reflected updates and removals.");
+        } else {
+            System.out.println("Failed: Index was not updated incrementally: " + builds);
+        }
+    }
+
+    /**
+     * Tests that only the requested number of best results is returned, best first.
+     */
+    public void testTopK() {
+        System.out.println("\nTest: Top-K Results");
+        SearchIndex index = new SearchIndex();
+        for (int i = 1; i <= 2000; i++) {
+            // Article i mentions "cache" i % 50 times, so the best articles are those with i % 50 == 49.
+            StringBuilder body = new StringBuilder("Caching notes.");
+            for (int j = 0; j < i % 50; j++) {
+                body.append(" cache");
+            }
+            index.index(article(i, "Article " + i, new ArrayList<>(), body.toString()));
+        }
+
+        List<SearchIndex.SearchResult> results = index.search("cache", 5);
+        boolean ordered = true;
+        for (int i = 1; i < results.size(); i++) {
+            ordered &= results.get(i - 1).getScore() >= results.get(i).getScore();
+        }
+        boolean best = !results.isEmpty() && results.get(0).getArticleId() % 50 == 49;
+        if (results.size() == 5 && ordered && best) {
+            System.out.println("Passed: Top results were returned in score order.");
+        } else {
+            System.out.println("Failed: Unexpected top results " + results);
+        }
+    }
+
+    /**
+     * Tests that articles added, updated and deleted through the DAO are found by search.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testDaoKeepsIndexCurrent() throws SQLException {
+        System.out.println("\nTest: DAO Keeps Index Current");
+        DatabaseManager.getInstance().resetDatabase();
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        HelpArticle rust = new HelpArticle(0, "Header1", "Rust Ownership", "Borrowing explained",
+                Arrays.asList("rust", "memory"), "Ownership rules keep memory safe.", Arrays.asList("https://rust-lang.org"));
+        helpArticleDAO.addHelpArticle(rust);
+        boolean added = helpArticleDAO.searchHelpArticles("ownership", 10).size() == 1;
+
+        rust.setTitle("Rust Lifetimes");
+        rust.setBody("Lifetimes describe how long references are valid.");
+        helpArticleDAO.updateHelpArticle(rust);
+        List<HelpArticle> lifetimes = helpArticleDAO.searchHelpArticles("lifetimes", 10);
+        boolean updated = lifetimes.size() == 1 && lifetimes.get(0).getTitle().equals("Rust Lifetimes") &&
+                helpArticleDAO.searchHelpArticles("ownership", 10).isEmpty();
+
+        helpArticleDAO.deleteHelpArticle(rust.getId());
+        if (added && updated && helpArticleDAO.searchHelpArticles("rust", 10).isEmpty()) {
+            System.out.println("Passed: DAO changes were reflected in search results.");
+        } else {
+            System.out.println("Failed: Search results did not follow DAO changes.");
+        }
+    }
+
+    /**
+     * Tests that updating an article that does not exist adds no document that could take a
+     * top-k slot from a real article.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testMissingUpdateNotIndexed() throws SQLException {
+        System.out.println("\nTest: Missing Update Not Indexed");
+        DatabaseManager.getInstance().resetDatabase();
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        helpArticleDAO.addHelpArticle(new HelpArticle(0, "Header1", "Style Guide", "Naming",
+                Arrays.asList("style"), "A guide to naming.", Arrays.asList("https://example.com")));
+        helpArticleDAO.addHelpArticle(new HelpArticle(0, "Header2", "Testing Guide", "Coverage",
+                Arrays.asList("testing"), "A guide to coverage.", Arrays.asList("https://example.com")));
+        helpArticleDAO.searchHelpArticles("guide", 2);
+
+        helpArticleDAO.updateHelpArticle(new HelpArticle(9999, "Header", "Guide Guide", "Ghost",
+                new ArrayList<>(), "Guide guide guide.", new ArrayList<>()));
+        List<HelpArticle> results = helpArticleDAO.searchHelpArticles("guide", 2);
+        if (results.size() == 2 && results.stream().noneMatch(article -> article.getId() == 9999)) {
+            System.out.println("Passed: The missing article was not indexed.");
+        } else {
+            System.out.println("Failed: Expected 2 results but got " + results.size() + ".");
+        }
+    }
+}
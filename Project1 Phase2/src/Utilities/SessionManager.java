@@ -11,14 +11,17 @@ import models.Role;
  * The class provides methods to set and retrieve the current user and role, as well as to clear the session.
  * </p>
  * 
+ * <p> The user and role are held together in one immutable snapshot that is replaced as a whole,
+ * under the instance lock, so the session can be read and changed from several threads and a
+ * reader never sees the role of one login paired with the user of another. </p>
+ * 
  * @author Naimish Maniya
  * 
  * <p> @version 1.00  2024-10-29  Initial version. </p>
  */
 public class SessionManager {
     private static SessionManager instance;
-    private User currentUser;
-    private Role currentRole;
+    private volatile Session session = Session.EMPTY;
 
     /**
      * Private constructor to enforce Singleton pattern.
@@ -30,7 +33,7 @@ public class SessionManager {
      *
      * @return The SessionManager instance.
      */
-    public static SessionManager getInstance() {
+    public static synchronized SessionManager getInstance() {
         if (instance == null) {
             instance = new SessionManager();
         }
@@ -43,7 +46,7 @@ public class SessionManager {
      * @return The current {@link User}, or null if no user is set.
      */
     public User getCurrentUser() {
-        return currentUser;
+        return session.user;
     }
 
     /**
@@ -51,8 +54,8 @@ public class SessionManager {
      *
      * @param currentUser The {@link User} to set as current.
      */
-    public void setCurrentUser(User currentUser) {
-        this.currentUser = currentUser;
+    public synchronized void setCurrentUser(User currentUser) {
+        this.session = new Session(currentUser, session.role);
     }
 
     /**
@@ -61,7 +64,7 @@ public class SessionManager {
      * @return The current {@link Role}, or null if no role is set.
      */
     public Role getCurrentRole() {
-        return currentRole;
+        return session.role;
     }
 
     /**
@@ -69,15 +72,39 @@ public class SessionManager {
      *
      * @param currentRole The {@link Role} to set as current.
      */
-    public void setCurrentRole(Role currentRole) {
-        this.currentRole = currentRole;
+    public synchronized void setCurrentRole(Role currentRole) {
+        this.session = new Session(session.user, currentRole);
+    }
+
+    /**
+     * Sets the current user and role of the session in one step.
+     *
+     * @param currentUser The {@link User} to set as current.
+     * @param currentRole The {@link Role} to set as current.
+     */
+    public synchronized void startSession(User currentUser, Role currentRole) {
+        this.session = new Session(currentUser, currentRole);
     }
 
     /**
      * Clears the current session by resetting the user and role.
      */
-    public void clearSession() {
-        this.currentUser = null;
-        this.currentRole = null;
+    public synchronized void clearSession() {
+        this.session = Session.EMPTY;
+    }
+
+    /**
+     * The user and role of the session at one point in time.
+     */
+    private static final class Session {
+        static final Session EMPTY = new Session(null, null);
+
+        final User user;
+        final Role role;
+
+        Session(User user, Role role) {
+            this.user = user;
+            this.role = role;
+        }
     }
 }
@@ -3,6 +3,10 @@ package Utilities;
 import models.User;
 import models.Role;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * <p> Title: SessionManagerTest Class </p>
  * 
@@ -36,6 +40,7 @@ public class SessionManagerTest {
         testSetCurrentUser();
         testClearSession();
         testSetCurrentRole();
+        testConcurrentSessions();
 
         System.out.println("Tests completed.");
     }
@@ -92,4 +97,42 @@ public class SessionManagerTest {
             System.out.println("Failed: Current role is not set correctly.");
         }
     }
+
+    /**
+     * Tests that sessions started from many threads at once leave a consistent session behind,
+     * with the user and role of the same call.
+     */
+    public void testConcurrentSessions() {
+        System.out.println("\nTest: Concurrent Sessions");
+        SessionManager sessionManager = SessionManager.getInstance();
+        User admin = new User("adminUser", "password123");
+        User student = new User("studentUser", "password123");
+        AtomicInteger exceptions = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 8; t++) {
+                boolean asAdmin = t % 2 == 0;
+                executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < 10_000; i++) {
+                            sessionManager.startSession(asAdmin ? admin : student, asAdmin ? Role.ADMIN : Role.STUDENT);
+                            sessionManager.getCurrentUser();
+                            sessionManager.getCurrentRole();
+                        }
+                    } catch (RuntimeException e) {
+                        exceptions.incrementAndGet();
+                    }
+                });
+            }
+        }
+        User user = sessionManager.getCurrentUser();
+        Role role = sessionManager.getCurrentRole();
+        boolean consistent = (user == admin && role == Role.ADMIN) || (user == student && role == Role.STUDENT);
+        sessionManager.clearSession();
+
+        if (consistent && exceptions.get() == 0 && sessionManager.getCurrentUser() == null) {
+            System.out.println("Passed: The last session started kept its own user and role.");
+        } else {
+            System.out.println("Failed: Inconsistent session after concurrent use: " + user + ", " + role);
+        }
+    }
 }
@@ -0,0 +1,500 @@
+package Utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * <p> Title: SlowQueryLog Class </p>
+ *
+ * <p> Description: This class records every statement that takes longer than a configured
+ * threshold. The {@link ConnectionPool} hands each statement it creates to
+ * {@link #track(Statement, String, Connection)}, which times the statement's executions and
+ * remembers the parameters bound to it. A query's time is its execution plus the time spent in
+ * {@code ResultSet.next()}, so it includes fetching the rows but not the work the caller does
+ * between rows; the query is recorded once its result set is closed or read to the end. </p>
+ *
+ * <p> Each slow statement is appended to a local file as an entry with its text, bound parameters,
+ * duration and rows. The first time a statement of a given shape is slow, {@code EXPLAIN} is run on
+ * it with the same parameters and the plan is written with the entry and kept for
+ * {@link #getPlan(String)}. The shape is the statement text with literals replaced by {@code ?}, so
+ * the DAOs' parameterized statements have one shape each. Once the file would grow past its size
+ * limit it is rotated: {@code slow-queries.log} becomes {@code slow-queries.log.1}, and so on, and
+ * the oldest file is deleted. </p>
+ *
+ * <p> Entries are written on the thread that ran the statement, which only happens for slow
+ * statements. A failure to write the file is reported and otherwise ignored, so logging never
+ * fails a DAO call. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class SlowQueryLog {
+    static final int MAX_PARAMETER_LENGTH = 200;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EXPLAINABLE = Pattern.compile("^(SELECT|INSERT|UPDATE|DELETE|MERGE|WITH)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private final Path file;
+    private final long thresholdNanos;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final Set<String> explainedShapes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, String> plans = new ConcurrentHashMap<>();
+    private final AtomicLong loggedCount = new AtomicLong();
+
+    /**
+     * Constructs a SlowQueryLog.
+     *
+     * @param file            The file entries are appended to.
+     * @param thresholdMillis Statements taking at least this long are logged; 0 logs every statement.
+     * @param maxFileBytes    The size a file may reach before it is rotated.
+     * @param maxFiles        The number of files kept, the current one included.
+     */
+    public SlowQueryLog(Path file, long thresholdMillis, long maxFileBytes, int maxFiles) {
+        if (thresholdMillis < 0) {
+            throw new IllegalArgumentException("The slow query threshold cannot be negative.");
+        }
+        if (maxFiles < 1) {
+            throw new IllegalArgumentException("At least one slow query log file must be kept.");
+        }
+        this.file = file;
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+        this.maxFileBytes = Math.max(maxFileBytes, 1);
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * Creates the slow query log described by a configuration.
+     *
+     * @param config The database configuration.
+     * @return The log, or null if the configured threshold is negative, which disables it.
+     */
+    public static SlowQueryLog fromConfig(DatabaseConfig config) {
+        long thresholdMillis = config.getSlowQueryThresholdMillis();
+        if (thresholdMillis < 0) {
+            return null;
+        }
+        return new SlowQueryLog(config.getSlowQueryLogFile(), thresholdMillis, config.getSlowQueryLogMaxFileBytes(),
+                config.getSlowQueryLogMaxFiles());
+    }
+
+    /**
+     * Wraps a statement so that its executions are timed. Callable statements are returned as they
+     * are, as the DAOs do not use them.
+     *
+     * @param statement The statement handed out by the pool.
+     * @param sql       The text the statement was prepared with, or null for a plain statement.
+     * @param physical  The physical connection, used to run {@code EXPLAIN} outside the pool.
+     * @return The tracked statement.
+     */
+    Statement track(Statement statement, String sql, Connection physical) {
+        if (statement instanceof CallableStatement) {
+            return statement;
+        }
+        Class<?> type = statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                new TrackedStatement(statement, sql, physical));
+    }
+
+    /**
+     * Retrieves the plan stored for a statement's shape.
+     *
+     * @param sql The statement text.
+     * @return The plan reported by {@code EXPLAIN}, or null if no statement of that shape was slow.
+     */
+    public String getPlan(String sql) {
+        return plans.get(shapeOf(sql));
+    }
+
+    /**
+     * Retrieves the number of entries logged since the log was created.
+     *
+     * @return The number of slow statements logged.
+     */
+    public long getLoggedCount() {
+        return loggedCount.get();
+    }
+
+    /**
+     * Retrieves the file entries are appended to.
+     *
+     * @return The current log file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Reduces a statement to its shape: literals become {@code ?} and runs of whitespace a
+     * single space.
+     *
+     * @param sql The statement text.
+     * @return The shape.
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * Logs an execution if it reached the threshold.
+     *
+     * @param sql        The statement text.
+     * @param parameters The bound parameters, by index from 1.
+     * @param batchSize  The number of batched parameter sets, or 0 for a single execution.
+     * @param nanos      How long the execution took.
+     * @param rows       The rows returned or changed, or -1 if unknown.
+     * @param failure    The exception thrown, or null.
+     * @param physical   The connection to run {@code EXPLAIN} on.
+     */
+    private void record(String sql, Object[] parameters, int batchSize, long nanos, long rows, SQLException failure,
+                        Connection physical) {
+        if (nanos < thresholdNanos || sql == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        String plan = null;
+        if (explainedShapes.add(shape)) {
+            plan = explain(physical, sql, parameters);
+            plans.put(shape, plan);
+        }
+
+        String nl = System.lineSeparator();
+        StringBuilder entry = new StringBuilder().append(Instant.now()).append(' ')
+                .append(String.format("%.3f ms", nanos / 1e6));
+        if (failure != null) {
+            entry.append(", failed: ").append(failure.getMessage());
+        } else {
+            entry.append(", ").append(rows < 0 ? "?" : String.valueOf(rows)).append(" rows");
+        }
+        entry.append(nl).append("  SQL:    ").append(WHITESPACE.matcher(sql).replaceAll(" ").trim());
+        entry.append(nl).append("  Params: ");
+        if (batchSize > 0) {
+            entry.append("batch of ").append(batchSize).append(", last ");
+        }
+        entry.append(formatParameters(parameters));
+        if (plan != null) {
+            entry.append(nl).append("  Plan:   ").append(plan.replace("\n", nl + "          "));
+        }
+        write(entry.append(nl).append(nl).toString());
+        loggedCount.incrementAndGet();
+    }
+
+    /**
+     * Runs {@code EXPLAIN} on a statement with the parameters it ran with. Streams cannot be
+     * bound twice, so those parameters are explained as NULL.
+     */
+    private static String explain(Connection physical, String sql, Object[] parameters) {
+        if (!EXPLAINABLE.matcher(sql.trim()).find()) {
+            return "(not explainable)";
+        }
+        try (PreparedStatement pstmt = physical.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = pstmt.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                Object value = i < parameters.length ? parameters[i] : null;
+                pstmt.setObject(i, value instanceof InputStream || value instanceof Reader ? null : value);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException ex) {
+            return "(EXPLAIN failed: " + ex.getMessage() + ")";
+        }
+    }
+
+    /**
+     * Formats bound parameters, shortening long strings and describing binary values.
+     */
+    static String formatParameters(Object[] parameters) {
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 1; i < parameters.length; i++) {
+            if (i > 1) {
+                text.append(", ");
+            }
+            Object value = parameters[i];
+            if (value == null) {
+                text.append("NULL");
+            } else if (value instanceof String) {
+                String string = (String) value;
+                text.append('\'').append(string.length() > MAX_PARAMETER_LENGTH
+                        ? string.substring(0, MAX_PARAMETER_LENGTH) + "..." : string).append('\'');
+            } else if (value instanceof Object[]) {
+                text.append(Arrays.toString((Object[]) value));
+            } else if (value instanceof byte[]) {
+                text.append('<').append(((byte[]) value).length).append(" bytes>");
+            } else if (value instanceof InputStream || value instanceof Reader) {
+                text.append("<stream>");
+            } else {
+                text.append(value);
+            }
+        }
+        return text.append(']').toString();
+    }
+
+    /**
+     * Appends an entry to the log file, rotating the files first if the entry would not fit.
+     */
+    private synchronized void write(String entry) {
+        byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.exists(file) && Files.size(file) > 0 && Files.size(file) + bytes.length > maxFileBytes) {
+                rotate();
+            }
+            Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            System.out.println("Slow query log could not be written: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Shifts every kept file up by one, dropping the oldest.
+     */
+    private void rotate() throws IOException {
+        Files.deleteIfExists(rotated(maxFiles - 1));
+        for (int i = maxFiles - 2; i >= 1; i--) {
+            if (Files.exists(rotated(i))) {
+                Files.move(rotated(i), rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 1) {
+            Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Retrieves the path of a rotated file.
+     *
+     * @param generation The generation, 1 being the most recent.
+     * @return The path, such as {@code slow-queries.log.1}.
+     */
+    Path rotated(int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Invocation handler behind a tracked statement. It remembers the bound parameters and times
+     * each execution; a query stays open, adding up the time spent fetching its rows, until its
+     * result set is closed or exhausted.
+     */
+    private final class TrackedStatement implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+        private final Connection physical;
+        private final List<Object> parameters = new ArrayList<>();
+        private int batchSize;
+        private OpenQuery openQuery;
+
+        TrackedStatement(Statement statement, String sql, Connection physical) {
+            this.statement = statement;
+            this.sql = sql;
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "clearParameters":
+                    parameters.clear();
+                    break;
+                case "addBatch":
+                    batchSize++;
+                    break;
+                case "clearBatch":
+                    batchSize = 0;
+                    break;
+                case "close":
+                    finishOpenQuery();
+                    break;
+                case "executeQuery":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "executeBatch":
+                case "executeLargeBatch":
+                case "execute":
+                    return execute(proxy, method, args);
+                default:
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                    }
+                    break;
+            }
+            return invokeTarget(method, args);
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            finishOpenQuery();
+            String text = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+            Object[] bound = parameters.toArray(new Object[parameters.size()]);
+            int batch = batchSize;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(method, args);
+            } catch (SQLException ex) {
+                record(text, bound, batch, System.nanoTime() - start, -1, ex, physical);
+                throw ex;
+            }
+
+            long rows;
+            if (result instanceof ResultSet) {
+                openQuery = new OpenQuery(text, bound, System.nanoTime() - start);
+                return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                        new TrackedResultSet((ResultSet) result, proxy, openQuery));
+            } else if (result instanceof int[]) {
+                rows = Arrays.stream((int[]) result).filter(count -> count > 0).asLongStream().sum();
+                batchSize = 0;
+            } else if (result instanceof long[]) {
+                rows = Arrays.stream((long[]) result).filter(count -> count > 0).sum();
+                batchSize = 0;
+            } else if (result instanceof Number) {
+                rows = ((Number) result).longValue();
+            } else {
+                rows = Boolean.FALSE.equals(result) ? statement.getUpdateCount() : -1;
+            }
+            record(text, bound, batch, System.nanoTime() - start, rows, null, physical);
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() <= index) {
+                parameters.add(null);
+            }
+            parameters.set(index, value);
+        }
+
+        private void finishOpenQuery() {
+            if (openQuery != null) {
+                openQuery.finish();
+                openQuery = null;
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+
+        /**
+         * A query whose rows are still being read.
+         */
+        private final class OpenQuery {
+            private final String text;
+            private final Object[] bound;
+            private long elapsedNanos; // Execution plus calls to next(), excluding the caller's time between rows
+            private long rows;
+            private boolean finished;
+
+            OpenQuery(String text, Object[] bound, long executeNanos) {
+                this.text = text;
+                this.bound = bound;
+                this.elapsedNanos = executeNanos;
+            }
+
+            void finish() {
+                if (!finished) {
+                    finished = true;
+                    record(text, bound, 0, elapsedNanos, rows, null, physical);
+                }
+            }
+        }
+
+        /**
+         * Invocation handler behind the result set of a tracked query. It counts the rows read,
+         * adds the time spent in {@code next()} to the query, and finishes the query when the rows
+         * run out or the result set is closed.
+         */
+        private final class TrackedResultSet implements InvocationHandler {
+            private final ResultSet resultSet;
+            private final Object statementProxy;
+            private final OpenQuery query;
+
+            TrackedResultSet(ResultSet resultSet, Object statementProxy, OpenQuery query) {
+                this.resultSet = resultSet;
+                this.statementProxy = statementProxy;
+                this.query = query;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "getStatement":
+                        return statementProxy;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        break;
+                }
+                boolean next = method.getName().equals("next");
+                long start = next ? System.nanoTime() : 0;
+                Object result;
+                try {
+                    result = method.invoke(resultSet, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                } finally {
+                    if (next) {
+                        query.elapsedNanos += System.nanoTime() - start;
+                    }
+                }
+                if (next) {
+                    if (Boolean.TRUE.equals(result)) {
+                        query.rows++;
+                    } else {
+                        query.finish();
+                    }
+                } else if (method.getName().equals("close")) {
+                    query.finish();
+                }
+                return result;
+            }
+        }
+    }
+}
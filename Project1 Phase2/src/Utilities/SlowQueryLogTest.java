@@ -0,0 +1,277 @@
+package Utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * <p> Title: SlowQueryLogTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link SlowQueryLog} class. It
+ * validates that slow statements are logged with their text, parameters, duration and rows, that
+ * {@code EXPLAIN} is run only for the first statement of each shape, that fast statements are not
+ * logged, that time the caller spends between rows is not counted, that the log file is rotated,
+ * and that literals are removed from statement shapes.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class SlowQueryLogTest {
+    private static final String TEST_URL = "jdbc:h2:mem:slowquerytest;DB_CLOSE_DELAY=-1";
+    private static final String SELECT_SQL = "SELECT id, name FROM slow_items WHERE name LIKE ? ORDER BY id";
+
+    /**
+     * The main method to execute the SlowQueryLog tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        SlowQueryLogTest tester = new SlowQueryLogTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for SlowQueryLog.
+     */
+    public void runTests() {
+        System.out.println("Running SlowQueryLog tests...");
+
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("slow-query-log");
+            testSlowStatementLogged(directory);
+            testPlanOnlyForFirstOccurrence(directory);
+            testFastStatementsSkipped(directory);
+            testCallerTimeExcluded(directory);
+            testRotation(directory);
+            testShapeOf();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Failed: Unexpected exception: " + e);
+        } finally {
+            deleteRecursively(directory);
+        }
+
+        System.out.println("SlowQueryLog tests completed.");
+    }
+
+    /**
+     * Creates a pool whose statements report to the given log, with a small table to query.
+     */
+    private ConnectionPool createPool(SlowQueryLog log) throws SQLException {
+        ConnectionPool pool = new ConnectionPool(TEST_URL, "sa", "", 2, 0, 1000, 60_000, 30_000, "SELECT 1", 4);
+        try (Connection connection = pool.borrow(); Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS slow_items (id INT PRIMARY KEY, name VARCHAR(255))");
+            stmt.execute("DELETE FROM slow_items");
+        }
+        pool.setSlowQueryLog(log);
+        return pool;
+    }
+
+    private static int runQuery(Connection connection, String pattern) throws SQLException {
+        int rows = 0;
+        try (PreparedStatement pstmt = connection.prepareStatement(SELECT_SQL)) {
+            pstmt.setString(1, pattern);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static void insertItems(Connection connection, int count) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("INSERT INTO slow_items (id, name) VALUES (?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                pstmt.setInt(1, i);
+                pstmt.setString(2, "item-" + i);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Tests that a statement over the threshold is logged with its text, parameters and rows.
+     *
+     * @param directory The directory to write the log in.
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the log cannot be read.
+     */
+    public void testSlowStatementLogged(Path directory) throws SQLException, IOException {
+        System.out.println("\nTest: Slow Statement Logged");
+        SlowQueryLog log = new SlowQueryLog(directory.resolve("logged.log"), 0, 1024 * 1024, 3);
+        ConnectionPool pool = createPool(log);
+        int rows;
+        try (Connection connection = pool.borrow()) {
+            insertItems(connection, 3);
+            rows = runQuery(connection, "item-%");
+        } finally {
+            pool.close();
+        }
+        String text = new String(Files.readAllBytes(log.getFile()), StandardCharsets.UTF_8);
+
+        if (rows == 3 && text.contains("SQL:    " + SELECT_SQL) && text.contains("Params: ['item-%']") &&
+            text.contains(" ms, 3 rows") && text.contains("batch of 3, last [3, 'item-3']") &&
+            log.getPlan(SELECT_SQL) != null && log.getPlan(SELECT_SQL).contains("SLOW_ITEMS")) {
+            System.out.println("Passed: The query and the batch were logged with their parameters, rows and plan.");
+        } else {
+            System.out.println("Failed: Unexpected log:\n" + text);
+        }
+    }
+
+    /**
+     * Tests that the plan is written with the first entry of a shape only.
+     *
+     * @param directory The directory to write the log in.
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the log cannot be read.
+     */
+    public void testPlanOnlyForFirstOccurrence(Path directory) throws SQLException, IOException {
+        System.out.println("\nTest: Plan Only For First Occurrence");
+        SlowQueryLog log = new SlowQueryLog(directory.resolve("plans.log"), 0, 1024 * 1024, 3);
+        ConnectionPool pool = createPool(log);
+        try (Connection connection = pool.borrow()) {
+            runQuery(connection, "a%");
+            runQuery(connection, "b%");
+            runQuery(connection, "c%");
+        } finally {
+            pool.close();
+        }
+        String text = new String(Files.readAllBytes(log.getFile()), StandardCharsets.UTF_8);
+        long queries = text.lines().filter(line -> line.equals("  SQL:    " + SELECT_SQL)).count();
+        long plans = text.lines().filter(line -> line.startsWith("  Plan:   ")).count();
+
+        if (queries == 3 && plans == 1 && text.contains("Params: ['c%']")) {
+            System.out.println("Passed: 3 entries were logged with one plan.");
+        } else {
+            System.out.println("Failed: " + queries + " entries were logged with " + plans + " plans.");
+        }
+    }
+
+    /**
+     * Tests that statements under the threshold are not logged.
+     *
+     * @param directory The directory to write the log in.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testFastStatementsSkipped(Path directory) throws SQLException {
+        System.out.println("\nTest: Fast Statements Skipped");
+        SlowQueryLog log = new SlowQueryLog(directory.resolve("fast.log"), 60_000, 1024 * 1024, 3);
+        ConnectionPool pool = createPool(log);
+        try (Connection connection = pool.borrow()) {
+            runQuery(connection, "%");
+        } finally {
+            pool.close();
+        }
+
+        if (log.getLoggedCount() == 0 && !Files.exists(log.getFile()) && log.getPlan(SELECT_SQL) == null) {
+            System.out.println("Passed: Nothing was logged under the threshold.");
+        } else {
+            System.out.println("Failed: " + log.getLoggedCount() + " statements were logged.");
+        }
+    }
+
+    /**
+     * Tests that a query read slowly by its caller is not logged, since only the time spent
+     * executing it and fetching its rows counts.
+     *
+     * @param directory The directory to write the log in.
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testCallerTimeExcluded(Path directory) throws SQLException {
+        System.out.println("\nTest: Caller Time Excluded");
+        SlowQueryLog log = new SlowQueryLog(directory.resolve("caller.log"), 200, 1024 * 1024, 3);
+        ConnectionPool pool = createPool(log);
+        int rows = 0;
+        try (Connection connection = pool.borrow()) {
+            insertItems(connection, 3);
+            try (PreparedStatement pstmt = connection.prepareStatement(SELECT_SQL)) {
+                pstmt.setString(1, "item-%");
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        Thread.sleep(150); // Work done by the caller between rows
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.close();
+        }
+
+        if (rows == 3 && log.getLoggedCount() == 0 && log.getPlan(SELECT_SQL) == null) {
+            System.out.println("Passed: 450 ms spent between rows was not counted.");
+        } else {
+            System.out.println("Failed: " + log.getLoggedCount() + " statements were logged.");
+        }
+    }
+
+    /**
+     * Tests that the log is rotated at its size limit and only the configured files are kept.
+     *
+     * @param directory The directory to write the log in.
+     * @throws SQLException If a database access error occurs.
+     * @throws IOException  If the log cannot be read.
+     */
+    public void testRotation(Path directory) throws SQLException, IOException {
+        System.out.println("\nTest: Rotation");
+        SlowQueryLog log = new SlowQueryLog(directory.resolve("rotated.log"), 0, 1024, 3);
+        ConnectionPool pool = createPool(log);
+        try (Connection connection = pool.borrow()) {
+            for (int i = 0; i < 50; i++) {
+                runQuery(connection, "item-" + i);
+            }
+        } finally {
+            pool.close();
+        }
+
+        boolean withinLimit = Files.size(log.getFile()) <= 1024 && Files.size(log.rotated(1)) <= 1024 &&
+                Files.size(log.rotated(2)) <= 1024;
+        if (log.getLoggedCount() == 50 && withinLimit && !Files.exists(log.rotated(3)) &&
+            new String(Files.readAllBytes(log.getFile()), StandardCharsets.UTF_8).contains("'item-49'")) {
+            System.out.println("Passed: The log was rotated into 3 files of at most 1 KB.");
+        } else {
+            System.out.println("Failed: The log was not rotated as expected.");
+        }
+    }
+
+    /**
+     * Tests that statements differing only in literals and whitespace have the same shape.
+     */
+    public void testShapeOf() {
+        System.out.println("\nTest: Shape Of");
+        String first = SlowQueryLog.shapeOf("SELECT * FROM t WHERE a = 5 AND b = 'it''s'  AND c2 = ?");
+        String second = SlowQueryLog.shapeOf("SELECT * FROM t\n WHERE a = 17 AND b = 'x' AND c2 = ?");
+
+        if (first.equals(second) && first.equals("SELECT * FROM t WHERE a = ? AND b = ? AND c2 = ?")) {
+            System.out.println("Passed: Literals and whitespace were normalized.");
+        } else {
+            System.out.println("Failed: Unexpected shapes: " + first + " / " + second);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            // Temporary files only.
+        }
+    }
+}
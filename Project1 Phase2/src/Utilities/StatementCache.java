@@ -0,0 +1,256 @@
+package Utilities;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p> Title: StatementCache Class </p>
+ *
+ * <p> Description: This class keeps the most recently used prepared statements of one pooled
+ * connection open so that repeated DAO calls skip parsing and planning. Closing a statement
+ * obtained from the cache only hands it back; the underlying statement stays open until it is
+ * evicted by the least-recently-used policy or the connection itself is closed. A statement that
+ * is requested again while still in use is prepared normally and not cached. When a statement is
+ * handed back, its parameters and batch are cleared and any fetch size, row limit, field size or
+ * query timeout the caller set is restored to the value it was prepared with. </p>
+ *
+ * <p> A cache belongs to a single connection and is only used by whichever thread has borrowed
+ * that connection, so it needs no locking of its own. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+class StatementCache {
+    private final Connection physical;
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+    private final Map<String, CachedStatement> statements;
+
+    /**
+     * Constructs a StatementCache for one physical connection.
+     *
+     * @param physical  The connection the statements are prepared on.
+     * @param maxSize   The maximum number of statements kept open.
+     * @param hits      The pool-wide hit counter.
+     * @param misses    The pool-wide miss counter.
+     * @param evictions The pool-wide eviction counter.
+     */
+    StatementCache(Connection physical, int maxSize, AtomicLong hits, AtomicLong misses, AtomicLong evictions) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= StatementCache.this.maxSize) {
+                    return false;
+                }
+                StatementCache.this.evictions.incrementAndGet();
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a prepared statement for the given SQL, reusing a cached one when possible.
+     *
+     * @param owner             The connection handle the statement is handed out through.
+     * @param sql               The SQL text.
+     * @param autoGeneratedKeys The generated-keys flag, or null if the caller did not pass one.
+     * @return A statement whose {@code close()} returns it to the cache.
+     * @throws SQLException If the statement cannot be prepared.
+     */
+    PreparedStatement prepare(Connection owner, String sql, Integer autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys == null ? sql : autoGeneratedKeys + "|" + sql;
+        CachedStatement cached = statements.get(key);
+        if (cached != null && cached.evicted) {
+            // Discarded because it could not be reset when it was handed back.
+            statements.remove(key);
+            cached = null;
+        }
+        if (cached != null && !cached.inUse) {
+            hits.incrementAndGet();
+        } else if (cached != null) {
+            // Same SQL already checked out on this connection; fall back to an uncached statement.
+            misses.incrementAndGet();
+            return prepareUncached(sql, autoGeneratedKeys);
+        } else {
+            misses.incrementAndGet();
+            cached = new CachedStatement(prepareUncached(sql, autoGeneratedKeys));
+            statements.put(key, cached);
+        }
+        cached.inUse = true;
+        return cached.checkOut(owner);
+    }
+
+    /**
+     * Retrieves the number of statements currently held open.
+     *
+     * @return The number of cached statements.
+     */
+    int size() {
+        return statements.size();
+    }
+
+    /**
+     * Closes every cached statement. Called when the physical connection is closed.
+     */
+    void closeAll() {
+        List<CachedStatement> all = new ArrayList<>(statements.values());
+        statements.clear();
+        for (CachedStatement cached : all) {
+            cached.evict();
+        }
+    }
+
+    /**
+     * Prepares a statement directly on the physical connection.
+     */
+    private PreparedStatement prepareUncached(String sql, Integer autoGeneratedKeys) throws SQLException {
+        return autoGeneratedKeys == null ? physical.prepareStatement(sql) : physical.prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    /**
+     * A physical statement held by the cache.
+     */
+    private static final class CachedStatement {
+        private final PreparedStatement statement;
+        private final int defaultFetchSize;
+        private final long defaultMaxRows;
+        private final int defaultMaxFieldSize;
+        private final int defaultQueryTimeout;
+        private boolean settingsChanged;
+        private boolean inUse;
+        private boolean evicted;
+
+        CachedStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.defaultFetchSize = statement.getFetchSize();
+            this.defaultMaxRows = statement.getLargeMaxRows();
+            this.defaultMaxFieldSize = statement.getMaxFieldSize();
+            this.defaultQueryTimeout = statement.getQueryTimeout();
+        }
+
+        /**
+         * Wraps the statement in a proxy for one caller.
+         */
+        PreparedStatement checkOut(Connection owner) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, new Checkout(this, owner));
+        }
+
+        /**
+         * Called when the caller closes its proxy.
+         */
+        void checkIn() {
+            inUse = false;
+            if (evicted) {
+                closeQuietly();
+                return;
+            }
+            try {
+                statement.clearParameters();
+                statement.clearBatch();
+                if (settingsChanged) {
+                    statement.setLargeMaxRows(defaultMaxRows); // Before the fetch size, which may not exceed it
+                    statement.setFetchSize(defaultFetchSize);
+                    statement.setMaxFieldSize(defaultMaxFieldSize);
+                    statement.setQueryTimeout(defaultQueryTimeout);
+                    settingsChanged = false;
+                }
+            } catch (SQLException ex) {
+                evicted = true;
+                closeQuietly();
+            }
+        }
+
+        /**
+         * Removes the statement from service, closing it now or once its caller is done.
+         */
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException ex) {
+                // The statement is being discarded either way.
+            }
+        }
+    }
+
+    /**
+     * Invocation handler behind a checked-out statement. Closing it checks the statement back in.
+     */
+    private static final class Checkout implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection owner;
+        private boolean closed;
+
+        Checkout(CachedStatement cached, Connection owner) {
+            this.cached = cached;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        cached.checkIn();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || cached.statement.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached" + cached.statement;
+                case "setFetchSize":
+                case "setMaxRows":
+                case "setLargeMaxRows":
+                case "setMaxFieldSize":
+                case "setQueryTimeout":
+                    cached.settingsChanged = true;
+                    break;
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Statement has already been closed.");
+            }
+            try {
+                return method.invoke(cached.statement, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
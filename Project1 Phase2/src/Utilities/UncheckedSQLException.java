@@ -0,0 +1,38 @@
+package Utilities;
+
+import java.sql.SQLException;
+
+/**
+ * <p> Title: UncheckedSQLException Class </p>
+ *
+ * <p> Description: This exception carries a {@link SQLException} out of code that cannot declare
+ * checked exceptions, such as the {@link java.util.stream.Stream} returned by
+ * {@link HelpArticleDAO#streamHelpArticles(int)}. Callers that want the original error can catch
+ * this exception and use {@link #getCause()}. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class UncheckedSQLException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an UncheckedSQLException wrapping a database error.
+     *
+     * @param cause The database error.
+     */
+    public UncheckedSQLException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * Retrieves the wrapped database error.
+     *
+     * @return The SQLException.
+     */
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
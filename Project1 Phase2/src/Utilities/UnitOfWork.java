@@ -0,0 +1,294 @@
+package Utilities;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p> Title: UnitOfWork Class </p>
+ *
+ * <p> Description: This class groups several DAO calls into one database transaction. It is
+ * started with {@link DatabaseManager#beginUnitOfWork()}, which binds one pooled connection to
+ * the calling thread; until the unit of work is closed, every DAO call made on that thread runs
+ * on this connection instead of borrowing its own, so all of their changes commit or roll back
+ * together. </p>
+ *
+ * <p> DAO methods that manage a local transaction of their own (for example
+ * {@link HelpArticleDAO#addHelpArticle(models.HelpArticle)}) join the unit of work as a nested
+ * savepoint: a failure inside the DAO call still undoes just that call, and its commit only
+ * releases the savepoint. Work that must only happen once data is durable, such as updating
+ * in-memory indexes, is registered with {@link DatabaseManager#afterCommit(Runnable)} and runs
+ * after {@link #commit()}; it is discarded on rollback. </p>
+ *
+ * <p> Usage: </p>
+ * <pre>
+ * try (UnitOfWork work = databaseManager.beginUnitOfWork()) {
+ *     groupDAO.deleteGroup(id);
+ *     helpArticleDAO.clearAssociationsForGroup(id);
+ *     work.commit();
+ * } // Rolled back here if commit was not reached.
+ * </pre>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class UnitOfWork implements AutoCloseable {
+
+    /**
+     * A block of DAO calls run by {@link DatabaseManager#inUnitOfWork(Work)}.
+     *
+     * @param <T> The type of the result.
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T run() throws SQLException;
+    }
+
+    private final DatabaseManager databaseManager;
+    private final Connection connection;
+    private final Connection participant;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private final Map<Savepoint, Integer> savepointMarks = new IdentityHashMap<>();
+    private boolean invalidateCachesOnCommit;
+    private boolean completed;
+    private boolean closed;
+
+    /**
+     * Constructs a UnitOfWork on a borrowed connection and starts its transaction.
+     *
+     * @param databaseManager The manager the unit of work is bound through.
+     * @param connection      The pooled connection owned by this unit of work.
+     * @throws SQLException If the transaction cannot be started.
+     */
+    UnitOfWork(DatabaseManager databaseManager, Connection connection) throws SQLException {
+        this.databaseManager = databaseManager;
+        this.connection = connection;
+        this.connection.setAutoCommit(false);
+        this.participant = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new Participant());
+    }
+
+    /**
+     * Commits every change made in this unit of work and runs the registered after-commit work.
+     *
+     * @throws SQLException If the unit of work has already completed, or if the commit fails; the
+     *                      transaction is then rolled back on close.
+     */
+    public void commit() throws SQLException {
+        checkActive();
+        connection.commit();
+        completed = true;
+        List<Runnable> actions = new ArrayList<>(afterCommit);
+        afterCommit.clear();
+        savepointMarks.clear();
+        if (invalidateCachesOnCommit) {
+            invalidateCachesOnCommit = false;
+            databaseManager.invalidateCaches();
+            return;
+        }
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+
+    /**
+     * Rolls back every change made in this unit of work and discards the after-commit work.
+     *
+     * @throws SQLException If the unit of work has already completed, or if the rollback fails.
+     */
+    public void rollback() throws SQLException {
+        checkActive();
+        connection.rollback();
+        completed = true;
+        afterCommit.clear();
+        savepointMarks.clear();
+        invalidateCachesOnCommit = false;
+    }
+
+    /**
+     * Marks a point that the transaction can later be rolled back to.
+     *
+     * @param name The name of the savepoint.
+     * @return The savepoint.
+     * @throws SQLException If the savepoint cannot be set.
+     */
+    public Savepoint setSavepoint(String name) throws SQLException {
+        checkActive();
+        Savepoint savepoint = connection.setSavepoint(name);
+        savepointMarks.put(savepoint, afterCommit.size());
+        return savepoint;
+    }
+
+    /**
+     * Undoes the changes made since a savepoint, including any after-commit work registered
+     * since then. The savepoint remains valid.
+     *
+     * @param savepoint A savepoint of this unit of work.
+     * @throws SQLException If the rollback fails.
+     */
+    public void rollbackTo(Savepoint savepoint) throws SQLException {
+        checkActive();
+        connection.rollback(savepoint);
+        Integer mark = savepointMarks.get(savepoint);
+        if (mark != null) {
+            afterCommit.subList(mark, afterCommit.size()).clear();
+        }
+    }
+
+    /**
+     * Releases a savepoint that is no longer needed.
+     *
+     * @param savepoint A savepoint of this unit of work.
+     * @throws SQLException If the savepoint cannot be released.
+     */
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        checkActive();
+        connection.releaseSavepoint(savepoint);
+        savepointMarks.remove(savepoint);
+    }
+
+    /**
+     * Checks whether the unit of work has been committed or rolled back.
+     *
+     * @return True once {@link #commit()} or {@link #rollback()} has completed.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Ends the unit of work. If it was neither committed nor rolled back, it is rolled back.
+     * The connection is unbound from the thread and returned to the pool.
+     *
+     * @throws SQLException If the rollback or the return of the connection fails.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        databaseManager.unbind(this);
+        try {
+            if (!completed) {
+                connection.rollback();
+                afterCommit.clear();
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Retrieves the view of the connection handed to DAOs while this unit of work is active.
+     *
+     * @return The participating connection.
+     */
+    Connection getParticipant() {
+        return participant;
+    }
+
+    /**
+     * Registers work to run once this unit of work commits.
+     *
+     * @param action The work to run.
+     */
+    void addAfterCommit(Runnable action) {
+        if (!invalidateCachesOnCommit) {
+            afterCommit.add(action);
+        }
+    }
+
+    /**
+     * Replaces the registered after-commit work with invalidating every in-memory cache and index
+     * on commit, and drops any work registered from now on. Used by bulk changes, whose queued
+     * index updates would otherwise hold every changed row in memory until the commit.
+     */
+    void invalidateCachesOnCommit() {
+        invalidateCachesOnCommit = true;
+        afterCommit.clear();
+        savepointMarks.replaceAll((savepoint, mark) -> 0);
+    }
+
+    private void checkActive() throws SQLException {
+        if (closed) {
+            throw new SQLException("Unit of work has already been closed.");
+        }
+        if (completed) {
+            throw new SQLException("Unit of work has already completed.");
+        }
+    }
+
+    /**
+     * Invocation handler behind the connection handed to DAOs. It delegates to the unit of work's
+     * connection but leaves the transaction boundaries to the unit of work: closing it does
+     * nothing, and a DAO's local transaction becomes a savepoint. Once the unit of work has
+     * committed or rolled back, every call but closing it is rejected, since its changes would
+     * otherwise be discarded when the connection returns to the pool.
+     */
+    private final class Participant implements InvocationHandler {
+        private Savepoint local;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    return null;
+                case "isClosed":
+                    return closed || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "UnitOfWork" + connection;
+                default:
+                    if (completed) {
+                        throw new SQLException("Unit of work has already completed.");
+                    }
+                    break;
+            }
+            switch (method.getName()) {
+                case "getAutoCommit":
+                    return false;
+                case "setAutoCommit":
+                    if (!(Boolean) args[0] && local == null) {
+                        local = connection.setSavepoint();
+                    }
+                    return null;
+                case "commit":
+                    if (local != null) {
+                        connection.releaseSavepoint(local);
+                        local = null;
+                    }
+                    return null;
+                case "rollback":
+                    if (args == null && local != null) {
+                        connection.rollback(local);
+                        local = null;
+                        return null;
+                    }
+                    if (args == null) {
+                        return null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package Utilities;
+
+import models.Group;
+import models.HelpArticle;
+
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Arrays;
+
+/**
+ * <p> Title: UnitOfWorkTest Class </p>
+ *
+ * <p> Description: This class provides a set of tests for the {@link UnitOfWork} class. It
+ * validates that DAO calls share one transaction, that closing without commit rolls back,
+ * savepoints, that a failed DAO call inside a unit of work only undoes itself, that a completed
+ * unit of work rejects further use, that after-commit work is deferred or replaced by
+ * invalidating the caches, and that the connection is returned to the pool.
+ * The test outputs indicate the success or failure of each test case. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class UnitOfWorkTest {
+
+    /**
+     * The main method to execute the UnitOfWork tests.
+     *
+     * @param args Command-line arguments (not used).
+     */
+    public static void main(String[] args) {
+        UnitOfWorkTest tester = new UnitOfWorkTest();
+        tester.runTests();
+    }
+
+    /**
+     * Executes all test cases for the UnitOfWork.
+     */
+    public void runTests() {
+        System.out.println("Running UnitOfWork tests...");
+
+        try {
+            DatabaseManager.getInstance().resetDatabase();
+            testCommitAcrossDaos();
+            testCloseWithoutCommitRollsBack();
+            testSavepoint();
+            testFailedDaoCallIsUndone();
+            testNestedBeginRejected();
+            testInUnitOfWorkRollsBackOnError();
+            testInvalidateCachesOnCommit();
+            testUseAfterCompletionRejected();
+        } catch (SQLException e) {
+            System.out.println("Database Error during tests: " + e.getMessage());
+        }
+
+        System.out.println("UnitOfWork tests completed.");
+    }
+
+    /**
+     * Creates an article with the given title.
+     */
+    private HelpArticle article(String title) {
+        return new HelpArticle(0, "Header", title, "Description", Arrays.asList("uow"), "Body of " + title,
+                Arrays.asList("https://example.com"));
+    }
+
+    /**
+     * Tests that changes from two DAOs commit together and the index is updated after commit.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testCommitAcrossDaos() throws SQLException {
+        System.out.println("\nTest: Commit Across DAOs");
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        HelpArticle article = article("Committed Together");
+        boolean indexedBeforeCommit;
+
+        try (UnitOfWork work = databaseManager.beginUnitOfWork()) {
+            Group group = new Group("uow-commit");
+            groupDAO.addGroup(group);
+            helpArticleDAO.addHelpArticle(article);
+            helpArticleDAO.associateArticleWithGroup(article.getId(), group.getId());
+            indexedBeforeCommit = !helpArticleDAO.searchHelpArticles("committed", 10).isEmpty();
+            work.commit();
+        }
+
+        boolean committed = groupDAO.getGroupByName("uow-commit") != null &&
+                helpArticleDAO.getGroupsByArticleId(article.getId()).size() == 1;
+        boolean indexed = helpArticleDAO.searchHelpArticles("committed", 10).size() == 1;
+        if (committed && !indexedBeforeCommit && indexed && databaseManager.getPoolStatistics().getActive() == 0 &&
+            !databaseManager.isInUnitOfWork()) {
+            System.out.println("Passed: Changes from both DAOs were committed together.");
+        } else {
+            System.out.println("Failed: Unit of work did not commit as expected.");
+        }
+    }
+
+    /**
+     * Tests that closing a unit of work without committing rolls every change back.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testCloseWithoutCommitRollsBack() throws SQLException {
+        System.out.println("\nTest: Close Without Commit Rolls Back");
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        HelpArticle article = article("Never Committed");
+        boolean completedBeforeClose;
+
+        try (UnitOfWork work = databaseManager.beginUnitOfWork()) {
+            groupDAO.addGroup(new Group("uow-rollback"));
+            helpArticleDAO.addHelpArticle(article);
+            completedBeforeClose = work.isCompleted();
+        }
+
+        if (!completedBeforeClose && groupDAO.getGroupByName("uow-rollback") == null && helpArticleDAO.getHelpArticleById(article.getId()) == null &&
+            helpArticleDAO.searchHelpArticles("never", 10).isEmpty()) {
+            System.out.println("Passed: Uncommitted changes were rolled back.");
+        } else {
+            System.out.println("Failed: Uncommitted changes were kept.");
+        }
+    }
+
+    /**
+     * Tests rolling back to a savepoint while keeping earlier changes.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testSavepoint() throws SQLException {
+        System.out.println("\nTest: Savepoint");
+        GroupDAO groupDAO = new GroupDAO();
+        try (UnitOfWork work = DatabaseManager.getInstance().beginUnitOfWork()) {
+            groupDAO.addGroup(new Group("uow-kept"));
+            Savepoint savepoint = work.setSavepoint("before-discard");
+            groupDAO.addGroup(new Group("uow-discarded"));
+            work.rollbackTo(savepoint);
+            work.commit();
+        }
+
+        if (groupDAO.getGroupByName("uow-kept") != null && groupDAO.getGroupByName("uow-discarded") == null) {
+            System.out.println("Passed: Changes after the savepoint were rolled back.");
+        } else {
+            System.out.println("Failed: Savepoint rollback was incorrect.");
+        }
+    }
+
+    /**
+     * Tests that a DAO call which fails inside a unit of work undoes only its own changes.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testFailedDaoCallIsUndone() throws SQLException {
+        System.out.println("\nTest: Failed DAO Call Is Undone");
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        HelpArticle article = article("Survives Failure");
+        boolean failed = false;
+
+        try (UnitOfWork work = DatabaseManager.getInstance().beginUnitOfWork()) {
+            Group group = new Group("uow-partial");
+            groupDAO.addGroup(group);
+            helpArticleDAO.addHelpArticle(article);
+            try {
+                // The missing group fails the batch after the existing article was merged.
+                helpArticleDAO.associateArticlesWithGroup(-1, Arrays.asList(article.getId()));
+            } catch (SQLException e) {
+                failed = true;
+            }
+            helpArticleDAO.associateArticleWithGroup(article.getId(), group.getId());
+            work.commit();
+        }
+
+        if (failed && helpArticleDAO.getHelpArticleById(article.getId()) != null &&
+            helpArticleDAO.getGroupsByArticleId(article.getId()).size() == 1) {
+            System.out.println("Passed: Only the failed call was undone.");
+        } else {
+            System.out.println("Failed: Failed DAO call affected the rest of the unit of work.");
+        }
+    }
+
+    /**
+     * Tests that a second unit of work cannot be started on the same thread.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testNestedBeginRejected() throws SQLException {
+        System.out.println("\nTest: Nested Begin Rejected");
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        boolean rejected = false;
+        boolean outerIntact;
+        try (UnitOfWork work = databaseManager.beginUnitOfWork()) {
+            try (UnitOfWork nested = databaseManager.beginUnitOfWork()) {
+                nested.commit();
+            } catch (IllegalStateException e) {
+                rejected = true;
+            }
+            outerIntact = !work.isCompleted() && databaseManager.isInUnitOfWork();
+        }
+        if (rejected && outerIntact && databaseManager.getPoolStatistics().getActive() == 0) {
+            System.out.println("Passed: Nested unit of work was rejected.");
+        } else {
+            System.out.println("Failed: Nested unit of work was allowed or leaked a connection.");
+        }
+    }
+
+    /**
+     * Tests that inUnitOfWork rolls back when the block throws.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testInUnitOfWorkRollsBackOnError() throws SQLException {
+        System.out.println("\nTest: inUnitOfWork Rolls Back On Error");
+        GroupDAO groupDAO = new GroupDAO();
+        try {
+            DatabaseManager.getInstance().inUnitOfWork(() -> {
+                groupDAO.addGroup(new Group("uow-block"));
+                groupDAO.addGroup(new Group("uow-block")); // Duplicate name violates the unique constraint
+                return null;
+            });
+            System.out.println("Failed: Duplicate group was accepted.");
+        } catch (SQLException e) {
+            if (groupDAO.getGroupByName("uow-block") == null) {
+                System.out.println("Passed: The whole block was rolled back.");
+            } else {
+                System.out.println("Failed: Part of the block was committed.");
+            }
+        }
+    }
+
+    /**
+     * Tests that after-commit work is dropped once the caches are to be invalidated on commit,
+     * and that the caches then reload the committed changes.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testInvalidateCachesOnCommit() throws SQLException {
+        System.out.println("\nTest: Invalidate Caches On Commit");
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        HelpArticleDAO helpArticleDAO = new HelpArticleDAO();
+        GroupDAO groupDAO = new GroupDAO();
+        HelpArticle article = article("Bulk Restored");
+        boolean[] ran = new boolean[1];
+        groupDAO.getAllGroups(); // Loads the group cache
+        helpArticleDAO.searchHelpArticles("anything", 10); // Loads the search index
+
+        try (UnitOfWork work = databaseManager.beginUnitOfWork()) {
+            groupDAO.addGroup(new Group("uow-bulk"));
+            databaseManager.invalidateCachesOnCommit();
+            helpArticleDAO.addHelpArticle(article);
+            databaseManager.afterCommit(() -> ran[0] = true);
+            work.commit();
+        }
+
+        if (!ran[0] && groupDAO.getGroupByName("uow-bulk") != null &&
+            helpArticleDAO.searchHelpArticles("bulk", 10).size() == 1) {
+            System.out.println("Passed: After-commit work was dropped and the caches reloaded the changes.");
+        } else {
+            System.out.println("Failed: ran=" + ran[0] + ", changes visible=" + (groupDAO.getGroupByName("uow-bulk") != null));
+        }
+    }
+
+    /**
+     * Tests that DAO calls, a second commit and a rollback are rejected once a unit of work has committed.
+     *
+     * @throws SQLException If a database access error occurs.
+     */
+    public void testUseAfterCompletionRejected() throws SQLException {
+        System.out.println("\nTest: Use After Completion Rejected");
+        GroupDAO groupDAO = new GroupDAO();
+        boolean daoRejected = false;
+        boolean commitRejected = false;
+        boolean rollbackRejected = false;
+
+        try (UnitOfWork work = DatabaseManager.getInstance().beginUnitOfWork()) {
+            groupDAO.addGroup(new Group("uow-completed"));
+            work.commit();
+            try {
+                groupDAO.addGroup(new Group("uow-after-commit"));
+            } catch (SQLException e) {
+                daoRejected = true;
+            }
+            try {
+                work.commit();
+            } catch (SQLException e) {
+                commitRejected = true;
+            }
+            try {
+                work.rollback();
+            } catch (SQLException e) {
+                rollbackRejected = true;
+            }
+        }
+
+        if (daoRejected && commitRejected && rollbackRejected && groupDAO.getGroupByName("uow-completed") != null &&
+            groupDAO.getGroupByName("uow-after-commit") == null) {
+            System.out.println("Passed: The completed unit of work rejected further use.");
+        } else {
+            System.out.println("Failed: daoRejected=" + daoRejected + ", commitRejected=" + commitRejected +
+                    ", rollbackRejected=" + rollbackRejected);
+        }
+    }
+}
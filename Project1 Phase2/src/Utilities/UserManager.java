@@ -6,6 +6,7 @@ import models.Role;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p> Title: User Manager Utility. </p>
@@ -17,6 +18,10 @@ import java.util.*;
  * <p> The `UserManager` manages users, invitation codes, and provides various utility methods 
  * to handle password resets, user roles, and session-related tasks. </p>
  * 
+ * <p> The manager can be used from many threads at once. Users and invitation codes are kept in
+ * concurrent maps, and a user's password, one-time password and roles are changed and checked
+ * while holding that user's lock, so a login never sees half of a password reset. </p>
+ * 
  * @author Naimish Maniya
  * 
  * @version 1.00   2024-10-09  Initial version.
@@ -32,8 +37,8 @@ public class UserManager {
      * Implements the Singleton pattern.
      */
     private UserManager() {
-        users = new HashMap<>();
-        invitationCodes = new HashMap<>();
+        users = new ConcurrentHashMap<>();
+        invitationCodes = new ConcurrentHashMap<>();
     }
 
     /**
@@ -41,7 +46,7 @@ public class UserManager {
      * 
      * @return The singleton instance of `UserManager`.
      */
-    public static UserManager getInstance() {
+    public static synchronized UserManager getInstance() {
         if (instance == null) {
             instance = new UserManager();
         }
@@ -59,8 +64,11 @@ public class UserManager {
      * @return The authenticated user, or null if authentication fails.
      */
     public User authenticate(String username, String password) {
-        User user = users.get(username);
-        if (user != null) {
+        User user = lookup(username);
+        if (user == null) {
+            return null;
+        }
+        synchronized (user) {
             if (!user.isResetRequired() && user.getPassword().equals(password)) {
                 return user;
             } else if (user.isResetRequired()) {
@@ -87,12 +95,14 @@ public class UserManager {
      * @param username The username of the user to reset the password for.
      */
     public void resetPassword(String username) {
-        User user = users.get(username);
+        User user = lookup(username);
         if (user != null) {
             String oneTimePassword = UUID.randomUUID().toString().substring(0, 8);
-            user.setOneTimePassword(oneTimePassword);
-            user.setResetRequired(true);
-            user.setOtpExpiration(LocalDateTime.now().plusHours(24));
+            synchronized (user) {
+                user.setOneTimePassword(oneTimePassword);
+                user.setResetRequired(true);
+                user.setOtpExpiration(LocalDateTime.now().plusHours(24));
+            }
             System.out.println("Password reset. One-time password: " + oneTimePassword);
             System.out.println("OTP expires at: " + user.getOtpExpiration());
         }
@@ -104,9 +114,11 @@ public class UserManager {
      * @param user The user whose OTP is to be invalidated.
      */
     public void invalidateOtp(User user) {
-        user.setOneTimePassword(null);
-        user.setResetRequired(false);
-        user.setOtpExpiration(null);
+        synchronized (user) {
+            user.setOneTimePassword(null);
+            user.setResetRequired(false);
+            user.setOtpExpiration(null);
+        }
     }
 
     // User Management
@@ -127,7 +139,7 @@ public class UserManager {
      * @return True if the username is taken, false otherwise.
      */
     public boolean isUsernameTaken(String username) {
-        return users.containsKey(username);
+        return lookup(username) != null;
     }
 
     /**
@@ -136,9 +148,7 @@ public class UserManager {
      * @param username The username of the user to be removed.
      */
     public void removeUser(String username) {
-        if (users.containsKey(username)) {
-            users.remove(username);
-        } else {
+        if (username == null || users.remove(username) == null) {
             System.out.println("User not found.");
         }
     }
@@ -150,11 +160,12 @@ public class UserManager {
      * @return The user, or null if no user is found.
      */
     public User getUserByUsername(String username) {
-        return users.get(username);
+        return lookup(username);
     }
 
     /**
-     * Returns a collection of all users in the system.
+     * Returns a collection of all users in the system. The collection is a live view that may be
+     * iterated while users are added or removed.
      * 
      * @return A collection of users.
      */
@@ -180,9 +191,11 @@ public class UserManager {
      * @param role The role to be added.
      */
     public void addRoleToUser(String username, Role role) {
-        User user = users.get(username);
+        User user = lookup(username);
         if (user != null) {
-            user.addRole(role);
+            synchronized (user) {
+                user.addRole(role);
+            }
         }
     }
 
@@ -193,9 +206,11 @@ public class UserManager {
      * @param role The role to be removed.
      */
     public void removeRoleFromUser(String username, Role role) {
-        User user = users.get(username);
+        User user = lookup(username);
         if (user != null) {
-            user.removeRole(role);
+            synchronized (user) {
+                user.removeRole(role);
+            }
         }
     }
 
@@ -217,7 +232,7 @@ public class UserManager {
      * @return The invitation code, or null if not found.
      */
     public InvitationCode getInvitationCode(String code) {
-        return invitationCodes.get(code);
+        return code == null ? null : invitationCodes.get(code);
     }
 
     /**
@@ -226,15 +241,29 @@ public class UserManager {
      * @param code The code of the invitation to be removed.
      */
     public void removeInvitationCode(String code) {
-        invitationCodes.remove(code);
+        if (code != null) {
+            invitationCodes.remove(code);
+        }
     }
     
     public boolean isResetRequired(String username) {
-        User user = users.get(username); 
+        User user = lookup(username); 
         if (user != null) {
-            return user.isResetRequired();
+            synchronized (user) {
+                return user.isResetRequired();
+            }
         }
         return false;
     }
 
+    /**
+     * Looks up a user, treating a null username as unknown; the concurrent map rejects null keys.
+     * 
+     * @param username The username, possibly null.
+     * @return The user, or null if no user is found.
+     */
+    private User lookup(String username) {
+        return username == null ? null : users.get(username);
+    }
+
 }
@@ -1,7 +1,15 @@
 package Utilities;
 
+import models.Role;
 import models.User;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * <p> Title: UserManagerTest Class </p>
  * 
@@ -43,6 +51,7 @@ public class UserManagerTest {
         testIsUsernameTaken();
         testAuthenticate();
         testResetPassword();
+        testConcurrentAccess();
         
         System.out.println("Tests completed.");
     }
@@ -118,4 +127,54 @@ public class UserManagerTest {
             System.out.println("Failed: Password reset did not occur.");
         }
     }
+
+    /**
+     * Tests that users added, authenticated and given roles from many threads at once are all
+     * kept, with no failed logins and no duplicated roles.
+     */
+    public void testConcurrentAccess() {
+        System.out.println("\nTest: Concurrent Access");
+        UserManager userManager = UserManager.getInstance();
+        AtomicInteger failedLogins = new AtomicInteger();
+        AtomicInteger exceptions = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1000; i++) {
+                String username = "concurrentUser" + i;
+                futures.add(executor.submit(() -> {
+                    userManager.addUser(new User(username, "password123"));
+                    for (int j = 0; j < 10; j++) {
+                        if (userManager.authenticate(username, "password123") == null) {
+                            failedLogins.incrementAndGet();
+                        }
+                        userManager.addRoleToUser(username, Role.STUDENT);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    exceptions.incrementAndGet();
+                }
+            }
+        }
+
+        int found = 0;
+        boolean singleRole = true;
+        for (int i = 0; i < 1000; i++) {
+            User user = userManager.getUserByUsername("concurrentUser" + i);
+            if (user != null) {
+                found++;
+                singleRole &= user.getRoles().size() == 1;
+            }
+        }
+        if (found == 1000 && singleRole && failedLogins.get() == 0 && exceptions.get() == 0 &&
+            userManager.getUserByUsername(null) == null) {
+            System.out.println("Passed: 1,000 users were added and logged in concurrently.");
+        } else {
+            System.out.println("Failed: " + found + " users found, " + failedLogins.get() + " failed logins, " +
+                    exceptions.get() + " exceptions.");
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package models;
+
+import java.io.Serializable;
+
+/**
+ * <p> Title: ArticleSummary Class </p>
+ *
+ * <p> Description: This class is a lightweight, read-only view of a {@link HelpArticle} holding
+ * only what list screens display: the ID, title and short description. It is read without the
+ * article body and reference links, so lists of summaries stay small however long the articles
+ * are. </p>
+ *
+ * @author Naimish Maniya
+ *
+ * <p> @version 1.00  2026-10-18  Initial version. </p>
+ */
+public class ArticleSummary implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long id;
+    private final String title;
+    private final String shortDescription;
+
+    /**
+     * Constructs an ArticleSummary.
+     *
+     * @param id               The unique identifier of the article.
+     * @param title            The title of the article.
+     * @param shortDescription A brief description of the article.
+     */
+    public ArticleSummary(long id, String title, String shortDescription) {
+        this.id = id;
+        this.title = title;
+        this.shortDescription = shortDescription;
+    }
+
+    /**
+     * Retrieves the ID of the article.
+     *
+     * @return The article's ID.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the title of the article.
+     *
+     * @return The article's title.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Retrieves the short description of the article.
+     *
+     * @return The article's short description.
+     */
+    public String getShortDescription() {
+        return shortDescription;
+    }
+
+    /**
+     * Returns a string representation of the article summary.
+     *
+     * @return The article's title.
+     */
+    @Override
+    public String toString() {
+        return title;
+    }
+}
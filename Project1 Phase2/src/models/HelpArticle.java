@@ -1,5 +1,7 @@
 package models;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.List;
 
@@ -11,6 +13,9 @@ import java.util.List;
  * short description, keywords, body content, and reference links. The class provides constructors, 
  * getters, setters, and a utility method for string representation. </p>
  * 
+ * <p> An article read for a list may arrive without its body and carry a {@link BodyLoader}
+ * instead; the body is then loaded on the first call to {@link #getBody()}. </p>
+ * 
  * @author Naimish Maniya
  * 
  * <p> @version 1.00  2024-10-29  Initial version. </p>
@@ -25,6 +30,21 @@ public class HelpArticle implements Serializable {
     private List<String> keywords;
     private String body;
     private List<String> referenceLinks;
+    private transient BodyLoader bodyLoader;
+
+    /**
+     * Loads the body of an article that was read without it.
+     */
+    @FunctionalInterface
+    public interface BodyLoader {
+        /**
+         * Loads the body of an article.
+         *
+         * @param articleId The ID of the article.
+         * @return The body content.
+         */
+        String loadBody(long articleId);
+    }
 
     /**
      * Default constructor for HelpArticle.
@@ -164,11 +184,16 @@ public class HelpArticle implements Serializable {
     }
 
     /**
-     * Retrieves the body content of the help article.
+     * Retrieves the body content of the help article, loading it first if the article was
+     * read without it.
      *
      * @return The article's body content.
      */
     public String getBody() {
+        if (bodyLoader != null) {
+            body = bodyLoader.loadBody(id);
+            bodyLoader = null;
+        }
         return body;
     }
 
@@ -179,6 +204,26 @@ public class HelpArticle implements Serializable {
      */
     public void setBody(String body) {
         this.body = body;
+        this.bodyLoader = null;
+    }
+
+    /**
+     * Marks the body as not yet loaded; it will be loaded by the given loader on first access.
+     *
+     * @param bodyLoader Loads the body on demand.
+     */
+    public void setBodyLoader(BodyLoader bodyLoader) {
+        this.body = null;
+        this.bodyLoader = bodyLoader;
+    }
+
+    /**
+     * Checks whether the body content is present in memory.
+     *
+     * @return True unless the body is still waiting to be loaded.
+     */
+    public boolean isBodyLoaded() {
+        return bodyLoader == null;
     }
 
     /**
@@ -199,6 +244,17 @@ public class HelpArticle implements Serializable {
         this.referenceLinks = referenceLinks;
     }
 
+    /**
+     * Loads a pending body before the article is serialized so that the copy is complete.
+     *
+     * @param out The stream the article is written to.
+     * @throws IOException If the article cannot be written.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getBody();
+        out.defaultWriteObject();
+    }
+
     /**
      * Returns a string representation of the help article.
      *